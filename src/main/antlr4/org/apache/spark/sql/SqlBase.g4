@@ -34,7 +34,8 @@ singleStatement
     ;
 
 statement
-    : MERGE TABLE tableIdentifier partitionSpec?                                     #mergeTable
+    : MERGE TABLE tableIdentifier partitionSpec? clusterSpec? loadOptions?           #mergeTable
+    | EXPLAIN MERGE TABLE tableIdentifier partitionSpec? clusterSpec? loadOptions?   #explainMergeTable
     | LOAD DATA path=constant TABLE table=identifier loadOptions?                    #LOADTABLE
     | EXPORT TABLE tableIdentifier partitionSpec? TO name=constant loadOptions?      #EXPORTCSV
     ;
@@ -44,7 +45,12 @@ partitionSpec
     ;
 
 partitionVal
-    : identifier EQ constant
+    : identifier comparison=(EQ | NEQ | NEQJ | LT | LTE | GT | GTE) constant
+    | identifier NOT? IN '(' constant (',' constant)* ')'
+    ;
+
+clusterSpec
+    : kind=(SORT | ZORDER) BY '(' identifier (',' identifier)* ')'
     ;
 
 loadOptions
@@ -127,7 +133,7 @@ nonReserved
     | IF
     | NO | DATA
     | START | TRANSACTION | COMMIT | ROLLBACK | IGNORE
-    | SORT | CLUSTER | DISTRIBUTE | UNSET | TBLPROPERTIES | SKEWED | STORED | DIRECTORIES | LOCATION
+    | SORT | ZORDER | CLUSTER | DISTRIBUTE | UNSET | TBLPROPERTIES | SKEWED | STORED | DIRECTORIES | LOCATION
     | EXCHANGE | ARCHIVE | UNARCHIVE | FILEFORMAT | TOUCH | COMPACT | CONCATENATE | CHANGE
     | CASCADE | RESTRICT | BUCKETS | CLUSTERED | SORTED | PURGE | INPUTFORMAT | OUTPUTFORMAT
     | DBPROPERTIES | DFS | TRUNCATE | COMPUTE | LIST
@@ -284,6 +290,7 @@ OUT: 'OUT';
 OF: 'OF';
 
 SORT: 'SORT';
+ZORDER: 'ZORDER';
 CLUSTER: 'CLUSTER';
 DISTRIBUTE: 'DISTRIBUTE';
 OVERWRITE: 'OVERWRITE';
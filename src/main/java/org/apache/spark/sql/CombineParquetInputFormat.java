@@ -1,29 +1,45 @@
 package org.apache.spark.sql;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
-import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
 import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.CombineFileInputFormat;
 import org.apache.hadoop.mapreduce.lib.input.CombineFileRecordReader;
 import org.apache.hadoop.mapreduce.lib.input.CombineFileRecordReaderWrapper;
 import org.apache.hadoop.mapreduce.lib.input.CombineFileSplit;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.util.StringUtils;
 import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.hadoop.example.GroupReadSupport;
-import org.apache.spark.SparkContext;
-import org.apache.spark.sql.parser.SparkParserConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Created by taofu on 2018/6/10.
  */
 public class CombineParquetInputFormat<T> extends CombineFileInputFormat<Void, T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(CombineParquetInputFormat.class);
+
+    private static final String INPUT_FILES = "spark.parser.merge.input.files";
+
     @Override
     public RecordReader<Void, T> createRecordReader(InputSplit inputSplit, TaskAttemptContext context) throws IOException {
         CombineFileSplit combineSplit = (CombineFileSplit)inputSplit;
@@ -39,25 +55,108 @@ public class CombineParquetInputFormat<T> extends CombineFileInputFormat<Void, T
         }
     }
 
+    /**
+     * Binds the input to exactly these files. Their directories are listed once, other files
+     * found there are left out and a selected file that changed since it was listed fails the read.
+     */
+    public static void setInputFiles(Job job, List<FileStatus> files) {
+        Set<Path> dirs = new LinkedHashSet<>();
+        List<String> entries = new ArrayList<>();
+        for(FileStatus file : files){
+            dirs.add(file.getPath().getParent());
+            entries.add(StringUtils.escapeString(file.getLen()+":"+file.getPath()));
+        }
+        try{
+            FileInputFormat.setInputPaths(job, dirs.toArray(new Path[dirs.size()]));
+        } catch (IOException e){
+            throw new RuntimeException(e);
+        }
+        job.getConfiguration().setBoolean(FileInputFormat.INPUT_DIR_RECURSIVE, false);
+        job.getConfiguration().set(INPUT_FILES, StringUtils.join(",", entries));
+    }
+
+    /**
+     * Combines the blocks per node and per rack as far as the minimum sizes allow and reports
+     * where the splits may run. A split with a single host is read node local, a split with
+     * several hosts holds blocks of a rack or left over blocks of the whole cluster.
+     */
+    @Override
+    public List<InputSplit> getSplits(JobContext job) throws IOException {
+        List<InputSplit> splits = super.getSplits(job);
+        int nodeLocal = 0;
+        int spread = 0;
+        int unknown = 0;
+        long length = 0;
+        Set<String> allHosts = new HashSet<>();
+        for(InputSplit split : splits){
+            CombineFileSplit combineSplit = (CombineFileSplit)split;
+            String[] hosts = combineSplit.getLocations();
+            length += combineSplit.getLength();
+            if(hosts.length == 0){
+                unknown++;
+            } else if(hosts.length == 1){
+                nodeLocal++;
+            } else{
+                spread++;
+            }
+            allHosts.addAll(Arrays.asList(hosts));
+            if(logger.isDebugEnabled()){
+                logger.debug("split of {} files, {} bytes on {}", combineSplit.getNumPaths(), combineSplit.getLength(), StringUtils.join(",", hosts));
+            }
+        }
+        Configuration conf = job.getConfiguration();
+        logger.info("planned {} splits of {} bytes (min per node {}, min per rack {}): {} node local, {} on several hosts, {} without location, over {} hosts",
+                splits.size(), length, conf.getLong(SPLIT_MINSIZE_PERNODE, 0), conf.getLong(SPLIT_MINSIZE_PERRACK, 0),
+                nodeLocal, spread, unknown, allHosts.size());
+        return splits;
+    }
+
+    /**
+     * Keeps the selected files of the listing. The length comes with the listed FileStatus,
+     * so no file is looked up on the namenode again.
+     */
+    @Override
+    protected List<FileStatus> listStatus(JobContext job) throws IOException {
+        List<FileStatus> statuses = super.listStatus(job);
+        String inputFiles = job.getConfiguration().get(INPUT_FILES);
+        if(inputFiles == null){
+            return statuses;
+        }
+        return selectedFiles(statuses, inputFiles);
+    }
+
+    private List<FileStatus> selectedFiles(List<FileStatus> statuses, String inputFiles) throws IOException {
+        Map<String, Long> selected = new HashMap<>();
+        for(String entry : StringUtils.split(inputFiles)){
+            String file = StringUtils.unEscapeString(entry);
+            int index = file.indexOf(':');
+            selected.put(file.substring(index+1), Long.parseLong(file.substring(0, index)));
+        }
+        List<FileStatus> result = new ArrayList<>();
+        for(FileStatus status : statuses){
+            Long length = selected.remove(status.getPath().toString());
+            if(length == null){
+                continue;
+            }
+            if(length != status.getLen()){
+                throw new IOException(status.getPath()+" changed since it was selected for merge");
+            }
+            result.add(status);
+        }
+        if(!selected.isEmpty()){
+            throw new IOException("selected files are gone: "+selected.keySet());
+        }
+        logger.info("listed {} paths, {} selected files bound", statuses.size(), result.size());
+        return result;
+    }
+
+    /**
+     * Only looks at the name, lengths are checked on the listed FileStatus in listStatus.
+     */
     public static class CombineFilter implements PathFilter, Serializable {
         @Override
         public boolean accept(Path path) {
-            try{
-                if(SparkParserConfig.skipPathFilter()){
-                    return true;
-                }
-                SparkContext sparkContext = SparkSqlExtraCommand.sparkContext();
-                FileSystem fileSystem = path.getFileSystem(sparkContext.hadoopConfiguration());
-                FileStatus status = fileSystem.getFileStatus(path);
-                long fileLength = status.getLen();
-                long maxLength = Long.parseLong(sparkContext.getConf().get(SparkParserConfig.sparkMergeFilterSize(), "134217728"));
-                if(status.isFile() && !path.getName().startsWith(".") && fileLength<=maxLength){
-                    return true;
-                }
-            } catch (Exception ignored){
-
-            }
-            return false;
+            return !path.getName().startsWith(".") && !path.getName().startsWith("_");
         }
     }
 }
@@ -0,0 +1,74 @@
+package org.apache.spark.sql;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.CombineFileRecordReader;
+import org.apache.hadoop.mapreduce.lib.input.CombineFileRecordReaderWrapper;
+import org.apache.hadoop.mapreduce.lib.input.CombineFileSplit;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.ParquetInputSplit;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.execution.datasources.parquet.VectorizedParquetRecordReader;
+import org.apache.spark.sql.types.StructType;
+
+import java.io.IOException;
+
+/**
+ * Reads combined parquet splits with spark's vectorized reader. Every file is decoded
+ * column batch by column batch and handed out as rows of the batch, which are only
+ * valid until the next record is read. The reader supports flat schemas of atomic types.
+ */
+public class CombineVectorizedParquetInputFormat extends CombineParquetInputFormat<InternalRow> {
+
+    private static final String REQUESTED_SCHEMA = "org.apache.spark.sql.parquet.row.requested_schema";
+
+    private static final String READ_SUPPORT_CLASS = "org.apache.spark.sql.execution.datasources.parquet.ParquetReadSupport";
+
+    /**
+     * Sets the spark schema the files are read with, the same way spark's ParquetFileFormat does.
+     */
+    public static void setRequestedSchema(Configuration conf, StructType schema) {
+        conf.set(REQUESTED_SCHEMA, schema.json());
+        conf.set(ParquetInputFormat.READ_SUPPORT_CLASS, READ_SUPPORT_CLASS);
+    }
+
+    @Override
+    public RecordReader<Void, InternalRow> createRecordReader(InputSplit inputSplit, TaskAttemptContext context) throws IOException {
+        CombineFileSplit combineSplit = (CombineFileSplit)inputSplit;
+        return new CombineFileRecordReader<Void, InternalRow>(combineSplit, context, CombineVectorizedRecordReader.class);
+    }
+
+    private static class CombineVectorizedRecordReader extends CombineFileRecordReaderWrapper<Void, InternalRow> {
+
+        public CombineVectorizedRecordReader(
+                CombineFileSplit split, TaskAttemptContext context, Integer idx) throws
+                IOException, InterruptedException {
+            super(new VectorizedInputFormat(), split, context, idx);
+        }
+    }
+
+    private static class VectorizedInputFormat extends FileInputFormat<Void, InternalRow> {
+
+        /**
+         * The vectorized reader is declared with Object values, but without batch output every value is an InternalRow.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public RecordReader<Void, InternalRow> createRecordReader(InputSplit inputSplit, TaskAttemptContext context) {
+            RecordReader<Void, ?> reader = new VectorizedParquetRecordReader(null, false) {
+                @Override
+                public void initialize(InputSplit inputSplit, TaskAttemptContext context) throws IOException, InterruptedException {
+                    // the vectorized reader only accepts parquet splits
+                    FileSplit split = (FileSplit)inputSplit;
+                    super.initialize(new ParquetInputSplit(split.getPath(), split.getStart(), split.getStart()+split.getLength(),
+                            split.getLength(), split.getLocations(), null), context);
+                }
+            };
+            return (RecordReader<Void, InternalRow>)reader;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.apache.spark.sql;
+
+import org.apache.spark.SparkContext;
+import org.apache.spark.metrics.source.Source;
+
+/**
+ * Registers sources with the metrics system of a context. The scala signature of MetricsSystem
+ * refers to jetty classes under their unshaded names, so it is only used from java.
+ */
+public class MetricsSources {
+
+    private MetricsSources() {
+    }
+
+    public static void register(SparkContext sparkContext, Source source) {
+        sparkContext.env().metricsSystem().registerSource(source);
+    }
+}
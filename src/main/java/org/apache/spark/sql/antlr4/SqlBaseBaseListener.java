@@ -36,6 +36,18 @@ public class SqlBaseBaseListener implements SqlBaseListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitMergeTable(SqlBaseParser.MergeTableContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterExplainMergeTable(SqlBaseParser.ExplainMergeTableContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitExplainMergeTable(SqlBaseParser.ExplainMergeTableContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -84,6 +96,18 @@ public class SqlBaseBaseListener implements SqlBaseListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitPartitionVal(SqlBaseParser.PartitionValContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterClusterSpec(SqlBaseParser.ClusterSpecContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitClusterSpec(SqlBaseParser.ClusterSpecContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -36,27 +36,27 @@ public class SqlBaseLexer extends Lexer {
 		IF=117, EQ=118, NSEQ=119, NEQ=120, NEQJ=121, LT=122, LTE=123, GT=124, 
 		GTE=125, PLUS=126, MINUS=127, ASTERISK=128, SLASH=129, PERCENT=130, DIV=131, 
 		TILDE=132, AMPERSAND=133, PIPE=134, HAT=135, PERCENTLIT=136, BUCKET=137, 
-		OUT=138, OF=139, SORT=140, CLUSTER=141, DISTRIBUTE=142, OVERWRITE=143, 
-		TRANSFORM=144, REDUCE=145, USING=146, SERDE=147, SERDEPROPERTIES=148, 
-		RECORDREADER=149, RECORDWRITER=150, DELIMITED=151, FIELDS=152, TERMINATED=153, 
-		COLLECTION=154, ITEMS=155, KEYS=156, ESCAPED=157, LINES=158, SEPARATED=159, 
-		FUNCTION=160, EXTENDED=161, REFRESH=162, CLEAR=163, CACHE=164, UNCACHE=165, 
-		LAZY=166, FORMATTED=167, GLOBAL=168, TEMPORARY=169, OPTIONS=170, UNSET=171, 
-		TBLPROPERTIES=172, DBPROPERTIES=173, BUCKETS=174, SKEWED=175, STORED=176, 
-		DIRECTORIES=177, LOCATION=178, EXCHANGE=179, ARCHIVE=180, UNARCHIVE=181, 
-		FILEFORMAT=182, TOUCH=183, COMPACT=184, CONCATENATE=185, CHANGE=186, CASCADE=187, 
-		RESTRICT=188, CLUSTERED=189, SORTED=190, PURGE=191, INPUTFORMAT=192, OUTPUTFORMAT=193, 
-		DATABASE=194, DATABASES=195, DFS=196, TRUNCATE=197, ANALYZE=198, COMPUTE=199, 
-		LIST=200, STATISTICS=201, PARTITIONED=202, EXTERNAL=203, DEFINED=204, 
-		REVOKE=205, GRANT=206, LOCK=207, UNLOCK=208, MSCK=209, REPAIR=210, RECOVER=211, 
-		EXPORT=212, IMPORT=213, LOAD=214, ROLE=215, ROLES=216, COMPACTIONS=217, 
-		PRINCIPALS=218, TRANSACTIONS=219, INDEX=220, INDEXES=221, LOCKS=222, OPTION=223, 
-		ANTI=224, LOCAL=225, INPATH=226, CURRENT_DATE=227, CURRENT_TIMESTAMP=228, 
-		STRING=229, BIGINT_LITERAL=230, SMALLINT_LITERAL=231, TINYINT_LITERAL=232, 
-		BYTELENGTH_LITERAL=233, INTEGER_VALUE=234, DECIMAL_VALUE=235, DOUBLE_LITERAL=236, 
-		BIGDECIMAL_LITERAL=237, IDENTIFIER=238, JOBIDENTIFIER=239, BACKQUOTED_IDENTIFIER=240, 
-		SIMPLE_COMMENT=241, BRACKETED_EMPTY_COMMENT=242, BRACKETED_COMMENT=243, 
-		WS=244, UNRECOGNIZED=245;
+		OUT=138, OF=139, SORT=140, ZORDER=141, CLUSTER=142, DISTRIBUTE=143, OVERWRITE=144, 
+		TRANSFORM=145, REDUCE=146, USING=147, SERDE=148, SERDEPROPERTIES=149, 
+		RECORDREADER=150, RECORDWRITER=151, DELIMITED=152, FIELDS=153, TERMINATED=154, 
+		COLLECTION=155, ITEMS=156, KEYS=157, ESCAPED=158, LINES=159, SEPARATED=160, 
+		FUNCTION=161, EXTENDED=162, REFRESH=163, CLEAR=164, CACHE=165, UNCACHE=166, 
+		LAZY=167, FORMATTED=168, GLOBAL=169, TEMPORARY=170, OPTIONS=171, UNSET=172, 
+		TBLPROPERTIES=173, DBPROPERTIES=174, BUCKETS=175, SKEWED=176, STORED=177, 
+		DIRECTORIES=178, LOCATION=179, EXCHANGE=180, ARCHIVE=181, UNARCHIVE=182, 
+		FILEFORMAT=183, TOUCH=184, COMPACT=185, CONCATENATE=186, CHANGE=187, CASCADE=188, 
+		RESTRICT=189, CLUSTERED=190, SORTED=191, PURGE=192, INPUTFORMAT=193, OUTPUTFORMAT=194, 
+		DATABASE=195, DATABASES=196, DFS=197, TRUNCATE=198, ANALYZE=199, COMPUTE=200, 
+		LIST=201, STATISTICS=202, PARTITIONED=203, EXTERNAL=204, DEFINED=205, 
+		REVOKE=206, GRANT=207, LOCK=208, UNLOCK=209, MSCK=210, REPAIR=211, RECOVER=212, 
+		EXPORT=213, IMPORT=214, LOAD=215, ROLE=216, ROLES=217, COMPACTIONS=218, 
+		PRINCIPALS=219, TRANSACTIONS=220, INDEX=221, INDEXES=222, LOCKS=223, OPTION=224, 
+		ANTI=225, LOCAL=226, INPATH=227, CURRENT_DATE=228, CURRENT_TIMESTAMP=229, 
+		STRING=230, BIGINT_LITERAL=231, SMALLINT_LITERAL=232, TINYINT_LITERAL=233, 
+		BYTELENGTH_LITERAL=234, INTEGER_VALUE=235, DECIMAL_VALUE=236, DOUBLE_LITERAL=237, 
+		BIGDECIMAL_LITERAL=238, IDENTIFIER=239, JOBIDENTIFIER=240, BACKQUOTED_IDENTIFIER=241, 
+		SIMPLE_COMMENT=242, BRACKETED_EMPTY_COMMENT=243, BRACKETED_COMMENT=244, 
+		WS=245, UNRECOGNIZED=246;
 	public static String[] modeNames = {
 		"DEFAULT_MODE"
 	};
@@ -79,8 +79,8 @@ public class SqlBaseLexer extends Lexer {
 		"MACRO", "IGNORE", "IF", "EQ", "NSEQ", "NEQ", "NEQJ", "LT", "LTE", "GT", 
 		"GTE", "PLUS", "MINUS", "ASTERISK", "SLASH", "PERCENT", "DIV", "TILDE", 
 		"AMPERSAND", "PIPE", "HAT", "PERCENTLIT", "BUCKET", "OUT", "OF", "SORT", 
-		"CLUSTER", "DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", "USING", 
-		"SERDE", "SERDEPROPERTIES", "RECORDREADER", "RECORDWRITER", "DELIMITED", 
+		"ZORDER", "CLUSTER", "DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", 
+		"USING", "SERDE", "SERDEPROPERTIES", "RECORDREADER", "RECORDWRITER", "DELIMITED", 
 		"FIELDS", "TERMINATED", "COLLECTION", "ITEMS", "KEYS", "ESCAPED", "LINES", 
 		"SEPARATED", "FUNCTION", "EXTENDED", "REFRESH", "CLEAR", "CACHE", "UNCACHE", 
 		"LAZY", "FORMATTED", "GLOBAL", "TEMPORARY", "OPTIONS", "UNSET", "TBLPROPERTIES", 
@@ -120,15 +120,15 @@ public class SqlBaseLexer extends Lexer {
 		"'DATA'", "'START'", "'TRANSACTION'", "'COMMIT'", "'ROLLBACK'", "'MACRO'", 
 		"'IGNORE'", "'IF'", null, "'<=>'", "'<>'", "'!='", "'<'", null, "'>'", 
 		null, "'+'", "'-'", "'*'", "'/'", "'%'", "'DIV'", "'~'", "'&'", "'|'", 
-		"'^'", "'PERCENT'", "'BUCKET'", "'OUT'", "'OF'", "'SORT'", "'CLUSTER'", 
-		"'DISTRIBUTE'", "'OVERWRITE'", "'TRANSFORM'", "'REDUCE'", "'USING'", "'SERDE'", 
-		"'SERDEPROPERTIES'", "'RECORDREADER'", "'RECORDWRITER'", "'DELIMITED'", 
-		"'FIELDS'", "'TERMINATED'", "'COLLECTION'", "'ITEMS'", "'KEYS'", "'ESCAPED'", 
-		"'LINES'", "'SEPARATED'", "'FUNCTION'", "'EXTENDED'", "'REFRESH'", "'CLEAR'", 
-		"'CACHE'", "'UNCACHE'", "'LAZY'", "'FORMATTED'", "'GLOBAL'", null, "'OPTIONS'", 
-		"'UNSET'", "'TBLPROPERTIES'", "'DBPROPERTIES'", "'BUCKETS'", "'SKEWED'", 
-		"'STORED'", "'DIRECTORIES'", "'LOCATION'", "'EXCHANGE'", "'ARCHIVE'", 
-		"'UNARCHIVE'", "'FILEFORMAT'", "'TOUCH'", "'COMPACT'", "'CONCATENATE'", 
+		"'^'", "'PERCENT'", "'BUCKET'", "'OUT'", "'OF'", "'SORT'", "'ZORDER'", 
+		"'CLUSTER'", "'DISTRIBUTE'", "'OVERWRITE'", "'TRANSFORM'", "'REDUCE'", 
+		"'USING'", "'SERDE'", "'SERDEPROPERTIES'", "'RECORDREADER'", "'RECORDWRITER'", 
+		"'DELIMITED'", "'FIELDS'", "'TERMINATED'", "'COLLECTION'", "'ITEMS'", 
+		"'KEYS'", "'ESCAPED'", "'LINES'", "'SEPARATED'", "'FUNCTION'", "'EXTENDED'", 
+		"'REFRESH'", "'CLEAR'", "'CACHE'", "'UNCACHE'", "'LAZY'", "'FORMATTED'", 
+		"'GLOBAL'", null, "'OPTIONS'", "'UNSET'", "'TBLPROPERTIES'", "'DBPROPERTIES'", 
+		"'BUCKETS'", "'SKEWED'", "'STORED'", "'DIRECTORIES'", "'LOCATION'", "'EXCHANGE'", 
+		"'ARCHIVE'", "'UNARCHIVE'", "'FILEFORMAT'", "'TOUCH'", "'COMPACT'", "'CONCATENATE'", 
 		"'CHANGE'", "'CASCADE'", "'RESTRICT'", "'CLUSTERED'", "'SORTED'", "'PURGE'", 
 		"'INPUTFORMAT'", "'OUTPUTFORMAT'", null, null, "'DFS'", "'TRUNCATE'", 
 		"'ANALYZE'", "'COMPUTE'", "'LIST'", "'STATISTICS'", "'PARTITIONED'", "'EXTERNAL'", 
@@ -156,25 +156,25 @@ public class SqlBaseLexer extends Lexer {
 		"RESET", "DATA", "START", "TRANSACTION", "COMMIT", "ROLLBACK", "MACRO", 
 		"IGNORE", "IF", "EQ", "NSEQ", "NEQ", "NEQJ", "LT", "LTE", "GT", "GTE", 
 		"PLUS", "MINUS", "ASTERISK", "SLASH", "PERCENT", "DIV", "TILDE", "AMPERSAND", 
-		"PIPE", "HAT", "PERCENTLIT", "BUCKET", "OUT", "OF", "SORT", "CLUSTER", 
-		"DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", "USING", "SERDE", "SERDEPROPERTIES", 
-		"RECORDREADER", "RECORDWRITER", "DELIMITED", "FIELDS", "TERMINATED", "COLLECTION", 
-		"ITEMS", "KEYS", "ESCAPED", "LINES", "SEPARATED", "FUNCTION", "EXTENDED", 
-		"REFRESH", "CLEAR", "CACHE", "UNCACHE", "LAZY", "FORMATTED", "GLOBAL", 
-		"TEMPORARY", "OPTIONS", "UNSET", "TBLPROPERTIES", "DBPROPERTIES", "BUCKETS", 
-		"SKEWED", "STORED", "DIRECTORIES", "LOCATION", "EXCHANGE", "ARCHIVE", 
-		"UNARCHIVE", "FILEFORMAT", "TOUCH", "COMPACT", "CONCATENATE", "CHANGE", 
-		"CASCADE", "RESTRICT", "CLUSTERED", "SORTED", "PURGE", "INPUTFORMAT", 
-		"OUTPUTFORMAT", "DATABASE", "DATABASES", "DFS", "TRUNCATE", "ANALYZE", 
-		"COMPUTE", "LIST", "STATISTICS", "PARTITIONED", "EXTERNAL", "DEFINED", 
-		"REVOKE", "GRANT", "LOCK", "UNLOCK", "MSCK", "REPAIR", "RECOVER", "EXPORT", 
-		"IMPORT", "LOAD", "ROLE", "ROLES", "COMPACTIONS", "PRINCIPALS", "TRANSACTIONS", 
-		"INDEX", "INDEXES", "LOCKS", "OPTION", "ANTI", "LOCAL", "INPATH", "CURRENT_DATE", 
-		"CURRENT_TIMESTAMP", "STRING", "BIGINT_LITERAL", "SMALLINT_LITERAL", "TINYINT_LITERAL", 
-		"BYTELENGTH_LITERAL", "INTEGER_VALUE", "DECIMAL_VALUE", "DOUBLE_LITERAL", 
-		"BIGDECIMAL_LITERAL", "IDENTIFIER", "JOBIDENTIFIER", "BACKQUOTED_IDENTIFIER", 
-		"SIMPLE_COMMENT", "BRACKETED_EMPTY_COMMENT", "BRACKETED_COMMENT", "WS", 
-		"UNRECOGNIZED"
+		"PIPE", "HAT", "PERCENTLIT", "BUCKET", "OUT", "OF", "SORT", "ZORDER", 
+		"CLUSTER", "DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", "USING", 
+		"SERDE", "SERDEPROPERTIES", "RECORDREADER", "RECORDWRITER", "DELIMITED", 
+		"FIELDS", "TERMINATED", "COLLECTION", "ITEMS", "KEYS", "ESCAPED", "LINES", 
+		"SEPARATED", "FUNCTION", "EXTENDED", "REFRESH", "CLEAR", "CACHE", "UNCACHE", 
+		"LAZY", "FORMATTED", "GLOBAL", "TEMPORARY", "OPTIONS", "UNSET", "TBLPROPERTIES", 
+		"DBPROPERTIES", "BUCKETS", "SKEWED", "STORED", "DIRECTORIES", "LOCATION", 
+		"EXCHANGE", "ARCHIVE", "UNARCHIVE", "FILEFORMAT", "TOUCH", "COMPACT", 
+		"CONCATENATE", "CHANGE", "CASCADE", "RESTRICT", "CLUSTERED", "SORTED", 
+		"PURGE", "INPUTFORMAT", "OUTPUTFORMAT", "DATABASE", "DATABASES", "DFS", 
+		"TRUNCATE", "ANALYZE", "COMPUTE", "LIST", "STATISTICS", "PARTITIONED", 
+		"EXTERNAL", "DEFINED", "REVOKE", "GRANT", "LOCK", "UNLOCK", "MSCK", "REPAIR", 
+		"RECOVER", "EXPORT", "IMPORT", "LOAD", "ROLE", "ROLES", "COMPACTIONS", 
+		"PRINCIPALS", "TRANSACTIONS", "INDEX", "INDEXES", "LOCKS", "OPTION", "ANTI", 
+		"LOCAL", "INPATH", "CURRENT_DATE", "CURRENT_TIMESTAMP", "STRING", "BIGINT_LITERAL", 
+		"SMALLINT_LITERAL", "TINYINT_LITERAL", "BYTELENGTH_LITERAL", "INTEGER_VALUE", 
+		"DECIMAL_VALUE", "DOUBLE_LITERAL", "BIGDECIMAL_LITERAL", "IDENTIFIER", 
+		"JOBIDENTIFIER", "BACKQUOTED_IDENTIFIER", "SIMPLE_COMMENT", "BRACKETED_EMPTY_COMMENT", 
+		"BRACKETED_COMMENT", "WS", "UNRECOGNIZED"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -256,11 +256,11 @@ public class SqlBaseLexer extends Lexer {
 	@Override
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 234:
-			return DECIMAL_VALUE_sempred((RuleContext)_localctx, predIndex);
 		case 235:
-			return DOUBLE_LITERAL_sempred((RuleContext)_localctx, predIndex);
+			return DECIMAL_VALUE_sempred((RuleContext)_localctx, predIndex);
 		case 236:
+			return DOUBLE_LITERAL_sempred((RuleContext)_localctx, predIndex);
+		case 237:
 			return BIGDECIMAL_LITERAL_sempred((RuleContext)_localctx, predIndex);
 		}
 		return true;
@@ -288,7 +288,7 @@ public class SqlBaseLexer extends Lexer {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\u00f7\u08ef\b\1\4"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\u00f8\u08f8\b\1\4"+
 		"\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n"+
 		"\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
 		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
@@ -329,166 +329,167 @@ public class SqlBaseLexer extends Lexer {
 		"\t\u00ec\4\u00ed\t\u00ed\4\u00ee\t\u00ee\4\u00ef\t\u00ef\4\u00f0\t\u00f0"+
 		"\4\u00f1\t\u00f1\4\u00f2\t\u00f2\4\u00f3\t\u00f3\4\u00f4\t\u00f4\4\u00f5"+
 		"\t\u00f5\4\u00f6\t\u00f6\4\u00f7\t\u00f7\4\u00f8\t\u00f8\4\u00f9\t\u00f9"+
-		"\4\u00fa\t\u00fa\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3"+
-		"\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\n\3\n\3\n\3\n"+
-		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f"+
-		"\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\22"+
-		"\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26"+
-		"\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32"+
-		"\5\32\u026b\n\32\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\35"+
-		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\37\3\37"+
-		"\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u028f\n\37\3 \3 \3"+
-		" \3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3$\3$\3$\3$\3$"+
-		"\3$\3%\3%\3%\3%\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3(\3"+
-		"(\3(\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3-\3"+
-		"-\3-\3-\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\60"+
-		"\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\63\3\63\3\63"+
-		"\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\65\3\66"+
-		"\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67\3\67\3\67\38\38\38\38\38\38\3"+
-		"8\38\39\39\39\39\39\39\39\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;\3;\3;\3;\3;\3"+
-		";\3<\3<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3>\3>\3>\3>\3?\3"+
-		"?\3?\3?\3?\3?\3?\3?\3?\3?\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3A\3A\3A\3A\3"+
-		"A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3D\3D\3D\3D\3D\3E\3E\3"+
-		"E\3E\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3H\3H\3H\3I\3I\3"+
-		"I\3I\3I\3I\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3L\3L\3"+
-		"L\3M\3M\3M\3M\3M\3M\3M\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3O\3O\3O\3P\3"+
-		"P\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3R\3R\3R\3R\3R\3R\3R\3R\3S\3"+
-		"S\3S\3S\3S\3S\3S\3S\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3V\3V\3V\3V\3V\3W\3"+
-		"W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Z\3Z\3"+
-		"Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3\\"+
-		"\3\\\3\\\3]\3]\3]\3]\3]\3^\3^\3^\3^\3^\3^\3_\3_\3_\3_\3_\3_\3_\3_\3_\3"+
-		"_\3`\3`\3`\3`\3`\3`\3a\3a\3a\3a\3a\3a\3a\3b\3b\3b\3b\3b\3b\3c\3c\3c\3"+
-		"c\3c\3c\3c\3c\3c\3c\3d\3d\3d\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3f\3"+
-		"f\3f\3f\3f\3f\3f\3f\3f\3g\3g\3g\3g\3g\3g\3h\3h\3h\3h\3h\3h\3h\3i\3i\3"+
-		"i\3i\3i\3i\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3l\3l\3l\3"+
-		"m\3m\3m\3m\3n\3n\3n\3n\3n\3n\3o\3o\3o\3o\3o\3p\3p\3p\3p\3p\3p\3q\3q\3"+
-		"q\3q\3q\3q\3q\3q\3q\3q\3q\3q\3r\3r\3r\3r\3r\3r\3r\3s\3s\3s\3s\3s\3s\3"+
-		"s\3s\3s\3t\3t\3t\3t\3t\3t\3u\3u\3u\3u\3u\3u\3u\3v\3v\3v\3w\3w\3w\5w\u04c6"+
-		"\nw\3x\3x\3x\3x\3y\3y\3y\3z\3z\3z\3{\3{\3|\3|\3|\3|\5|\u04d8\n|\3}\3}"+
-		"\3~\3~\3~\3~\5~\u04e0\n~\3\177\3\177\3\u0080\3\u0080\3\u0081\3\u0081\3"+
-		"\u0082\3\u0082\3\u0083\3\u0083\3\u0084\3\u0084\3\u0084\3\u0084\3\u0085"+
-		"\3\u0085\3\u0086\3\u0086\3\u0087\3\u0087\3\u0088\3\u0088\3\u0089\3\u0089"+
-		"\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u008a\3\u008a\3\u008a"+
-		"\3\u008a\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b\3\u008c"+
-		"\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e"+
-		"\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008f\3\u008f\3\u008f"+
-		"\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090"+
-		"\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090"+
+		"\4\u00fa\t\u00fa\4\u00fb\t\u00fb\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\t\3\t\3\t"+
+		"\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f"+
+		"\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21"+
+		"\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25"+
+		"\3\26\3\26\3\26\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\32"+
+		"\3\32\3\32\3\32\5\32\u026d\n\32\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34"+
+		"\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36"+
+		"\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u0291"+
+		"\n\37\3 \3 \3 \3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3"+
+		"$\3$\3$\3$\3$\3$\3%\3%\3%\3%\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3(\3(\3(\3"+
+		"(\3(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,\3"+
+		",\3,\3,\3-\3-\3-\3-\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3"+
+		"\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3"+
+		"\63\3\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3"+
+		"\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67\3\67\3\67\38\38"+
+		"\38\38\38\38\38\38\39\39\39\39\39\39\39\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;"+
+		"\3;\3;\3;\3;\3;\3<\3<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3>"+
+		"\3>\3>\3>\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@"+
+		"\3A\3A\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3D\3D\3D"+
+		"\3D\3D\3E\3E\3E\3E\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G\3H\3H\3H\3H\3H"+
+		"\3H\3H\3I\3I\3I\3I\3I\3I\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L"+
+		"\3L\3L\3L\3L\3L\3M\3M\3M\3M\3M\3M\3M\3N\3N\3N\3N\3N\3O\3O\3O\3O\3O\3O"+
+		"\3O\3O\3O\3P\3P\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3R\3R\3R\3R\3R"+
+		"\3R\3R\3R\3S\3S\3S\3S\3S\3S\3S\3S\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3V\3V"+
+		"\3V\3V\3V\3W\3W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3X\3X\3Y\3Y\3Y\3Y\3Y"+
+		"\3Y\3Y\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3"+
+		"\\\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3]\3^\3^\3^\3^\3^\3^\3_\3_\3_\3_\3"+
+		"_\3_\3_\3_\3_\3_\3`\3`\3`\3`\3`\3`\3a\3a\3a\3a\3a\3a\3a\3b\3b\3b\3b\3"+
+		"b\3b\3c\3c\3c\3c\3c\3c\3c\3c\3c\3c\3d\3d\3d\3e\3e\3e\3e\3e\3e\3e\3e\3"+
+		"e\3e\3e\3e\3f\3f\3f\3f\3f\3f\3f\3f\3f\3g\3g\3g\3g\3g\3g\3h\3h\3h\3h\3"+
+		"h\3h\3h\3i\3i\3i\3i\3i\3i\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3k\3l\3l\3l\3"+
+		"l\3l\3l\3l\3l\3m\3m\3m\3m\3n\3n\3n\3n\3n\3n\3o\3o\3o\3o\3o\3p\3p\3p\3"+
+		"p\3p\3p\3q\3q\3q\3q\3q\3q\3q\3q\3q\3q\3q\3q\3r\3r\3r\3r\3r\3r\3r\3s\3"+
+		"s\3s\3s\3s\3s\3s\3s\3s\3t\3t\3t\3t\3t\3t\3u\3u\3u\3u\3u\3u\3u\3v\3v\3"+
+		"v\3w\3w\3w\5w\u04c8\nw\3x\3x\3x\3x\3y\3y\3y\3z\3z\3z\3{\3{\3|\3|\3|\3"+
+		"|\5|\u04da\n|\3}\3}\3~\3~\3~\3~\5~\u04e2\n~\3\177\3\177\3\u0080\3\u0080"+
+		"\3\u0081\3\u0081\3\u0082\3\u0082\3\u0083\3\u0083\3\u0084\3\u0084\3\u0084"+
+		"\3\u0084\3\u0085\3\u0085\3\u0086\3\u0086\3\u0087\3\u0087\3\u0088\3\u0088"+
+		"\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u0089\3\u008a"+
+		"\3\u008a\3\u008a\3\u008a\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b"+
+		"\3\u008b\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d\3\u008d\3\u008d"+
+		"\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008e\3\u008f\3\u008f"+
+		"\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090"+
+		"\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0090\3\u0091"+
 		"\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091\3\u0091"+
-		"\3\u0091\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0093"+
-		"\3\u0093\3\u0093\3\u0093\3\u0093\3\u0093\3\u0094\3\u0094\3\u0094\3\u0094"+
-		"\3\u0094\3\u0094\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095"+
-		"\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095\3\u0095"+
+		"\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092\3\u0092"+
+		"\3\u0092\3\u0093\3\u0093\3\u0093\3\u0093\3\u0093\3\u0093\3\u0093\3\u0094"+
+		"\3\u0094\3\u0094\3\u0094\3\u0094\3\u0094\3\u0095\3\u0095\3\u0095\3\u0095"+
+		"\3\u0095\3\u0095\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096"+
 		"\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096\3\u0096"+
-		"\3\u0096\3\u0096\3\u0096\3\u0096\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097"+
-		"\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0098"+
-		"\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098"+
-		"\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a"+
-		"\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a"+
+		"\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097\3\u0097"+
+		"\3\u0097\3\u0097\3\u0097\3\u0097\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098"+
+		"\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0098\3\u0099"+
+		"\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099\3\u0099"+
+		"\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009a\3\u009b\3\u009b"+
 		"\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b\3\u009b"+
-		"\3\u009b\3\u009b\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009d"+
-		"\3\u009d\3\u009d\3\u009d\3\u009d\3\u009e\3\u009e\3\u009e\3\u009e\3\u009e"+
-		"\3\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f\3\u009f\3\u009f\3\u009f"+
-		"\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0"+
-		"\3\u00a0\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1"+
+		"\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c\3\u009c"+
+		"\3\u009c\3\u009c\3\u009d\3\u009d\3\u009d\3\u009d\3\u009d\3\u009d\3\u009e"+
+		"\3\u009e\3\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f\3\u009f\3\u009f"+
+		"\3\u009f\3\u009f\3\u009f\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0\3\u00a0"+
+		"\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1\3\u00a1"+
 		"\3\u00a1\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2\3\u00a2"+
 		"\3\u00a2\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3\3\u00a3"+
-		"\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a5\3\u00a5\3\u00a5"+
-		"\3\u00a5\3\u00a5\3\u00a5\3\u00a6\3\u00a6\3\u00a6\3\u00a6\3\u00a6\3\u00a6"+
-		"\3\u00a6\3\u00a6\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a8\3\u00a8"+
-		"\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9"+
-		"\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00aa\3\u00aa\3\u00aa"+
-		"\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa"+
-		"\3\u00aa\5\u00aa\u0612\n\u00aa\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab"+
-		"\3\u00ab\3\u00ab\3\u00ab\3\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ac"+
-		"\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad"+
-		"\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ae\3\u00ae\3\u00ae\3\u00ae"+
+		"\3\u00a3\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4\3\u00a4"+
+		"\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a5\3\u00a6\3\u00a6\3\u00a6"+
+		"\3\u00a6\3\u00a6\3\u00a6\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7\3\u00a7"+
+		"\3\u00a7\3\u00a7\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9"+
+		"\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00a9\3\u00aa"+
+		"\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00aa\3\u00ab\3\u00ab\3\u00ab"+
+		"\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab\3\u00ab"+
+		"\3\u00ab\5\u00ab\u061b\n\u00ab\3\u00ac\3\u00ac\3\u00ac\3\u00ac\3\u00ac"+
+		"\3\u00ac\3\u00ac\3\u00ac\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad\3\u00ad"+
 		"\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae"+
-		"\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00b0"+
-		"\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b1\3\u00b1\3\u00b1"+
-		"\3\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b2"+
-		"\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b3\3\u00b3"+
+		"\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00ae\3\u00af\3\u00af\3\u00af\3\u00af"+
+		"\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af\3\u00af"+
+		"\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b0\3\u00b1"+
+		"\3\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2\3\u00b2"+
+		"\3\u00b2\3\u00b2\3\u00b2\3\u00b2\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3"+
 		"\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b3\3\u00b4\3\u00b4"+
 		"\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b4\3\u00b5\3\u00b5"+
-		"\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b6\3\u00b6\3\u00b6"+
-		"\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b7\3\u00b7"+
-		"\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7"+
-		"\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b9\3\u00b9\3\u00b9"+
-		"\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00ba\3\u00ba\3\u00ba\3\u00ba"+
-		"\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00bb"+
-		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bc\3\u00bc\3\u00bc"+
-		"\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u00bd\3\u00bd"+
+		"\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b5\3\u00b6\3\u00b6"+
+		"\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b6\3\u00b7\3\u00b7\3\u00b7"+
+		"\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b7\3\u00b8\3\u00b8"+
+		"\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8\3\u00b8"+
+		"\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00b9\3\u00ba\3\u00ba\3\u00ba"+
+		"\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00ba\3\u00bb\3\u00bb\3\u00bb\3\u00bb"+
+		"\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bb\3\u00bc"+
+		"\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u00bd"+
 		"\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00bd\3\u00be\3\u00be\3\u00be\3\u00be"+
-		"\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00bf\3\u00bf\3\u00bf"+
-		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00c0\3\u00c0\3\u00c0\3\u00c0\3\u00c0"+
-		"\3\u00c0\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1"+
-		"\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2"+
-		"\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c3"+
-		"\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3"+
-		"\3\u00c3\3\u00c3\3\u00c3\3\u00c3\5\u00c3\u06fe\n\u00c3\3\u00c4\3\u00c4"+
+		"\3\u00be\3\u00be\3\u00be\3\u00be\3\u00be\3\u00bf\3\u00bf\3\u00bf\3\u00bf"+
+		"\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00bf\3\u00c0\3\u00c0\3\u00c0"+
+		"\3\u00c0\3\u00c0\3\u00c0\3\u00c0\3\u00c1\3\u00c1\3\u00c1\3\u00c1\3\u00c1"+
+		"\3\u00c1\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c2"+
+		"\3\u00c2\3\u00c2\3\u00c2\3\u00c2\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3"+
+		"\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c3\3\u00c4"+
 		"\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4"+
-		"\3\u00c4\3\u00c4\3\u00c4\3\u00c4\3\u00c4\5\u00c4\u0710\n\u00c4\3\u00c5"+
-		"\3\u00c5\3\u00c5\3\u00c5\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6\3\u00c6"+
+		"\3\u00c4\3\u00c4\3\u00c4\3\u00c4\5\u00c4\u0707\n\u00c4\3\u00c5\3\u00c5"+
+		"\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5"+
+		"\3\u00c5\3\u00c5\3\u00c5\3\u00c5\3\u00c5\5\u00c5\u0719\n\u00c5\3\u00c6"+
 		"\3\u00c6\3\u00c6\3\u00c6\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7\3\u00c7"+
-		"\3\u00c7\3\u00c7\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8"+
-		"\3\u00c8\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00ca\3\u00ca\3\u00ca"+
-		"\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00cb"+
-		"\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb"+
-		"\3\u00cb\3\u00cb\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
+		"\3\u00c7\3\u00c7\3\u00c7\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8\3\u00c8"+
+		"\3\u00c8\3\u00c8\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9\3\u00c9"+
+		"\3\u00c9\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00ca\3\u00cb\3\u00cb\3\u00cb"+
+		"\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cb\3\u00cc"+
+		"\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc\3\u00cc"+
 		"\3\u00cc\3\u00cc\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd\3\u00cd"+
-		"\3\u00cd\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00cf"+
-		"\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00d0\3\u00d0\3\u00d0\3\u00d0"+
-		"\3\u00d0\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d1\3\u00d2"+
-		"\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d3"+
-		"\3\u00d3\3\u00d3\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d4"+
-		"\3\u00d4\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d6"+
-		"\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d7\3\u00d7\3\u00d7"+
-		"\3\u00d7\3\u00d7\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d8\3\u00d9\3\u00d9"+
-		"\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00da\3\u00da\3\u00da\3\u00da\3\u00da"+
-		"\3\u00da\3\u00da\3\u00da\3\u00da\3\u00da\3\u00da\3\u00da\3\u00db\3\u00db"+
-		"\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db"+
+		"\3\u00cd\3\u00cd\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce\3\u00ce"+
+		"\3\u00ce\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00cf\3\u00d0"+
+		"\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d0\3\u00d1\3\u00d1\3\u00d1\3\u00d1"+
+		"\3\u00d1\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d2\3\u00d3"+
+		"\3\u00d3\3\u00d3\3\u00d3\3\u00d3\3\u00d4\3\u00d4\3\u00d4\3\u00d4\3\u00d4"+
+		"\3\u00d4\3\u00d4\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5\3\u00d5"+
+		"\3\u00d5\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d6\3\u00d7"+
+		"\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d7\3\u00d8\3\u00d8\3\u00d8"+
+		"\3\u00d8\3\u00d8\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00d9\3\u00da\3\u00da"+
+		"\3\u00da\3\u00da\3\u00da\3\u00da\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db"+
+		"\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00db\3\u00dc\3\u00dc"+
 		"\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dc"+
-		"\3\u00dc\3\u00dc\3\u00dc\3\u00dc\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd"+
-		"\3\u00dd\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de"+
-		"\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00e0\3\u00e0\3\u00e0"+
-		"\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e1\3\u00e1\3\u00e1\3\u00e1\3\u00e1"+
-		"\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e3\3\u00e3\3\u00e3"+
-		"\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4"+
-		"\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e5"+
-		"\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5"+
+		"\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00dd"+
+		"\3\u00dd\3\u00dd\3\u00dd\3\u00dd\3\u00de\3\u00de\3\u00de\3\u00de\3\u00de"+
+		"\3\u00de\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df\3\u00df"+
+		"\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e0\3\u00e1\3\u00e1\3\u00e1"+
+		"\3\u00e1\3\u00e1\3\u00e1\3\u00e1\3\u00e2\3\u00e2\3\u00e2\3\u00e2\3\u00e2"+
+		"\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e3\3\u00e4\3\u00e4\3\u00e4"+
+		"\3\u00e4\3\u00e4\3\u00e4\3\u00e4\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5"+
 		"\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e5\3\u00e6"+
-		"\3\u00e6\3\u00e6\3\u00e6\7\u00e6\u081b\n\u00e6\f\u00e6\16\u00e6\u081e"+
-		"\13\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\7\u00e6\u0825\n\u00e6"+
-		"\f\u00e6\16\u00e6\u0828\13\u00e6\3\u00e6\5\u00e6\u082b\n\u00e6\3\u00e7"+
-		"\6\u00e7\u082e\n\u00e7\r\u00e7\16\u00e7\u082f\3\u00e7\3\u00e7\3\u00e8"+
-		"\6\u00e8\u0835\n\u00e8\r\u00e8\16\u00e8\u0836\3\u00e8\3\u00e8\3\u00e9"+
-		"\6\u00e9\u083c\n\u00e9\r\u00e9\16\u00e9\u083d\3\u00e9\3\u00e9\3\u00ea"+
-		"\6\u00ea\u0843\n\u00ea\r\u00ea\16\u00ea\u0844\3\u00ea\3\u00ea\3\u00eb"+
-		"\6\u00eb\u084a\n\u00eb\r\u00eb\16\u00eb\u084b\3\u00ec\6\u00ec\u084f\n"+
-		"\u00ec\r\u00ec\16\u00ec\u0850\3\u00ec\3\u00ec\3\u00ec\3\u00ec\5\u00ec"+
-		"\u0857\n\u00ec\3\u00ec\3\u00ec\5\u00ec\u085b\n\u00ec\3\u00ed\6\u00ed\u085e"+
-		"\n\u00ed\r\u00ed\16\u00ed\u085f\3\u00ed\5\u00ed\u0863\n\u00ed\3\u00ed"+
-		"\3\u00ed\3\u00ed\3\u00ed\5\u00ed\u0869\n\u00ed\3\u00ed\3\u00ed\3\u00ed"+
-		"\5\u00ed\u086e\n\u00ed\3\u00ee\6\u00ee\u0871\n\u00ee\r\u00ee\16\u00ee"+
-		"\u0872\3\u00ee\5\u00ee\u0876\n\u00ee\3\u00ee\3\u00ee\3\u00ee\3\u00ee\3"+
-		"\u00ee\5\u00ee\u087d\n\u00ee\3\u00ee\3\u00ee\3\u00ee\3\u00ee\3\u00ee\5"+
-		"\u00ee\u0884\n\u00ee\3\u00ef\3\u00ef\3\u00ef\6\u00ef\u0889\n\u00ef\r\u00ef"+
-		"\16\u00ef\u088a\3\u00f0\3\u00f0\3\u00f0\6\u00f0\u0890\n\u00f0\r\u00f0"+
-		"\16\u00f0\u0891\3\u00f1\3\u00f1\3\u00f1\3\u00f1\7\u00f1\u0898\n\u00f1"+
-		"\f\u00f1\16\u00f1\u089b\13\u00f1\3\u00f1\3\u00f1\3\u00f2\6\u00f2\u08a0"+
-		"\n\u00f2\r\u00f2\16\u00f2\u08a1\3\u00f2\3\u00f2\7\u00f2\u08a6\n\u00f2"+
-		"\f\u00f2\16\u00f2\u08a9\13\u00f2\3\u00f2\3\u00f2\6\u00f2\u08ad\n\u00f2"+
-		"\r\u00f2\16\u00f2\u08ae\5\u00f2\u08b1\n\u00f2\3\u00f3\3\u00f3\5\u00f3"+
-		"\u08b5\n\u00f3\3\u00f3\6\u00f3\u08b8\n\u00f3\r\u00f3\16\u00f3\u08b9\3"+
-		"\u00f4\3\u00f4\3\u00f5\3\u00f5\3\u00f6\3\u00f6\3\u00f6\3\u00f6\7\u00f6"+
-		"\u08c4\n\u00f6\f\u00f6\16\u00f6\u08c7\13\u00f6\3\u00f6\5\u00f6\u08ca\n"+
-		"\u00f6\3\u00f6\5\u00f6\u08cd\n\u00f6\3\u00f6\3\u00f6\3\u00f7\3\u00f7\3"+
-		"\u00f7\3\u00f7\3\u00f7\3\u00f7\3\u00f7\3\u00f8\3\u00f8\3\u00f8\3\u00f8"+
-		"\3\u00f8\7\u00f8\u08dd\n\u00f8\f\u00f8\16\u00f8\u08e0\13\u00f8\3\u00f8"+
-		"\3\u00f8\3\u00f8\3\u00f8\3\u00f8\3\u00f9\6\u00f9\u08e8\n\u00f9\r\u00f9"+
-		"\16\u00f9\u08e9\3\u00f9\3\u00f9\3\u00fa\3\u00fa\3\u08de\2\u00fb\3\3\5"+
+		"\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6"+
+		"\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e6\3\u00e7"+
+		"\3\u00e7\3\u00e7\3\u00e7\7\u00e7\u0824\n\u00e7\f\u00e7\16\u00e7\u0827"+
+		"\13\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\3\u00e7\7\u00e7\u082e\n\u00e7"+
+		"\f\u00e7\16\u00e7\u0831\13\u00e7\3\u00e7\5\u00e7\u0834\n\u00e7\3\u00e8"+
+		"\6\u00e8\u0837\n\u00e8\r\u00e8\16\u00e8\u0838\3\u00e8\3\u00e8\3\u00e9"+
+		"\6\u00e9\u083e\n\u00e9\r\u00e9\16\u00e9\u083f\3\u00e9\3\u00e9\3\u00ea"+
+		"\6\u00ea\u0845\n\u00ea\r\u00ea\16\u00ea\u0846\3\u00ea\3\u00ea\3\u00eb"+
+		"\6\u00eb\u084c\n\u00eb\r\u00eb\16\u00eb\u084d\3\u00eb\3\u00eb\3\u00ec"+
+		"\6\u00ec\u0853\n\u00ec\r\u00ec\16\u00ec\u0854\3\u00ed\6\u00ed\u0858\n"+
+		"\u00ed\r\u00ed\16\u00ed\u0859\3\u00ed\3\u00ed\3\u00ed\3\u00ed\5\u00ed"+
+		"\u0860\n\u00ed\3\u00ed\3\u00ed\5\u00ed\u0864\n\u00ed\3\u00ee\6\u00ee\u0867"+
+		"\n\u00ee\r\u00ee\16\u00ee\u0868\3\u00ee\5\u00ee\u086c\n\u00ee\3\u00ee"+
+		"\3\u00ee\3\u00ee\3\u00ee\5\u00ee\u0872\n\u00ee\3\u00ee\3\u00ee\3\u00ee"+
+		"\5\u00ee\u0877\n\u00ee\3\u00ef\6\u00ef\u087a\n\u00ef\r\u00ef\16\u00ef"+
+		"\u087b\3\u00ef\5\u00ef\u087f\n\u00ef\3\u00ef\3\u00ef\3\u00ef\3\u00ef\3"+
+		"\u00ef\5\u00ef\u0886\n\u00ef\3\u00ef\3\u00ef\3\u00ef\3\u00ef\3\u00ef\5"+
+		"\u00ef\u088d\n\u00ef\3\u00f0\3\u00f0\3\u00f0\6\u00f0\u0892\n\u00f0\r\u00f0"+
+		"\16\u00f0\u0893\3\u00f1\3\u00f1\3\u00f1\6\u00f1\u0899\n\u00f1\r\u00f1"+
+		"\16\u00f1\u089a\3\u00f2\3\u00f2\3\u00f2\3\u00f2\7\u00f2\u08a1\n\u00f2"+
+		"\f\u00f2\16\u00f2\u08a4\13\u00f2\3\u00f2\3\u00f2\3\u00f3\6\u00f3\u08a9"+
+		"\n\u00f3\r\u00f3\16\u00f3\u08aa\3\u00f3\3\u00f3\7\u00f3\u08af\n\u00f3"+
+		"\f\u00f3\16\u00f3\u08b2\13\u00f3\3\u00f3\3\u00f3\6\u00f3\u08b6\n\u00f3"+
+		"\r\u00f3\16\u00f3\u08b7\5\u00f3\u08ba\n\u00f3\3\u00f4\3\u00f4\5\u00f4"+
+		"\u08be\n\u00f4\3\u00f4\6\u00f4\u08c1\n\u00f4\r\u00f4\16\u00f4\u08c2\3"+
+		"\u00f5\3\u00f5\3\u00f6\3\u00f6\3\u00f7\3\u00f7\3\u00f7\3\u00f7\7\u00f7"+
+		"\u08cd\n\u00f7\f\u00f7\16\u00f7\u08d0\13\u00f7\3\u00f7\5\u00f7\u08d3\n"+
+		"\u00f7\3\u00f7\5\u00f7\u08d6\n\u00f7\3\u00f7\3\u00f7\3\u00f8\3\u00f8\3"+
+		"\u00f8\3\u00f8\3\u00f8\3\u00f8\3\u00f8\3\u00f9\3\u00f9\3\u00f9\3\u00f9"+
+		"\3\u00f9\7\u00f9\u08e6\n\u00f9\f\u00f9\16\u00f9\u08e9\13\u00f9\3\u00f9"+
+		"\3\u00f9\3\u00f9\3\u00f9\3\u00f9\3\u00fa\6\u00fa\u08f1\n\u00fa\r\u00fa"+
+		"\16\u00fa\u08f2\3\u00fa\3\u00fa\3\u00fb\3\u00fb\3\u08e7\2\u00fc\3\3\5"+
 		"\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21"+
 		"!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!"+
 		"A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s"+
@@ -517,632 +518,635 @@ public class SqlBaseLexer extends Lexer {
 		"\u00dd\u01b9\u00de\u01bb\u00df\u01bd\u00e0\u01bf\u00e1\u01c1\u00e2\u01c3"+
 		"\u00e3\u01c5\u00e4\u01c7\u00e5\u01c9\u00e6\u01cb\u00e7\u01cd\u00e8\u01cf"+
 		"\u00e9\u01d1\u00ea\u01d3\u00eb\u01d5\u00ec\u01d7\u00ed\u01d9\u00ee\u01db"+
-		"\u00ef\u01dd\u00f0\u01df\u00f1\u01e1\u00f2\u01e3\2\u01e5\2\u01e7\2\u01e9"+
-		"\2\u01eb\u00f3\u01ed\u00f4\u01ef\u00f5\u01f1\u00f6\u01f3\u00f7\3\2\f\4"+
-		"\2))^^\6\2DDIIMMOO\4\2//aa\3\2bb\4\2--//\3\2\62;\3\2C\\\4\2\f\f\17\17"+
-		"\3\2--\5\2\13\f\17\17\"\"\u091a\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2"+
-		"\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2"+
-		"\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2"+
-		"\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2"+
-		"\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2"+
-		"\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2"+
-		"\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O"+
-		"\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2"+
-		"\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2"+
-		"\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u"+
-		"\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081"+
-		"\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2"+
-		"\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093"+
-		"\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2"+
-		"\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5"+
-		"\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2"+
-		"\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7"+
-		"\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2"+
-		"\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9"+
-		"\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2"+
-		"\2\2\u00d3\3\2\2\2\2\u00d5\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9\3\2\2\2\2\u00db"+
-		"\3\2\2\2\2\u00dd\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2\2\2\u00e3\3\2\2"+
-		"\2\2\u00e5\3\2\2\2\2\u00e7\3\2\2\2\2\u00e9\3\2\2\2\2\u00eb\3\2\2\2\2\u00ed"+
-		"\3\2\2\2\2\u00ef\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2\2\2\u00f5\3\2\2"+
-		"\2\2\u00f7\3\2\2\2\2\u00f9\3\2\2\2\2\u00fb\3\2\2\2\2\u00fd\3\2\2\2\2\u00ff"+
-		"\3\2\2\2\2\u0101\3\2\2\2\2\u0103\3\2\2\2\2\u0105\3\2\2\2\2\u0107\3\2\2"+
-		"\2\2\u0109\3\2\2\2\2\u010b\3\2\2\2\2\u010d\3\2\2\2\2\u010f\3\2\2\2\2\u0111"+
-		"\3\2\2\2\2\u0113\3\2\2\2\2\u0115\3\2\2\2\2\u0117\3\2\2\2\2\u0119\3\2\2"+
-		"\2\2\u011b\3\2\2\2\2\u011d\3\2\2\2\2\u011f\3\2\2\2\2\u0121\3\2\2\2\2\u0123"+
-		"\3\2\2\2\2\u0125\3\2\2\2\2\u0127\3\2\2\2\2\u0129\3\2\2\2\2\u012b\3\2\2"+
-		"\2\2\u012d\3\2\2\2\2\u012f\3\2\2\2\2\u0131\3\2\2\2\2\u0133\3\2\2\2\2\u0135"+
-		"\3\2\2\2\2\u0137\3\2\2\2\2\u0139\3\2\2\2\2\u013b\3\2\2\2\2\u013d\3\2\2"+
-		"\2\2\u013f\3\2\2\2\2\u0141\3\2\2\2\2\u0143\3\2\2\2\2\u0145\3\2\2\2\2\u0147"+
-		"\3\2\2\2\2\u0149\3\2\2\2\2\u014b\3\2\2\2\2\u014d\3\2\2\2\2\u014f\3\2\2"+
-		"\2\2\u0151\3\2\2\2\2\u0153\3\2\2\2\2\u0155\3\2\2\2\2\u0157\3\2\2\2\2\u0159"+
-		"\3\2\2\2\2\u015b\3\2\2\2\2\u015d\3\2\2\2\2\u015f\3\2\2\2\2\u0161\3\2\2"+
-		"\2\2\u0163\3\2\2\2\2\u0165\3\2\2\2\2\u0167\3\2\2\2\2\u0169\3\2\2\2\2\u016b"+
-		"\3\2\2\2\2\u016d\3\2\2\2\2\u016f\3\2\2\2\2\u0171\3\2\2\2\2\u0173\3\2\2"+
-		"\2\2\u0175\3\2\2\2\2\u0177\3\2\2\2\2\u0179\3\2\2\2\2\u017b\3\2\2\2\2\u017d"+
-		"\3\2\2\2\2\u017f\3\2\2\2\2\u0181\3\2\2\2\2\u0183\3\2\2\2\2\u0185\3\2\2"+
-		"\2\2\u0187\3\2\2\2\2\u0189\3\2\2\2\2\u018b\3\2\2\2\2\u018d\3\2\2\2\2\u018f"+
-		"\3\2\2\2\2\u0191\3\2\2\2\2\u0193\3\2\2\2\2\u0195\3\2\2\2\2\u0197\3\2\2"+
-		"\2\2\u0199\3\2\2\2\2\u019b\3\2\2\2\2\u019d\3\2\2\2\2\u019f\3\2\2\2\2\u01a1"+
-		"\3\2\2\2\2\u01a3\3\2\2\2\2\u01a5\3\2\2\2\2\u01a7\3\2\2\2\2\u01a9\3\2\2"+
-		"\2\2\u01ab\3\2\2\2\2\u01ad\3\2\2\2\2\u01af\3\2\2\2\2\u01b1\3\2\2\2\2\u01b3"+
-		"\3\2\2\2\2\u01b5\3\2\2\2\2\u01b7\3\2\2\2\2\u01b9\3\2\2\2\2\u01bb\3\2\2"+
-		"\2\2\u01bd\3\2\2\2\2\u01bf\3\2\2\2\2\u01c1\3\2\2\2\2\u01c3\3\2\2\2\2\u01c5"+
-		"\3\2\2\2\2\u01c7\3\2\2\2\2\u01c9\3\2\2\2\2\u01cb\3\2\2\2\2\u01cd\3\2\2"+
-		"\2\2\u01cf\3\2\2\2\2\u01d1\3\2\2\2\2\u01d3\3\2\2\2\2\u01d5\3\2\2\2\2\u01d7"+
-		"\3\2\2\2\2\u01d9\3\2\2\2\2\u01db\3\2\2\2\2\u01dd\3\2\2\2\2\u01df\3\2\2"+
-		"\2\2\u01e1\3\2\2\2\2\u01eb\3\2\2\2\2\u01ed\3\2\2\2\2\u01ef\3\2\2\2\2\u01f1"+
-		"\3\2\2\2\2\u01f3\3\2\2\2\3\u01f5\3\2\2\2\5\u01f7\3\2\2\2\7\u01f9\3\2\2"+
-		"\2\t\u01fb\3\2\2\2\13\u01fd\3\2\2\2\r\u0204\3\2\2\2\17\u0209\3\2\2\2\21"+
-		"\u020d\3\2\2\2\23\u0210\3\2\2\2\25\u0214\3\2\2\2\27\u021d\3\2\2\2\31\u0223"+
-		"\3\2\2\2\33\u0229\3\2\2\2\35\u022c\3\2\2\2\37\u0235\3\2\2\2!\u023a\3\2"+
-		"\2\2#\u023f\3\2\2\2%\u0246\3\2\2\2\'\u024c\3\2\2\2)\u0253\3\2\2\2+\u0259"+
-		"\3\2\2\2-\u025c\3\2\2\2/\u025f\3\2\2\2\61\u0263\3\2\2\2\63\u026a\3\2\2"+
-		"\2\65\u026c\3\2\2\2\67\u026f\3\2\2\29\u0276\3\2\2\2;\u027e\3\2\2\2=\u028e"+
-		"\3\2\2\2?\u0290\3\2\2\2A\u0293\3\2\2\2C\u0298\3\2\2\2E\u029d\3\2\2\2G"+
-		"\u02a3\3\2\2\2I\u02a9\3\2\2\2K\u02ad\3\2\2\2M\u02b2\3\2\2\2O\u02b6\3\2"+
-		"\2\2Q\u02bf\3\2\2\2S\u02c4\3\2\2\2U\u02c9\3\2\2\2W\u02ce\3\2\2\2Y\u02d3"+
-		"\3\2\2\2[\u02d7\3\2\2\2]\u02dc\3\2\2\2_\u02e2\3\2\2\2a\u02e8\3\2\2\2c"+
-		"\u02ee\3\2\2\2e\u02f3\3\2\2\2g\u02f8\3\2\2\2i\u02fe\3\2\2\2k\u0303\3\2"+
-		"\2\2m\u030b\3\2\2\2o\u030e\3\2\2\2q\u0316\3\2\2\2s\u031d\3\2\2\2u\u0322"+
-		"\3\2\2\2w\u032c\3\2\2\2y\u0332\3\2\2\2{\u0337\3\2\2\2}\u0341\3\2\2\2\177"+
-		"\u034b\3\2\2\2\u0081\u0355\3\2\2\2\u0083\u035d\3\2\2\2\u0085\u0363\3\2"+
-		"\2\2\u0087\u0369\3\2\2\2\u0089\u036e\3\2\2\2\u008b\u0372\3\2\2\2\u008d"+
-		"\u0377\3\2\2\2\u008f\u037e\3\2\2\2\u0091\u0385\3\2\2\2\u0093\u038b\3\2"+
-		"\2\2\u0095\u0390\3\2\2\2\u0097\u0398\3\2\2\2\u0099\u039f\3\2\2\2\u009b"+
-		"\u03a6\3\2\2\2\u009d\u03ab\3\2\2\2\u009f\u03b4\3\2\2\2\u00a1\u03bc\3\2"+
-		"\2\2\u00a3\u03c3\3\2\2\2\u00a5\u03cb\3\2\2\2\u00a7\u03d3\3\2\2\2\u00a9"+
-		"\u03d8\3\2\2\2\u00ab\u03dd\3\2\2\2\u00ad\u03e2\3\2\2\2\u00af\u03e9\3\2"+
-		"\2\2\u00b1\u03f1\3\2\2\2\u00b3\u03f8\3\2\2\2\u00b5\u03fc\3\2\2\2\u00b7"+
-		"\u0407\3\2\2\2\u00b9\u0411\3\2\2\2\u00bb\u0416\3\2\2\2\u00bd\u041c\3\2"+
-		"\2\2\u00bf\u0426\3\2\2\2\u00c1\u042c\3\2\2\2\u00c3\u0433\3\2\2\2\u00c5"+
-		"\u0439\3\2\2\2\u00c7\u0443\3\2\2\2\u00c9\u0446\3\2\2\2\u00cb\u0452\3\2"+
-		"\2\2\u00cd\u045b\3\2\2\2\u00cf\u0461\3\2\2\2\u00d1\u0468\3\2\2\2\u00d3"+
-		"\u046e\3\2\2\2\u00d5\u0472\3\2\2\2\u00d7\u0479\3\2\2\2\u00d9\u0481\3\2"+
-		"\2\2\u00db\u0485\3\2\2\2\u00dd\u048b\3\2\2\2\u00df\u0490\3\2\2\2\u00e1"+
-		"\u0496\3\2\2\2\u00e3\u04a2\3\2\2\2\u00e5\u04a9\3\2\2\2\u00e7\u04b2\3\2"+
-		"\2\2\u00e9\u04b8\3\2\2\2\u00eb\u04bf\3\2\2\2\u00ed\u04c5\3\2\2\2\u00ef"+
-		"\u04c7\3\2\2\2\u00f1\u04cb\3\2\2\2\u00f3\u04ce\3\2\2\2\u00f5\u04d1\3\2"+
-		"\2\2\u00f7\u04d7\3\2\2\2\u00f9\u04d9\3\2\2\2\u00fb\u04df\3\2\2\2\u00fd"+
-		"\u04e1\3\2\2\2\u00ff\u04e3\3\2\2\2\u0101\u04e5\3\2\2\2\u0103\u04e7\3\2"+
-		"\2\2\u0105\u04e9\3\2\2\2\u0107\u04eb\3\2\2\2\u0109\u04ef\3\2\2\2\u010b"+
-		"\u04f1\3\2\2\2\u010d\u04f3\3\2\2\2\u010f\u04f5\3\2\2\2\u0111\u04f7\3\2"+
-		"\2\2\u0113\u04ff\3\2\2\2\u0115\u0506\3\2\2\2\u0117\u050a\3\2\2\2\u0119"+
-		"\u050d\3\2\2\2\u011b\u0512\3\2\2\2\u011d\u051a\3\2\2\2\u011f\u0525\3\2"+
-		"\2\2\u0121\u052f\3\2\2\2\u0123\u0539\3\2\2\2\u0125\u0540\3\2\2\2\u0127"+
-		"\u0546\3\2\2\2\u0129\u054c\3\2\2\2\u012b\u055c\3\2\2\2\u012d\u0569\3\2"+
-		"\2\2\u012f\u0576\3\2\2\2\u0131\u0580\3\2\2\2\u0133\u0587\3\2\2\2\u0135"+
-		"\u0592\3\2\2\2\u0137\u059d\3\2\2\2\u0139\u05a3\3\2\2\2\u013b\u05a8\3\2"+
-		"\2\2\u013d\u05b0\3\2\2\2\u013f\u05b6\3\2\2\2\u0141\u05c0\3\2\2\2\u0143"+
-		"\u05c9\3\2\2\2\u0145\u05d2\3\2\2\2\u0147\u05da\3\2\2\2\u0149\u05e0\3\2"+
-		"\2\2\u014b\u05e6\3\2\2\2\u014d\u05ee\3\2\2\2\u014f\u05f3\3\2\2\2\u0151"+
-		"\u05fd\3\2\2\2\u0153\u0611\3\2\2\2\u0155\u0613\3\2\2\2\u0157\u061b\3\2"+
-		"\2\2\u0159\u0621\3\2\2\2\u015b\u062f\3\2\2\2\u015d\u063c\3\2\2\2\u015f"+
-		"\u0644\3\2\2\2\u0161\u064b\3\2\2\2\u0163\u0652\3\2\2\2\u0165\u065e\3\2"+
-		"\2\2\u0167\u0667\3\2\2\2\u0169\u0670\3\2\2\2\u016b\u0678\3\2\2\2\u016d"+
-		"\u0682\3\2\2\2\u016f\u068d\3\2\2\2\u0171\u0693\3\2\2\2\u0173\u069b\3\2"+
-		"\2\2\u0175\u06a7\3\2\2\2\u0177\u06ae\3\2\2\2\u0179\u06b6\3\2\2\2\u017b"+
-		"\u06bf\3\2\2\2\u017d\u06c9\3\2\2\2\u017f\u06d0\3\2\2\2\u0181\u06d6\3\2"+
-		"\2\2\u0183\u06e2\3\2\2\2\u0185\u06fd\3\2\2\2\u0187\u070f\3\2\2\2\u0189"+
-		"\u0711\3\2\2\2\u018b\u0715\3\2\2\2\u018d\u071e\3\2\2\2\u018f\u0726\3\2"+
-		"\2\2\u0191\u072e\3\2\2\2\u0193\u0733\3\2\2\2\u0195\u073e\3\2\2\2\u0197"+
-		"\u074a\3\2\2\2\u0199\u0753\3\2\2\2\u019b\u075b\3\2\2\2\u019d\u0762\3\2"+
-		"\2\2\u019f\u0768\3\2\2\2\u01a1\u076d\3\2\2\2\u01a3\u0774\3\2\2\2\u01a5"+
-		"\u0779\3\2\2\2\u01a7\u0780\3\2\2\2\u01a9\u0788\3\2\2\2\u01ab\u078f\3\2"+
-		"\2\2\u01ad\u0796\3\2\2\2\u01af\u079b\3\2\2\2\u01b1\u07a0\3\2\2\2\u01b3"+
-		"\u07a6\3\2\2\2\u01b5\u07b2\3\2\2\2\u01b7\u07bd\3\2\2\2\u01b9\u07ca\3\2"+
-		"\2\2\u01bb\u07d0\3\2\2\2\u01bd\u07d8\3\2\2\2\u01bf\u07de\3\2\2\2\u01c1"+
-		"\u07e5\3\2\2\2\u01c3\u07ea\3\2\2\2\u01c5\u07f0\3\2\2\2\u01c7\u07f7\3\2"+
-		"\2\2\u01c9\u0804\3\2\2\2\u01cb\u082a\3\2\2\2\u01cd\u082d\3\2\2\2\u01cf"+
-		"\u0834\3\2\2\2\u01d1\u083b\3\2\2\2\u01d3\u0842\3\2\2\2\u01d5\u0849\3\2"+
-		"\2\2\u01d7\u085a\3\2\2\2\u01d9\u086d\3\2\2\2\u01db\u0883\3\2\2\2\u01dd"+
-		"\u0888\3\2\2\2\u01df\u088f\3\2\2\2\u01e1\u0893\3\2\2\2\u01e3\u08b0\3\2"+
-		"\2\2\u01e5\u08b2\3\2\2\2\u01e7\u08bb\3\2\2\2\u01e9\u08bd\3\2\2\2\u01eb"+
-		"\u08bf\3\2\2\2\u01ed\u08d0\3\2\2\2\u01ef\u08d7\3\2\2\2\u01f1\u08e7\3\2"+
-		"\2\2\u01f3\u08ed\3\2\2\2\u01f5\u01f6\7*\2\2\u01f6\4\3\2\2\2\u01f7\u01f8"+
-		"\7.\2\2\u01f8\6\3\2\2\2\u01f9\u01fa\7+\2\2\u01fa\b\3\2\2\2\u01fb\u01fc"+
-		"\7\60\2\2\u01fc\n\3\2\2\2\u01fd\u01fe\7U\2\2\u01fe\u01ff\7G\2\2\u01ff"+
-		"\u0200\7N\2\2\u0200\u0201\7G\2\2\u0201\u0202\7E\2\2\u0202\u0203\7V\2\2"+
-		"\u0203\f\3\2\2\2\u0204\u0205\7H\2\2\u0205\u0206\7T\2\2\u0206\u0207\7Q"+
-		"\2\2\u0207\u0208\7O\2\2\u0208\16\3\2\2\2\u0209\u020a\7C\2\2\u020a\u020b"+
-		"\7F\2\2\u020b\u020c\7F\2\2\u020c\20\3\2\2\2\u020d\u020e\7C\2\2\u020e\u020f"+
-		"\7U\2\2\u020f\22\3\2\2\2\u0210\u0211\7C\2\2\u0211\u0212\7N\2\2\u0212\u0213"+
-		"\7N\2\2\u0213\24\3\2\2\2\u0214\u0215\7F\2\2\u0215\u0216\7K\2\2\u0216\u0217"+
-		"\7U\2\2\u0217\u0218\7V\2\2\u0218\u0219\7K\2\2\u0219\u021a\7P\2\2\u021a"+
-		"\u021b\7E\2\2\u021b\u021c\7V\2\2\u021c\26\3\2\2\2\u021d\u021e\7Y\2\2\u021e"+
-		"\u021f\7J\2\2\u021f\u0220\7G\2\2\u0220\u0221\7T\2\2\u0221\u0222\7G\2\2"+
-		"\u0222\30\3\2\2\2\u0223\u0224\7I\2\2\u0224\u0225\7T\2\2\u0225\u0226\7"+
-		"Q\2\2\u0226\u0227\7W\2\2\u0227\u0228\7R\2\2\u0228\32\3\2\2\2\u0229\u022a"+
-		"\7D\2\2\u022a\u022b\7[\2\2\u022b\34\3\2\2\2\u022c\u022d\7I\2\2\u022d\u022e"+
-		"\7T\2\2\u022e\u022f\7Q\2\2\u022f\u0230\7W\2\2\u0230\u0231\7R\2\2\u0231"+
-		"\u0232\7K\2\2\u0232\u0233\7P\2\2\u0233\u0234\7I\2\2\u0234\36\3\2\2\2\u0235"+
-		"\u0236\7U\2\2\u0236\u0237\7G\2\2\u0237\u0238\7V\2\2\u0238\u0239\7U\2\2"+
-		"\u0239 \3\2\2\2\u023a\u023b\7E\2\2\u023b\u023c\7W\2\2\u023c\u023d\7D\2"+
-		"\2\u023d\u023e\7G\2\2\u023e\"\3\2\2\2\u023f\u0240\7T\2\2\u0240\u0241\7"+
-		"Q\2\2\u0241\u0242\7N\2\2\u0242\u0243\7N\2\2\u0243\u0244\7W\2\2\u0244\u0245"+
-		"\7R\2\2\u0245$\3\2\2\2\u0246\u0247\7Q\2\2\u0247\u0248\7T\2\2\u0248\u0249"+
-		"\7F\2\2\u0249\u024a\7G\2\2\u024a\u024b\7T\2\2\u024b&\3\2\2\2\u024c\u024d"+
-		"\7J\2\2\u024d\u024e\7C\2\2\u024e\u024f\7X\2\2\u024f\u0250\7K\2\2\u0250"+
-		"\u0251\7P\2\2\u0251\u0252\7I\2\2\u0252(\3\2\2\2\u0253\u0254\7N\2\2\u0254"+
-		"\u0255\7K\2\2\u0255\u0256\7O\2\2\u0256\u0257\7K\2\2\u0257\u0258\7V\2\2"+
-		"\u0258*\3\2\2\2\u0259\u025a\7C\2\2\u025a\u025b\7V\2\2\u025b,\3\2\2\2\u025c"+
-		"\u025d\7Q\2\2\u025d\u025e\7T\2\2\u025e.\3\2\2\2\u025f\u0260\7C\2\2\u0260"+
-		"\u0261\7P\2\2\u0261\u0262\7F\2\2\u0262\60\3\2\2\2\u0263\u0264\7K\2\2\u0264"+
-		"\u0265\7P\2\2\u0265\62\3\2\2\2\u0266\u0267\7P\2\2\u0267\u0268\7Q\2\2\u0268"+
-		"\u026b\7V\2\2\u0269\u026b\7#\2\2\u026a\u0266\3\2\2\2\u026a\u0269\3\2\2"+
-		"\2\u026b\64\3\2\2\2\u026c\u026d\7P\2\2\u026d\u026e\7Q\2\2\u026e\66\3\2"+
-		"\2\2\u026f\u0270\7G\2\2\u0270\u0271\7Z\2\2\u0271\u0272\7K\2\2\u0272\u0273"+
-		"\7U\2\2\u0273\u0274\7V\2\2\u0274\u0275\7U\2\2\u02758\3\2\2\2\u0276\u0277"+
-		"\7D\2\2\u0277\u0278\7G\2\2\u0278\u0279\7V\2\2\u0279\u027a\7Y\2\2\u027a"+
-		"\u027b\7G\2\2\u027b\u027c\7G\2\2\u027c\u027d\7P\2\2\u027d:\3\2\2\2\u027e"+
-		"\u027f\7N\2\2\u027f\u0280\7K\2\2\u0280\u0281\7M\2\2\u0281\u0282\7G\2\2"+
-		"\u0282<\3\2\2\2\u0283\u0284\7T\2\2\u0284\u0285\7N\2\2\u0285\u0286\7K\2"+
-		"\2\u0286\u0287\7M\2\2\u0287\u028f\7G\2\2\u0288\u0289\7T\2\2\u0289\u028a"+
-		"\7G\2\2\u028a\u028b\7I\2\2\u028b\u028c\7G\2\2\u028c\u028d\7Z\2\2\u028d"+
-		"\u028f\7R\2\2\u028e\u0283\3\2\2\2\u028e\u0288\3\2\2\2\u028f>\3\2\2\2\u0290"+
-		"\u0291\7K\2\2\u0291\u0292\7U\2\2\u0292@\3\2\2\2\u0293\u0294\7P\2\2\u0294"+
-		"\u0295\7W\2\2\u0295\u0296\7N\2\2\u0296\u0297\7N\2\2\u0297B\3\2\2\2\u0298"+
-		"\u0299\7V\2\2\u0299\u029a\7T\2\2\u029a\u029b\7W\2\2\u029b\u029c\7G\2\2"+
-		"\u029cD\3\2\2\2\u029d\u029e\7H\2\2\u029e\u029f\7C\2\2\u029f\u02a0\7N\2"+
-		"\2\u02a0\u02a1\7U\2\2\u02a1\u02a2\7G\2\2\u02a2F\3\2\2\2\u02a3\u02a4\7"+
-		"P\2\2\u02a4\u02a5\7W\2\2\u02a5\u02a6\7N\2\2\u02a6\u02a7\7N\2\2\u02a7\u02a8"+
-		"\7U\2\2\u02a8H\3\2\2\2\u02a9\u02aa\7C\2\2\u02aa\u02ab\7U\2\2\u02ab\u02ac"+
-		"\7E\2\2\u02acJ\3\2\2\2\u02ad\u02ae\7F\2\2\u02ae\u02af\7G\2\2\u02af\u02b0"+
-		"\7U\2\2\u02b0\u02b1\7E\2\2\u02b1L\3\2\2\2\u02b2\u02b3\7H\2\2\u02b3\u02b4"+
-		"\7Q\2\2\u02b4\u02b5\7T\2\2\u02b5N\3\2\2\2\u02b6\u02b7\7K\2\2\u02b7\u02b8"+
-		"\7P\2\2\u02b8\u02b9\7V\2\2\u02b9\u02ba\7G\2\2\u02ba\u02bb\7T\2\2\u02bb"+
-		"\u02bc\7X\2\2\u02bc\u02bd\7C\2\2\u02bd\u02be\7N\2\2\u02beP\3\2\2\2\u02bf"+
-		"\u02c0\7E\2\2\u02c0\u02c1\7C\2\2\u02c1\u02c2\7U\2\2\u02c2\u02c3\7G\2\2"+
-		"\u02c3R\3\2\2\2\u02c4\u02c5\7Y\2\2\u02c5\u02c6\7J\2\2\u02c6\u02c7\7G\2"+
-		"\2\u02c7\u02c8\7P\2\2\u02c8T\3\2\2\2\u02c9\u02ca\7V\2\2\u02ca\u02cb\7"+
-		"J\2\2\u02cb\u02cc\7G\2\2\u02cc\u02cd\7P\2\2\u02cdV\3\2\2\2\u02ce\u02cf"+
-		"\7G\2\2\u02cf\u02d0\7N\2\2\u02d0\u02d1\7U\2\2\u02d1\u02d2\7G\2\2\u02d2"+
-		"X\3\2\2\2\u02d3\u02d4\7G\2\2\u02d4\u02d5\7P\2\2\u02d5\u02d6\7F\2\2\u02d6"+
-		"Z\3\2\2\2\u02d7\u02d8\7L\2\2\u02d8\u02d9\7Q\2\2\u02d9\u02da\7K\2\2\u02da"+
-		"\u02db\7P\2\2\u02db\\\3\2\2\2\u02dc\u02dd\7E\2\2\u02dd\u02de\7T\2\2\u02de"+
-		"\u02df\7Q\2\2\u02df\u02e0\7U\2\2\u02e0\u02e1\7U\2\2\u02e1^\3\2\2\2\u02e2"+
-		"\u02e3\7Q\2\2\u02e3\u02e4\7W\2\2\u02e4\u02e5\7V\2\2\u02e5\u02e6\7G\2\2"+
-		"\u02e6\u02e7\7T\2\2\u02e7`\3\2\2\2\u02e8\u02e9\7K\2\2\u02e9\u02ea\7P\2"+
-		"\2\u02ea\u02eb\7P\2\2\u02eb\u02ec\7G\2\2\u02ec\u02ed\7T\2\2\u02edb\3\2"+
-		"\2\2\u02ee\u02ef\7N\2\2\u02ef\u02f0\7G\2\2\u02f0\u02f1\7H\2\2\u02f1\u02f2"+
-		"\7V\2\2\u02f2d\3\2\2\2\u02f3\u02f4\7U\2\2\u02f4\u02f5\7G\2\2\u02f5\u02f6"+
-		"\7O\2\2\u02f6\u02f7\7K\2\2\u02f7f\3\2\2\2\u02f8\u02f9\7T\2\2\u02f9\u02fa"+
-		"\7K\2\2\u02fa\u02fb\7I\2\2\u02fb\u02fc\7J\2\2\u02fc\u02fd\7V\2\2\u02fd"+
-		"h\3\2\2\2\u02fe\u02ff\7H\2\2\u02ff\u0300\7W\2\2\u0300\u0301\7N\2\2\u0301"+
-		"\u0302\7N\2\2\u0302j\3\2\2\2\u0303\u0304\7P\2\2\u0304\u0305\7C\2\2\u0305"+
-		"\u0306\7V\2\2\u0306\u0307\7W\2\2\u0307\u0308\7T\2\2\u0308\u0309\7C\2\2"+
-		"\u0309\u030a\7N\2\2\u030al\3\2\2\2\u030b\u030c\7Q\2\2\u030c\u030d\7P\2"+
-		"\2\u030dn\3\2\2\2\u030e\u030f\7N\2\2\u030f\u0310\7C\2\2\u0310\u0311\7"+
-		"V\2\2\u0311\u0312\7G\2\2\u0312\u0313\7T\2\2\u0313\u0314\7C\2\2\u0314\u0315"+
-		"\7N\2\2\u0315p\3\2\2\2\u0316\u0317\7Y\2\2\u0317\u0318\7K\2\2\u0318\u0319"+
-		"\7P\2\2\u0319\u031a\7F\2\2\u031a\u031b\7Q\2\2\u031b\u031c\7Y\2\2\u031c"+
-		"r\3\2\2\2\u031d\u031e\7Q\2\2\u031e\u031f\7X\2\2\u031f\u0320\7G\2\2\u0320"+
-		"\u0321\7T\2\2\u0321t\3\2\2\2\u0322\u0323\7R\2\2\u0323\u0324\7C\2\2\u0324"+
-		"\u0325\7T\2\2\u0325\u0326\7V\2\2\u0326\u0327\7K\2\2\u0327\u0328\7V\2\2"+
-		"\u0328\u0329\7K\2\2\u0329\u032a\7Q\2\2\u032a\u032b\7P\2\2\u032bv\3\2\2"+
-		"\2\u032c\u032d\7T\2\2\u032d\u032e\7C\2\2\u032e\u032f\7P\2\2\u032f\u0330"+
-		"\7I\2\2\u0330\u0331\7G\2\2\u0331x\3\2\2\2\u0332\u0333\7T\2\2\u0333\u0334"+
-		"\7Q\2\2\u0334\u0335\7Y\2\2\u0335\u0336\7U\2\2\u0336z\3\2\2\2\u0337\u0338"+
-		"\7W\2\2\u0338\u0339\7P\2\2\u0339\u033a\7D\2\2\u033a\u033b\7Q\2\2\u033b"+
-		"\u033c\7W\2\2\u033c\u033d\7P\2\2\u033d\u033e\7F\2\2\u033e\u033f\7G\2\2"+
-		"\u033f\u0340\7F\2\2\u0340|\3\2\2\2\u0341\u0342\7R\2\2\u0342\u0343\7T\2"+
-		"\2\u0343\u0344\7G\2\2\u0344\u0345\7E\2\2\u0345\u0346\7G\2\2\u0346\u0347"+
-		"\7F\2\2\u0347\u0348\7K\2\2\u0348\u0349\7P\2\2\u0349\u034a\7I\2\2\u034a"+
-		"~\3\2\2\2\u034b\u034c\7H\2\2\u034c\u034d\7Q\2\2\u034d\u034e\7N\2\2\u034e"+
-		"\u034f\7N\2\2\u034f\u0350\7Q\2\2\u0350\u0351\7Y\2\2\u0351\u0352\7K\2\2"+
-		"\u0352\u0353\7P\2\2\u0353\u0354\7I\2\2\u0354\u0080\3\2\2\2\u0355\u0356"+
-		"\7E\2\2\u0356\u0357\7W\2\2\u0357\u0358\7T\2\2\u0358\u0359\7T\2\2\u0359"+
-		"\u035a\7G\2\2\u035a\u035b\7P\2\2\u035b\u035c\7V\2\2\u035c\u0082\3\2\2"+
-		"\2\u035d\u035e\7H\2\2\u035e\u035f\7K\2\2\u035f\u0360\7T\2\2\u0360\u0361"+
-		"\7U\2\2\u0361\u0362\7V\2\2\u0362\u0084\3\2\2\2\u0363\u0364\7C\2\2\u0364"+
-		"\u0365\7H\2\2\u0365\u0366\7V\2\2\u0366\u0367\7G\2\2\u0367\u0368\7T\2\2"+
-		"\u0368\u0086\3\2\2\2\u0369\u036a\7N\2\2\u036a\u036b\7C\2\2\u036b\u036c"+
-		"\7U\2\2\u036c\u036d\7V\2\2\u036d\u0088\3\2\2\2\u036e\u036f\7T\2\2\u036f"+
-		"\u0370\7Q\2\2\u0370\u0371\7Y\2\2\u0371\u008a\3\2\2\2\u0372\u0373\7Y\2"+
-		"\2\u0373\u0374\7K\2\2\u0374\u0375\7V\2\2\u0375\u0376\7J\2\2\u0376\u008c"+
-		"\3\2\2\2\u0377\u0378\7X\2\2\u0378\u0379\7C\2\2\u0379\u037a\7N\2\2\u037a"+
-		"\u037b\7W\2\2\u037b\u037c\7G\2\2\u037c\u037d\7U\2\2\u037d\u008e\3\2\2"+
-		"\2\u037e\u037f\7E\2\2\u037f\u0380\7T\2\2\u0380\u0381\7G\2\2\u0381\u0382"+
-		"\7C\2\2\u0382\u0383\7V\2\2\u0383\u0384\7G\2\2\u0384\u0090\3\2\2\2\u0385"+
-		"\u0386\7V\2\2\u0386\u0387\7C\2\2\u0387\u0388\7D\2\2\u0388\u0389\7N\2\2"+
-		"\u0389\u038a\7G\2\2\u038a\u0092\3\2\2\2\u038b\u038c\7X\2\2\u038c\u038d"+
-		"\7K\2\2\u038d\u038e\7G\2\2\u038e\u038f\7Y\2\2\u038f\u0094\3\2\2\2\u0390"+
-		"\u0391\7T\2\2\u0391\u0392\7G\2\2\u0392\u0393\7R\2\2\u0393\u0394\7N\2\2"+
-		"\u0394\u0395\7C\2\2\u0395\u0396\7E\2\2\u0396\u0397\7G\2\2\u0397\u0096"+
-		"\3\2\2\2\u0398\u0399\7K\2\2\u0399\u039a\7P\2\2\u039a\u039b\7U\2\2\u039b"+
-		"\u039c\7G\2\2\u039c\u039d\7T\2\2\u039d\u039e\7V\2\2\u039e\u0098\3\2\2"+
-		"\2\u039f\u03a0\7F\2\2\u03a0\u03a1\7G\2\2\u03a1\u03a2\7N\2\2\u03a2\u03a3"+
-		"\7G\2\2\u03a3\u03a4\7V\2\2\u03a4\u03a5\7G\2\2\u03a5\u009a\3\2\2\2\u03a6"+
-		"\u03a7\7K\2\2\u03a7\u03a8\7P\2\2\u03a8\u03a9\7V\2\2\u03a9\u03aa\7Q\2\2"+
-		"\u03aa\u009c\3\2\2\2\u03ab\u03ac\7F\2\2\u03ac\u03ad\7G\2\2\u03ad\u03ae"+
-		"\7U\2\2\u03ae\u03af\7E\2\2\u03af\u03b0\7T\2\2\u03b0\u03b1\7K\2\2\u03b1"+
-		"\u03b2\7D\2\2\u03b2\u03b3\7G\2\2\u03b3\u009e\3\2\2\2\u03b4\u03b5\7G\2"+
-		"\2\u03b5\u03b6\7Z\2\2\u03b6\u03b7\7R\2\2\u03b7\u03b8\7N\2\2\u03b8\u03b9"+
-		"\7C\2\2\u03b9\u03ba\7K\2\2\u03ba\u03bb\7P\2\2\u03bb\u00a0\3\2\2\2\u03bc"+
-		"\u03bd\7H\2\2\u03bd\u03be\7Q\2\2\u03be\u03bf\7T\2\2\u03bf\u03c0\7O\2\2"+
-		"\u03c0\u03c1\7C\2\2\u03c1\u03c2\7V\2\2\u03c2\u00a2\3\2\2\2\u03c3\u03c4"+
-		"\7N\2\2\u03c4\u03c5\7Q\2\2\u03c5\u03c6\7I\2\2\u03c6\u03c7\7K\2\2\u03c7"+
-		"\u03c8\7E\2\2\u03c8\u03c9\7C\2\2\u03c9\u03ca\7N\2\2\u03ca\u00a4\3\2\2"+
-		"\2\u03cb\u03cc\7E\2\2\u03cc\u03cd\7Q\2\2\u03cd\u03ce\7F\2\2\u03ce\u03cf"+
-		"\7G\2\2\u03cf\u03d0\7I\2\2\u03d0\u03d1\7G\2\2\u03d1\u03d2\7P\2\2\u03d2"+
-		"\u00a6\3\2\2\2\u03d3\u03d4\7E\2\2\u03d4\u03d5\7Q\2\2\u03d5\u03d6\7U\2"+
-		"\2\u03d6\u03d7\7V\2\2\u03d7\u00a8\3\2\2\2\u03d8\u03d9\7E\2\2\u03d9\u03da"+
-		"\7C\2\2\u03da\u03db\7U\2\2\u03db\u03dc\7V\2\2\u03dc\u00aa\3\2\2\2\u03dd"+
-		"\u03de\7U\2\2\u03de\u03df\7J\2\2\u03df\u03e0\7Q\2\2\u03e0\u03e1\7Y\2\2"+
-		"\u03e1\u00ac\3\2\2\2\u03e2\u03e3\7V\2\2\u03e3\u03e4\7C\2\2\u03e4\u03e5"+
-		"\7D\2\2\u03e5\u03e6\7N\2\2\u03e6\u03e7\7G\2\2\u03e7\u03e8\7U\2\2\u03e8"+
-		"\u00ae\3\2\2\2\u03e9\u03ea\7E\2\2\u03ea\u03eb\7Q\2\2\u03eb\u03ec\7N\2"+
-		"\2\u03ec\u03ed\7W\2\2\u03ed\u03ee\7O\2\2\u03ee\u03ef\7P\2\2\u03ef\u03f0"+
-		"\7U\2\2\u03f0\u00b0\3\2\2\2\u03f1\u03f2\7E\2\2\u03f2\u03f3\7Q\2\2\u03f3"+
-		"\u03f4\7N\2\2\u03f4\u03f5\7W\2\2\u03f5\u03f6\7O\2\2\u03f6\u03f7\7P\2\2"+
-		"\u03f7\u00b2\3\2\2\2\u03f8\u03f9\7W\2\2\u03f9\u03fa\7U\2\2\u03fa\u03fb"+
-		"\7G\2\2\u03fb\u00b4\3\2\2\2\u03fc\u03fd\7R\2\2\u03fd\u03fe\7C\2\2\u03fe"+
-		"\u03ff\7T\2\2\u03ff\u0400\7V\2\2\u0400\u0401\7K\2\2\u0401\u0402\7V\2\2"+
-		"\u0402\u0403\7K\2\2\u0403\u0404\7Q\2\2\u0404\u0405\7P\2\2\u0405\u0406"+
-		"\7U\2\2\u0406\u00b6\3\2\2\2\u0407\u0408\7H\2\2\u0408\u0409\7W\2\2\u0409"+
-		"\u040a\7P\2\2\u040a\u040b\7E\2\2\u040b\u040c\7V\2\2\u040c\u040d\7K\2\2"+
-		"\u040d\u040e\7Q\2\2\u040e\u040f\7P\2\2\u040f\u0410\7U\2\2\u0410\u00b8"+
-		"\3\2\2\2\u0411\u0412\7F\2\2\u0412\u0413\7T\2\2\u0413\u0414\7Q\2\2\u0414"+
-		"\u0415\7R\2\2\u0415\u00ba\3\2\2\2\u0416\u0417\7O\2\2\u0417\u0418\7G\2"+
-		"\2\u0418\u0419\7T\2\2\u0419\u041a\7I\2\2\u041a\u041b\7G\2\2\u041b\u00bc"+
-		"\3\2\2\2\u041c\u041d\7N\2\2\u041d\u041e\7K\2\2\u041e\u041f\7H\2\2\u041f"+
-		"\u0420\7G\2\2\u0420\u0421\7E\2\2\u0421\u0422\7[\2\2\u0422\u0423\7E\2\2"+
-		"\u0423\u0424\7N\2\2\u0424\u0425\7G\2\2\u0425\u00be\3\2\2\2\u0426\u0427"+
-		"\7W\2\2\u0427\u0428\7P\2\2\u0428\u0429\7K\2\2\u0429\u042a\7Q\2\2\u042a"+
-		"\u042b\7P\2\2\u042b\u00c0\3\2\2\2\u042c\u042d\7G\2\2\u042d\u042e\7Z\2"+
-		"\2\u042e\u042f\7E\2\2\u042f\u0430\7G\2\2\u0430\u0431\7R\2\2\u0431\u0432"+
-		"\7V\2\2\u0432\u00c2\3\2\2\2\u0433\u0434\7O\2\2\u0434\u0435\7K\2\2\u0435"+
-		"\u0436\7P\2\2\u0436\u0437\7W\2\2\u0437\u0438\7U\2\2\u0438\u00c4\3\2\2"+
-		"\2\u0439\u043a\7K\2\2\u043a\u043b\7P\2\2\u043b\u043c\7V\2\2\u043c\u043d"+
-		"\7G\2\2\u043d\u043e\7T\2\2\u043e\u043f\7U\2\2\u043f\u0440\7G\2\2\u0440"+
-		"\u0441\7E\2\2\u0441\u0442\7V\2\2\u0442\u00c6\3\2\2\2\u0443\u0444\7V\2"+
-		"\2\u0444\u0445\7Q\2\2\u0445\u00c8\3\2\2\2\u0446\u0447\7V\2\2\u0447\u0448"+
-		"\7C\2\2\u0448\u0449\7D\2\2\u0449\u044a\7N\2\2\u044a\u044b\7G\2\2\u044b"+
-		"\u044c\7U\2\2\u044c\u044d\7C\2\2\u044d\u044e\7O\2\2\u044e\u044f\7R\2\2"+
-		"\u044f\u0450\7N\2\2\u0450\u0451\7G\2\2\u0451\u00ca\3\2\2\2\u0452\u0453"+
-		"\7U\2\2\u0453\u0454\7V\2\2\u0454\u0455\7T\2\2\u0455\u0456\7C\2\2\u0456"+
-		"\u0457\7V\2\2\u0457\u0458\7K\2\2\u0458\u0459\7H\2\2\u0459\u045a\7[\2\2"+
-		"\u045a\u00cc\3\2\2\2\u045b\u045c\7C\2\2\u045c\u045d\7N\2\2\u045d\u045e"+
-		"\7V\2\2\u045e\u045f\7G\2\2\u045f\u0460\7T\2\2\u0460\u00ce\3\2\2\2\u0461"+
-		"\u0462\7T\2\2\u0462\u0463\7G\2\2\u0463\u0464\7P\2\2\u0464\u0465\7C\2\2"+
-		"\u0465\u0466\7O\2\2\u0466\u0467\7G\2\2\u0467\u00d0\3\2\2\2\u0468\u0469"+
-		"\7C\2\2\u0469\u046a\7T\2\2\u046a\u046b\7T\2\2\u046b\u046c\7C\2\2\u046c"+
-		"\u046d\7[\2\2\u046d\u00d2\3\2\2\2\u046e\u046f\7O\2\2\u046f\u0470\7C\2"+
-		"\2\u0470\u0471\7R\2\2\u0471\u00d4\3\2\2\2\u0472\u0473\7U\2\2\u0473\u0474"+
-		"\7V\2\2\u0474\u0475\7T\2\2\u0475\u0476\7W\2\2\u0476\u0477\7E\2\2\u0477"+
-		"\u0478\7V\2\2\u0478\u00d6\3\2\2\2\u0479\u047a\7E\2\2\u047a\u047b\7Q\2"+
-		"\2\u047b\u047c\7O\2\2\u047c\u047d\7O\2\2\u047d\u047e\7G\2\2\u047e\u047f"+
-		"\7P\2\2\u047f\u0480\7V\2\2\u0480\u00d8\3\2\2\2\u0481\u0482\7U\2\2\u0482"+
-		"\u0483\7G\2\2\u0483\u0484\7V\2\2\u0484\u00da\3\2\2\2\u0485\u0486\7T\2"+
-		"\2\u0486\u0487\7G\2\2\u0487\u0488\7U\2\2\u0488\u0489\7G\2\2\u0489\u048a"+
-		"\7V\2\2\u048a\u00dc\3\2\2\2\u048b\u048c\7F\2\2\u048c\u048d\7C\2\2\u048d"+
-		"\u048e\7V\2\2\u048e\u048f\7C\2\2\u048f\u00de\3\2\2\2\u0490\u0491\7U\2"+
-		"\2\u0491\u0492\7V\2\2\u0492\u0493\7C\2\2\u0493\u0494\7T\2\2\u0494\u0495"+
-		"\7V\2\2\u0495\u00e0\3\2\2\2\u0496\u0497\7V\2\2\u0497\u0498\7T\2\2\u0498"+
-		"\u0499\7C\2\2\u0499\u049a\7P\2\2\u049a\u049b\7U\2\2\u049b\u049c\7C\2\2"+
-		"\u049c\u049d\7E\2\2\u049d\u049e\7V\2\2\u049e\u049f\7K\2\2\u049f\u04a0"+
-		"\7Q\2\2\u04a0\u04a1\7P\2\2\u04a1\u00e2\3\2\2\2\u04a2\u04a3\7E\2\2\u04a3"+
-		"\u04a4\7Q\2\2\u04a4\u04a5\7O\2\2\u04a5\u04a6\7O\2\2\u04a6\u04a7\7K\2\2"+
-		"\u04a7\u04a8\7V\2\2\u04a8\u00e4\3\2\2\2\u04a9\u04aa\7T\2\2\u04aa\u04ab"+
-		"\7Q\2\2\u04ab\u04ac\7N\2\2\u04ac\u04ad\7N\2\2\u04ad\u04ae\7D\2\2\u04ae"+
-		"\u04af\7C\2\2\u04af\u04b0\7E\2\2\u04b0\u04b1\7M\2\2\u04b1\u00e6\3\2\2"+
-		"\2\u04b2\u04b3\7O\2\2\u04b3\u04b4\7C\2\2\u04b4\u04b5\7E\2\2\u04b5\u04b6"+
-		"\7T\2\2\u04b6\u04b7\7Q\2\2\u04b7\u00e8\3\2\2\2\u04b8\u04b9\7K\2\2\u04b9"+
-		"\u04ba\7I\2\2\u04ba\u04bb\7P\2\2\u04bb\u04bc\7Q\2\2\u04bc\u04bd\7T\2\2"+
-		"\u04bd\u04be\7G\2\2\u04be\u00ea\3\2\2\2\u04bf\u04c0\7K\2\2\u04c0\u04c1"+
-		"\7H\2\2\u04c1\u00ec\3\2\2\2\u04c2\u04c6\7?\2\2\u04c3\u04c4\7?\2\2\u04c4"+
-		"\u04c6\7?\2\2\u04c5\u04c2\3\2\2\2\u04c5\u04c3\3\2\2\2\u04c6\u00ee\3\2"+
-		"\2\2\u04c7\u04c8\7>\2\2\u04c8\u04c9\7?\2\2\u04c9\u04ca\7@\2\2\u04ca\u00f0"+
-		"\3\2\2\2\u04cb\u04cc\7>\2\2\u04cc\u04cd\7@\2\2\u04cd\u00f2\3\2\2\2\u04ce"+
-		"\u04cf\7#\2\2\u04cf\u04d0\7?\2\2\u04d0\u00f4\3\2\2\2\u04d1\u04d2\7>\2"+
-		"\2\u04d2\u00f6\3\2\2\2\u04d3\u04d4\7>\2\2\u04d4\u04d8\7?\2\2\u04d5\u04d6"+
-		"\7#\2\2\u04d6\u04d8\7@\2\2\u04d7\u04d3\3\2\2\2\u04d7\u04d5\3\2\2\2\u04d8"+
-		"\u00f8\3\2\2\2\u04d9\u04da\7@\2\2\u04da\u00fa\3\2\2\2\u04db\u04dc\7@\2"+
-		"\2\u04dc\u04e0\7?\2\2\u04dd\u04de\7#\2\2\u04de\u04e0\7>\2\2\u04df\u04db"+
-		"\3\2\2\2\u04df\u04dd\3\2\2\2\u04e0\u00fc\3\2\2\2\u04e1\u04e2\7-\2\2\u04e2"+
-		"\u00fe\3\2\2\2\u04e3\u04e4\7/\2\2\u04e4\u0100\3\2\2\2\u04e5\u04e6\7,\2"+
-		"\2\u04e6\u0102\3\2\2\2\u04e7\u04e8\7\61\2\2\u04e8\u0104\3\2\2\2\u04e9"+
-		"\u04ea\7\'\2\2\u04ea\u0106\3\2\2\2\u04eb\u04ec\7F\2\2\u04ec\u04ed\7K\2"+
-		"\2\u04ed\u04ee\7X\2\2\u04ee\u0108\3\2\2\2\u04ef\u04f0\7\u0080\2\2\u04f0"+
-		"\u010a\3\2\2\2\u04f1\u04f2\7(\2\2\u04f2\u010c\3\2\2\2\u04f3\u04f4\7~\2"+
-		"\2\u04f4\u010e\3\2\2\2\u04f5\u04f6\7`\2\2\u04f6\u0110\3\2\2\2\u04f7\u04f8"+
-		"\7R\2\2\u04f8\u04f9\7G\2\2\u04f9\u04fa\7T\2\2\u04fa\u04fb\7E\2\2\u04fb"+
-		"\u04fc\7G\2\2\u04fc\u04fd\7P\2\2\u04fd\u04fe\7V\2\2\u04fe\u0112\3\2\2"+
-		"\2\u04ff\u0500\7D\2\2\u0500\u0501\7W\2\2\u0501\u0502\7E\2\2\u0502\u0503"+
-		"\7M\2\2\u0503\u0504\7G\2\2\u0504\u0505\7V\2\2\u0505\u0114\3\2\2\2\u0506"+
-		"\u0507\7Q\2\2\u0507\u0508\7W\2\2\u0508\u0509\7V\2\2\u0509\u0116\3\2\2"+
-		"\2\u050a\u050b\7Q\2\2\u050b\u050c\7H\2\2\u050c\u0118\3\2\2\2\u050d\u050e"+
-		"\7U\2\2\u050e\u050f\7Q\2\2\u050f\u0510\7T\2\2\u0510\u0511\7V\2\2\u0511"+
-		"\u011a\3\2\2\2\u0512\u0513\7E\2\2\u0513\u0514\7N\2\2\u0514\u0515\7W\2"+
-		"\2\u0515\u0516\7U\2\2\u0516\u0517\7V\2\2\u0517\u0518\7G\2\2\u0518\u0519"+
-		"\7T\2\2\u0519\u011c\3\2\2\2\u051a\u051b\7F\2\2\u051b\u051c\7K\2\2\u051c"+
-		"\u051d\7U\2\2\u051d\u051e\7V\2\2\u051e\u051f\7T\2\2\u051f\u0520\7K\2\2"+
-		"\u0520\u0521\7D\2\2\u0521\u0522\7W\2\2\u0522\u0523\7V\2\2\u0523\u0524"+
-		"\7G\2\2\u0524\u011e\3\2\2\2\u0525\u0526\7Q\2\2\u0526\u0527\7X\2\2\u0527"+
-		"\u0528\7G\2\2\u0528\u0529\7T\2\2\u0529\u052a\7Y\2\2\u052a\u052b\7T\2\2"+
-		"\u052b\u052c\7K\2\2\u052c\u052d\7V\2\2\u052d\u052e\7G\2\2\u052e\u0120"+
-		"\3\2\2\2\u052f\u0530\7V\2\2\u0530\u0531\7T\2\2\u0531\u0532\7C\2\2\u0532"+
-		"\u0533\7P\2\2\u0533\u0534\7U\2\2\u0534\u0535\7H\2\2\u0535\u0536\7Q\2\2"+
-		"\u0536\u0537\7T\2\2\u0537\u0538\7O\2\2\u0538\u0122\3\2\2\2\u0539\u053a"+
-		"\7T\2\2\u053a\u053b\7G\2\2\u053b\u053c\7F\2\2\u053c\u053d\7W\2\2\u053d"+
-		"\u053e\7E\2\2\u053e\u053f\7G\2\2\u053f\u0124\3\2\2\2\u0540\u0541\7W\2"+
-		"\2\u0541\u0542\7U\2\2\u0542\u0543\7K\2\2\u0543\u0544\7P\2\2\u0544\u0545"+
-		"\7I\2\2\u0545\u0126\3\2\2\2\u0546\u0547\7U\2\2\u0547\u0548\7G\2\2\u0548"+
-		"\u0549\7T\2\2\u0549\u054a\7F\2\2\u054a\u054b\7G\2\2\u054b\u0128\3\2\2"+
-		"\2\u054c\u054d\7U\2\2\u054d\u054e\7G\2\2\u054e\u054f\7T\2\2\u054f\u0550"+
-		"\7F\2\2\u0550\u0551\7G\2\2\u0551\u0552\7R\2\2\u0552\u0553\7T\2\2\u0553"+
-		"\u0554\7Q\2\2\u0554\u0555\7R\2\2\u0555\u0556\7G\2\2\u0556\u0557\7T\2\2"+
-		"\u0557\u0558\7V\2\2\u0558\u0559\7K\2\2\u0559\u055a\7G\2\2\u055a\u055b"+
-		"\7U\2\2\u055b\u012a\3\2\2\2\u055c\u055d\7T\2\2\u055d\u055e\7G\2\2\u055e"+
-		"\u055f\7E\2\2\u055f\u0560\7Q\2\2\u0560\u0561\7T\2\2\u0561\u0562\7F\2\2"+
-		"\u0562\u0563\7T\2\2\u0563\u0564\7G\2\2\u0564\u0565\7C\2\2\u0565\u0566"+
-		"\7F\2\2\u0566\u0567\7G\2\2\u0567\u0568\7T\2\2\u0568\u012c\3\2\2\2\u0569"+
-		"\u056a\7T\2\2\u056a\u056b\7G\2\2\u056b\u056c\7E\2\2\u056c\u056d\7Q\2\2"+
-		"\u056d\u056e\7T\2\2\u056e\u056f\7F\2\2\u056f\u0570\7Y\2\2\u0570\u0571"+
-		"\7T\2\2\u0571\u0572\7K\2\2\u0572\u0573\7V\2\2\u0573\u0574\7G\2\2\u0574"+
-		"\u0575\7T\2\2\u0575\u012e\3\2\2\2\u0576\u0577\7F\2\2\u0577\u0578\7G\2"+
-		"\2\u0578\u0579\7N\2\2\u0579\u057a\7K\2\2\u057a\u057b\7O\2\2\u057b\u057c"+
-		"\7K\2\2\u057c\u057d\7V\2\2\u057d\u057e\7G\2\2\u057e\u057f\7F\2\2\u057f"+
-		"\u0130\3\2\2\2\u0580\u0581\7H\2\2\u0581\u0582\7K\2\2\u0582\u0583\7G\2"+
-		"\2\u0583\u0584\7N\2\2\u0584\u0585\7F\2\2\u0585\u0586\7U\2\2\u0586\u0132"+
-		"\3\2\2\2\u0587\u0588\7V\2\2\u0588\u0589\7G\2\2\u0589\u058a\7T\2\2\u058a"+
-		"\u058b\7O\2\2\u058b\u058c\7K\2\2\u058c\u058d\7P\2\2\u058d\u058e\7C\2\2"+
-		"\u058e\u058f\7V\2\2\u058f\u0590\7G\2\2\u0590\u0591\7F\2\2\u0591\u0134"+
-		"\3\2\2\2\u0592\u0593\7E\2\2\u0593\u0594\7Q\2\2\u0594\u0595\7N\2\2\u0595"+
-		"\u0596\7N\2\2\u0596\u0597\7G\2\2\u0597\u0598\7E\2\2\u0598\u0599\7V\2\2"+
-		"\u0599\u059a\7K\2\2\u059a\u059b\7Q\2\2\u059b\u059c\7P\2\2\u059c\u0136"+
-		"\3\2\2\2\u059d\u059e\7K\2\2\u059e\u059f\7V\2\2\u059f\u05a0\7G\2\2\u05a0"+
-		"\u05a1\7O\2\2\u05a1\u05a2\7U\2\2\u05a2\u0138\3\2\2\2\u05a3\u05a4\7M\2"+
-		"\2\u05a4\u05a5\7G\2\2\u05a5\u05a6\7[\2\2\u05a6\u05a7\7U\2\2\u05a7\u013a"+
-		"\3\2\2\2\u05a8\u05a9\7G\2\2\u05a9\u05aa\7U\2\2\u05aa\u05ab\7E\2\2\u05ab"+
-		"\u05ac\7C\2\2\u05ac\u05ad\7R\2\2\u05ad\u05ae\7G\2\2\u05ae\u05af\7F\2\2"+
-		"\u05af\u013c\3\2\2\2\u05b0\u05b1\7N\2\2\u05b1\u05b2\7K\2\2\u05b2\u05b3"+
-		"\7P\2\2\u05b3\u05b4\7G\2\2\u05b4\u05b5\7U\2\2\u05b5\u013e\3\2\2\2\u05b6"+
-		"\u05b7\7U\2\2\u05b7\u05b8\7G\2\2\u05b8\u05b9\7R\2\2\u05b9\u05ba\7C\2\2"+
-		"\u05ba\u05bb\7T\2\2\u05bb\u05bc\7C\2\2\u05bc\u05bd\7V\2\2\u05bd\u05be"+
-		"\7G\2\2\u05be\u05bf\7F\2\2\u05bf\u0140\3\2\2\2\u05c0\u05c1\7H\2\2\u05c1"+
-		"\u05c2\7W\2\2\u05c2\u05c3\7P\2\2\u05c3\u05c4\7E\2\2\u05c4\u05c5\7V\2\2"+
-		"\u05c5\u05c6\7K\2\2\u05c6\u05c7\7Q\2\2\u05c7\u05c8\7P\2\2\u05c8\u0142"+
-		"\3\2\2\2\u05c9\u05ca\7G\2\2\u05ca\u05cb\7Z\2\2\u05cb\u05cc\7V\2\2\u05cc"+
-		"\u05cd\7G\2\2\u05cd\u05ce\7P\2\2\u05ce\u05cf\7F\2\2\u05cf\u05d0\7G\2\2"+
-		"\u05d0\u05d1\7F\2\2\u05d1\u0144\3\2\2\2\u05d2\u05d3\7T\2\2\u05d3\u05d4"+
-		"\7G\2\2\u05d4\u05d5\7H\2\2\u05d5\u05d6\7T\2\2\u05d6\u05d7\7G\2\2\u05d7"+
-		"\u05d8\7U\2\2\u05d8\u05d9\7J\2\2\u05d9\u0146\3\2\2\2\u05da\u05db\7E\2"+
-		"\2\u05db\u05dc\7N\2\2\u05dc\u05dd\7G\2\2\u05dd\u05de\7C\2\2\u05de\u05df"+
-		"\7T\2\2\u05df\u0148\3\2\2\2\u05e0\u05e1\7E\2\2\u05e1\u05e2\7C\2\2\u05e2"+
-		"\u05e3\7E\2\2\u05e3\u05e4\7J\2\2\u05e4\u05e5\7G\2\2\u05e5\u014a\3\2\2"+
-		"\2\u05e6\u05e7\7W\2\2\u05e7\u05e8\7P\2\2\u05e8\u05e9\7E\2\2\u05e9\u05ea"+
-		"\7C\2\2\u05ea\u05eb\7E\2\2\u05eb\u05ec\7J\2\2\u05ec\u05ed\7G\2\2\u05ed"+
-		"\u014c\3\2\2\2\u05ee\u05ef\7N\2\2\u05ef\u05f0\7C\2\2\u05f0\u05f1\7\\\2"+
-		"\2\u05f1\u05f2\7[\2\2\u05f2\u014e\3\2\2\2\u05f3\u05f4\7H\2\2\u05f4\u05f5"+
-		"\7Q\2\2\u05f5\u05f6\7T\2\2\u05f6\u05f7\7O\2\2\u05f7\u05f8\7C\2\2\u05f8"+
-		"\u05f9\7V\2\2\u05f9\u05fa\7V\2\2\u05fa\u05fb\7G\2\2\u05fb\u05fc\7F\2\2"+
-		"\u05fc\u0150\3\2\2\2\u05fd\u05fe\7I\2\2\u05fe\u05ff\7N\2\2\u05ff\u0600"+
-		"\7Q\2\2\u0600\u0601\7D\2\2\u0601\u0602\7C\2\2\u0602\u0603\7N\2\2\u0603"+
-		"\u0152\3\2\2\2\u0604\u0605\7V\2\2\u0605\u0606\7G\2\2\u0606\u0607\7O\2"+
-		"\2\u0607\u0608\7R\2\2\u0608\u0609\7Q\2\2\u0609\u060a\7T\2\2\u060a\u060b"+
-		"\7C\2\2\u060b\u060c\7T\2\2\u060c\u0612\7[\2\2\u060d\u060e\7V\2\2\u060e"+
-		"\u060f\7G\2\2\u060f\u0610\7O\2\2\u0610\u0612\7R\2\2\u0611\u0604\3\2\2"+
-		"\2\u0611\u060d\3\2\2\2\u0612\u0154\3\2\2\2\u0613\u0614\7Q\2\2\u0614\u0615"+
-		"\7R\2\2\u0615\u0616\7V\2\2\u0616\u0617\7K\2\2\u0617\u0618\7Q\2\2\u0618"+
-		"\u0619\7P\2\2\u0619\u061a\7U\2\2\u061a\u0156\3\2\2\2\u061b\u061c\7W\2"+
-		"\2\u061c\u061d\7P\2\2\u061d\u061e\7U\2\2\u061e\u061f\7G\2\2\u061f\u0620"+
-		"\7V\2\2\u0620\u0158\3\2\2\2\u0621\u0622\7V\2\2\u0622\u0623\7D\2\2\u0623"+
-		"\u0624\7N\2\2\u0624\u0625\7R\2\2\u0625\u0626\7T\2\2\u0626\u0627\7Q\2\2"+
-		"\u0627\u0628\7R\2\2\u0628\u0629\7G\2\2\u0629\u062a\7T\2\2\u062a\u062b"+
-		"\7V\2\2\u062b\u062c\7K\2\2\u062c\u062d\7G\2\2\u062d\u062e\7U\2\2\u062e"+
-		"\u015a\3\2\2\2\u062f\u0630\7F\2\2\u0630\u0631\7D\2\2\u0631\u0632\7R\2"+
-		"\2\u0632\u0633\7T\2\2\u0633\u0634\7Q\2\2\u0634\u0635\7R\2\2\u0635\u0636"+
-		"\7G\2\2\u0636\u0637\7T\2\2\u0637\u0638\7V\2\2\u0638\u0639\7K\2\2\u0639"+
-		"\u063a\7G\2\2\u063a\u063b\7U\2\2\u063b\u015c\3\2\2\2\u063c\u063d\7D\2"+
-		"\2\u063d\u063e\7W\2\2\u063e\u063f\7E\2\2\u063f\u0640\7M\2\2\u0640\u0641"+
-		"\7G\2\2\u0641\u0642\7V\2\2\u0642\u0643\7U\2\2\u0643\u015e\3\2\2\2\u0644"+
-		"\u0645\7U\2\2\u0645\u0646\7M\2\2\u0646\u0647\7G\2\2\u0647\u0648\7Y\2\2"+
-		"\u0648\u0649\7G\2\2\u0649\u064a\7F\2\2\u064a\u0160\3\2\2\2\u064b\u064c"+
-		"\7U\2\2\u064c\u064d\7V\2\2\u064d\u064e\7Q\2\2\u064e\u064f\7T\2\2\u064f"+
-		"\u0650\7G\2\2\u0650\u0651\7F\2\2\u0651\u0162\3\2\2\2\u0652\u0653\7F\2"+
-		"\2\u0653\u0654\7K\2\2\u0654\u0655\7T\2\2\u0655\u0656\7G\2\2\u0656\u0657"+
-		"\7E\2\2\u0657\u0658\7V\2\2\u0658\u0659\7Q\2\2\u0659\u065a\7T\2\2\u065a"+
-		"\u065b\7K\2\2\u065b\u065c\7G\2\2\u065c\u065d\7U\2\2\u065d\u0164\3\2\2"+
-		"\2\u065e\u065f\7N\2\2\u065f\u0660\7Q\2\2\u0660\u0661\7E\2\2\u0661\u0662"+
-		"\7C\2\2\u0662\u0663\7V\2\2\u0663\u0664\7K\2\2\u0664\u0665\7Q\2\2\u0665"+
-		"\u0666\7P\2\2\u0666\u0166\3\2\2\2\u0667\u0668\7G\2\2\u0668\u0669\7Z\2"+
-		"\2\u0669\u066a\7E\2\2\u066a\u066b\7J\2\2\u066b\u066c\7C\2\2\u066c\u066d"+
-		"\7P\2\2\u066d\u066e\7I\2\2\u066e\u066f\7G\2\2\u066f\u0168\3\2\2\2\u0670"+
-		"\u0671\7C\2\2\u0671\u0672\7T\2\2\u0672\u0673\7E\2\2\u0673\u0674\7J\2\2"+
-		"\u0674\u0675\7K\2\2\u0675\u0676\7X\2\2\u0676\u0677\7G\2\2\u0677\u016a"+
-		"\3\2\2\2\u0678\u0679\7W\2\2\u0679\u067a\7P\2\2\u067a\u067b\7C\2\2\u067b"+
-		"\u067c\7T\2\2\u067c\u067d\7E\2\2\u067d\u067e\7J\2\2\u067e\u067f\7K\2\2"+
-		"\u067f\u0680\7X\2\2\u0680\u0681\7G\2\2\u0681\u016c\3\2\2\2\u0682\u0683"+
-		"\7H\2\2\u0683\u0684\7K\2\2\u0684\u0685\7N\2\2\u0685\u0686\7G\2\2\u0686"+
-		"\u0687\7H\2\2\u0687\u0688\7Q\2\2\u0688\u0689\7T\2\2\u0689\u068a\7O\2\2"+
-		"\u068a\u068b\7C\2\2\u068b\u068c\7V\2\2\u068c\u016e\3\2\2\2\u068d\u068e"+
-		"\7V\2\2\u068e\u068f\7Q\2\2\u068f\u0690\7W\2\2\u0690\u0691\7E\2\2\u0691"+
-		"\u0692\7J\2\2\u0692\u0170\3\2\2\2\u0693\u0694\7E\2\2\u0694\u0695\7Q\2"+
-		"\2\u0695\u0696\7O\2\2\u0696\u0697\7R\2\2\u0697\u0698\7C\2\2\u0698\u0699"+
-		"\7E\2\2\u0699\u069a\7V\2\2\u069a\u0172\3\2\2\2\u069b\u069c\7E\2\2\u069c"+
-		"\u069d\7Q\2\2\u069d\u069e\7P\2\2\u069e\u069f\7E\2\2\u069f\u06a0\7C\2\2"+
-		"\u06a0\u06a1\7V\2\2\u06a1\u06a2\7G\2\2\u06a2\u06a3\7P\2\2\u06a3\u06a4"+
-		"\7C\2\2\u06a4\u06a5\7V\2\2\u06a5\u06a6\7G\2\2\u06a6\u0174\3\2\2\2\u06a7"+
-		"\u06a8\7E\2\2\u06a8\u06a9\7J\2\2\u06a9\u06aa\7C\2\2\u06aa\u06ab\7P\2\2"+
-		"\u06ab\u06ac\7I\2\2\u06ac\u06ad\7G\2\2\u06ad\u0176\3\2\2\2\u06ae\u06af"+
-		"\7E\2\2\u06af\u06b0\7C\2\2\u06b0\u06b1\7U\2\2\u06b1\u06b2\7E\2\2\u06b2"+
-		"\u06b3\7C\2\2\u06b3\u06b4\7F\2\2\u06b4\u06b5\7G\2\2\u06b5\u0178\3\2\2"+
-		"\2\u06b6\u06b7\7T\2\2\u06b7\u06b8\7G\2\2\u06b8\u06b9\7U\2\2\u06b9\u06ba"+
-		"\7V\2\2\u06ba\u06bb\7T\2\2\u06bb\u06bc\7K\2\2\u06bc\u06bd\7E\2\2\u06bd"+
-		"\u06be\7V\2\2\u06be\u017a\3\2\2\2\u06bf\u06c0\7E\2\2\u06c0\u06c1\7N\2"+
-		"\2\u06c1\u06c2\7W\2\2\u06c2\u06c3\7U\2\2\u06c3\u06c4\7V\2\2\u06c4\u06c5"+
-		"\7G\2\2\u06c5\u06c6\7T\2\2\u06c6\u06c7\7G\2\2\u06c7\u06c8\7F\2\2\u06c8"+
-		"\u017c\3\2\2\2\u06c9\u06ca\7U\2\2\u06ca\u06cb\7Q\2\2\u06cb\u06cc\7T\2"+
-		"\2\u06cc\u06cd\7V\2\2\u06cd\u06ce\7G\2\2\u06ce\u06cf\7F\2\2\u06cf\u017e"+
-		"\3\2\2\2\u06d0\u06d1\7R\2\2\u06d1\u06d2\7W\2\2\u06d2\u06d3\7T\2\2\u06d3"+
-		"\u06d4\7I\2\2\u06d4\u06d5\7G\2\2\u06d5\u0180\3\2\2\2\u06d6\u06d7\7K\2"+
-		"\2\u06d7\u06d8\7P\2\2\u06d8\u06d9\7R\2\2\u06d9\u06da\7W\2\2\u06da\u06db"+
-		"\7V\2\2\u06db\u06dc\7H\2\2\u06dc\u06dd\7Q\2\2\u06dd\u06de\7T\2\2\u06de"+
-		"\u06df\7O\2\2\u06df\u06e0\7C\2\2\u06e0\u06e1\7V\2\2\u06e1\u0182\3\2\2"+
-		"\2\u06e2\u06e3\7Q\2\2\u06e3\u06e4\7W\2\2\u06e4\u06e5\7V\2\2\u06e5\u06e6"+
-		"\7R\2\2\u06e6\u06e7\7W\2\2\u06e7\u06e8\7V\2\2\u06e8\u06e9\7H\2\2\u06e9"+
-		"\u06ea\7Q\2\2\u06ea\u06eb\7T\2\2\u06eb\u06ec\7O\2\2\u06ec\u06ed\7C\2\2"+
-		"\u06ed\u06ee\7V\2\2\u06ee\u0184\3\2\2\2\u06ef\u06f0\7F\2\2\u06f0\u06f1"+
-		"\7C\2\2\u06f1\u06f2\7V\2\2\u06f2\u06f3\7C\2\2\u06f3\u06f4\7D\2\2\u06f4"+
-		"\u06f5\7C\2\2\u06f5\u06f6\7U\2\2\u06f6\u06fe\7G\2\2\u06f7\u06f8\7U\2\2"+
-		"\u06f8\u06f9\7E\2\2\u06f9\u06fa\7J\2\2\u06fa\u06fb\7G\2\2\u06fb\u06fc"+
-		"\7O\2\2\u06fc\u06fe\7C\2\2\u06fd\u06ef\3\2\2\2\u06fd\u06f7\3\2\2\2\u06fe"+
-		"\u0186\3\2\2\2\u06ff\u0700\7F\2\2\u0700\u0701\7C\2\2\u0701\u0702\7V\2"+
-		"\2\u0702\u0703\7C\2\2\u0703\u0704\7D\2\2\u0704\u0705\7C\2\2\u0705\u0706"+
-		"\7U\2\2\u0706\u0707\7G\2\2\u0707\u0710\7U\2\2\u0708\u0709\7U\2\2\u0709"+
-		"\u070a\7E\2\2\u070a\u070b\7J\2\2\u070b\u070c\7G\2\2\u070c\u070d\7O\2\2"+
-		"\u070d\u070e\7C\2\2\u070e\u0710\7U\2\2\u070f\u06ff\3\2\2\2\u070f\u0708"+
-		"\3\2\2\2\u0710\u0188\3\2\2\2\u0711\u0712\7F\2\2\u0712\u0713\7H\2\2\u0713"+
-		"\u0714\7U\2\2\u0714\u018a\3\2\2\2\u0715\u0716\7V\2\2\u0716\u0717\7T\2"+
-		"\2\u0717\u0718\7W\2\2\u0718\u0719\7P\2\2\u0719\u071a\7E\2\2\u071a\u071b"+
-		"\7C\2\2\u071b\u071c\7V\2\2\u071c\u071d\7G\2\2\u071d\u018c\3\2\2\2\u071e"+
-		"\u071f\7C\2\2\u071f\u0720\7P\2\2\u0720\u0721\7C\2\2\u0721\u0722\7N\2\2"+
-		"\u0722\u0723\7[\2\2\u0723\u0724\7\\\2\2\u0724\u0725\7G\2\2\u0725\u018e"+
-		"\3\2\2\2\u0726\u0727\7E\2\2\u0727\u0728\7Q\2\2\u0728\u0729\7O\2\2\u0729"+
-		"\u072a\7R\2\2\u072a\u072b\7W\2\2\u072b\u072c\7V\2\2\u072c\u072d\7G\2\2"+
-		"\u072d\u0190\3\2\2\2\u072e\u072f\7N\2\2\u072f\u0730\7K\2\2\u0730\u0731"+
-		"\7U\2\2\u0731\u0732\7V\2\2\u0732\u0192\3\2\2\2\u0733\u0734\7U\2\2\u0734"+
-		"\u0735\7V\2\2\u0735\u0736\7C\2\2\u0736\u0737\7V\2\2\u0737\u0738\7K\2\2"+
-		"\u0738\u0739\7U\2\2\u0739\u073a\7V\2\2\u073a\u073b\7K\2\2\u073b\u073c"+
-		"\7E\2\2\u073c\u073d\7U\2\2\u073d\u0194\3\2\2\2\u073e\u073f\7R\2\2\u073f"+
-		"\u0740\7C\2\2\u0740\u0741\7T\2\2\u0741\u0742\7V\2\2\u0742\u0743\7K\2\2"+
-		"\u0743\u0744\7V\2\2\u0744\u0745\7K\2\2\u0745\u0746\7Q\2\2\u0746\u0747"+
-		"\7P\2\2\u0747\u0748\7G\2\2\u0748\u0749\7F\2\2\u0749\u0196\3\2\2\2\u074a"+
-		"\u074b\7G\2\2\u074b\u074c\7Z\2\2\u074c\u074d\7V\2\2\u074d\u074e\7G\2\2"+
-		"\u074e\u074f\7T\2\2\u074f\u0750\7P\2\2\u0750\u0751\7C\2\2\u0751\u0752"+
-		"\7N\2\2\u0752\u0198\3\2\2\2\u0753\u0754\7F\2\2\u0754\u0755\7G\2\2\u0755"+
-		"\u0756\7H\2\2\u0756\u0757\7K\2\2\u0757\u0758\7P\2\2\u0758\u0759\7G\2\2"+
-		"\u0759\u075a\7F\2\2\u075a\u019a\3\2\2\2\u075b\u075c\7T\2\2\u075c\u075d"+
-		"\7G\2\2\u075d\u075e\7X\2\2\u075e\u075f\7Q\2\2\u075f\u0760\7M\2\2\u0760"+
-		"\u0761\7G\2\2\u0761\u019c\3\2\2\2\u0762\u0763\7I\2\2\u0763\u0764\7T\2"+
-		"\2\u0764\u0765\7C\2\2\u0765\u0766\7P\2\2\u0766\u0767\7V\2\2\u0767\u019e"+
-		"\3\2\2\2\u0768\u0769\7N\2\2\u0769\u076a\7Q\2\2\u076a\u076b\7E\2\2\u076b"+
-		"\u076c\7M\2\2\u076c\u01a0\3\2\2\2\u076d\u076e\7W\2\2\u076e\u076f\7P\2"+
-		"\2\u076f\u0770\7N\2\2\u0770\u0771\7Q\2\2\u0771\u0772\7E\2\2\u0772\u0773"+
-		"\7M\2\2\u0773\u01a2\3\2\2\2\u0774\u0775\7O\2\2\u0775\u0776\7U\2\2\u0776"+
-		"\u0777\7E\2\2\u0777\u0778\7M\2\2\u0778\u01a4\3\2\2\2\u0779\u077a\7T\2"+
-		"\2\u077a\u077b\7G\2\2\u077b\u077c\7R\2\2\u077c\u077d\7C\2\2\u077d\u077e"+
-		"\7K\2\2\u077e\u077f\7T\2\2\u077f\u01a6\3\2\2\2\u0780\u0781\7T\2\2\u0781"+
-		"\u0782\7G\2\2\u0782\u0783\7E\2\2\u0783\u0784\7Q\2\2\u0784\u0785\7X\2\2"+
-		"\u0785\u0786\7G\2\2\u0786\u0787\7T\2\2\u0787\u01a8\3\2\2\2\u0788\u0789"+
-		"\7G\2\2\u0789\u078a\7Z\2\2\u078a\u078b\7R\2\2\u078b\u078c\7Q\2\2\u078c"+
-		"\u078d\7T\2\2\u078d\u078e\7V\2\2\u078e\u01aa\3\2\2\2\u078f\u0790\7K\2"+
-		"\2\u0790\u0791\7O\2\2\u0791\u0792\7R\2\2\u0792\u0793\7Q\2\2\u0793\u0794"+
-		"\7T\2\2\u0794\u0795\7V\2\2\u0795\u01ac\3\2\2\2\u0796\u0797\7N\2\2\u0797"+
-		"\u0798\7Q\2\2\u0798\u0799\7C\2\2\u0799\u079a\7F\2\2\u079a\u01ae\3\2\2"+
-		"\2\u079b\u079c\7T\2\2\u079c\u079d\7Q\2\2\u079d\u079e\7N\2\2\u079e\u079f"+
-		"\7G\2\2\u079f\u01b0\3\2\2\2\u07a0\u07a1\7T\2\2\u07a1\u07a2\7Q\2\2\u07a2"+
-		"\u07a3\7N\2\2\u07a3\u07a4\7G\2\2\u07a4\u07a5\7U\2\2\u07a5\u01b2\3\2\2"+
-		"\2\u07a6\u07a7\7E\2\2\u07a7\u07a8\7Q\2\2\u07a8\u07a9\7O\2\2\u07a9\u07aa"+
-		"\7R\2\2\u07aa\u07ab\7C\2\2\u07ab\u07ac\7E\2\2\u07ac\u07ad\7V\2\2\u07ad"+
-		"\u07ae\7K\2\2\u07ae\u07af\7Q\2\2\u07af\u07b0\7P\2\2\u07b0\u07b1\7U\2\2"+
-		"\u07b1\u01b4\3\2\2\2\u07b2\u07b3\7R\2\2\u07b3\u07b4\7T\2\2\u07b4\u07b5"+
-		"\7K\2\2\u07b5\u07b6\7P\2\2\u07b6\u07b7\7E\2\2\u07b7\u07b8\7K\2\2\u07b8"+
-		"\u07b9\7R\2\2\u07b9\u07ba\7C\2\2\u07ba\u07bb\7N\2\2\u07bb\u07bc\7U\2\2"+
-		"\u07bc\u01b6\3\2\2\2\u07bd\u07be\7V\2\2\u07be\u07bf\7T\2\2\u07bf\u07c0"+
-		"\7C\2\2\u07c0\u07c1\7P\2\2\u07c1\u07c2\7U\2\2\u07c2\u07c3\7C\2\2\u07c3"+
-		"\u07c4\7E\2\2\u07c4\u07c5\7V\2\2\u07c5\u07c6\7K\2\2\u07c6\u07c7\7Q\2\2"+
-		"\u07c7\u07c8\7P\2\2\u07c8\u07c9\7U\2\2\u07c9\u01b8\3\2\2\2\u07ca\u07cb"+
-		"\7K\2\2\u07cb\u07cc\7P\2\2\u07cc\u07cd\7F\2\2\u07cd\u07ce\7G\2\2\u07ce"+
-		"\u07cf\7Z\2\2\u07cf\u01ba\3\2\2\2\u07d0\u07d1\7K\2\2\u07d1\u07d2\7P\2"+
-		"\2\u07d2\u07d3\7F\2\2\u07d3\u07d4\7G\2\2\u07d4\u07d5\7Z\2\2\u07d5\u07d6"+
-		"\7G\2\2\u07d6\u07d7\7U\2\2\u07d7\u01bc\3\2\2\2\u07d8\u07d9\7N\2\2\u07d9"+
-		"\u07da\7Q\2\2\u07da\u07db\7E\2\2\u07db\u07dc\7M\2\2\u07dc\u07dd\7U\2\2"+
-		"\u07dd\u01be\3\2\2\2\u07de\u07df\7Q\2\2\u07df\u07e0\7R\2\2\u07e0\u07e1"+
-		"\7V\2\2\u07e1\u07e2\7K\2\2\u07e2\u07e3\7Q\2\2\u07e3\u07e4\7P\2\2\u07e4"+
-		"\u01c0\3\2\2\2\u07e5\u07e6\7C\2\2\u07e6\u07e7\7P\2\2\u07e7\u07e8\7V\2"+
-		"\2\u07e8\u07e9\7K\2\2\u07e9\u01c2\3\2\2\2\u07ea\u07eb\7N\2\2\u07eb\u07ec"+
-		"\7Q\2\2\u07ec\u07ed\7E\2\2\u07ed\u07ee\7C\2\2\u07ee\u07ef\7N\2\2\u07ef"+
-		"\u01c4\3\2\2\2\u07f0\u07f1\7K\2\2\u07f1\u07f2\7P\2\2\u07f2\u07f3\7R\2"+
-		"\2\u07f3\u07f4\7C\2\2\u07f4\u07f5\7V\2\2\u07f5\u07f6\7J\2\2\u07f6\u01c6"+
-		"\3\2\2\2\u07f7\u07f8\7E\2\2\u07f8\u07f9\7W\2\2\u07f9\u07fa\7T\2\2\u07fa"+
-		"\u07fb\7T\2\2\u07fb\u07fc\7G\2\2\u07fc\u07fd\7P\2\2\u07fd\u07fe\7V\2\2"+
-		"\u07fe\u07ff\7a\2\2\u07ff\u0800\7F\2\2\u0800\u0801\7C\2\2\u0801\u0802"+
-		"\7V\2\2\u0802\u0803\7G\2\2\u0803\u01c8\3\2\2\2\u0804\u0805\7E\2\2\u0805"+
-		"\u0806\7W\2\2\u0806\u0807\7T\2\2\u0807\u0808\7T\2\2\u0808\u0809\7G\2\2"+
-		"\u0809\u080a\7P\2\2\u080a\u080b\7V\2\2\u080b\u080c\7a\2\2\u080c\u080d"+
-		"\7V\2\2\u080d\u080e\7K\2\2\u080e\u080f\7O\2\2\u080f\u0810\7G\2\2\u0810"+
-		"\u0811\7U\2\2\u0811\u0812\7V\2\2\u0812\u0813\7C\2\2\u0813\u0814\7O\2\2"+
-		"\u0814\u0815\7R\2\2\u0815\u01ca\3\2\2\2\u0816\u081c\7)\2\2\u0817\u081b"+
-		"\n\2\2\2\u0818\u0819\7^\2\2\u0819\u081b\13\2\2\2\u081a\u0817\3\2\2\2\u081a"+
-		"\u0818\3\2\2\2\u081b\u081e\3\2\2\2\u081c\u081a\3\2\2\2\u081c\u081d\3\2"+
-		"\2\2\u081d\u081f\3\2\2\2\u081e\u081c\3\2\2\2\u081f\u082b\7)\2\2\u0820"+
-		"\u0826\7$\2\2\u0821\u0825\n\2\2\2\u0822\u0823\7^\2\2\u0823\u0825\13\2"+
-		"\2\2\u0824\u0821\3\2\2\2\u0824\u0822\3\2\2\2\u0825\u0828\3\2\2\2\u0826"+
-		"\u0824\3\2\2\2\u0826\u0827\3\2\2\2\u0827\u0829\3\2\2\2\u0828\u0826\3\2"+
-		"\2\2\u0829\u082b\7$\2\2\u082a\u0816\3\2\2\2\u082a\u0820\3\2\2\2\u082b"+
-		"\u01cc\3\2\2\2\u082c\u082e\5\u01e7\u00f4\2\u082d\u082c\3\2\2\2\u082e\u082f"+
-		"\3\2\2\2\u082f\u082d\3\2\2\2\u082f\u0830\3\2\2\2\u0830\u0831\3\2\2\2\u0831"+
-		"\u0832\7N\2\2\u0832\u01ce\3\2\2\2\u0833\u0835\5\u01e7\u00f4\2\u0834\u0833"+
-		"\3\2\2\2\u0835\u0836\3\2\2\2\u0836\u0834\3\2\2\2\u0836\u0837\3\2\2\2\u0837"+
-		"\u0838\3\2\2\2\u0838\u0839\7U\2\2\u0839\u01d0\3\2\2\2\u083a\u083c\5\u01e7"+
-		"\u00f4\2\u083b\u083a\3\2\2\2\u083c\u083d\3\2\2\2\u083d\u083b\3\2\2\2\u083d"+
-		"\u083e\3\2\2\2\u083e\u083f\3\2\2\2\u083f\u0840\7[\2\2\u0840\u01d2\3\2"+
-		"\2\2\u0841\u0843\5\u01e7\u00f4\2\u0842\u0841\3\2\2\2\u0843\u0844\3\2\2"+
-		"\2\u0844\u0842\3\2\2\2\u0844\u0845\3\2\2\2\u0845\u0846\3\2\2\2\u0846\u0847"+
-		"\t\3\2\2\u0847\u01d4\3\2\2\2\u0848\u084a\5\u01e7\u00f4\2\u0849\u0848\3"+
-		"\2\2\2\u084a\u084b\3\2\2\2\u084b\u0849\3\2\2\2\u084b\u084c\3\2\2\2\u084c"+
-		"\u01d6\3\2\2\2\u084d\u084f\5\u01e7\u00f4\2\u084e\u084d\3\2\2\2\u084f\u0850"+
-		"\3\2\2\2\u0850\u084e\3\2\2\2\u0850\u0851\3\2\2\2\u0851\u0852\3\2\2\2\u0852"+
-		"\u0853\5\u01e5\u00f3\2\u0853\u085b\3\2\2\2\u0854\u0856\5\u01e3\u00f2\2"+
-		"\u0855\u0857\5\u01e5\u00f3\2\u0856\u0855\3\2\2\2\u0856\u0857\3\2\2\2\u0857"+
-		"\u0858\3\2\2\2\u0858\u0859\6\u00ec\2\2\u0859\u085b\3\2\2\2\u085a\u084e"+
-		"\3\2\2\2\u085a\u0854\3\2\2\2\u085b\u01d8\3\2\2\2\u085c\u085e\5\u01e7\u00f4"+
-		"\2\u085d\u085c\3\2\2\2\u085e\u085f\3\2\2\2\u085f\u085d\3\2\2\2\u085f\u0860"+
-		"\3\2\2\2\u0860\u0862\3\2\2\2\u0861\u0863\5\u01e5\u00f3\2\u0862\u0861\3"+
-		"\2\2\2\u0862\u0863\3\2\2\2\u0863\u0864\3\2\2\2\u0864\u0865\7F\2\2\u0865"+
-		"\u086e\3\2\2\2\u0866\u0868\5\u01e3\u00f2\2\u0867\u0869\5\u01e5\u00f3\2"+
-		"\u0868\u0867\3\2\2\2\u0868\u0869\3\2\2\2\u0869\u086a\3\2\2\2\u086a\u086b"+
-		"\7F\2\2\u086b\u086c\6\u00ed\3\2\u086c\u086e\3\2\2\2\u086d\u085d\3\2\2"+
-		"\2\u086d\u0866\3\2\2\2\u086e\u01da\3\2\2\2\u086f\u0871\5\u01e7\u00f4\2"+
-		"\u0870\u086f\3\2\2\2\u0871\u0872\3\2\2\2\u0872\u0870\3\2\2\2\u0872\u0873"+
-		"\3\2\2\2\u0873\u0875\3\2\2\2\u0874\u0876\5\u01e5\u00f3\2\u0875\u0874\3"+
-		"\2\2\2\u0875\u0876\3\2\2\2\u0876\u0877\3\2\2\2\u0877\u0878\7D\2\2\u0878"+
-		"\u0879\7F\2\2\u0879\u0884\3\2\2\2\u087a\u087c\5\u01e3\u00f2\2\u087b\u087d"+
-		"\5\u01e5\u00f3\2\u087c\u087b\3\2\2\2\u087c\u087d\3\2\2\2\u087d\u087e\3"+
-		"\2\2\2\u087e\u087f\7D\2\2\u087f\u0880\7F\2\2\u0880\u0881\3\2\2\2\u0881"+
-		"\u0882\6\u00ee\4\2\u0882\u0884\3\2\2\2\u0883\u0870\3\2\2\2\u0883\u087a"+
-		"\3\2\2\2\u0884\u01dc\3\2\2\2\u0885\u0889\5\u01e9\u00f5\2\u0886\u0889\5"+
-		"\u01e7\u00f4\2\u0887\u0889\7a\2\2\u0888\u0885\3\2\2\2\u0888\u0886\3\2"+
-		"\2\2\u0888\u0887\3\2\2\2\u0889\u088a\3\2\2\2\u088a\u0888\3\2\2\2\u088a"+
-		"\u088b\3\2\2\2\u088b\u01de\3\2\2\2\u088c\u0890\5\u01e9\u00f5\2\u088d\u0890"+
-		"\5\u01e7\u00f4\2\u088e\u0890\t\4\2\2\u088f\u088c\3\2\2\2\u088f\u088d\3"+
-		"\2\2\2\u088f\u088e\3\2\2\2\u0890\u0891\3\2\2\2\u0891\u088f\3\2\2\2\u0891"+
-		"\u0892\3\2\2\2\u0892\u01e0\3\2\2\2\u0893\u0899\7b\2\2\u0894\u0898\n\5"+
-		"\2\2\u0895\u0896\7b\2\2\u0896\u0898\7b\2\2\u0897\u0894\3\2\2\2\u0897\u0895"+
-		"\3\2\2\2\u0898\u089b\3\2\2\2\u0899\u0897\3\2\2\2\u0899\u089a\3\2\2\2\u089a"+
-		"\u089c\3\2\2\2\u089b\u0899\3\2\2\2\u089c\u089d\7b\2\2\u089d\u01e2\3\2"+
-		"\2\2\u089e\u08a0\5\u01e7\u00f4\2\u089f\u089e\3\2\2\2\u08a0\u08a1\3\2\2"+
-		"\2\u08a1\u089f\3\2\2\2\u08a1\u08a2\3\2\2\2\u08a2\u08a3\3\2\2\2\u08a3\u08a7"+
-		"\7\60\2\2\u08a4\u08a6\5\u01e7\u00f4\2\u08a5\u08a4\3\2\2\2\u08a6\u08a9"+
-		"\3\2\2\2\u08a7\u08a5\3\2\2\2\u08a7\u08a8\3\2\2\2\u08a8\u08b1\3\2\2\2\u08a9"+
-		"\u08a7\3\2\2\2\u08aa\u08ac\7\60\2\2\u08ab\u08ad\5\u01e7\u00f4\2\u08ac"+
-		"\u08ab\3\2\2\2\u08ad\u08ae\3\2\2\2\u08ae\u08ac\3\2\2\2\u08ae\u08af\3\2"+
-		"\2\2\u08af\u08b1\3\2\2\2\u08b0\u089f\3\2\2\2\u08b0\u08aa\3\2\2\2\u08b1"+
-		"\u01e4\3\2\2\2\u08b2\u08b4\7G\2\2\u08b3\u08b5\t\6\2\2\u08b4\u08b3\3\2"+
-		"\2\2\u08b4\u08b5\3\2\2\2\u08b5\u08b7\3\2\2\2\u08b6\u08b8\5\u01e7\u00f4"+
-		"\2\u08b7\u08b6\3\2\2\2\u08b8\u08b9\3\2\2\2\u08b9\u08b7\3\2\2\2\u08b9\u08ba"+
-		"\3\2\2\2\u08ba\u01e6\3\2\2\2\u08bb\u08bc\t\7\2\2\u08bc\u01e8\3\2\2\2\u08bd"+
-		"\u08be\t\b\2\2\u08be\u01ea\3\2\2\2\u08bf\u08c0\7/\2\2\u08c0\u08c1\7/\2"+
-		"\2\u08c1\u08c5\3\2\2\2\u08c2\u08c4\n\t\2\2\u08c3\u08c2\3\2\2\2\u08c4\u08c7"+
-		"\3\2\2\2\u08c5\u08c3\3\2\2\2\u08c5\u08c6\3\2\2\2\u08c6\u08c9\3\2\2\2\u08c7"+
-		"\u08c5\3\2\2\2\u08c8\u08ca\7\17\2\2\u08c9\u08c8\3\2\2\2\u08c9\u08ca\3"+
-		"\2\2\2\u08ca\u08cc\3\2\2\2\u08cb\u08cd\7\f\2\2\u08cc\u08cb\3\2\2\2\u08cc"+
-		"\u08cd\3\2\2\2\u08cd\u08ce\3\2\2\2\u08ce\u08cf\b\u00f6\2\2\u08cf\u01ec"+
-		"\3\2\2\2\u08d0\u08d1\7\61\2\2\u08d1\u08d2\7,\2\2\u08d2\u08d3\7,\2\2\u08d3"+
-		"\u08d4\7\61\2\2\u08d4\u08d5\3\2\2\2\u08d5\u08d6\b\u00f7\2\2\u08d6\u01ee"+
-		"\3\2\2\2\u08d7\u08d8\7\61\2\2\u08d8\u08d9\7,\2\2\u08d9\u08da\3\2\2\2\u08da"+
-		"\u08de\n\n\2\2\u08db\u08dd\13\2\2\2\u08dc\u08db\3\2\2\2\u08dd\u08e0\3"+
-		"\2\2\2\u08de\u08df\3\2\2\2\u08de\u08dc\3\2\2\2\u08df\u08e1\3\2\2\2\u08e0"+
-		"\u08de\3\2\2\2\u08e1\u08e2\7,\2\2\u08e2\u08e3\7\61\2\2\u08e3\u08e4\3\2"+
-		"\2\2\u08e4\u08e5\b\u00f8\2\2\u08e5\u01f0\3\2\2\2\u08e6\u08e8\t\13\2\2"+
-		"\u08e7\u08e6\3\2\2\2\u08e8\u08e9\3\2\2\2\u08e9\u08e7\3\2\2\2\u08e9\u08ea"+
-		"\3\2\2\2\u08ea\u08eb\3\2\2\2\u08eb\u08ec\b\u00f9\2\2\u08ec\u01f2\3\2\2"+
-		"\2\u08ed\u08ee\13\2\2\2\u08ee\u01f4\3\2\2\2\61\2\u026a\u028e\u04c5\u04d7"+
-		"\u04df\u0611\u06fd\u070f\u081a\u081c\u0824\u0826\u082a\u082f\u0836\u083d"+
-		"\u0844\u084b\u0850\u0856\u085a\u085f\u0862\u0868\u086d\u0872\u0875\u087c"+
-		"\u0883\u0888\u088a\u088f\u0891\u0897\u0899\u08a1\u08a7\u08ae\u08b0\u08b4"+
-		"\u08b9\u08c5\u08c9\u08cc\u08de\u08e9\3\2\3\2";
+		"\u00ef\u01dd\u00f0\u01df\u00f1\u01e1\u00f2\u01e3\u00f3\u01e5\2\u01e7\2"+
+		"\u01e9\2\u01eb\2\u01ed\u00f4\u01ef\u00f5\u01f1\u00f6\u01f3\u00f7\u01f5"+
+		"\u00f8\3\2\f\4\2))^^\6\2DDIIMMOO\4\2//aa\3\2bb\4\2--//\3\2\62;\3\2C\\"+
+		"\4\2\f\f\17\17\3\2--\5\2\13\f\17\17\"\"\u0923\2\3\3\2\2\2\2\5\3\2\2\2"+
+		"\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3"+
+		"\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2"+
+		"\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2"+
+		"\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2"+
+		"\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2"+
+		"\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2"+
+		"\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y"+
+		"\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2"+
+		"\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2"+
+		"\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177"+
+		"\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2"+
+		"\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091"+
+		"\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2"+
+		"\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3"+
+		"\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2"+
+		"\2\2\u00ad\3\2\2\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5"+
+		"\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2"+
+		"\2\2\u00bf\3\2\2\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7"+
+		"\3\2\2\2\2\u00c9\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2"+
+		"\2\2\u00d1\3\2\2\2\2\u00d3\3\2\2\2\2\u00d5\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9"+
+		"\3\2\2\2\2\u00db\3\2\2\2\2\u00dd\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2"+
+		"\2\2\u00e3\3\2\2\2\2\u00e5\3\2\2\2\2\u00e7\3\2\2\2\2\u00e9\3\2\2\2\2\u00eb"+
+		"\3\2\2\2\2\u00ed\3\2\2\2\2\u00ef\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2"+
+		"\2\2\u00f5\3\2\2\2\2\u00f7\3\2\2\2\2\u00f9\3\2\2\2\2\u00fb\3\2\2\2\2\u00fd"+
+		"\3\2\2\2\2\u00ff\3\2\2\2\2\u0101\3\2\2\2\2\u0103\3\2\2\2\2\u0105\3\2\2"+
+		"\2\2\u0107\3\2\2\2\2\u0109\3\2\2\2\2\u010b\3\2\2\2\2\u010d\3\2\2\2\2\u010f"+
+		"\3\2\2\2\2\u0111\3\2\2\2\2\u0113\3\2\2\2\2\u0115\3\2\2\2\2\u0117\3\2\2"+
+		"\2\2\u0119\3\2\2\2\2\u011b\3\2\2\2\2\u011d\3\2\2\2\2\u011f\3\2\2\2\2\u0121"+
+		"\3\2\2\2\2\u0123\3\2\2\2\2\u0125\3\2\2\2\2\u0127\3\2\2\2\2\u0129\3\2\2"+
+		"\2\2\u012b\3\2\2\2\2\u012d\3\2\2\2\2\u012f\3\2\2\2\2\u0131\3\2\2\2\2\u0133"+
+		"\3\2\2\2\2\u0135\3\2\2\2\2\u0137\3\2\2\2\2\u0139\3\2\2\2\2\u013b\3\2\2"+
+		"\2\2\u013d\3\2\2\2\2\u013f\3\2\2\2\2\u0141\3\2\2\2\2\u0143\3\2\2\2\2\u0145"+
+		"\3\2\2\2\2\u0147\3\2\2\2\2\u0149\3\2\2\2\2\u014b\3\2\2\2\2\u014d\3\2\2"+
+		"\2\2\u014f\3\2\2\2\2\u0151\3\2\2\2\2\u0153\3\2\2\2\2\u0155\3\2\2\2\2\u0157"+
+		"\3\2\2\2\2\u0159\3\2\2\2\2\u015b\3\2\2\2\2\u015d\3\2\2\2\2\u015f\3\2\2"+
+		"\2\2\u0161\3\2\2\2\2\u0163\3\2\2\2\2\u0165\3\2\2\2\2\u0167\3\2\2\2\2\u0169"+
+		"\3\2\2\2\2\u016b\3\2\2\2\2\u016d\3\2\2\2\2\u016f\3\2\2\2\2\u0171\3\2\2"+
+		"\2\2\u0173\3\2\2\2\2\u0175\3\2\2\2\2\u0177\3\2\2\2\2\u0179\3\2\2\2\2\u017b"+
+		"\3\2\2\2\2\u017d\3\2\2\2\2\u017f\3\2\2\2\2\u0181\3\2\2\2\2\u0183\3\2\2"+
+		"\2\2\u0185\3\2\2\2\2\u0187\3\2\2\2\2\u0189\3\2\2\2\2\u018b\3\2\2\2\2\u018d"+
+		"\3\2\2\2\2\u018f\3\2\2\2\2\u0191\3\2\2\2\2\u0193\3\2\2\2\2\u0195\3\2\2"+
+		"\2\2\u0197\3\2\2\2\2\u0199\3\2\2\2\2\u019b\3\2\2\2\2\u019d\3\2\2\2\2\u019f"+
+		"\3\2\2\2\2\u01a1\3\2\2\2\2\u01a3\3\2\2\2\2\u01a5\3\2\2\2\2\u01a7\3\2\2"+
+		"\2\2\u01a9\3\2\2\2\2\u01ab\3\2\2\2\2\u01ad\3\2\2\2\2\u01af\3\2\2\2\2\u01b1"+
+		"\3\2\2\2\2\u01b3\3\2\2\2\2\u01b5\3\2\2\2\2\u01b7\3\2\2\2\2\u01b9\3\2\2"+
+		"\2\2\u01bb\3\2\2\2\2\u01bd\3\2\2\2\2\u01bf\3\2\2\2\2\u01c1\3\2\2\2\2\u01c3"+
+		"\3\2\2\2\2\u01c5\3\2\2\2\2\u01c7\3\2\2\2\2\u01c9\3\2\2\2\2\u01cb\3\2\2"+
+		"\2\2\u01cd\3\2\2\2\2\u01cf\3\2\2\2\2\u01d1\3\2\2\2\2\u01d3\3\2\2\2\2\u01d5"+
+		"\3\2\2\2\2\u01d7\3\2\2\2\2\u01d9\3\2\2\2\2\u01db\3\2\2\2\2\u01dd\3\2\2"+
+		"\2\2\u01df\3\2\2\2\2\u01e1\3\2\2\2\2\u01e3\3\2\2\2\2\u01ed\3\2\2\2\2\u01ef"+
+		"\3\2\2\2\2\u01f1\3\2\2\2\2\u01f3\3\2\2\2\2\u01f5\3\2\2\2\3\u01f7\3\2\2"+
+		"\2\5\u01f9\3\2\2\2\7\u01fb\3\2\2\2\t\u01fd\3\2\2\2\13\u01ff\3\2\2\2\r"+
+		"\u0206\3\2\2\2\17\u020b\3\2\2\2\21\u020f\3\2\2\2\23\u0212\3\2\2\2\25\u0216"+
+		"\3\2\2\2\27\u021f\3\2\2\2\31\u0225\3\2\2\2\33\u022b\3\2\2\2\35\u022e\3"+
+		"\2\2\2\37\u0237\3\2\2\2!\u023c\3\2\2\2#\u0241\3\2\2\2%\u0248\3\2\2\2\'"+
+		"\u024e\3\2\2\2)\u0255\3\2\2\2+\u025b\3\2\2\2-\u025e\3\2\2\2/\u0261\3\2"+
+		"\2\2\61\u0265\3\2\2\2\63\u026c\3\2\2\2\65\u026e\3\2\2\2\67\u0271\3\2\2"+
+		"\29\u0278\3\2\2\2;\u0280\3\2\2\2=\u0290\3\2\2\2?\u0292\3\2\2\2A\u0295"+
+		"\3\2\2\2C\u029a\3\2\2\2E\u029f\3\2\2\2G\u02a5\3\2\2\2I\u02ab\3\2\2\2K"+
+		"\u02af\3\2\2\2M\u02b4\3\2\2\2O\u02b8\3\2\2\2Q\u02c1\3\2\2\2S\u02c6\3\2"+
+		"\2\2U\u02cb\3\2\2\2W\u02d0\3\2\2\2Y\u02d5\3\2\2\2[\u02d9\3\2\2\2]\u02de"+
+		"\3\2\2\2_\u02e4\3\2\2\2a\u02ea\3\2\2\2c\u02f0\3\2\2\2e\u02f5\3\2\2\2g"+
+		"\u02fa\3\2\2\2i\u0300\3\2\2\2k\u0305\3\2\2\2m\u030d\3\2\2\2o\u0310\3\2"+
+		"\2\2q\u0318\3\2\2\2s\u031f\3\2\2\2u\u0324\3\2\2\2w\u032e\3\2\2\2y\u0334"+
+		"\3\2\2\2{\u0339\3\2\2\2}\u0343\3\2\2\2\177\u034d\3\2\2\2\u0081\u0357\3"+
+		"\2\2\2\u0083\u035f\3\2\2\2\u0085\u0365\3\2\2\2\u0087\u036b\3\2\2\2\u0089"+
+		"\u0370\3\2\2\2\u008b\u0374\3\2\2\2\u008d\u0379\3\2\2\2\u008f\u0380\3\2"+
+		"\2\2\u0091\u0387\3\2\2\2\u0093\u038d\3\2\2\2\u0095\u0392\3\2\2\2\u0097"+
+		"\u039a\3\2\2\2\u0099\u03a1\3\2\2\2\u009b\u03a8\3\2\2\2\u009d\u03ad\3\2"+
+		"\2\2\u009f\u03b6\3\2\2\2\u00a1\u03be\3\2\2\2\u00a3\u03c5\3\2\2\2\u00a5"+
+		"\u03cd\3\2\2\2\u00a7\u03d5\3\2\2\2\u00a9\u03da\3\2\2\2\u00ab\u03df\3\2"+
+		"\2\2\u00ad\u03e4\3\2\2\2\u00af\u03eb\3\2\2\2\u00b1\u03f3\3\2\2\2\u00b3"+
+		"\u03fa\3\2\2\2\u00b5\u03fe\3\2\2\2\u00b7\u0409\3\2\2\2\u00b9\u0413\3\2"+
+		"\2\2\u00bb\u0418\3\2\2\2\u00bd\u041e\3\2\2\2\u00bf\u0428\3\2\2\2\u00c1"+
+		"\u042e\3\2\2\2\u00c3\u0435\3\2\2\2\u00c5\u043b\3\2\2\2\u00c7\u0445\3\2"+
+		"\2\2\u00c9\u0448\3\2\2\2\u00cb\u0454\3\2\2\2\u00cd\u045d\3\2\2\2\u00cf"+
+		"\u0463\3\2\2\2\u00d1\u046a\3\2\2\2\u00d3\u0470\3\2\2\2\u00d5\u0474\3\2"+
+		"\2\2\u00d7\u047b\3\2\2\2\u00d9\u0483\3\2\2\2\u00db\u0487\3\2\2\2\u00dd"+
+		"\u048d\3\2\2\2\u00df\u0492\3\2\2\2\u00e1\u0498\3\2\2\2\u00e3\u04a4\3\2"+
+		"\2\2\u00e5\u04ab\3\2\2\2\u00e7\u04b4\3\2\2\2\u00e9\u04ba\3\2\2\2\u00eb"+
+		"\u04c1\3\2\2\2\u00ed\u04c7\3\2\2\2\u00ef\u04c9\3\2\2\2\u00f1\u04cd\3\2"+
+		"\2\2\u00f3\u04d0\3\2\2\2\u00f5\u04d3\3\2\2\2\u00f7\u04d9\3\2\2\2\u00f9"+
+		"\u04db\3\2\2\2\u00fb\u04e1\3\2\2\2\u00fd\u04e3\3\2\2\2\u00ff\u04e5\3\2"+
+		"\2\2\u0101\u04e7\3\2\2\2\u0103\u04e9\3\2\2\2\u0105\u04eb\3\2\2\2\u0107"+
+		"\u04ed\3\2\2\2\u0109\u04f1\3\2\2\2\u010b\u04f3\3\2\2\2\u010d\u04f5\3\2"+
+		"\2\2\u010f\u04f7\3\2\2\2\u0111\u04f9\3\2\2\2\u0113\u0501\3\2\2\2\u0115"+
+		"\u0508\3\2\2\2\u0117\u050c\3\2\2\2\u0119\u050f\3\2\2\2\u011b\u0514\3\2"+
+		"\2\2\u011d\u051b\3\2\2\2\u011f\u0523\3\2\2\2\u0121\u052e\3\2\2\2\u0123"+
+		"\u0538\3\2\2\2\u0125\u0542\3\2\2\2\u0127\u0549\3\2\2\2\u0129\u054f\3\2"+
+		"\2\2\u012b\u0555\3\2\2\2\u012d\u0565\3\2\2\2\u012f\u0572\3\2\2\2\u0131"+
+		"\u057f\3\2\2\2\u0133\u0589\3\2\2\2\u0135\u0590\3\2\2\2\u0137\u059b\3\2"+
+		"\2\2\u0139\u05a6\3\2\2\2\u013b\u05ac\3\2\2\2\u013d\u05b1\3\2\2\2\u013f"+
+		"\u05b9\3\2\2\2\u0141\u05bf\3\2\2\2\u0143\u05c9\3\2\2\2\u0145\u05d2\3\2"+
+		"\2\2\u0147\u05db\3\2\2\2\u0149\u05e3\3\2\2\2\u014b\u05e9\3\2\2\2\u014d"+
+		"\u05ef\3\2\2\2\u014f\u05f7\3\2\2\2\u0151\u05fc\3\2\2\2\u0153\u0606\3\2"+
+		"\2\2\u0155\u061a\3\2\2\2\u0157\u061c\3\2\2\2\u0159\u0624\3\2\2\2\u015b"+
+		"\u062a\3\2\2\2\u015d\u0638\3\2\2\2\u015f\u0645\3\2\2\2\u0161\u064d\3\2"+
+		"\2\2\u0163\u0654\3\2\2\2\u0165\u065b\3\2\2\2\u0167\u0667\3\2\2\2\u0169"+
+		"\u0670\3\2\2\2\u016b\u0679\3\2\2\2\u016d\u0681\3\2\2\2\u016f\u068b\3\2"+
+		"\2\2\u0171\u0696\3\2\2\2\u0173\u069c\3\2\2\2\u0175\u06a4\3\2\2\2\u0177"+
+		"\u06b0\3\2\2\2\u0179\u06b7\3\2\2\2\u017b\u06bf\3\2\2\2\u017d\u06c8\3\2"+
+		"\2\2\u017f\u06d2\3\2\2\2\u0181\u06d9\3\2\2\2\u0183\u06df\3\2\2\2\u0185"+
+		"\u06eb\3\2\2\2\u0187\u0706\3\2\2\2\u0189\u0718\3\2\2\2\u018b\u071a\3\2"+
+		"\2\2\u018d\u071e\3\2\2\2\u018f\u0727\3\2\2\2\u0191\u072f\3\2\2\2\u0193"+
+		"\u0737\3\2\2\2\u0195\u073c\3\2\2\2\u0197\u0747\3\2\2\2\u0199\u0753\3\2"+
+		"\2\2\u019b\u075c\3\2\2\2\u019d\u0764\3\2\2\2\u019f\u076b\3\2\2\2\u01a1"+
+		"\u0771\3\2\2\2\u01a3\u0776\3\2\2\2\u01a5\u077d\3\2\2\2\u01a7\u0782\3\2"+
+		"\2\2\u01a9\u0789\3\2\2\2\u01ab\u0791\3\2\2\2\u01ad\u0798\3\2\2\2\u01af"+
+		"\u079f\3\2\2\2\u01b1\u07a4\3\2\2\2\u01b3\u07a9\3\2\2\2\u01b5\u07af\3\2"+
+		"\2\2\u01b7\u07bb\3\2\2\2\u01b9\u07c6\3\2\2\2\u01bb\u07d3\3\2\2\2\u01bd"+
+		"\u07d9\3\2\2\2\u01bf\u07e1\3\2\2\2\u01c1\u07e7\3\2\2\2\u01c3\u07ee\3\2"+
+		"\2\2\u01c5\u07f3\3\2\2\2\u01c7\u07f9\3\2\2\2\u01c9\u0800\3\2\2\2\u01cb"+
+		"\u080d\3\2\2\2\u01cd\u0833\3\2\2\2\u01cf\u0836\3\2\2\2\u01d1\u083d\3\2"+
+		"\2\2\u01d3\u0844\3\2\2\2\u01d5\u084b\3\2\2\2\u01d7\u0852\3\2\2\2\u01d9"+
+		"\u0863\3\2\2\2\u01db\u0876\3\2\2\2\u01dd\u088c\3\2\2\2\u01df\u0891\3\2"+
+		"\2\2\u01e1\u0898\3\2\2\2\u01e3\u089c\3\2\2\2\u01e5\u08b9\3\2\2\2\u01e7"+
+		"\u08bb\3\2\2\2\u01e9\u08c4\3\2\2\2\u01eb\u08c6\3\2\2\2\u01ed\u08c8\3\2"+
+		"\2\2\u01ef\u08d9\3\2\2\2\u01f1\u08e0\3\2\2\2\u01f3\u08f0\3\2\2\2\u01f5"+
+		"\u08f6\3\2\2\2\u01f7\u01f8\7*\2\2\u01f8\4\3\2\2\2\u01f9\u01fa\7.\2\2\u01fa"+
+		"\6\3\2\2\2\u01fb\u01fc\7+\2\2\u01fc\b\3\2\2\2\u01fd\u01fe\7\60\2\2\u01fe"+
+		"\n\3\2\2\2\u01ff\u0200\7U\2\2\u0200\u0201\7G\2\2\u0201\u0202\7N\2\2\u0202"+
+		"\u0203\7G\2\2\u0203\u0204\7E\2\2\u0204\u0205\7V\2\2\u0205\f\3\2\2\2\u0206"+
+		"\u0207\7H\2\2\u0207\u0208\7T\2\2\u0208\u0209\7Q\2\2\u0209\u020a\7O\2\2"+
+		"\u020a\16\3\2\2\2\u020b\u020c\7C\2\2\u020c\u020d\7F\2\2\u020d\u020e\7"+
+		"F\2\2\u020e\20\3\2\2\2\u020f\u0210\7C\2\2\u0210\u0211\7U\2\2\u0211\22"+
+		"\3\2\2\2\u0212\u0213\7C\2\2\u0213\u0214\7N\2\2\u0214\u0215\7N\2\2\u0215"+
+		"\24\3\2\2\2\u0216\u0217\7F\2\2\u0217\u0218\7K\2\2\u0218\u0219\7U\2\2\u0219"+
+		"\u021a\7V\2\2\u021a\u021b\7K\2\2\u021b\u021c\7P\2\2\u021c\u021d\7E\2\2"+
+		"\u021d\u021e\7V\2\2\u021e\26\3\2\2\2\u021f\u0220\7Y\2\2\u0220\u0221\7"+
+		"J\2\2\u0221\u0222\7G\2\2\u0222\u0223\7T\2\2\u0223\u0224\7G\2\2\u0224\30"+
+		"\3\2\2\2\u0225\u0226\7I\2\2\u0226\u0227\7T\2\2\u0227\u0228\7Q\2\2\u0228"+
+		"\u0229\7W\2\2\u0229\u022a\7R\2\2\u022a\32\3\2\2\2\u022b\u022c\7D\2\2\u022c"+
+		"\u022d\7[\2\2\u022d\34\3\2\2\2\u022e\u022f\7I\2\2\u022f\u0230\7T\2\2\u0230"+
+		"\u0231\7Q\2\2\u0231\u0232\7W\2\2\u0232\u0233\7R\2\2\u0233\u0234\7K\2\2"+
+		"\u0234\u0235\7P\2\2\u0235\u0236\7I\2\2\u0236\36\3\2\2\2\u0237\u0238\7"+
+		"U\2\2\u0238\u0239\7G\2\2\u0239\u023a\7V\2\2\u023a\u023b\7U\2\2\u023b "+
+		"\3\2\2\2\u023c\u023d\7E\2\2\u023d\u023e\7W\2\2\u023e\u023f\7D\2\2\u023f"+
+		"\u0240\7G\2\2\u0240\"\3\2\2\2\u0241\u0242\7T\2\2\u0242\u0243\7Q\2\2\u0243"+
+		"\u0244\7N\2\2\u0244\u0245\7N\2\2\u0245\u0246\7W\2\2\u0246\u0247\7R\2\2"+
+		"\u0247$\3\2\2\2\u0248\u0249\7Q\2\2\u0249\u024a\7T\2\2\u024a\u024b\7F\2"+
+		"\2\u024b\u024c\7G\2\2\u024c\u024d\7T\2\2\u024d&\3\2\2\2\u024e\u024f\7"+
+		"J\2\2\u024f\u0250\7C\2\2\u0250\u0251\7X\2\2\u0251\u0252\7K\2\2\u0252\u0253"+
+		"\7P\2\2\u0253\u0254\7I\2\2\u0254(\3\2\2\2\u0255\u0256\7N\2\2\u0256\u0257"+
+		"\7K\2\2\u0257\u0258\7O\2\2\u0258\u0259\7K\2\2\u0259\u025a\7V\2\2\u025a"+
+		"*\3\2\2\2\u025b\u025c\7C\2\2\u025c\u025d\7V\2\2\u025d,\3\2\2\2\u025e\u025f"+
+		"\7Q\2\2\u025f\u0260\7T\2\2\u0260.\3\2\2\2\u0261\u0262\7C\2\2\u0262\u0263"+
+		"\7P\2\2\u0263\u0264\7F\2\2\u0264\60\3\2\2\2\u0265\u0266\7K\2\2\u0266\u0267"+
+		"\7P\2\2\u0267\62\3\2\2\2\u0268\u0269\7P\2\2\u0269\u026a\7Q\2\2\u026a\u026d"+
+		"\7V\2\2\u026b\u026d\7#\2\2\u026c\u0268\3\2\2\2\u026c\u026b\3\2\2\2\u026d"+
+		"\64\3\2\2\2\u026e\u026f\7P\2\2\u026f\u0270\7Q\2\2\u0270\66\3\2\2\2\u0271"+
+		"\u0272\7G\2\2\u0272\u0273\7Z\2\2\u0273\u0274\7K\2\2\u0274\u0275\7U\2\2"+
+		"\u0275\u0276\7V\2\2\u0276\u0277\7U\2\2\u02778\3\2\2\2\u0278\u0279\7D\2"+
+		"\2\u0279\u027a\7G\2\2\u027a\u027b\7V\2\2\u027b\u027c\7Y\2\2\u027c\u027d"+
+		"\7G\2\2\u027d\u027e\7G\2\2\u027e\u027f\7P\2\2\u027f:\3\2\2\2\u0280\u0281"+
+		"\7N\2\2\u0281\u0282\7K\2\2\u0282\u0283\7M\2\2\u0283\u0284\7G\2\2\u0284"+
+		"<\3\2\2\2\u0285\u0286\7T\2\2\u0286\u0287\7N\2\2\u0287\u0288\7K\2\2\u0288"+
+		"\u0289\7M\2\2\u0289\u0291\7G\2\2\u028a\u028b\7T\2\2\u028b\u028c\7G\2\2"+
+		"\u028c\u028d\7I\2\2\u028d\u028e\7G\2\2\u028e\u028f\7Z\2\2\u028f\u0291"+
+		"\7R\2\2\u0290\u0285\3\2\2\2\u0290\u028a\3\2\2\2\u0291>\3\2\2\2\u0292\u0293"+
+		"\7K\2\2\u0293\u0294\7U\2\2\u0294@\3\2\2\2\u0295\u0296\7P\2\2\u0296\u0297"+
+		"\7W\2\2\u0297\u0298\7N\2\2\u0298\u0299\7N\2\2\u0299B\3\2\2\2\u029a\u029b"+
+		"\7V\2\2\u029b\u029c\7T\2\2\u029c\u029d\7W\2\2\u029d\u029e\7G\2\2\u029e"+
+		"D\3\2\2\2\u029f\u02a0\7H\2\2\u02a0\u02a1\7C\2\2\u02a1\u02a2\7N\2\2\u02a2"+
+		"\u02a3\7U\2\2\u02a3\u02a4\7G\2\2\u02a4F\3\2\2\2\u02a5\u02a6\7P\2\2\u02a6"+
+		"\u02a7\7W\2\2\u02a7\u02a8\7N\2\2\u02a8\u02a9\7N\2\2\u02a9\u02aa\7U\2\2"+
+		"\u02aaH\3\2\2\2\u02ab\u02ac\7C\2\2\u02ac\u02ad\7U\2\2\u02ad\u02ae\7E\2"+
+		"\2\u02aeJ\3\2\2\2\u02af\u02b0\7F\2\2\u02b0\u02b1\7G\2\2\u02b1\u02b2\7"+
+		"U\2\2\u02b2\u02b3\7E\2\2\u02b3L\3\2\2\2\u02b4\u02b5\7H\2\2\u02b5\u02b6"+
+		"\7Q\2\2\u02b6\u02b7\7T\2\2\u02b7N\3\2\2\2\u02b8\u02b9\7K\2\2\u02b9\u02ba"+
+		"\7P\2\2\u02ba\u02bb\7V\2\2\u02bb\u02bc\7G\2\2\u02bc\u02bd\7T\2\2\u02bd"+
+		"\u02be\7X\2\2\u02be\u02bf\7C\2\2\u02bf\u02c0\7N\2\2\u02c0P\3\2\2\2\u02c1"+
+		"\u02c2\7E\2\2\u02c2\u02c3\7C\2\2\u02c3\u02c4\7U\2\2\u02c4\u02c5\7G\2\2"+
+		"\u02c5R\3\2\2\2\u02c6\u02c7\7Y\2\2\u02c7\u02c8\7J\2\2\u02c8\u02c9\7G\2"+
+		"\2\u02c9\u02ca\7P\2\2\u02caT\3\2\2\2\u02cb\u02cc\7V\2\2\u02cc\u02cd\7"+
+		"J\2\2\u02cd\u02ce\7G\2\2\u02ce\u02cf\7P\2\2\u02cfV\3\2\2\2\u02d0\u02d1"+
+		"\7G\2\2\u02d1\u02d2\7N\2\2\u02d2\u02d3\7U\2\2\u02d3\u02d4\7G\2\2\u02d4"+
+		"X\3\2\2\2\u02d5\u02d6\7G\2\2\u02d6\u02d7\7P\2\2\u02d7\u02d8\7F\2\2\u02d8"+
+		"Z\3\2\2\2\u02d9\u02da\7L\2\2\u02da\u02db\7Q\2\2\u02db\u02dc\7K\2\2\u02dc"+
+		"\u02dd\7P\2\2\u02dd\\\3\2\2\2\u02de\u02df\7E\2\2\u02df\u02e0\7T\2\2\u02e0"+
+		"\u02e1\7Q\2\2\u02e1\u02e2\7U\2\2\u02e2\u02e3\7U\2\2\u02e3^\3\2\2\2\u02e4"+
+		"\u02e5\7Q\2\2\u02e5\u02e6\7W\2\2\u02e6\u02e7\7V\2\2\u02e7\u02e8\7G\2\2"+
+		"\u02e8\u02e9\7T\2\2\u02e9`\3\2\2\2\u02ea\u02eb\7K\2\2\u02eb\u02ec\7P\2"+
+		"\2\u02ec\u02ed\7P\2\2\u02ed\u02ee\7G\2\2\u02ee\u02ef\7T\2\2\u02efb\3\2"+
+		"\2\2\u02f0\u02f1\7N\2\2\u02f1\u02f2\7G\2\2\u02f2\u02f3\7H\2\2\u02f3\u02f4"+
+		"\7V\2\2\u02f4d\3\2\2\2\u02f5\u02f6\7U\2\2\u02f6\u02f7\7G\2\2\u02f7\u02f8"+
+		"\7O\2\2\u02f8\u02f9\7K\2\2\u02f9f\3\2\2\2\u02fa\u02fb\7T\2\2\u02fb\u02fc"+
+		"\7K\2\2\u02fc\u02fd\7I\2\2\u02fd\u02fe\7J\2\2\u02fe\u02ff\7V\2\2\u02ff"+
+		"h\3\2\2\2\u0300\u0301\7H\2\2\u0301\u0302\7W\2\2\u0302\u0303\7N\2\2\u0303"+
+		"\u0304\7N\2\2\u0304j\3\2\2\2\u0305\u0306\7P\2\2\u0306\u0307\7C\2\2\u0307"+
+		"\u0308\7V\2\2\u0308\u0309\7W\2\2\u0309\u030a\7T\2\2\u030a\u030b\7C\2\2"+
+		"\u030b\u030c\7N\2\2\u030cl\3\2\2\2\u030d\u030e\7Q\2\2\u030e\u030f\7P\2"+
+		"\2\u030fn\3\2\2\2\u0310\u0311\7N\2\2\u0311\u0312\7C\2\2\u0312\u0313\7"+
+		"V\2\2\u0313\u0314\7G\2\2\u0314\u0315\7T\2\2\u0315\u0316\7C\2\2\u0316\u0317"+
+		"\7N\2\2\u0317p\3\2\2\2\u0318\u0319\7Y\2\2\u0319\u031a\7K\2\2\u031a\u031b"+
+		"\7P\2\2\u031b\u031c\7F\2\2\u031c\u031d\7Q\2\2\u031d\u031e\7Y\2\2\u031e"+
+		"r\3\2\2\2\u031f\u0320\7Q\2\2\u0320\u0321\7X\2\2\u0321\u0322\7G\2\2\u0322"+
+		"\u0323\7T\2\2\u0323t\3\2\2\2\u0324\u0325\7R\2\2\u0325\u0326\7C\2\2\u0326"+
+		"\u0327\7T\2\2\u0327\u0328\7V\2\2\u0328\u0329\7K\2\2\u0329\u032a\7V\2\2"+
+		"\u032a\u032b\7K\2\2\u032b\u032c\7Q\2\2\u032c\u032d\7P\2\2\u032dv\3\2\2"+
+		"\2\u032e\u032f\7T\2\2\u032f\u0330\7C\2\2\u0330\u0331\7P\2\2\u0331\u0332"+
+		"\7I\2\2\u0332\u0333\7G\2\2\u0333x\3\2\2\2\u0334\u0335\7T\2\2\u0335\u0336"+
+		"\7Q\2\2\u0336\u0337\7Y\2\2\u0337\u0338\7U\2\2\u0338z\3\2\2\2\u0339\u033a"+
+		"\7W\2\2\u033a\u033b\7P\2\2\u033b\u033c\7D\2\2\u033c\u033d\7Q\2\2\u033d"+
+		"\u033e\7W\2\2\u033e\u033f\7P\2\2\u033f\u0340\7F\2\2\u0340\u0341\7G\2\2"+
+		"\u0341\u0342\7F\2\2\u0342|\3\2\2\2\u0343\u0344\7R\2\2\u0344\u0345\7T\2"+
+		"\2\u0345\u0346\7G\2\2\u0346\u0347\7E\2\2\u0347\u0348\7G\2\2\u0348\u0349"+
+		"\7F\2\2\u0349\u034a\7K\2\2\u034a\u034b\7P\2\2\u034b\u034c\7I\2\2\u034c"+
+		"~\3\2\2\2\u034d\u034e\7H\2\2\u034e\u034f\7Q\2\2\u034f\u0350\7N\2\2\u0350"+
+		"\u0351\7N\2\2\u0351\u0352\7Q\2\2\u0352\u0353\7Y\2\2\u0353\u0354\7K\2\2"+
+		"\u0354\u0355\7P\2\2\u0355\u0356\7I\2\2\u0356\u0080\3\2\2\2\u0357\u0358"+
+		"\7E\2\2\u0358\u0359\7W\2\2\u0359\u035a\7T\2\2\u035a\u035b\7T\2\2\u035b"+
+		"\u035c\7G\2\2\u035c\u035d\7P\2\2\u035d\u035e\7V\2\2\u035e\u0082\3\2\2"+
+		"\2\u035f\u0360\7H\2\2\u0360\u0361\7K\2\2\u0361\u0362\7T\2\2\u0362\u0363"+
+		"\7U\2\2\u0363\u0364\7V\2\2\u0364\u0084\3\2\2\2\u0365\u0366\7C\2\2\u0366"+
+		"\u0367\7H\2\2\u0367\u0368\7V\2\2\u0368\u0369\7G\2\2\u0369\u036a\7T\2\2"+
+		"\u036a\u0086\3\2\2\2\u036b\u036c\7N\2\2\u036c\u036d\7C\2\2\u036d\u036e"+
+		"\7U\2\2\u036e\u036f\7V\2\2\u036f\u0088\3\2\2\2\u0370\u0371\7T\2\2\u0371"+
+		"\u0372\7Q\2\2\u0372\u0373\7Y\2\2\u0373\u008a\3\2\2\2\u0374\u0375\7Y\2"+
+		"\2\u0375\u0376\7K\2\2\u0376\u0377\7V\2\2\u0377\u0378\7J\2\2\u0378\u008c"+
+		"\3\2\2\2\u0379\u037a\7X\2\2\u037a\u037b\7C\2\2\u037b\u037c\7N\2\2\u037c"+
+		"\u037d\7W\2\2\u037d\u037e\7G\2\2\u037e\u037f\7U\2\2\u037f\u008e\3\2\2"+
+		"\2\u0380\u0381\7E\2\2\u0381\u0382\7T\2\2\u0382\u0383\7G\2\2\u0383\u0384"+
+		"\7C\2\2\u0384\u0385\7V\2\2\u0385\u0386\7G\2\2\u0386\u0090\3\2\2\2\u0387"+
+		"\u0388\7V\2\2\u0388\u0389\7C\2\2\u0389\u038a\7D\2\2\u038a\u038b\7N\2\2"+
+		"\u038b\u038c\7G\2\2\u038c\u0092\3\2\2\2\u038d\u038e\7X\2\2\u038e\u038f"+
+		"\7K\2\2\u038f\u0390\7G\2\2\u0390\u0391\7Y\2\2\u0391\u0094\3\2\2\2\u0392"+
+		"\u0393\7T\2\2\u0393\u0394\7G\2\2\u0394\u0395\7R\2\2\u0395\u0396\7N\2\2"+
+		"\u0396\u0397\7C\2\2\u0397\u0398\7E\2\2\u0398\u0399\7G\2\2\u0399\u0096"+
+		"\3\2\2\2\u039a\u039b\7K\2\2\u039b\u039c\7P\2\2\u039c\u039d\7U\2\2\u039d"+
+		"\u039e\7G\2\2\u039e\u039f\7T\2\2\u039f\u03a0\7V\2\2\u03a0\u0098\3\2\2"+
+		"\2\u03a1\u03a2\7F\2\2\u03a2\u03a3\7G\2\2\u03a3\u03a4\7N\2\2\u03a4\u03a5"+
+		"\7G\2\2\u03a5\u03a6\7V\2\2\u03a6\u03a7\7G\2\2\u03a7\u009a\3\2\2\2\u03a8"+
+		"\u03a9\7K\2\2\u03a9\u03aa\7P\2\2\u03aa\u03ab\7V\2\2\u03ab\u03ac\7Q\2\2"+
+		"\u03ac\u009c\3\2\2\2\u03ad\u03ae\7F\2\2\u03ae\u03af\7G\2\2\u03af\u03b0"+
+		"\7U\2\2\u03b0\u03b1\7E\2\2\u03b1\u03b2\7T\2\2\u03b2\u03b3\7K\2\2\u03b3"+
+		"\u03b4\7D\2\2\u03b4\u03b5\7G\2\2\u03b5\u009e\3\2\2\2\u03b6\u03b7\7G\2"+
+		"\2\u03b7\u03b8\7Z\2\2\u03b8\u03b9\7R\2\2\u03b9\u03ba\7N\2\2\u03ba\u03bb"+
+		"\7C\2\2\u03bb\u03bc\7K\2\2\u03bc\u03bd\7P\2\2\u03bd\u00a0\3\2\2\2\u03be"+
+		"\u03bf\7H\2\2\u03bf\u03c0\7Q\2\2\u03c0\u03c1\7T\2\2\u03c1\u03c2\7O\2\2"+
+		"\u03c2\u03c3\7C\2\2\u03c3\u03c4\7V\2\2\u03c4\u00a2\3\2\2\2\u03c5\u03c6"+
+		"\7N\2\2\u03c6\u03c7\7Q\2\2\u03c7\u03c8\7I\2\2\u03c8\u03c9\7K\2\2\u03c9"+
+		"\u03ca\7E\2\2\u03ca\u03cb\7C\2\2\u03cb\u03cc\7N\2\2\u03cc\u00a4\3\2\2"+
+		"\2\u03cd\u03ce\7E\2\2\u03ce\u03cf\7Q\2\2\u03cf\u03d0\7F\2\2\u03d0\u03d1"+
+		"\7G\2\2\u03d1\u03d2\7I\2\2\u03d2\u03d3\7G\2\2\u03d3\u03d4\7P\2\2\u03d4"+
+		"\u00a6\3\2\2\2\u03d5\u03d6\7E\2\2\u03d6\u03d7\7Q\2\2\u03d7\u03d8\7U\2"+
+		"\2\u03d8\u03d9\7V\2\2\u03d9\u00a8\3\2\2\2\u03da\u03db\7E\2\2\u03db\u03dc"+
+		"\7C\2\2\u03dc\u03dd\7U\2\2\u03dd\u03de\7V\2\2\u03de\u00aa\3\2\2\2\u03df"+
+		"\u03e0\7U\2\2\u03e0\u03e1\7J\2\2\u03e1\u03e2\7Q\2\2\u03e2\u03e3\7Y\2\2"+
+		"\u03e3\u00ac\3\2\2\2\u03e4\u03e5\7V\2\2\u03e5\u03e6\7C\2\2\u03e6\u03e7"+
+		"\7D\2\2\u03e7\u03e8\7N\2\2\u03e8\u03e9\7G\2\2\u03e9\u03ea\7U\2\2\u03ea"+
+		"\u00ae\3\2\2\2\u03eb\u03ec\7E\2\2\u03ec\u03ed\7Q\2\2\u03ed\u03ee\7N\2"+
+		"\2\u03ee\u03ef\7W\2\2\u03ef\u03f0\7O\2\2\u03f0\u03f1\7P\2\2\u03f1\u03f2"+
+		"\7U\2\2\u03f2\u00b0\3\2\2\2\u03f3\u03f4\7E\2\2\u03f4\u03f5\7Q\2\2\u03f5"+
+		"\u03f6\7N\2\2\u03f6\u03f7\7W\2\2\u03f7\u03f8\7O\2\2\u03f8\u03f9\7P\2\2"+
+		"\u03f9\u00b2\3\2\2\2\u03fa\u03fb\7W\2\2\u03fb\u03fc\7U\2\2\u03fc\u03fd"+
+		"\7G\2\2\u03fd\u00b4\3\2\2\2\u03fe\u03ff\7R\2\2\u03ff\u0400\7C\2\2\u0400"+
+		"\u0401\7T\2\2\u0401\u0402\7V\2\2\u0402\u0403\7K\2\2\u0403\u0404\7V\2\2"+
+		"\u0404\u0405\7K\2\2\u0405\u0406\7Q\2\2\u0406\u0407\7P\2\2\u0407\u0408"+
+		"\7U\2\2\u0408\u00b6\3\2\2\2\u0409\u040a\7H\2\2\u040a\u040b\7W\2\2\u040b"+
+		"\u040c\7P\2\2\u040c\u040d\7E\2\2\u040d\u040e\7V\2\2\u040e\u040f\7K\2\2"+
+		"\u040f\u0410\7Q\2\2\u0410\u0411\7P\2\2\u0411\u0412\7U\2\2\u0412\u00b8"+
+		"\3\2\2\2\u0413\u0414\7F\2\2\u0414\u0415\7T\2\2\u0415\u0416\7Q\2\2\u0416"+
+		"\u0417\7R\2\2\u0417\u00ba\3\2\2\2\u0418\u0419\7O\2\2\u0419\u041a\7G\2"+
+		"\2\u041a\u041b\7T\2\2\u041b\u041c\7I\2\2\u041c\u041d\7G\2\2\u041d\u00bc"+
+		"\3\2\2\2\u041e\u041f\7N\2\2\u041f\u0420\7K\2\2\u0420\u0421\7H\2\2\u0421"+
+		"\u0422\7G\2\2\u0422\u0423\7E\2\2\u0423\u0424\7[\2\2\u0424\u0425\7E\2\2"+
+		"\u0425\u0426\7N\2\2\u0426\u0427\7G\2\2\u0427\u00be\3\2\2\2\u0428\u0429"+
+		"\7W\2\2\u0429\u042a\7P\2\2\u042a\u042b\7K\2\2\u042b\u042c\7Q\2\2\u042c"+
+		"\u042d\7P\2\2\u042d\u00c0\3\2\2\2\u042e\u042f\7G\2\2\u042f\u0430\7Z\2"+
+		"\2\u0430\u0431\7E\2\2\u0431\u0432\7G\2\2\u0432\u0433\7R\2\2\u0433\u0434"+
+		"\7V\2\2\u0434\u00c2\3\2\2\2\u0435\u0436\7O\2\2\u0436\u0437\7K\2\2\u0437"+
+		"\u0438\7P\2\2\u0438\u0439\7W\2\2\u0439\u043a\7U\2\2\u043a\u00c4\3\2\2"+
+		"\2\u043b\u043c\7K\2\2\u043c\u043d\7P\2\2\u043d\u043e\7V\2\2\u043e\u043f"+
+		"\7G\2\2\u043f\u0440\7T\2\2\u0440\u0441\7U\2\2\u0441\u0442\7G\2\2\u0442"+
+		"\u0443\7E\2\2\u0443\u0444\7V\2\2\u0444\u00c6\3\2\2\2\u0445\u0446\7V\2"+
+		"\2\u0446\u0447\7Q\2\2\u0447\u00c8\3\2\2\2\u0448\u0449\7V\2\2\u0449\u044a"+
+		"\7C\2\2\u044a\u044b\7D\2\2\u044b\u044c\7N\2\2\u044c\u044d\7G\2\2\u044d"+
+		"\u044e\7U\2\2\u044e\u044f\7C\2\2\u044f\u0450\7O\2\2\u0450\u0451\7R\2\2"+
+		"\u0451\u0452\7N\2\2\u0452\u0453\7G\2\2\u0453\u00ca\3\2\2\2\u0454\u0455"+
+		"\7U\2\2\u0455\u0456\7V\2\2\u0456\u0457\7T\2\2\u0457\u0458\7C\2\2\u0458"+
+		"\u0459\7V\2\2\u0459\u045a\7K\2\2\u045a\u045b\7H\2\2\u045b\u045c\7[\2\2"+
+		"\u045c\u00cc\3\2\2\2\u045d\u045e\7C\2\2\u045e\u045f\7N\2\2\u045f\u0460"+
+		"\7V\2\2\u0460\u0461\7G\2\2\u0461\u0462\7T\2\2\u0462\u00ce\3\2\2\2\u0463"+
+		"\u0464\7T\2\2\u0464\u0465\7G\2\2\u0465\u0466\7P\2\2\u0466\u0467\7C\2\2"+
+		"\u0467\u0468\7O\2\2\u0468\u0469\7G\2\2\u0469\u00d0\3\2\2\2\u046a\u046b"+
+		"\7C\2\2\u046b\u046c\7T\2\2\u046c\u046d\7T\2\2\u046d\u046e\7C\2\2\u046e"+
+		"\u046f\7[\2\2\u046f\u00d2\3\2\2\2\u0470\u0471\7O\2\2\u0471\u0472\7C\2"+
+		"\2\u0472\u0473\7R\2\2\u0473\u00d4\3\2\2\2\u0474\u0475\7U\2\2\u0475\u0476"+
+		"\7V\2\2\u0476\u0477\7T\2\2\u0477\u0478\7W\2\2\u0478\u0479\7E\2\2\u0479"+
+		"\u047a\7V\2\2\u047a\u00d6\3\2\2\2\u047b\u047c\7E\2\2\u047c\u047d\7Q\2"+
+		"\2\u047d\u047e\7O\2\2\u047e\u047f\7O\2\2\u047f\u0480\7G\2\2\u0480\u0481"+
+		"\7P\2\2\u0481\u0482\7V\2\2\u0482\u00d8\3\2\2\2\u0483\u0484\7U\2\2\u0484"+
+		"\u0485\7G\2\2\u0485\u0486\7V\2\2\u0486\u00da\3\2\2\2\u0487\u0488\7T\2"+
+		"\2\u0488\u0489\7G\2\2\u0489\u048a\7U\2\2\u048a\u048b\7G\2\2\u048b\u048c"+
+		"\7V\2\2\u048c\u00dc\3\2\2\2\u048d\u048e\7F\2\2\u048e\u048f\7C\2\2\u048f"+
+		"\u0490\7V\2\2\u0490\u0491\7C\2\2\u0491\u00de\3\2\2\2\u0492\u0493\7U\2"+
+		"\2\u0493\u0494\7V\2\2\u0494\u0495\7C\2\2\u0495\u0496\7T\2\2\u0496\u0497"+
+		"\7V\2\2\u0497\u00e0\3\2\2\2\u0498\u0499\7V\2\2\u0499\u049a\7T\2\2\u049a"+
+		"\u049b\7C\2\2\u049b\u049c\7P\2\2\u049c\u049d\7U\2\2\u049d\u049e\7C\2\2"+
+		"\u049e\u049f\7E\2\2\u049f\u04a0\7V\2\2\u04a0\u04a1\7K\2\2\u04a1\u04a2"+
+		"\7Q\2\2\u04a2\u04a3\7P\2\2\u04a3\u00e2\3\2\2\2\u04a4\u04a5\7E\2\2\u04a5"+
+		"\u04a6\7Q\2\2\u04a6\u04a7\7O\2\2\u04a7\u04a8\7O\2\2\u04a8\u04a9\7K\2\2"+
+		"\u04a9\u04aa\7V\2\2\u04aa\u00e4\3\2\2\2\u04ab\u04ac\7T\2\2\u04ac\u04ad"+
+		"\7Q\2\2\u04ad\u04ae\7N\2\2\u04ae\u04af\7N\2\2\u04af\u04b0\7D\2\2\u04b0"+
+		"\u04b1\7C\2\2\u04b1\u04b2\7E\2\2\u04b2\u04b3\7M\2\2\u04b3\u00e6\3\2\2"+
+		"\2\u04b4\u04b5\7O\2\2\u04b5\u04b6\7C\2\2\u04b6\u04b7\7E\2\2\u04b7\u04b8"+
+		"\7T\2\2\u04b8\u04b9\7Q\2\2\u04b9\u00e8\3\2\2\2\u04ba\u04bb\7K\2\2\u04bb"+
+		"\u04bc\7I\2\2\u04bc\u04bd\7P\2\2\u04bd\u04be\7Q\2\2\u04be\u04bf\7T\2\2"+
+		"\u04bf\u04c0\7G\2\2\u04c0\u00ea\3\2\2\2\u04c1\u04c2\7K\2\2\u04c2\u04c3"+
+		"\7H\2\2\u04c3\u00ec\3\2\2\2\u04c4\u04c8\7?\2\2\u04c5\u04c6\7?\2\2\u04c6"+
+		"\u04c8\7?\2\2\u04c7\u04c4\3\2\2\2\u04c7\u04c5\3\2\2\2\u04c8\u00ee\3\2"+
+		"\2\2\u04c9\u04ca\7>\2\2\u04ca\u04cb\7?\2\2\u04cb\u04cc\7@\2\2\u04cc\u00f0"+
+		"\3\2\2\2\u04cd\u04ce\7>\2\2\u04ce\u04cf\7@\2\2\u04cf\u00f2\3\2\2\2\u04d0"+
+		"\u04d1\7#\2\2\u04d1\u04d2\7?\2\2\u04d2\u00f4\3\2\2\2\u04d3\u04d4\7>\2"+
+		"\2\u04d4\u00f6\3\2\2\2\u04d5\u04d6\7>\2\2\u04d6\u04da\7?\2\2\u04d7\u04d8"+
+		"\7#\2\2\u04d8\u04da\7@\2\2\u04d9\u04d5\3\2\2\2\u04d9\u04d7\3\2\2\2\u04da"+
+		"\u00f8\3\2\2\2\u04db\u04dc\7@\2\2\u04dc\u00fa\3\2\2\2\u04dd\u04de\7@\2"+
+		"\2\u04de\u04e2\7?\2\2\u04df\u04e0\7#\2\2\u04e0\u04e2\7>\2\2\u04e1\u04dd"+
+		"\3\2\2\2\u04e1\u04df\3\2\2\2\u04e2\u00fc\3\2\2\2\u04e3\u04e4\7-\2\2\u04e4"+
+		"\u00fe\3\2\2\2\u04e5\u04e6\7/\2\2\u04e6\u0100\3\2\2\2\u04e7\u04e8\7,\2"+
+		"\2\u04e8\u0102\3\2\2\2\u04e9\u04ea\7\61\2\2\u04ea\u0104\3\2\2\2\u04eb"+
+		"\u04ec\7\'\2\2\u04ec\u0106\3\2\2\2\u04ed\u04ee\7F\2\2\u04ee\u04ef\7K\2"+
+		"\2\u04ef\u04f0\7X\2\2\u04f0\u0108\3\2\2\2\u04f1\u04f2\7\u0080\2\2\u04f2"+
+		"\u010a\3\2\2\2\u04f3\u04f4\7(\2\2\u04f4\u010c\3\2\2\2\u04f5\u04f6\7~\2"+
+		"\2\u04f6\u010e\3\2\2\2\u04f7\u04f8\7`\2\2\u04f8\u0110\3\2\2\2\u04f9\u04fa"+
+		"\7R\2\2\u04fa\u04fb\7G\2\2\u04fb\u04fc\7T\2\2\u04fc\u04fd\7E\2\2\u04fd"+
+		"\u04fe\7G\2\2\u04fe\u04ff\7P\2\2\u04ff\u0500\7V\2\2\u0500\u0112\3\2\2"+
+		"\2\u0501\u0502\7D\2\2\u0502\u0503\7W\2\2\u0503\u0504\7E\2\2\u0504\u0505"+
+		"\7M\2\2\u0505\u0506\7G\2\2\u0506\u0507\7V\2\2\u0507\u0114\3\2\2\2\u0508"+
+		"\u0509\7Q\2\2\u0509\u050a\7W\2\2\u050a\u050b\7V\2\2\u050b\u0116\3\2\2"+
+		"\2\u050c\u050d\7Q\2\2\u050d\u050e\7H\2\2\u050e\u0118\3\2\2\2\u050f\u0510"+
+		"\7U\2\2\u0510\u0511\7Q\2\2\u0511\u0512\7T\2\2\u0512\u0513\7V\2\2\u0513"+
+		"\u011a\3\2\2\2\u0514\u0515\7\\\2\2\u0515\u0516\7Q\2\2\u0516\u0517\7T\2"+
+		"\2\u0517\u0518\7F\2\2\u0518\u0519\7G\2\2\u0519\u051a\7T\2\2\u051a\u011c"+
+		"\3\2\2\2\u051b\u051c\7E\2\2\u051c\u051d\7N\2\2\u051d\u051e\7W\2\2\u051e"+
+		"\u051f\7U\2\2\u051f\u0520\7V\2\2\u0520\u0521\7G\2\2\u0521\u0522\7T\2\2"+
+		"\u0522\u011e\3\2\2\2\u0523\u0524\7F\2\2\u0524\u0525\7K\2\2\u0525\u0526"+
+		"\7U\2\2\u0526\u0527\7V\2\2\u0527\u0528\7T\2\2\u0528\u0529\7K\2\2\u0529"+
+		"\u052a\7D\2\2\u052a\u052b\7W\2\2\u052b\u052c\7V\2\2\u052c\u052d\7G\2\2"+
+		"\u052d\u0120\3\2\2\2\u052e\u052f\7Q\2\2\u052f\u0530\7X\2\2\u0530\u0531"+
+		"\7G\2\2\u0531\u0532\7T\2\2\u0532\u0533\7Y\2\2\u0533\u0534\7T\2\2\u0534"+
+		"\u0535\7K\2\2\u0535\u0536\7V\2\2\u0536\u0537\7G\2\2\u0537\u0122\3\2\2"+
+		"\2\u0538\u0539\7V\2\2\u0539\u053a\7T\2\2\u053a\u053b\7C\2\2\u053b\u053c"+
+		"\7P\2\2\u053c\u053d\7U\2\2\u053d\u053e\7H\2\2\u053e\u053f\7Q\2\2\u053f"+
+		"\u0540\7T\2\2\u0540\u0541\7O\2\2\u0541\u0124\3\2\2\2\u0542\u0543\7T\2"+
+		"\2\u0543\u0544\7G\2\2\u0544\u0545\7F\2\2\u0545\u0546\7W\2\2\u0546\u0547"+
+		"\7E\2\2\u0547\u0548\7G\2\2\u0548\u0126\3\2\2\2\u0549\u054a\7W\2\2\u054a"+
+		"\u054b\7U\2\2\u054b\u054c\7K\2\2\u054c\u054d\7P\2\2\u054d\u054e\7I\2\2"+
+		"\u054e\u0128\3\2\2\2\u054f\u0550\7U\2\2\u0550\u0551\7G\2\2\u0551\u0552"+
+		"\7T\2\2\u0552\u0553\7F\2\2\u0553\u0554\7G\2\2\u0554\u012a\3\2\2\2\u0555"+
+		"\u0556\7U\2\2\u0556\u0557\7G\2\2\u0557\u0558\7T\2\2\u0558\u0559\7F\2\2"+
+		"\u0559\u055a\7G\2\2\u055a\u055b\7R\2\2\u055b\u055c\7T\2\2\u055c\u055d"+
+		"\7Q\2\2\u055d\u055e\7R\2\2\u055e\u055f\7G\2\2\u055f\u0560\7T\2\2\u0560"+
+		"\u0561\7V\2\2\u0561\u0562\7K\2\2\u0562\u0563\7G\2\2\u0563\u0564\7U\2\2"+
+		"\u0564\u012c\3\2\2\2\u0565\u0566\7T\2\2\u0566\u0567\7G\2\2\u0567\u0568"+
+		"\7E\2\2\u0568\u0569\7Q\2\2\u0569\u056a\7T\2\2\u056a\u056b\7F\2\2\u056b"+
+		"\u056c\7T\2\2\u056c\u056d\7G\2\2\u056d\u056e\7C\2\2\u056e\u056f\7F\2\2"+
+		"\u056f\u0570\7G\2\2\u0570\u0571\7T\2\2\u0571\u012e\3\2\2\2\u0572\u0573"+
+		"\7T\2\2\u0573\u0574\7G\2\2\u0574\u0575\7E\2\2\u0575\u0576\7Q\2\2\u0576"+
+		"\u0577\7T\2\2\u0577\u0578\7F\2\2\u0578\u0579\7Y\2\2\u0579\u057a\7T\2\2"+
+		"\u057a\u057b\7K\2\2\u057b\u057c\7V\2\2\u057c\u057d\7G\2\2\u057d\u057e"+
+		"\7T\2\2\u057e\u0130\3\2\2\2\u057f\u0580\7F\2\2\u0580\u0581\7G\2\2\u0581"+
+		"\u0582\7N\2\2\u0582\u0583\7K\2\2\u0583\u0584\7O\2\2\u0584\u0585\7K\2\2"+
+		"\u0585\u0586\7V\2\2\u0586\u0587\7G\2\2\u0587\u0588\7F\2\2\u0588\u0132"+
+		"\3\2\2\2\u0589\u058a\7H\2\2\u058a\u058b\7K\2\2\u058b\u058c\7G\2\2\u058c"+
+		"\u058d\7N\2\2\u058d\u058e\7F\2\2\u058e\u058f\7U\2\2\u058f\u0134\3\2\2"+
+		"\2\u0590\u0591\7V\2\2\u0591\u0592\7G\2\2\u0592\u0593\7T\2\2\u0593\u0594"+
+		"\7O\2\2\u0594\u0595\7K\2\2\u0595\u0596\7P\2\2\u0596\u0597\7C\2\2\u0597"+
+		"\u0598\7V\2\2\u0598\u0599\7G\2\2\u0599\u059a\7F\2\2\u059a\u0136\3\2\2"+
+		"\2\u059b\u059c\7E\2\2\u059c\u059d\7Q\2\2\u059d\u059e\7N\2\2\u059e\u059f"+
+		"\7N\2\2\u059f\u05a0\7G\2\2\u05a0\u05a1\7E\2\2\u05a1\u05a2\7V\2\2\u05a2"+
+		"\u05a3\7K\2\2\u05a3\u05a4\7Q\2\2\u05a4\u05a5\7P\2\2\u05a5\u0138\3\2\2"+
+		"\2\u05a6\u05a7\7K\2\2\u05a7\u05a8\7V\2\2\u05a8\u05a9\7G\2\2\u05a9\u05aa"+
+		"\7O\2\2\u05aa\u05ab\7U\2\2\u05ab\u013a\3\2\2\2\u05ac\u05ad\7M\2\2\u05ad"+
+		"\u05ae\7G\2\2\u05ae\u05af\7[\2\2\u05af\u05b0\7U\2\2\u05b0\u013c\3\2\2"+
+		"\2\u05b1\u05b2\7G\2\2\u05b2\u05b3\7U\2\2\u05b3\u05b4\7E\2\2\u05b4\u05b5"+
+		"\7C\2\2\u05b5\u05b6\7R\2\2\u05b6\u05b7\7G\2\2\u05b7\u05b8\7F\2\2\u05b8"+
+		"\u013e\3\2\2\2\u05b9\u05ba\7N\2\2\u05ba\u05bb\7K\2\2\u05bb\u05bc\7P\2"+
+		"\2\u05bc\u05bd\7G\2\2\u05bd\u05be\7U\2\2\u05be\u0140\3\2\2\2\u05bf\u05c0"+
+		"\7U\2\2\u05c0\u05c1\7G\2\2\u05c1\u05c2\7R\2\2\u05c2\u05c3\7C\2\2\u05c3"+
+		"\u05c4\7T\2\2\u05c4\u05c5\7C\2\2\u05c5\u05c6\7V\2\2\u05c6\u05c7\7G\2\2"+
+		"\u05c7\u05c8\7F\2\2\u05c8\u0142\3\2\2\2\u05c9\u05ca\7H\2\2\u05ca\u05cb"+
+		"\7W\2\2\u05cb\u05cc\7P\2\2\u05cc\u05cd\7E\2\2\u05cd\u05ce\7V\2\2\u05ce"+
+		"\u05cf\7K\2\2\u05cf\u05d0\7Q\2\2\u05d0\u05d1\7P\2\2\u05d1\u0144\3\2\2"+
+		"\2\u05d2\u05d3\7G\2\2\u05d3\u05d4\7Z\2\2\u05d4\u05d5\7V\2\2\u05d5\u05d6"+
+		"\7G\2\2\u05d6\u05d7\7P\2\2\u05d7\u05d8\7F\2\2\u05d8\u05d9\7G\2\2\u05d9"+
+		"\u05da\7F\2\2\u05da\u0146\3\2\2\2\u05db\u05dc\7T\2\2\u05dc\u05dd\7G\2"+
+		"\2\u05dd\u05de\7H\2\2\u05de\u05df\7T\2\2\u05df\u05e0\7G\2\2\u05e0\u05e1"+
+		"\7U\2\2\u05e1\u05e2\7J\2\2\u05e2\u0148\3\2\2\2\u05e3\u05e4\7E\2\2\u05e4"+
+		"\u05e5\7N\2\2\u05e5\u05e6\7G\2\2\u05e6\u05e7\7C\2\2\u05e7\u05e8\7T\2\2"+
+		"\u05e8\u014a\3\2\2\2\u05e9\u05ea\7E\2\2\u05ea\u05eb\7C\2\2\u05eb\u05ec"+
+		"\7E\2\2\u05ec\u05ed\7J\2\2\u05ed\u05ee\7G\2\2\u05ee\u014c\3\2\2\2\u05ef"+
+		"\u05f0\7W\2\2\u05f0\u05f1\7P\2\2\u05f1\u05f2\7E\2\2\u05f2\u05f3\7C\2\2"+
+		"\u05f3\u05f4\7E\2\2\u05f4\u05f5\7J\2\2\u05f5\u05f6\7G\2\2\u05f6\u014e"+
+		"\3\2\2\2\u05f7\u05f8\7N\2\2\u05f8\u05f9\7C\2\2\u05f9\u05fa\7\\\2\2\u05fa"+
+		"\u05fb\7[\2\2\u05fb\u0150\3\2\2\2\u05fc\u05fd\7H\2\2\u05fd\u05fe\7Q\2"+
+		"\2\u05fe\u05ff\7T\2\2\u05ff\u0600\7O\2\2\u0600\u0601\7C\2\2\u0601\u0602"+
+		"\7V\2\2\u0602\u0603\7V\2\2\u0603\u0604\7G\2\2\u0604\u0605\7F\2\2\u0605"+
+		"\u0152\3\2\2\2\u0606\u0607\7I\2\2\u0607\u0608\7N\2\2\u0608\u0609\7Q\2"+
+		"\2\u0609\u060a\7D\2\2\u060a\u060b\7C\2\2\u060b\u060c\7N\2\2\u060c\u0154"+
+		"\3\2\2\2\u060d\u060e\7V\2\2\u060e\u060f\7G\2\2\u060f\u0610\7O\2\2\u0610"+
+		"\u0611\7R\2\2\u0611\u0612\7Q\2\2\u0612\u0613\7T\2\2\u0613\u0614\7C\2\2"+
+		"\u0614\u0615\7T\2\2\u0615\u061b\7[\2\2\u0616\u0617\7V\2\2\u0617\u0618"+
+		"\7G\2\2\u0618\u0619\7O\2\2\u0619\u061b\7R\2\2\u061a\u060d\3\2\2\2\u061a"+
+		"\u0616\3\2\2\2\u061b\u0156\3\2\2\2\u061c\u061d\7Q\2\2\u061d\u061e\7R\2"+
+		"\2\u061e\u061f\7V\2\2\u061f\u0620\7K\2\2\u0620\u0621\7Q\2\2\u0621\u0622"+
+		"\7P\2\2\u0622\u0623\7U\2\2\u0623\u0158\3\2\2\2\u0624\u0625\7W\2\2\u0625"+
+		"\u0626\7P\2\2\u0626\u0627\7U\2\2\u0627\u0628\7G\2\2\u0628\u0629\7V\2\2"+
+		"\u0629\u015a\3\2\2\2\u062a\u062b\7V\2\2\u062b\u062c\7D\2\2\u062c\u062d"+
+		"\7N\2\2\u062d\u062e\7R\2\2\u062e\u062f\7T\2\2\u062f\u0630\7Q\2\2\u0630"+
+		"\u0631\7R\2\2\u0631\u0632\7G\2\2\u0632\u0633\7T\2\2\u0633\u0634\7V\2\2"+
+		"\u0634\u0635\7K\2\2\u0635\u0636\7G\2\2\u0636\u0637\7U\2\2\u0637\u015c"+
+		"\3\2\2\2\u0638\u0639\7F\2\2\u0639\u063a\7D\2\2\u063a\u063b\7R\2\2\u063b"+
+		"\u063c\7T\2\2\u063c\u063d\7Q\2\2\u063d\u063e\7R\2\2\u063e\u063f\7G\2\2"+
+		"\u063f\u0640\7T\2\2\u0640\u0641\7V\2\2\u0641\u0642\7K\2\2\u0642\u0643"+
+		"\7G\2\2\u0643\u0644\7U\2\2\u0644\u015e\3\2\2\2\u0645\u0646\7D\2\2\u0646"+
+		"\u0647\7W\2\2\u0647\u0648\7E\2\2\u0648\u0649\7M\2\2\u0649\u064a\7G\2\2"+
+		"\u064a\u064b\7V\2\2\u064b\u064c\7U\2\2\u064c\u0160\3\2\2\2\u064d\u064e"+
+		"\7U\2\2\u064e\u064f\7M\2\2\u064f\u0650\7G\2\2\u0650\u0651\7Y\2\2\u0651"+
+		"\u0652\7G\2\2\u0652\u0653\7F\2\2\u0653\u0162\3\2\2\2\u0654\u0655\7U\2"+
+		"\2\u0655\u0656\7V\2\2\u0656\u0657\7Q\2\2\u0657\u0658\7T\2\2\u0658\u0659"+
+		"\7G\2\2\u0659\u065a\7F\2\2\u065a\u0164\3\2\2\2\u065b\u065c\7F\2\2\u065c"+
+		"\u065d\7K\2\2\u065d\u065e\7T\2\2\u065e\u065f\7G\2\2\u065f\u0660\7E\2\2"+
+		"\u0660\u0661\7V\2\2\u0661\u0662\7Q\2\2\u0662\u0663\7T\2\2\u0663\u0664"+
+		"\7K\2\2\u0664\u0665\7G\2\2\u0665\u0666\7U\2\2\u0666\u0166\3\2\2\2\u0667"+
+		"\u0668\7N\2\2\u0668\u0669\7Q\2\2\u0669\u066a\7E\2\2\u066a\u066b\7C\2\2"+
+		"\u066b\u066c\7V\2\2\u066c\u066d\7K\2\2\u066d\u066e\7Q\2\2\u066e\u066f"+
+		"\7P\2\2\u066f\u0168\3\2\2\2\u0670\u0671\7G\2\2\u0671\u0672\7Z\2\2\u0672"+
+		"\u0673\7E\2\2\u0673\u0674\7J\2\2\u0674\u0675\7C\2\2\u0675\u0676\7P\2\2"+
+		"\u0676\u0677\7I\2\2\u0677\u0678\7G\2\2\u0678\u016a\3\2\2\2\u0679\u067a"+
+		"\7C\2\2\u067a\u067b\7T\2\2\u067b\u067c\7E\2\2\u067c\u067d\7J\2\2\u067d"+
+		"\u067e\7K\2\2\u067e\u067f\7X\2\2\u067f\u0680\7G\2\2\u0680\u016c\3\2\2"+
+		"\2\u0681\u0682\7W\2\2\u0682\u0683\7P\2\2\u0683\u0684\7C\2\2\u0684\u0685"+
+		"\7T\2\2\u0685\u0686\7E\2\2\u0686\u0687\7J\2\2\u0687\u0688\7K\2\2\u0688"+
+		"\u0689\7X\2\2\u0689\u068a\7G\2\2\u068a\u016e\3\2\2\2\u068b\u068c\7H\2"+
+		"\2\u068c\u068d\7K\2\2\u068d\u068e\7N\2\2\u068e\u068f\7G\2\2\u068f\u0690"+
+		"\7H\2\2\u0690\u0691\7Q\2\2\u0691\u0692\7T\2\2\u0692\u0693\7O\2\2\u0693"+
+		"\u0694\7C\2\2\u0694\u0695\7V\2\2\u0695\u0170\3\2\2\2\u0696\u0697\7V\2"+
+		"\2\u0697\u0698\7Q\2\2\u0698\u0699\7W\2\2\u0699\u069a\7E\2\2\u069a\u069b"+
+		"\7J\2\2\u069b\u0172\3\2\2\2\u069c\u069d\7E\2\2\u069d\u069e\7Q\2\2\u069e"+
+		"\u069f\7O\2\2\u069f\u06a0\7R\2\2\u06a0\u06a1\7C\2\2\u06a1\u06a2\7E\2\2"+
+		"\u06a2\u06a3\7V\2\2\u06a3\u0174\3\2\2\2\u06a4\u06a5\7E\2\2\u06a5\u06a6"+
+		"\7Q\2\2\u06a6\u06a7\7P\2\2\u06a7\u06a8\7E\2\2\u06a8\u06a9\7C\2\2\u06a9"+
+		"\u06aa\7V\2\2\u06aa\u06ab\7G\2\2\u06ab\u06ac\7P\2\2\u06ac\u06ad\7C\2\2"+
+		"\u06ad\u06ae\7V\2\2\u06ae\u06af\7G\2\2\u06af\u0176\3\2\2\2\u06b0\u06b1"+
+		"\7E\2\2\u06b1\u06b2\7J\2\2\u06b2\u06b3\7C\2\2\u06b3\u06b4\7P\2\2\u06b4"+
+		"\u06b5\7I\2\2\u06b5\u06b6\7G\2\2\u06b6\u0178\3\2\2\2\u06b7\u06b8\7E\2"+
+		"\2\u06b8\u06b9\7C\2\2\u06b9\u06ba\7U\2\2\u06ba\u06bb\7E\2\2\u06bb\u06bc"+
+		"\7C\2\2\u06bc\u06bd\7F\2\2\u06bd\u06be\7G\2\2\u06be\u017a\3\2\2\2\u06bf"+
+		"\u06c0\7T\2\2\u06c0\u06c1\7G\2\2\u06c1\u06c2\7U\2\2\u06c2\u06c3\7V\2\2"+
+		"\u06c3\u06c4\7T\2\2\u06c4\u06c5\7K\2\2\u06c5\u06c6\7E\2\2\u06c6\u06c7"+
+		"\7V\2\2\u06c7\u017c\3\2\2\2\u06c8\u06c9\7E\2\2\u06c9\u06ca\7N\2\2\u06ca"+
+		"\u06cb\7W\2\2\u06cb\u06cc\7U\2\2\u06cc\u06cd\7V\2\2\u06cd\u06ce\7G\2\2"+
+		"\u06ce\u06cf\7T\2\2\u06cf\u06d0\7G\2\2\u06d0\u06d1\7F\2\2\u06d1\u017e"+
+		"\3\2\2\2\u06d2\u06d3\7U\2\2\u06d3\u06d4\7Q\2\2\u06d4\u06d5\7T\2\2\u06d5"+
+		"\u06d6\7V\2\2\u06d6\u06d7\7G\2\2\u06d7\u06d8\7F\2\2\u06d8\u0180\3\2\2"+
+		"\2\u06d9\u06da\7R\2\2\u06da\u06db\7W\2\2\u06db\u06dc\7T\2\2\u06dc\u06dd"+
+		"\7I\2\2\u06dd\u06de\7G\2\2\u06de\u0182\3\2\2\2\u06df\u06e0\7K\2\2\u06e0"+
+		"\u06e1\7P\2\2\u06e1\u06e2\7R\2\2\u06e2\u06e3\7W\2\2\u06e3\u06e4\7V\2\2"+
+		"\u06e4\u06e5\7H\2\2\u06e5\u06e6\7Q\2\2\u06e6\u06e7\7T\2\2\u06e7\u06e8"+
+		"\7O\2\2\u06e8\u06e9\7C\2\2\u06e9\u06ea\7V\2\2\u06ea\u0184\3\2\2\2\u06eb"+
+		"\u06ec\7Q\2\2\u06ec\u06ed\7W\2\2\u06ed\u06ee\7V\2\2\u06ee\u06ef\7R\2\2"+
+		"\u06ef\u06f0\7W\2\2\u06f0\u06f1\7V\2\2\u06f1\u06f2\7H\2\2\u06f2\u06f3"+
+		"\7Q\2\2\u06f3\u06f4\7T\2\2\u06f4\u06f5\7O\2\2\u06f5\u06f6\7C\2\2\u06f6"+
+		"\u06f7\7V\2\2\u06f7\u0186\3\2\2\2\u06f8\u06f9\7F\2\2\u06f9\u06fa\7C\2"+
+		"\2\u06fa\u06fb\7V\2\2\u06fb\u06fc\7C\2\2\u06fc\u06fd\7D\2\2\u06fd\u06fe"+
+		"\7C\2\2\u06fe\u06ff\7U\2\2\u06ff\u0707\7G\2\2\u0700\u0701\7U\2\2\u0701"+
+		"\u0702\7E\2\2\u0702\u0703\7J\2\2\u0703\u0704\7G\2\2\u0704\u0705\7O\2\2"+
+		"\u0705\u0707\7C\2\2\u0706\u06f8\3\2\2\2\u0706\u0700\3\2\2\2\u0707\u0188"+
+		"\3\2\2\2\u0708\u0709\7F\2\2\u0709\u070a\7C\2\2\u070a\u070b\7V\2\2\u070b"+
+		"\u070c\7C\2\2\u070c\u070d\7D\2\2\u070d\u070e\7C\2\2\u070e\u070f\7U\2\2"+
+		"\u070f\u0710\7G\2\2\u0710\u0719\7U\2\2\u0711\u0712\7U\2\2\u0712\u0713"+
+		"\7E\2\2\u0713\u0714\7J\2\2\u0714\u0715\7G\2\2\u0715\u0716\7O\2\2\u0716"+
+		"\u0717\7C\2\2\u0717\u0719\7U\2\2\u0718\u0708\3\2\2\2\u0718\u0711\3\2\2"+
+		"\2\u0719\u018a\3\2\2\2\u071a\u071b\7F\2\2\u071b\u071c\7H\2\2\u071c\u071d"+
+		"\7U\2\2\u071d\u018c\3\2\2\2\u071e\u071f\7V\2\2\u071f\u0720\7T\2\2\u0720"+
+		"\u0721\7W\2\2\u0721\u0722\7P\2\2\u0722\u0723\7E\2\2\u0723\u0724\7C\2\2"+
+		"\u0724\u0725\7V\2\2\u0725\u0726\7G\2\2\u0726\u018e\3\2\2\2\u0727\u0728"+
+		"\7C\2\2\u0728\u0729\7P\2\2\u0729\u072a\7C\2\2\u072a\u072b\7N\2\2\u072b"+
+		"\u072c\7[\2\2\u072c\u072d\7\\\2\2\u072d\u072e\7G\2\2\u072e\u0190\3\2\2"+
+		"\2\u072f\u0730\7E\2\2\u0730\u0731\7Q\2\2\u0731\u0732\7O\2\2\u0732\u0733"+
+		"\7R\2\2\u0733\u0734\7W\2\2\u0734\u0735\7V\2\2\u0735\u0736\7G\2\2\u0736"+
+		"\u0192\3\2\2\2\u0737\u0738\7N\2\2\u0738\u0739\7K\2\2\u0739\u073a\7U\2"+
+		"\2\u073a\u073b\7V\2\2\u073b\u0194\3\2\2\2\u073c\u073d\7U\2\2\u073d\u073e"+
+		"\7V\2\2\u073e\u073f\7C\2\2\u073f\u0740\7V\2\2\u0740\u0741\7K\2\2\u0741"+
+		"\u0742\7U\2\2\u0742\u0743\7V\2\2\u0743\u0744\7K\2\2\u0744\u0745\7E\2\2"+
+		"\u0745\u0746\7U\2\2\u0746\u0196\3\2\2\2\u0747\u0748\7R\2\2\u0748\u0749"+
+		"\7C\2\2\u0749\u074a\7T\2\2\u074a\u074b\7V\2\2\u074b\u074c\7K\2\2\u074c"+
+		"\u074d\7V\2\2\u074d\u074e\7K\2\2\u074e\u074f\7Q\2\2\u074f\u0750\7P\2\2"+
+		"\u0750\u0751\7G\2\2\u0751\u0752\7F\2\2\u0752\u0198\3\2\2\2\u0753\u0754"+
+		"\7G\2\2\u0754\u0755\7Z\2\2\u0755\u0756\7V\2\2\u0756\u0757\7G\2\2\u0757"+
+		"\u0758\7T\2\2\u0758\u0759\7P\2\2\u0759\u075a\7C\2\2\u075a\u075b\7N\2\2"+
+		"\u075b\u019a\3\2\2\2\u075c\u075d\7F\2\2\u075d\u075e\7G\2\2\u075e\u075f"+
+		"\7H\2\2\u075f\u0760\7K\2\2\u0760\u0761\7P\2\2\u0761\u0762\7G\2\2\u0762"+
+		"\u0763\7F\2\2\u0763\u019c\3\2\2\2\u0764\u0765\7T\2\2\u0765\u0766\7G\2"+
+		"\2\u0766\u0767\7X\2\2\u0767\u0768\7Q\2\2\u0768\u0769\7M\2\2\u0769\u076a"+
+		"\7G\2\2\u076a\u019e\3\2\2\2\u076b\u076c\7I\2\2\u076c\u076d\7T\2\2\u076d"+
+		"\u076e\7C\2\2\u076e\u076f\7P\2\2\u076f\u0770\7V\2\2\u0770\u01a0\3\2\2"+
+		"\2\u0771\u0772\7N\2\2\u0772\u0773\7Q\2\2\u0773\u0774\7E\2\2\u0774\u0775"+
+		"\7M\2\2\u0775\u01a2\3\2\2\2\u0776\u0777\7W\2\2\u0777\u0778\7P\2\2\u0778"+
+		"\u0779\7N\2\2\u0779\u077a\7Q\2\2\u077a\u077b\7E\2\2\u077b\u077c\7M\2\2"+
+		"\u077c\u01a4\3\2\2\2\u077d\u077e\7O\2\2\u077e\u077f\7U\2\2\u077f\u0780"+
+		"\7E\2\2\u0780\u0781\7M\2\2\u0781\u01a6\3\2\2\2\u0782\u0783\7T\2\2\u0783"+
+		"\u0784\7G\2\2\u0784\u0785\7R\2\2\u0785\u0786\7C\2\2\u0786\u0787\7K\2\2"+
+		"\u0787\u0788\7T\2\2\u0788\u01a8\3\2\2\2\u0789\u078a\7T\2\2\u078a\u078b"+
+		"\7G\2\2\u078b\u078c\7E\2\2\u078c\u078d\7Q\2\2\u078d\u078e\7X\2\2\u078e"+
+		"\u078f\7G\2\2\u078f\u0790\7T\2\2\u0790\u01aa\3\2\2\2\u0791\u0792\7G\2"+
+		"\2\u0792\u0793\7Z\2\2\u0793\u0794\7R\2\2\u0794\u0795\7Q\2\2\u0795\u0796"+
+		"\7T\2\2\u0796\u0797\7V\2\2\u0797\u01ac\3\2\2\2\u0798\u0799\7K\2\2\u0799"+
+		"\u079a\7O\2\2\u079a\u079b\7R\2\2\u079b\u079c\7Q\2\2\u079c\u079d\7T\2\2"+
+		"\u079d\u079e\7V\2\2\u079e\u01ae\3\2\2\2\u079f\u07a0\7N\2\2\u07a0\u07a1"+
+		"\7Q\2\2\u07a1\u07a2\7C\2\2\u07a2\u07a3\7F\2\2\u07a3\u01b0\3\2\2\2\u07a4"+
+		"\u07a5\7T\2\2\u07a5\u07a6\7Q\2\2\u07a6\u07a7\7N\2\2\u07a7\u07a8\7G\2\2"+
+		"\u07a8\u01b2\3\2\2\2\u07a9\u07aa\7T\2\2\u07aa\u07ab\7Q\2\2\u07ab\u07ac"+
+		"\7N\2\2\u07ac\u07ad\7G\2\2\u07ad\u07ae\7U\2\2\u07ae\u01b4\3\2\2\2\u07af"+
+		"\u07b0\7E\2\2\u07b0\u07b1\7Q\2\2\u07b1\u07b2\7O\2\2\u07b2\u07b3\7R\2\2"+
+		"\u07b3\u07b4\7C\2\2\u07b4\u07b5\7E\2\2\u07b5\u07b6\7V\2\2\u07b6\u07b7"+
+		"\7K\2\2\u07b7\u07b8\7Q\2\2\u07b8\u07b9\7P\2\2\u07b9\u07ba\7U\2\2\u07ba"+
+		"\u01b6\3\2\2\2\u07bb\u07bc\7R\2\2\u07bc\u07bd\7T\2\2\u07bd\u07be\7K\2"+
+		"\2\u07be\u07bf\7P\2\2\u07bf\u07c0\7E\2\2\u07c0\u07c1\7K\2\2\u07c1\u07c2"+
+		"\7R\2\2\u07c2\u07c3\7C\2\2\u07c3\u07c4\7N\2\2\u07c4\u07c5\7U\2\2\u07c5"+
+		"\u01b8\3\2\2\2\u07c6\u07c7\7V\2\2\u07c7\u07c8\7T\2\2\u07c8\u07c9\7C\2"+
+		"\2\u07c9\u07ca\7P\2\2\u07ca\u07cb\7U\2\2\u07cb\u07cc\7C\2\2\u07cc\u07cd"+
+		"\7E\2\2\u07cd\u07ce\7V\2\2\u07ce\u07cf\7K\2\2\u07cf\u07d0\7Q\2\2\u07d0"+
+		"\u07d1\7P\2\2\u07d1\u07d2\7U\2\2\u07d2\u01ba\3\2\2\2\u07d3\u07d4\7K\2"+
+		"\2\u07d4\u07d5\7P\2\2\u07d5\u07d6\7F\2\2\u07d6\u07d7\7G\2\2\u07d7\u07d8"+
+		"\7Z\2\2\u07d8\u01bc\3\2\2\2\u07d9\u07da\7K\2\2\u07da\u07db\7P\2\2\u07db"+
+		"\u07dc\7F\2\2\u07dc\u07dd\7G\2\2\u07dd\u07de\7Z\2\2\u07de\u07df\7G\2\2"+
+		"\u07df\u07e0\7U\2\2\u07e0\u01be\3\2\2\2\u07e1\u07e2\7N\2\2\u07e2\u07e3"+
+		"\7Q\2\2\u07e3\u07e4\7E\2\2\u07e4\u07e5\7M\2\2\u07e5\u07e6\7U\2\2\u07e6"+
+		"\u01c0\3\2\2\2\u07e7\u07e8\7Q\2\2\u07e8\u07e9\7R\2\2\u07e9\u07ea\7V\2"+
+		"\2\u07ea\u07eb\7K\2\2\u07eb\u07ec\7Q\2\2\u07ec\u07ed\7P\2\2\u07ed\u01c2"+
+		"\3\2\2\2\u07ee\u07ef\7C\2\2\u07ef\u07f0\7P\2\2\u07f0\u07f1\7V\2\2\u07f1"+
+		"\u07f2\7K\2\2\u07f2\u01c4\3\2\2\2\u07f3\u07f4\7N\2\2\u07f4\u07f5\7Q\2"+
+		"\2\u07f5\u07f6\7E\2\2\u07f6\u07f7\7C\2\2\u07f7\u07f8\7N\2\2\u07f8\u01c6"+
+		"\3\2\2\2\u07f9\u07fa\7K\2\2\u07fa\u07fb\7P\2\2\u07fb\u07fc\7R\2\2\u07fc"+
+		"\u07fd\7C\2\2\u07fd\u07fe\7V\2\2\u07fe\u07ff\7J\2\2\u07ff\u01c8\3\2\2"+
+		"\2\u0800\u0801\7E\2\2\u0801\u0802\7W\2\2\u0802\u0803\7T\2\2\u0803\u0804"+
+		"\7T\2\2\u0804\u0805\7G\2\2\u0805\u0806\7P\2\2\u0806\u0807\7V\2\2\u0807"+
+		"\u0808\7a\2\2\u0808\u0809\7F\2\2\u0809\u080a\7C\2\2\u080a\u080b\7V\2\2"+
+		"\u080b\u080c\7G\2\2\u080c\u01ca\3\2\2\2\u080d\u080e\7E\2\2\u080e\u080f"+
+		"\7W\2\2\u080f\u0810\7T\2\2\u0810\u0811\7T\2\2\u0811\u0812\7G\2\2\u0812"+
+		"\u0813\7P\2\2\u0813\u0814\7V\2\2\u0814\u0815\7a\2\2\u0815\u0816\7V\2\2"+
+		"\u0816\u0817\7K\2\2\u0817\u0818\7O\2\2\u0818\u0819\7G\2\2\u0819\u081a"+
+		"\7U\2\2\u081a\u081b\7V\2\2\u081b\u081c\7C\2\2\u081c\u081d\7O\2\2\u081d"+
+		"\u081e\7R\2\2\u081e\u01cc\3\2\2\2\u081f\u0825\7)\2\2\u0820\u0824\n\2\2"+
+		"\2\u0821\u0822\7^\2\2\u0822\u0824\13\2\2\2\u0823\u0820\3\2\2\2\u0823\u0821"+
+		"\3\2\2\2\u0824\u0827\3\2\2\2\u0825\u0823\3\2\2\2\u0825\u0826\3\2\2\2\u0826"+
+		"\u0828\3\2\2\2\u0827\u0825\3\2\2\2\u0828\u0834\7)\2\2\u0829\u082f\7$\2"+
+		"\2\u082a\u082e\n\2\2\2\u082b\u082c\7^\2\2\u082c\u082e\13\2\2\2\u082d\u082a"+
+		"\3\2\2\2\u082d\u082b\3\2\2\2\u082e\u0831\3\2\2\2\u082f\u082d\3\2\2\2\u082f"+
+		"\u0830\3\2\2\2\u0830\u0832\3\2\2\2\u0831\u082f\3\2\2\2\u0832\u0834\7$"+
+		"\2\2\u0833\u081f\3\2\2\2\u0833\u0829\3\2\2\2\u0834\u01ce\3\2\2\2\u0835"+
+		"\u0837\5\u01e9\u00f5\2\u0836\u0835\3\2\2\2\u0837\u0838\3\2\2\2\u0838\u0836"+
+		"\3\2\2\2\u0838\u0839\3\2\2\2\u0839\u083a\3\2\2\2\u083a\u083b\7N\2\2\u083b"+
+		"\u01d0\3\2\2\2\u083c\u083e\5\u01e9\u00f5\2\u083d\u083c\3\2\2\2\u083e\u083f"+
+		"\3\2\2\2\u083f\u083d\3\2\2\2\u083f\u0840\3\2\2\2\u0840\u0841\3\2\2\2\u0841"+
+		"\u0842\7U\2\2\u0842\u01d2\3\2\2\2\u0843\u0845\5\u01e9\u00f5\2\u0844\u0843"+
+		"\3\2\2\2\u0845\u0846\3\2\2\2\u0846\u0844\3\2\2\2\u0846\u0847\3\2\2\2\u0847"+
+		"\u0848\3\2\2\2\u0848\u0849\7[\2\2\u0849\u01d4\3\2\2\2\u084a\u084c\5\u01e9"+
+		"\u00f5\2\u084b\u084a\3\2\2\2\u084c\u084d\3\2\2\2\u084d\u084b\3\2\2\2\u084d"+
+		"\u084e\3\2\2\2\u084e\u084f\3\2\2\2\u084f\u0850\t\3\2\2\u0850\u01d6\3\2"+
+		"\2\2\u0851\u0853\5\u01e9\u00f5\2\u0852\u0851\3\2\2\2\u0853\u0854\3\2\2"+
+		"\2\u0854\u0852\3\2\2\2\u0854\u0855\3\2\2\2\u0855\u01d8\3\2\2\2\u0856\u0858"+
+		"\5\u01e9\u00f5\2\u0857\u0856\3\2\2\2\u0858\u0859\3\2\2\2\u0859\u0857\3"+
+		"\2\2\2\u0859\u085a\3\2\2\2\u085a\u085b\3\2\2\2\u085b\u085c\5\u01e7\u00f4"+
+		"\2\u085c\u0864\3\2\2\2\u085d\u085f\5\u01e5\u00f3\2\u085e\u0860\5\u01e7"+
+		"\u00f4\2\u085f\u085e\3\2\2\2\u085f\u0860\3\2\2\2\u0860\u0861\3\2\2\2\u0861"+
+		"\u0862\6\u00ed\2\2\u0862\u0864\3\2\2\2\u0863\u0857\3\2\2\2\u0863\u085d"+
+		"\3\2\2\2\u0864\u01da\3\2\2\2\u0865\u0867\5\u01e9\u00f5\2\u0866\u0865\3"+
+		"\2\2\2\u0867\u0868\3\2\2\2\u0868\u0866\3\2\2\2\u0868\u0869\3\2\2\2\u0869"+
+		"\u086b\3\2\2\2\u086a\u086c\5\u01e7\u00f4\2\u086b\u086a\3\2\2\2\u086b\u086c"+
+		"\3\2\2\2\u086c\u086d\3\2\2\2\u086d\u086e\7F\2\2\u086e\u0877\3\2\2\2\u086f"+
+		"\u0871\5\u01e5\u00f3\2\u0870\u0872\5\u01e7\u00f4\2\u0871\u0870\3\2\2\2"+
+		"\u0871\u0872\3\2\2\2\u0872\u0873\3\2\2\2\u0873\u0874\7F\2\2\u0874\u0875"+
+		"\6\u00ee\3\2\u0875\u0877\3\2\2\2\u0876\u0866\3\2\2\2\u0876\u086f\3\2\2"+
+		"\2\u0877\u01dc\3\2\2\2\u0878\u087a\5\u01e9\u00f5\2\u0879\u0878\3\2\2\2"+
+		"\u087a\u087b\3\2\2\2\u087b\u0879\3\2\2\2\u087b\u087c\3\2\2\2\u087c\u087e"+
+		"\3\2\2\2\u087d\u087f\5\u01e7\u00f4\2\u087e\u087d\3\2\2\2\u087e\u087f\3"+
+		"\2\2\2\u087f\u0880\3\2\2\2\u0880\u0881\7D\2\2\u0881\u0882\7F\2\2\u0882"+
+		"\u088d\3\2\2\2\u0883\u0885\5\u01e5\u00f3\2\u0884\u0886\5\u01e7\u00f4\2"+
+		"\u0885\u0884\3\2\2\2\u0885\u0886\3\2\2\2\u0886\u0887\3\2\2\2\u0887\u0888"+
+		"\7D\2\2\u0888\u0889\7F\2\2\u0889\u088a\3\2\2\2\u088a\u088b\6\u00ef\4\2"+
+		"\u088b\u088d\3\2\2\2\u088c\u0879\3\2\2\2\u088c\u0883\3\2\2\2\u088d\u01de"+
+		"\3\2\2\2\u088e\u0892\5\u01eb\u00f6\2\u088f\u0892\5\u01e9\u00f5\2\u0890"+
+		"\u0892\7a\2\2\u0891\u088e\3\2\2\2\u0891\u088f\3\2\2\2\u0891\u0890\3\2"+
+		"\2\2\u0892\u0893\3\2\2\2\u0893\u0891\3\2\2\2\u0893\u0894\3\2\2\2\u0894"+
+		"\u01e0\3\2\2\2\u0895\u0899\5\u01eb\u00f6\2\u0896\u0899\5\u01e9\u00f5\2"+
+		"\u0897\u0899\t\4\2\2\u0898\u0895\3\2\2\2\u0898\u0896\3\2\2\2\u0898\u0897"+
+		"\3\2\2\2\u0899\u089a\3\2\2\2\u089a\u0898\3\2\2\2\u089a\u089b\3\2\2\2\u089b"+
+		"\u01e2\3\2\2\2\u089c\u08a2\7b\2\2\u089d\u08a1\n\5\2\2\u089e\u089f\7b\2"+
+		"\2\u089f\u08a1\7b\2\2\u08a0\u089d\3\2\2\2\u08a0\u089e\3\2\2\2\u08a1\u08a4"+
+		"\3\2\2\2\u08a2\u08a0\3\2\2\2\u08a2\u08a3\3\2\2\2\u08a3\u08a5\3\2\2\2\u08a4"+
+		"\u08a2\3\2\2\2\u08a5\u08a6\7b\2\2\u08a6\u01e4\3\2\2\2\u08a7\u08a9\5\u01e9"+
+		"\u00f5\2\u08a8\u08a7\3\2\2\2\u08a9\u08aa\3\2\2\2\u08aa\u08a8\3\2\2\2\u08aa"+
+		"\u08ab\3\2\2\2\u08ab\u08ac\3\2\2\2\u08ac\u08b0\7\60\2\2\u08ad\u08af\5"+
+		"\u01e9\u00f5\2\u08ae\u08ad\3\2\2\2\u08af\u08b2\3\2\2\2\u08b0\u08ae\3\2"+
+		"\2\2\u08b0\u08b1\3\2\2\2\u08b1\u08ba\3\2\2\2\u08b2\u08b0\3\2\2\2\u08b3"+
+		"\u08b5\7\60\2\2\u08b4\u08b6\5\u01e9\u00f5\2\u08b5\u08b4\3\2\2\2\u08b6"+
+		"\u08b7\3\2\2\2\u08b7\u08b5\3\2\2\2\u08b7\u08b8\3\2\2\2\u08b8\u08ba\3\2"+
+		"\2\2\u08b9\u08a8\3\2\2\2\u08b9\u08b3\3\2\2\2\u08ba\u01e6\3\2\2\2\u08bb"+
+		"\u08bd\7G\2\2\u08bc\u08be\t\6\2\2\u08bd\u08bc\3\2\2\2\u08bd\u08be\3\2"+
+		"\2\2\u08be\u08c0\3\2\2\2\u08bf\u08c1\5\u01e9\u00f5\2\u08c0\u08bf\3\2\2"+
+		"\2\u08c1\u08c2\3\2\2\2\u08c2\u08c0\3\2\2\2\u08c2\u08c3\3\2\2\2\u08c3\u01e8"+
+		"\3\2\2\2\u08c4\u08c5\t\7\2\2\u08c5\u01ea\3\2\2\2\u08c6\u08c7\t\b\2\2\u08c7"+
+		"\u01ec\3\2\2\2\u08c8\u08c9\7/\2\2\u08c9\u08ca\7/\2\2\u08ca\u08ce\3\2\2"+
+		"\2\u08cb\u08cd\n\t\2\2\u08cc\u08cb\3\2\2\2\u08cd\u08d0\3\2\2\2\u08ce\u08cc"+
+		"\3\2\2\2\u08ce\u08cf\3\2\2\2\u08cf\u08d2\3\2\2\2\u08d0\u08ce\3\2\2\2\u08d1"+
+		"\u08d3\7\17\2\2\u08d2\u08d1\3\2\2\2\u08d2\u08d3\3\2\2\2\u08d3\u08d5\3"+
+		"\2\2\2\u08d4\u08d6\7\f\2\2\u08d5\u08d4\3\2\2\2\u08d5\u08d6\3\2\2\2\u08d6"+
+		"\u08d7\3\2\2\2\u08d7\u08d8\b\u00f7\2\2\u08d8\u01ee\3\2\2\2\u08d9\u08da"+
+		"\7\61\2\2\u08da\u08db\7,\2\2\u08db\u08dc\7,\2\2\u08dc\u08dd\7\61\2\2\u08dd"+
+		"\u08de\3\2\2\2\u08de\u08df\b\u00f8\2\2\u08df\u01f0\3\2\2\2\u08e0\u08e1"+
+		"\7\61\2\2\u08e1\u08e2\7,\2\2\u08e2\u08e3\3\2\2\2\u08e3\u08e7\n\n\2\2\u08e4"+
+		"\u08e6\13\2\2\2\u08e5\u08e4\3\2\2\2\u08e6\u08e9\3\2\2\2\u08e7\u08e8\3"+
+		"\2\2\2\u08e7\u08e5\3\2\2\2\u08e8\u08ea\3\2\2\2\u08e9\u08e7\3\2\2\2\u08ea"+
+		"\u08eb\7,\2\2\u08eb\u08ec\7\61\2\2\u08ec\u08ed\3\2\2\2\u08ed\u08ee\b\u00f9"+
+		"\2\2\u08ee\u01f2\3\2\2\2\u08ef\u08f1\t\13\2\2\u08f0\u08ef\3\2\2\2\u08f1"+
+		"\u08f2\3\2\2\2\u08f2\u08f0\3\2\2\2\u08f2\u08f3\3\2\2\2\u08f3\u08f4\3\2"+
+		"\2\2\u08f4\u08f5\b\u00fa\2\2\u08f5\u01f4\3\2\2\2\u08f6\u08f7\13\2\2\2"+
+		"\u08f7\u01f6\3\2\2\2\61\2\u026c\u0290\u04c7\u04d9\u04e1\u061a\u0706\u0718"+
+		"\u0823\u0825\u082d\u082f\u0833\u0838\u083f\u0846\u084d\u0854\u0859\u085f"+
+		"\u0863\u0868\u086b\u0871\u0876\u087b\u087e\u0885\u088c\u0891\u0893\u0898"+
+		"\u089a\u08a0\u08a2\u08aa\u08b0\u08b7\u08b9\u08bd\u08c2\u08ce\u08d2\u08d5"+
+		"\u08e7\u08f2\3\2\3\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
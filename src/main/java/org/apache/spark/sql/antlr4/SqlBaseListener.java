@@ -30,6 +30,18 @@ public interface SqlBaseListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitMergeTable(SqlBaseParser.MergeTableContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code explainMergeTable}
+	 * labeled alternative in {@link SqlBaseParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void enterExplainMergeTable(SqlBaseParser.ExplainMergeTableContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code explainMergeTable}
+	 * labeled alternative in {@link SqlBaseParser#statement}.
+	 * @param ctx the parse tree
+	 */
+	void exitExplainMergeTable(SqlBaseParser.ExplainMergeTableContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code LOADTABLE}
 	 * labeled alternative in {@link SqlBaseParser#statement}.
@@ -74,6 +86,16 @@ public interface SqlBaseListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPartitionVal(SqlBaseParser.PartitionValContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SqlBaseParser#clusterSpec}.
+	 * @param ctx the parse tree
+	 */
+	void enterClusterSpec(SqlBaseParser.ClusterSpecContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SqlBaseParser#clusterSpec}.
+	 * @param ctx the parse tree
+	 */
+	void exitClusterSpec(SqlBaseParser.ClusterSpecContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SqlBaseParser#loadOptions}.
 	 * @param ctx the parse tree
@@ -36,38 +36,38 @@ public class SqlBaseParser extends Parser {
 		IF=117, EQ=118, NSEQ=119, NEQ=120, NEQJ=121, LT=122, LTE=123, GT=124, 
 		GTE=125, PLUS=126, MINUS=127, ASTERISK=128, SLASH=129, PERCENT=130, DIV=131, 
 		TILDE=132, AMPERSAND=133, PIPE=134, HAT=135, PERCENTLIT=136, BUCKET=137, 
-		OUT=138, OF=139, SORT=140, CLUSTER=141, DISTRIBUTE=142, OVERWRITE=143, 
-		TRANSFORM=144, REDUCE=145, USING=146, SERDE=147, SERDEPROPERTIES=148, 
-		RECORDREADER=149, RECORDWRITER=150, DELIMITED=151, FIELDS=152, TERMINATED=153, 
-		COLLECTION=154, ITEMS=155, KEYS=156, ESCAPED=157, LINES=158, SEPARATED=159, 
-		FUNCTION=160, EXTENDED=161, REFRESH=162, CLEAR=163, CACHE=164, UNCACHE=165, 
-		LAZY=166, FORMATTED=167, GLOBAL=168, TEMPORARY=169, OPTIONS=170, UNSET=171, 
-		TBLPROPERTIES=172, DBPROPERTIES=173, BUCKETS=174, SKEWED=175, STORED=176, 
-		DIRECTORIES=177, LOCATION=178, EXCHANGE=179, ARCHIVE=180, UNARCHIVE=181, 
-		FILEFORMAT=182, TOUCH=183, COMPACT=184, CONCATENATE=185, CHANGE=186, CASCADE=187, 
-		RESTRICT=188, CLUSTERED=189, SORTED=190, PURGE=191, INPUTFORMAT=192, OUTPUTFORMAT=193, 
-		DATABASE=194, DATABASES=195, DFS=196, TRUNCATE=197, ANALYZE=198, COMPUTE=199, 
-		LIST=200, STATISTICS=201, PARTITIONED=202, EXTERNAL=203, DEFINED=204, 
-		REVOKE=205, GRANT=206, LOCK=207, UNLOCK=208, MSCK=209, REPAIR=210, RECOVER=211, 
-		EXPORT=212, IMPORT=213, LOAD=214, ROLE=215, ROLES=216, COMPACTIONS=217, 
-		PRINCIPALS=218, TRANSACTIONS=219, INDEX=220, INDEXES=221, LOCKS=222, OPTION=223, 
-		ANTI=224, LOCAL=225, INPATH=226, CURRENT_DATE=227, CURRENT_TIMESTAMP=228, 
-		STRING=229, BIGINT_LITERAL=230, SMALLINT_LITERAL=231, TINYINT_LITERAL=232, 
-		BYTELENGTH_LITERAL=233, INTEGER_VALUE=234, DECIMAL_VALUE=235, DOUBLE_LITERAL=236, 
-		BIGDECIMAL_LITERAL=237, IDENTIFIER=238, JOBIDENTIFIER=239, BACKQUOTED_IDENTIFIER=240, 
-		SIMPLE_COMMENT=241, BRACKETED_EMPTY_COMMENT=242, BRACKETED_COMMENT=243, 
-		WS=244, UNRECOGNIZED=245, DELIMITER=246;
+		OUT=138, OF=139, SORT=140, ZORDER=141, CLUSTER=142, DISTRIBUTE=143, OVERWRITE=144, 
+		TRANSFORM=145, REDUCE=146, USING=147, SERDE=148, SERDEPROPERTIES=149, 
+		RECORDREADER=150, RECORDWRITER=151, DELIMITED=152, FIELDS=153, TERMINATED=154, 
+		COLLECTION=155, ITEMS=156, KEYS=157, ESCAPED=158, LINES=159, SEPARATED=160, 
+		FUNCTION=161, EXTENDED=162, REFRESH=163, CLEAR=164, CACHE=165, UNCACHE=166, 
+		LAZY=167, FORMATTED=168, GLOBAL=169, TEMPORARY=170, OPTIONS=171, UNSET=172, 
+		TBLPROPERTIES=173, DBPROPERTIES=174, BUCKETS=175, SKEWED=176, STORED=177, 
+		DIRECTORIES=178, LOCATION=179, EXCHANGE=180, ARCHIVE=181, UNARCHIVE=182, 
+		FILEFORMAT=183, TOUCH=184, COMPACT=185, CONCATENATE=186, CHANGE=187, CASCADE=188, 
+		RESTRICT=189, CLUSTERED=190, SORTED=191, PURGE=192, INPUTFORMAT=193, OUTPUTFORMAT=194, 
+		DATABASE=195, DATABASES=196, DFS=197, TRUNCATE=198, ANALYZE=199, COMPUTE=200, 
+		LIST=201, STATISTICS=202, PARTITIONED=203, EXTERNAL=204, DEFINED=205, 
+		REVOKE=206, GRANT=207, LOCK=208, UNLOCK=209, MSCK=210, REPAIR=211, RECOVER=212, 
+		EXPORT=213, IMPORT=214, LOAD=215, ROLE=216, ROLES=217, COMPACTIONS=218, 
+		PRINCIPALS=219, TRANSACTIONS=220, INDEX=221, INDEXES=222, LOCKS=223, OPTION=224, 
+		ANTI=225, LOCAL=226, INPATH=227, CURRENT_DATE=228, CURRENT_TIMESTAMP=229, 
+		STRING=230, BIGINT_LITERAL=231, SMALLINT_LITERAL=232, TINYINT_LITERAL=233, 
+		BYTELENGTH_LITERAL=234, INTEGER_VALUE=235, DECIMAL_VALUE=236, DOUBLE_LITERAL=237, 
+		BIGDECIMAL_LITERAL=238, IDENTIFIER=239, JOBIDENTIFIER=240, BACKQUOTED_IDENTIFIER=241, 
+		SIMPLE_COMMENT=242, BRACKETED_EMPTY_COMMENT=243, BRACKETED_COMMENT=244, 
+		WS=245, UNRECOGNIZED=246, DELIMITER=247;
 	public static final int
 		RULE_singleStatement = 0, RULE_statement = 1, RULE_partitionSpec = 2, 
-		RULE_partitionVal = 3, RULE_loadOptions = 4, RULE_optionVal = 5, RULE_constant = 6, 
-		RULE_tableIdentifier = 7, RULE_identifier = 8, RULE_strictIdentifier = 9, 
-		RULE_quotedIdentifier = 10, RULE_interval = 11, RULE_intervalField = 12, 
-		RULE_intervalValue = 13, RULE_booleanValue = 14, RULE_number = 15, RULE_nonReserved = 16;
+		RULE_partitionVal = 3, RULE_clusterSpec = 4, RULE_loadOptions = 5, RULE_optionVal = 6, 
+		RULE_constant = 7, RULE_tableIdentifier = 8, RULE_identifier = 9, RULE_strictIdentifier = 10, 
+		RULE_quotedIdentifier = 11, RULE_interval = 12, RULE_intervalField = 13, 
+		RULE_intervalValue = 14, RULE_booleanValue = 15, RULE_number = 16, RULE_nonReserved = 17;
 	public static final String[] ruleNames = {
-		"singleStatement", "statement", "partitionSpec", "partitionVal", "loadOptions", 
-		"optionVal", "constant", "tableIdentifier", "identifier", "strictIdentifier", 
-		"quotedIdentifier", "interval", "intervalField", "intervalValue", "booleanValue", 
-		"number", "nonReserved"
+		"singleStatement", "statement", "partitionSpec", "partitionVal", "clusterSpec", 
+		"loadOptions", "optionVal", "constant", "tableIdentifier", "identifier", 
+		"strictIdentifier", "quotedIdentifier", "interval", "intervalField", "intervalValue", 
+		"booleanValue", "number", "nonReserved"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
@@ -90,15 +90,15 @@ public class SqlBaseParser extends Parser {
 		"'DATA'", "'START'", "'TRANSACTION'", "'COMMIT'", "'ROLLBACK'", "'MACRO'", 
 		"'IGNORE'", "'IF'", null, "'<=>'", "'<>'", "'!='", "'<'", null, "'>'", 
 		null, "'+'", "'-'", "'*'", "'/'", "'%'", "'DIV'", "'~'", "'&'", "'|'", 
-		"'^'", "'PERCENT'", "'BUCKET'", "'OUT'", "'OF'", "'SORT'", "'CLUSTER'", 
-		"'DISTRIBUTE'", "'OVERWRITE'", "'TRANSFORM'", "'REDUCE'", "'USING'", "'SERDE'", 
-		"'SERDEPROPERTIES'", "'RECORDREADER'", "'RECORDWRITER'", "'DELIMITED'", 
-		"'FIELDS'", "'TERMINATED'", "'COLLECTION'", "'ITEMS'", "'KEYS'", "'ESCAPED'", 
-		"'LINES'", "'SEPARATED'", "'FUNCTION'", "'EXTENDED'", "'REFRESH'", "'CLEAR'", 
-		"'CACHE'", "'UNCACHE'", "'LAZY'", "'FORMATTED'", "'GLOBAL'", null, "'OPTIONS'", 
-		"'UNSET'", "'TBLPROPERTIES'", "'DBPROPERTIES'", "'BUCKETS'", "'SKEWED'", 
-		"'STORED'", "'DIRECTORIES'", "'LOCATION'", "'EXCHANGE'", "'ARCHIVE'", 
-		"'UNARCHIVE'", "'FILEFORMAT'", "'TOUCH'", "'COMPACT'", "'CONCATENATE'", 
+		"'^'", "'PERCENT'", "'BUCKET'", "'OUT'", "'OF'", "'SORT'", "'ZORDER'", 
+		"'CLUSTER'", "'DISTRIBUTE'", "'OVERWRITE'", "'TRANSFORM'", "'REDUCE'", 
+		"'USING'", "'SERDE'", "'SERDEPROPERTIES'", "'RECORDREADER'", "'RECORDWRITER'", 
+		"'DELIMITED'", "'FIELDS'", "'TERMINATED'", "'COLLECTION'", "'ITEMS'", 
+		"'KEYS'", "'ESCAPED'", "'LINES'", "'SEPARATED'", "'FUNCTION'", "'EXTENDED'", 
+		"'REFRESH'", "'CLEAR'", "'CACHE'", "'UNCACHE'", "'LAZY'", "'FORMATTED'", 
+		"'GLOBAL'", null, "'OPTIONS'", "'UNSET'", "'TBLPROPERTIES'", "'DBPROPERTIES'", 
+		"'BUCKETS'", "'SKEWED'", "'STORED'", "'DIRECTORIES'", "'LOCATION'", "'EXCHANGE'", 
+		"'ARCHIVE'", "'UNARCHIVE'", "'FILEFORMAT'", "'TOUCH'", "'COMPACT'", "'CONCATENATE'", 
 		"'CHANGE'", "'CASCADE'", "'RESTRICT'", "'CLUSTERED'", "'SORTED'", "'PURGE'", 
 		"'INPUTFORMAT'", "'OUTPUTFORMAT'", null, null, "'DFS'", "'TRUNCATE'", 
 		"'ANALYZE'", "'COMPUTE'", "'LIST'", "'STATISTICS'", "'PARTITIONED'", "'EXTERNAL'", 
@@ -126,25 +126,25 @@ public class SqlBaseParser extends Parser {
 		"RESET", "DATA", "START", "TRANSACTION", "COMMIT", "ROLLBACK", "MACRO", 
 		"IGNORE", "IF", "EQ", "NSEQ", "NEQ", "NEQJ", "LT", "LTE", "GT", "GTE", 
 		"PLUS", "MINUS", "ASTERISK", "SLASH", "PERCENT", "DIV", "TILDE", "AMPERSAND", 
-		"PIPE", "HAT", "PERCENTLIT", "BUCKET", "OUT", "OF", "SORT", "CLUSTER", 
-		"DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", "USING", "SERDE", "SERDEPROPERTIES", 
-		"RECORDREADER", "RECORDWRITER", "DELIMITED", "FIELDS", "TERMINATED", "COLLECTION", 
-		"ITEMS", "KEYS", "ESCAPED", "LINES", "SEPARATED", "FUNCTION", "EXTENDED", 
-		"REFRESH", "CLEAR", "CACHE", "UNCACHE", "LAZY", "FORMATTED", "GLOBAL", 
-		"TEMPORARY", "OPTIONS", "UNSET", "TBLPROPERTIES", "DBPROPERTIES", "BUCKETS", 
-		"SKEWED", "STORED", "DIRECTORIES", "LOCATION", "EXCHANGE", "ARCHIVE", 
-		"UNARCHIVE", "FILEFORMAT", "TOUCH", "COMPACT", "CONCATENATE", "CHANGE", 
-		"CASCADE", "RESTRICT", "CLUSTERED", "SORTED", "PURGE", "INPUTFORMAT", 
-		"OUTPUTFORMAT", "DATABASE", "DATABASES", "DFS", "TRUNCATE", "ANALYZE", 
-		"COMPUTE", "LIST", "STATISTICS", "PARTITIONED", "EXTERNAL", "DEFINED", 
-		"REVOKE", "GRANT", "LOCK", "UNLOCK", "MSCK", "REPAIR", "RECOVER", "EXPORT", 
-		"IMPORT", "LOAD", "ROLE", "ROLES", "COMPACTIONS", "PRINCIPALS", "TRANSACTIONS", 
-		"INDEX", "INDEXES", "LOCKS", "OPTION", "ANTI", "LOCAL", "INPATH", "CURRENT_DATE", 
-		"CURRENT_TIMESTAMP", "STRING", "BIGINT_LITERAL", "SMALLINT_LITERAL", "TINYINT_LITERAL", 
-		"BYTELENGTH_LITERAL", "INTEGER_VALUE", "DECIMAL_VALUE", "DOUBLE_LITERAL", 
-		"BIGDECIMAL_LITERAL", "IDENTIFIER", "JOBIDENTIFIER", "BACKQUOTED_IDENTIFIER", 
-		"SIMPLE_COMMENT", "BRACKETED_EMPTY_COMMENT", "BRACKETED_COMMENT", "WS", 
-		"UNRECOGNIZED", "DELIMITER"
+		"PIPE", "HAT", "PERCENTLIT", "BUCKET", "OUT", "OF", "SORT", "ZORDER", 
+		"CLUSTER", "DISTRIBUTE", "OVERWRITE", "TRANSFORM", "REDUCE", "USING", 
+		"SERDE", "SERDEPROPERTIES", "RECORDREADER", "RECORDWRITER", "DELIMITED", 
+		"FIELDS", "TERMINATED", "COLLECTION", "ITEMS", "KEYS", "ESCAPED", "LINES", 
+		"SEPARATED", "FUNCTION", "EXTENDED", "REFRESH", "CLEAR", "CACHE", "UNCACHE", 
+		"LAZY", "FORMATTED", "GLOBAL", "TEMPORARY", "OPTIONS", "UNSET", "TBLPROPERTIES", 
+		"DBPROPERTIES", "BUCKETS", "SKEWED", "STORED", "DIRECTORIES", "LOCATION", 
+		"EXCHANGE", "ARCHIVE", "UNARCHIVE", "FILEFORMAT", "TOUCH", "COMPACT", 
+		"CONCATENATE", "CHANGE", "CASCADE", "RESTRICT", "CLUSTERED", "SORTED", 
+		"PURGE", "INPUTFORMAT", "OUTPUTFORMAT", "DATABASE", "DATABASES", "DFS", 
+		"TRUNCATE", "ANALYZE", "COMPUTE", "LIST", "STATISTICS", "PARTITIONED", 
+		"EXTERNAL", "DEFINED", "REVOKE", "GRANT", "LOCK", "UNLOCK", "MSCK", "REPAIR", 
+		"RECOVER", "EXPORT", "IMPORT", "LOAD", "ROLE", "ROLES", "COMPACTIONS", 
+		"PRINCIPALS", "TRANSACTIONS", "INDEX", "INDEXES", "LOCKS", "OPTION", "ANTI", 
+		"LOCAL", "INPATH", "CURRENT_DATE", "CURRENT_TIMESTAMP", "STRING", "BIGINT_LITERAL", 
+		"SMALLINT_LITERAL", "TINYINT_LITERAL", "BYTELENGTH_LITERAL", "INTEGER_VALUE", 
+		"DECIMAL_VALUE", "DOUBLE_LITERAL", "BIGDECIMAL_LITERAL", "IDENTIFIER", 
+		"JOBIDENTIFIER", "BACKQUOTED_IDENTIFIER", "SIMPLE_COMMENT", "BRACKETED_EMPTY_COMMENT", 
+		"BRACKETED_COMMENT", "WS", "UNRECOGNIZED", "DELIMITER"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -248,9 +248,9 @@ public class SqlBaseParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(34);
+			setState(36);
 			statement();
-			setState(35);
+			setState(37);
 			match(EOF);
 			}
 		}
@@ -315,6 +315,12 @@ public class SqlBaseParser extends Parser {
 		public PartitionSpecContext partitionSpec() {
 			return getRuleContext(PartitionSpecContext.class,0);
 		}
+		public ClusterSpecContext clusterSpec() {
+			return getRuleContext(ClusterSpecContext.class,0);
+		}
+		public LoadOptionsContext loadOptions() {
+			return getRuleContext(LoadOptionsContext.class,0);
+		}
 		public MergeTableContext(StatementContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
@@ -362,54 +368,144 @@ public class SqlBaseParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class ExplainMergeTableContext extends StatementContext {
+		public TerminalNode EXPLAIN() { return getToken(SqlBaseParser.EXPLAIN, 0); }
+		public TerminalNode MERGE() { return getToken(SqlBaseParser.MERGE, 0); }
+		public TerminalNode TABLE() { return getToken(SqlBaseParser.TABLE, 0); }
+		public TableIdentifierContext tableIdentifier() {
+			return getRuleContext(TableIdentifierContext.class,0);
+		}
+		public PartitionSpecContext partitionSpec() {
+			return getRuleContext(PartitionSpecContext.class,0);
+		}
+		public ClusterSpecContext clusterSpec() {
+			return getRuleContext(ClusterSpecContext.class,0);
+		}
+		public LoadOptionsContext loadOptions() {
+			return getRuleContext(LoadOptionsContext.class,0);
+		}
+		public ExplainMergeTableContext(StatementContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SqlBaseListener ) ((SqlBaseListener)listener).enterExplainMergeTable(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SqlBaseListener ) ((SqlBaseListener)listener).exitExplainMergeTable(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SqlBaseVisitor ) return ((SqlBaseVisitor<? extends T>)visitor).visitExplainMergeTable(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 
 	public final StatementContext statement() throws RecognitionException {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_statement);
 		int _la;
 		try {
-			setState(62);
+			setState(83);
 			switch (_input.LA(1)) {
 			case MERGE:
 				_localctx = new MergeTableContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(37);
+				setState(39);
 				match(MERGE);
-				setState(38);
+				setState(40);
 				match(TABLE);
-				setState(39);
-				tableIdentifier();
 				setState(41);
+				tableIdentifier();
+				setState(43);
 				_la = _input.LA(1);
 				if (_la==PARTITION) {
 					{
-					setState(40);
+					setState(42);
 					partitionSpec();
 					}
 				}
 
+				setState(46);
+				_la = _input.LA(1);
+				if (_la==SORT || _la==ZORDER) {
+					{
+					setState(45);
+					clusterSpec();
+					}
+				}
+
+				setState(49);
+				_la = _input.LA(1);
+				if (_la==OPTIONS) {
+					{
+					setState(48);
+					loadOptions();
+					}
+				}
+
+				}
+				break;
+			case EXPLAIN:
+				_localctx = new ExplainMergeTableContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(51);
+				match(EXPLAIN);
+				setState(52);
+				match(MERGE);
+				setState(53);
+				match(TABLE);
+				setState(54);
+				tableIdentifier();
+				setState(56);
+				_la = _input.LA(1);
+				if (_la==PARTITION) {
+					{
+					setState(55);
+					partitionSpec();
+					}
+				}
+
+				setState(59);
+				_la = _input.LA(1);
+				if (_la==SORT || _la==ZORDER) {
+					{
+					setState(58);
+					clusterSpec();
+					}
+				}
+
+				setState(62);
+				_la = _input.LA(1);
+				if (_la==OPTIONS) {
+					{
+					setState(61);
+					loadOptions();
+					}
+				}
+
 				}
 				break;
 			case LOAD:
 				_localctx = new LOADTABLEContext(_localctx);
-				enterOuterAlt(_localctx, 2);
+				enterOuterAlt(_localctx, 3);
 				{
-				setState(43);
+				setState(64);
 				match(LOAD);
-				setState(44);
+				setState(65);
 				match(DATA);
-				setState(45);
+				setState(66);
 				((LOADTABLEContext)_localctx).path = constant();
-				setState(46);
+				setState(67);
 				match(TABLE);
-				setState(47);
+				setState(68);
 				((LOADTABLEContext)_localctx).table = identifier();
-				setState(49);
+				setState(70);
 				_la = _input.LA(1);
 				if (_la==OPTIONS) {
 					{
-					setState(48);
+					setState(69);
 					loadOptions();
 					}
 				}
@@ -418,32 +514,32 @@ public class SqlBaseParser extends Parser {
 				break;
 			case EXPORT:
 				_localctx = new EXPORTCSVContext(_localctx);
-				enterOuterAlt(_localctx, 3);
+				enterOuterAlt(_localctx, 4);
 				{
-				setState(51);
+				setState(72);
 				match(EXPORT);
-				setState(52);
+				setState(73);
 				match(TABLE);
-				setState(53);
+				setState(74);
 				tableIdentifier();
-				setState(55);
+				setState(76);
 				_la = _input.LA(1);
 				if (_la==PARTITION) {
 					{
-					setState(54);
+					setState(75);
 					partitionSpec();
 					}
 				}
 
-				setState(57);
+				setState(78);
 				match(TO);
-				setState(58);
+				setState(79);
 				((EXPORTCSVContext)_localctx).name = constant();
-				setState(60);
+				setState(81);
 				_la = _input.LA(1);
 				if (_la==OPTIONS) {
 					{
-					setState(59);
+					setState(80);
 					loadOptions();
 					}
 				}
@@ -499,29 +595,29 @@ public class SqlBaseParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(64);
+			setState(85);
 			match(PARTITION);
-			setState(65);
+			setState(86);
 			match(T__0);
-			setState(66);
+			setState(87);
 			partitionVal();
-			setState(71);
+			setState(92);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__1) {
 				{
 				{
-				setState(67);
+				setState(88);
 				match(T__1);
-				setState(68);
+				setState(89);
 				partitionVal();
 				}
 				}
-				setState(73);
+				setState(94);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(74);
+			setState(95);
 			match(T__2);
 			}
 		}
@@ -537,13 +633,25 @@ public class SqlBaseParser extends Parser {
 	}
 
 	public static class PartitionValContext extends ParserRuleContext {
+		public Token comparison;
 		public IdentifierContext identifier() {
 			return getRuleContext(IdentifierContext.class,0);
 		}
-		public TerminalNode EQ() { return getToken(SqlBaseParser.EQ, 0); }
-		public ConstantContext constant() {
-			return getRuleContext(ConstantContext.class,0);
+		public List<ConstantContext> constant() {
+			return getRuleContexts(ConstantContext.class);
 		}
+		public ConstantContext constant(int i) {
+			return getRuleContext(ConstantContext.class,i);
+		}
+		public TerminalNode EQ() { return getToken(SqlBaseParser.EQ, 0); }
+		public TerminalNode NEQ() { return getToken(SqlBaseParser.NEQ, 0); }
+		public TerminalNode NEQJ() { return getToken(SqlBaseParser.NEQJ, 0); }
+		public TerminalNode LT() { return getToken(SqlBaseParser.LT, 0); }
+		public TerminalNode LTE() { return getToken(SqlBaseParser.LTE, 0); }
+		public TerminalNode GT() { return getToken(SqlBaseParser.GT, 0); }
+		public TerminalNode GTE() { return getToken(SqlBaseParser.GTE, 0); }
+		public TerminalNode IN() { return getToken(SqlBaseParser.IN, 0); }
+		public TerminalNode NOT() { return getToken(SqlBaseParser.NOT, 0); }
 		public PartitionValContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -566,15 +674,149 @@ public class SqlBaseParser extends Parser {
 	public final PartitionValContext partitionVal() throws RecognitionException {
 		PartitionValContext _localctx = new PartitionValContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_partitionVal);
+		int _la;
+		try {
+			setState(117);
+			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(97);
+				identifier();
+				setState(98);
+				((PartitionValContext)_localctx).comparison = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(((((_la - 118)) & ~0x3f) == 0 && ((1L << (_la - 118)) & ((1L << (EQ - 118)) | (1L << (NEQ - 118)) | (1L << (NEQJ - 118)) | (1L << (LT - 118)) | (1L << (LTE - 118)) | (1L << (GT - 118)) | (1L << (GTE - 118)))) != 0)) ) {
+					((PartitionValContext)_localctx).comparison = (Token)_errHandler.recoverInline(this);
+				} else {
+					consume();
+				}
+				setState(99);
+				constant();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(101);
+				identifier();
+				setState(103);
+				_la = _input.LA(1);
+				if (_la==NOT) {
+					{
+					setState(102);
+					match(NOT);
+					}
+				}
+
+				setState(105);
+				match(IN);
+				setState(106);
+				match(T__0);
+				setState(107);
+				constant();
+				setState(112);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__1) {
+					{
+					{
+					setState(108);
+					match(T__1);
+					setState(109);
+					constant();
+					}
+					}
+					setState(114);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(115);
+				match(T__2);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClusterSpecContext extends ParserRuleContext {
+		public Token kind;
+		public TerminalNode BY() { return getToken(SqlBaseParser.BY, 0); }
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public TerminalNode SORT() { return getToken(SqlBaseParser.SORT, 0); }
+		public TerminalNode ZORDER() { return getToken(SqlBaseParser.ZORDER, 0); }
+		public ClusterSpecContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_clusterSpec; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SqlBaseListener ) ((SqlBaseListener)listener).enterClusterSpec(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SqlBaseListener ) ((SqlBaseListener)listener).exitClusterSpec(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SqlBaseVisitor ) return ((SqlBaseVisitor<? extends T>)visitor).visitClusterSpec(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ClusterSpecContext clusterSpec() throws RecognitionException {
+		ClusterSpecContext _localctx = new ClusterSpecContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_clusterSpec);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(76);
+			setState(119);
+			((ClusterSpecContext)_localctx).kind = _input.LT(1);
+			_la = _input.LA(1);
+			if ( !(_la==SORT || _la==ZORDER) ) {
+				((ClusterSpecContext)_localctx).kind = (Token)_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			setState(120);
+			match(BY);
+			setState(121);
+			match(T__0);
+			setState(122);
 			identifier();
-			setState(77);
-			match(EQ);
-			setState(78);
-			constant();
+			setState(127);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__1) {
+				{
+				{
+				setState(123);
+				match(T__1);
+				setState(124);
+				identifier();
+				}
+				}
+				setState(129);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(130);
+			match(T__2);
 			}
 		}
 		catch (RecognitionException re) {
@@ -617,34 +859,34 @@ public class SqlBaseParser extends Parser {
 
 	public final LoadOptionsContext loadOptions() throws RecognitionException {
 		LoadOptionsContext _localctx = new LoadOptionsContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_loadOptions);
+		enterRule(_localctx, 10, RULE_loadOptions);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(80);
+			setState(132);
 			match(OPTIONS);
-			setState(81);
+			setState(133);
 			match(T__0);
-			setState(82);
+			setState(134);
 			optionVal();
-			setState(87);
+			setState(139);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__1) {
 				{
 				{
-				setState(83);
+				setState(135);
 				match(T__1);
-				setState(84);
+				setState(136);
 				optionVal();
 				}
 				}
-				setState(89);
+				setState(141);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(90);
+			setState(142);
 			match(T__2);
 			}
 		}
@@ -688,15 +930,15 @@ public class SqlBaseParser extends Parser {
 
 	public final OptionValContext optionVal() throws RecognitionException {
 		OptionValContext _localctx = new OptionValContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_optionVal);
+		enterRule(_localctx, 12, RULE_optionVal);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(92);
+			setState(144);
 			identifier();
-			setState(93);
+			setState(145);
 			match(EQ);
-			setState(94);
+			setState(146);
 			constant();
 			}
 		}
@@ -839,16 +1081,16 @@ public class SqlBaseParser extends Parser {
 
 	public final ConstantContext constant() throws RecognitionException {
 		ConstantContext _localctx = new ConstantContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_constant);
+		enterRule(_localctx, 14, RULE_constant);
 		int _la;
 		try {
-			setState(108);
-			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			setState(160);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
 			case 1:
 				_localctx = new NullLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(96);
+				setState(148);
 				match(NULL);
 				}
 				break;
@@ -856,7 +1098,7 @@ public class SqlBaseParser extends Parser {
 				_localctx = new IntervalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(97);
+				setState(149);
 				interval();
 				}
 				break;
@@ -864,9 +1106,9 @@ public class SqlBaseParser extends Parser {
 				_localctx = new TypeConstructorContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(98);
+				setState(150);
 				identifier();
-				setState(99);
+				setState(151);
 				match(STRING);
 				}
 				break;
@@ -874,7 +1116,7 @@ public class SqlBaseParser extends Parser {
 				_localctx = new NumericLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(101);
+				setState(153);
 				number();
 				}
 				break;
@@ -882,7 +1124,7 @@ public class SqlBaseParser extends Parser {
 				_localctx = new BooleanLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(102);
+				setState(154);
 				booleanValue();
 				}
 				break;
@@ -890,17 +1132,17 @@ public class SqlBaseParser extends Parser {
 				_localctx = new StringLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(104); 
+				setState(156); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(103);
+					setState(155);
 					match(STRING);
 					}
 					}
-					setState(106); 
+					setState(158); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==STRING );
@@ -949,22 +1191,22 @@ public class SqlBaseParser extends Parser {
 
 	public final TableIdentifierContext tableIdentifier() throws RecognitionException {
 		TableIdentifierContext _localctx = new TableIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_tableIdentifier);
+		enterRule(_localctx, 16, RULE_tableIdentifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(113);
-			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+			setState(165);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 			case 1:
 				{
-				setState(110);
+				setState(162);
 				((TableIdentifierContext)_localctx).db = identifier();
-				setState(111);
+				setState(163);
 				match(T__3);
 				}
 				break;
 			}
-			setState(115);
+			setState(167);
 			((TableIdentifierContext)_localctx).table = identifier();
 			}
 		}
@@ -1018,9 +1260,9 @@ public class SqlBaseParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_identifier);
+		enterRule(_localctx, 18, RULE_identifier);
 		try {
-			setState(132);
+			setState(184);
 			switch (_input.LA(1)) {
 			case SELECT:
 			case FROM:
@@ -1126,6 +1368,7 @@ public class SqlBaseParser extends Parser {
 			case OUT:
 			case OF:
 			case SORT:
+			case ZORDER:
 			case CLUSTER:
 			case DISTRIBUTE:
 			case OVERWRITE:
@@ -1217,105 +1460,105 @@ public class SqlBaseParser extends Parser {
 			case BACKQUOTED_IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(117);
+				setState(169);
 				strictIdentifier();
 				}
 				break;
 			case ANTI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(118);
+				setState(170);
 				match(ANTI);
 				}
 				break;
 			case FULL:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(119);
+				setState(171);
 				match(FULL);
 				}
 				break;
 			case INNER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(120);
+				setState(172);
 				match(INNER);
 				}
 				break;
 			case LEFT:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(121);
+				setState(173);
 				match(LEFT);
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(122);
+				setState(174);
 				match(SEMI);
 				}
 				break;
 			case RIGHT:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(123);
+				setState(175);
 				match(RIGHT);
 				}
 				break;
 			case NATURAL:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(124);
+				setState(176);
 				match(NATURAL);
 				}
 				break;
 			case JOIN:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(125);
+				setState(177);
 				match(JOIN);
 				}
 				break;
 			case CROSS:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(126);
+				setState(178);
 				match(CROSS);
 				}
 				break;
 			case ON:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(127);
+				setState(179);
 				match(ON);
 				}
 				break;
 			case UNION:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(128);
+				setState(180);
 				match(UNION);
 				}
 				break;
 			case INTERSECT:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(129);
+				setState(181);
 				match(INTERSECT);
 				}
 				break;
 			case EXCEPT:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(130);
+				setState(182);
 				match(EXCEPT);
 				}
 				break;
 			case SETMINUS:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(131);
+				setState(183);
 				match(SETMINUS);
 				}
 				break;
@@ -1387,15 +1630,15 @@ public class SqlBaseParser extends Parser {
 
 	public final StrictIdentifierContext strictIdentifier() throws RecognitionException {
 		StrictIdentifierContext _localctx = new StrictIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_strictIdentifier);
+		enterRule(_localctx, 20, RULE_strictIdentifier);
 		try {
-			setState(137);
+			setState(189);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				_localctx = new UnquotedIdentifierContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(134);
+				setState(186);
 				match(IDENTIFIER);
 				}
 				break;
@@ -1403,7 +1646,7 @@ public class SqlBaseParser extends Parser {
 				_localctx = new QuotedIdentifierAlternativeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(135);
+				setState(187);
 				quotedIdentifier();
 				}
 				break;
@@ -1511,6 +1754,7 @@ public class SqlBaseParser extends Parser {
 			case OUT:
 			case OF:
 			case SORT:
+			case ZORDER:
 			case CLUSTER:
 			case DISTRIBUTE:
 			case OVERWRITE:
@@ -1601,7 +1845,7 @@ public class SqlBaseParser extends Parser {
 				_localctx = new UnquotedIdentifierContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(136);
+				setState(188);
 				nonReserved();
 				}
 				break;
@@ -1643,11 +1887,11 @@ public class SqlBaseParser extends Parser {
 
 	public final QuotedIdentifierContext quotedIdentifier() throws RecognitionException {
 		QuotedIdentifierContext _localctx = new QuotedIdentifierContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_quotedIdentifier);
+		enterRule(_localctx, 22, RULE_quotedIdentifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(139);
+			setState(191);
 			match(BACKQUOTED_IDENTIFIER);
 			}
 		}
@@ -1691,24 +1935,24 @@ public class SqlBaseParser extends Parser {
 
 	public final IntervalContext interval() throws RecognitionException {
 		IntervalContext _localctx = new IntervalContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_interval);
+		enterRule(_localctx, 24, RULE_interval);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(141);
+			setState(193);
 			match(INTERVAL);
-			setState(145);
+			setState(197);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==PLUS || _la==MINUS || ((((_la - 229)) & ~0x3f) == 0 && ((1L << (_la - 229)) & ((1L << (STRING - 229)) | (1L << (INTEGER_VALUE - 229)) | (1L << (DECIMAL_VALUE - 229)))) != 0)) {
+			while (_la==PLUS || _la==MINUS || ((((_la - 230)) & ~0x3f) == 0 && ((1L << (_la - 230)) & ((1L << (STRING - 230)) | (1L << (INTEGER_VALUE - 230)) | (1L << (DECIMAL_VALUE - 230)))) != 0)) {
 				{
 				{
-				setState(142);
+				setState(194);
 				intervalField();
 				}
 				}
-				setState(147);
+				setState(199);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1760,22 +2004,22 @@ public class SqlBaseParser extends Parser {
 
 	public final IntervalFieldContext intervalField() throws RecognitionException {
 		IntervalFieldContext _localctx = new IntervalFieldContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_intervalField);
+		enterRule(_localctx, 26, RULE_intervalField);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(148);
+			setState(200);
 			((IntervalFieldContext)_localctx).value = intervalValue();
-			setState(149);
+			setState(201);
 			((IntervalFieldContext)_localctx).unit = identifier();
-			setState(152);
+			setState(204);
 			_la = _input.LA(1);
 			if (_la==TO) {
 				{
-				setState(150);
+				setState(202);
 				match(TO);
-				setState(151);
+				setState(203);
 				((IntervalFieldContext)_localctx).to = identifier();
 				}
 			}
@@ -1820,10 +2064,10 @@ public class SqlBaseParser extends Parser {
 
 	public final IntervalValueContext intervalValue() throws RecognitionException {
 		IntervalValueContext _localctx = new IntervalValueContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_intervalValue);
+		enterRule(_localctx, 28, RULE_intervalValue);
 		int _la;
 		try {
-			setState(159);
+			setState(211);
 			switch (_input.LA(1)) {
 			case PLUS:
 			case MINUS:
@@ -1831,11 +2075,11 @@ public class SqlBaseParser extends Parser {
 			case DECIMAL_VALUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(155);
+				setState(207);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==MINUS) {
 					{
-					setState(154);
+					setState(206);
 					_la = _input.LA(1);
 					if ( !(_la==PLUS || _la==MINUS) ) {
 					_errHandler.recoverInline(this);
@@ -1845,7 +2089,7 @@ public class SqlBaseParser extends Parser {
 					}
 				}
 
-				setState(157);
+				setState(209);
 				_la = _input.LA(1);
 				if ( !(_la==INTEGER_VALUE || _la==DECIMAL_VALUE) ) {
 				_errHandler.recoverInline(this);
@@ -1857,7 +2101,7 @@ public class SqlBaseParser extends Parser {
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(158);
+				setState(210);
 				match(STRING);
 				}
 				break;
@@ -1900,12 +2144,12 @@ public class SqlBaseParser extends Parser {
 
 	public final BooleanValueContext booleanValue() throws RecognitionException {
 		BooleanValueContext _localctx = new BooleanValueContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_booleanValue);
+		enterRule(_localctx, 30, RULE_booleanValue);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161);
+			setState(213);
 			_la = _input.LA(1);
 			if ( !(_la==TRUE || _la==FALSE) ) {
 			_errHandler.recoverInline(this);
@@ -2065,25 +2309,25 @@ public class SqlBaseParser extends Parser {
 
 	public final NumberContext number() throws RecognitionException {
 		NumberContext _localctx = new NumberContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_number);
+		enterRule(_localctx, 32, RULE_number);
 		int _la;
 		try {
-			setState(191);
-			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
+			setState(243);
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
 			case 1:
 				_localctx = new DecimalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(164);
+				setState(216);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(163);
+					setState(215);
 					match(MINUS);
 					}
 				}
 
-				setState(166);
+				setState(218);
 				match(DECIMAL_VALUE);
 				}
 				break;
@@ -2091,16 +2335,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new IntegerLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(168);
+				setState(220);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(167);
+					setState(219);
 					match(MINUS);
 					}
 				}
 
-				setState(170);
+				setState(222);
 				match(INTEGER_VALUE);
 				}
 				break;
@@ -2108,16 +2352,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new BigIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(172);
+				setState(224);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(171);
+					setState(223);
 					match(MINUS);
 					}
 				}
 
-				setState(174);
+				setState(226);
 				match(BIGINT_LITERAL);
 				}
 				break;
@@ -2125,16 +2369,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new SmallIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(176);
+				setState(228);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(175);
+					setState(227);
 					match(MINUS);
 					}
 				}
 
-				setState(178);
+				setState(230);
 				match(SMALLINT_LITERAL);
 				}
 				break;
@@ -2142,16 +2386,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new TinyIntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(180);
+				setState(232);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(179);
+					setState(231);
 					match(MINUS);
 					}
 				}
 
-				setState(182);
+				setState(234);
 				match(TINYINT_LITERAL);
 				}
 				break;
@@ -2159,16 +2403,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new DoubleLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(184);
+				setState(236);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(183);
+					setState(235);
 					match(MINUS);
 					}
 				}
 
-				setState(186);
+				setState(238);
 				match(DOUBLE_LITERAL);
 				}
 				break;
@@ -2176,16 +2420,16 @@ public class SqlBaseParser extends Parser {
 				_localctx = new BigDecimalLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(188);
+				setState(240);
 				_la = _input.LA(1);
 				if (_la==MINUS) {
 					{
-					setState(187);
+					setState(239);
 					match(MINUS);
 					}
 				}
 
-				setState(190);
+				setState(242);
 				match(BIGDECIMAL_LITERAL);
 				}
 				break;
@@ -2283,6 +2527,7 @@ public class SqlBaseParser extends Parser {
 		public TerminalNode ROLLBACK() { return getToken(SqlBaseParser.ROLLBACK, 0); }
 		public TerminalNode IGNORE() { return getToken(SqlBaseParser.IGNORE, 0); }
 		public TerminalNode SORT() { return getToken(SqlBaseParser.SORT, 0); }
+		public TerminalNode ZORDER() { return getToken(SqlBaseParser.ZORDER, 0); }
 		public TerminalNode CLUSTER() { return getToken(SqlBaseParser.CLUSTER, 0); }
 		public TerminalNode DISTRIBUTE() { return getToken(SqlBaseParser.DISTRIBUTE, 0); }
 		public TerminalNode UNSET() { return getToken(SqlBaseParser.UNSET, 0); }
@@ -2424,14 +2669,14 @@ public class SqlBaseParser extends Parser {
 
 	public final NonReservedContext nonReserved() throws RecognitionException {
 		NonReservedContext _localctx = new NonReservedContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_nonReserved);
+		enterRule(_localctx, 34, RULE_nonReserved);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(193);
+			setState(245);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << OUTER) | (1L << LATERAL) | (1L << WINDOW) | (1L << OVER) | (1L << PARTITION) | (1L << RANGE) | (1L << ROWS) | (1L << UNBOUNDED) | (1L << PRECEDING) | (1L << FOLLOWING))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (CURRENT - 64)) | (1L << (FIRST - 64)) | (1L << (AFTER - 64)) | (1L << (LAST - 64)) | (1L << (ROW - 64)) | (1L << (WITH - 64)) | (1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (FORMAT - 64)) | (1L << (LOGICAL - 64)) | (1L << (CODEGEN - 64)) | (1L << (COST - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (PARTITIONS - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (TO - 64)) | (1L << (TABLESAMPLE - 64)) | (1L << (STRATIFY - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (DATA - 64)) | (1L << (START - 64)) | (1L << (TRANSACTION - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (MACRO - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)))) != 0) || ((((_la - 131)) & ~0x3f) == 0 && ((1L << (_la - 131)) & ((1L << (DIV - 131)) | (1L << (PERCENTLIT - 131)) | (1L << (BUCKET - 131)) | (1L << (OUT - 131)) | (1L << (OF - 131)) | (1L << (SORT - 131)) | (1L << (CLUSTER - 131)) | (1L << (DISTRIBUTE - 131)) | (1L << (OVERWRITE - 131)) | (1L << (TRANSFORM - 131)) | (1L << (REDUCE - 131)) | (1L << (USING - 131)) | (1L << (SERDE - 131)) | (1L << (SERDEPROPERTIES - 131)) | (1L << (RECORDREADER - 131)) | (1L << (RECORDWRITER - 131)) | (1L << (DELIMITED - 131)) | (1L << (FIELDS - 131)) | (1L << (TERMINATED - 131)) | (1L << (COLLECTION - 131)) | (1L << (ITEMS - 131)) | (1L << (KEYS - 131)) | (1L << (ESCAPED - 131)) | (1L << (LINES - 131)) | (1L << (SEPARATED - 131)) | (1L << (FUNCTION - 131)) | (1L << (EXTENDED - 131)) | (1L << (REFRESH - 131)) | (1L << (CLEAR - 131)) | (1L << (CACHE - 131)) | (1L << (UNCACHE - 131)) | (1L << (LAZY - 131)) | (1L << (FORMATTED - 131)) | (1L << (GLOBAL - 131)) | (1L << (TEMPORARY - 131)) | (1L << (OPTIONS - 131)) | (1L << (UNSET - 131)) | (1L << (TBLPROPERTIES - 131)) | (1L << (DBPROPERTIES - 131)) | (1L << (BUCKETS - 131)) | (1L << (SKEWED - 131)) | (1L << (STORED - 131)) | (1L << (DIRECTORIES - 131)) | (1L << (LOCATION - 131)) | (1L << (EXCHANGE - 131)) | (1L << (ARCHIVE - 131)) | (1L << (UNARCHIVE - 131)) | (1L << (FILEFORMAT - 131)) | (1L << (TOUCH - 131)) | (1L << (COMPACT - 131)) | (1L << (CONCATENATE - 131)) | (1L << (CHANGE - 131)) | (1L << (CASCADE - 131)) | (1L << (RESTRICT - 131)) | (1L << (CLUSTERED - 131)) | (1L << (SORTED - 131)) | (1L << (PURGE - 131)) | (1L << (INPUTFORMAT - 131)) | (1L << (OUTPUTFORMAT - 131)) | (1L << (DATABASE - 131)))) != 0) || ((((_la - 195)) & ~0x3f) == 0 && ((1L << (_la - 195)) & ((1L << (DATABASES - 195)) | (1L << (DFS - 195)) | (1L << (TRUNCATE - 195)) | (1L << (ANALYZE - 195)) | (1L << (COMPUTE - 195)) | (1L << (LIST - 195)) | (1L << (STATISTICS - 195)) | (1L << (PARTITIONED - 195)) | (1L << (EXTERNAL - 195)) | (1L << (DEFINED - 195)) | (1L << (REVOKE - 195)) | (1L << (GRANT - 195)) | (1L << (LOCK - 195)) | (1L << (UNLOCK - 195)) | (1L << (MSCK - 195)) | (1L << (REPAIR - 195)) | (1L << (RECOVER - 195)) | (1L << (EXPORT - 195)) | (1L << (IMPORT - 195)) | (1L << (LOAD - 195)) | (1L << (ROLE - 195)) | (1L << (ROLES - 195)) | (1L << (COMPACTIONS - 195)) | (1L << (PRINCIPALS - 195)) | (1L << (TRANSACTIONS - 195)) | (1L << (INDEX - 195)) | (1L << (INDEXES - 195)) | (1L << (LOCKS - 195)) | (1L << (OPTION - 195)) | (1L << (LOCAL - 195)) | (1L << (INPATH - 195)) | (1L << (CURRENT_DATE - 195)) | (1L << (CURRENT_TIMESTAMP - 195)))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELECT) | (1L << FROM) | (1L << ADD) | (1L << AS) | (1L << ALL) | (1L << DISTINCT) | (1L << WHERE) | (1L << GROUP) | (1L << BY) | (1L << GROUPING) | (1L << SETS) | (1L << CUBE) | (1L << ROLLUP) | (1L << ORDER) | (1L << HAVING) | (1L << LIMIT) | (1L << AT) | (1L << OR) | (1L << AND) | (1L << IN) | (1L << NOT) | (1L << NO) | (1L << EXISTS) | (1L << BETWEEN) | (1L << LIKE) | (1L << RLIKE) | (1L << IS) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << NULLS) | (1L << ASC) | (1L << DESC) | (1L << FOR) | (1L << INTERVAL) | (1L << CASE) | (1L << WHEN) | (1L << THEN) | (1L << ELSE) | (1L << END) | (1L << OUTER) | (1L << LATERAL) | (1L << WINDOW) | (1L << OVER) | (1L << PARTITION) | (1L << RANGE) | (1L << ROWS) | (1L << UNBOUNDED) | (1L << PRECEDING) | (1L << FOLLOWING))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (CURRENT - 64)) | (1L << (FIRST - 64)) | (1L << (AFTER - 64)) | (1L << (LAST - 64)) | (1L << (ROW - 64)) | (1L << (WITH - 64)) | (1L << (VALUES - 64)) | (1L << (CREATE - 64)) | (1L << (TABLE - 64)) | (1L << (VIEW - 64)) | (1L << (REPLACE - 64)) | (1L << (INSERT - 64)) | (1L << (DELETE - 64)) | (1L << (INTO - 64)) | (1L << (DESCRIBE - 64)) | (1L << (EXPLAIN - 64)) | (1L << (FORMAT - 64)) | (1L << (LOGICAL - 64)) | (1L << (CODEGEN - 64)) | (1L << (COST - 64)) | (1L << (CAST - 64)) | (1L << (SHOW - 64)) | (1L << (TABLES - 64)) | (1L << (COLUMNS - 64)) | (1L << (COLUMN - 64)) | (1L << (USE - 64)) | (1L << (PARTITIONS - 64)) | (1L << (FUNCTIONS - 64)) | (1L << (DROP - 64)) | (1L << (TO - 64)) | (1L << (TABLESAMPLE - 64)) | (1L << (STRATIFY - 64)) | (1L << (ALTER - 64)) | (1L << (RENAME - 64)) | (1L << (ARRAY - 64)) | (1L << (MAP - 64)) | (1L << (STRUCT - 64)) | (1L << (COMMENT - 64)) | (1L << (SET - 64)) | (1L << (RESET - 64)) | (1L << (DATA - 64)) | (1L << (START - 64)) | (1L << (TRANSACTION - 64)) | (1L << (COMMIT - 64)) | (1L << (ROLLBACK - 64)) | (1L << (MACRO - 64)) | (1L << (IGNORE - 64)) | (1L << (IF - 64)))) != 0) || ((((_la - 131)) & ~0x3f) == 0 && ((1L << (_la - 131)) & ((1L << (DIV - 131)) | (1L << (PERCENTLIT - 131)) | (1L << (BUCKET - 131)) | (1L << (OUT - 131)) | (1L << (OF - 131)) | (1L << (SORT - 131)) | (1L << (ZORDER - 131)) | (1L << (CLUSTER - 131)) | (1L << (DISTRIBUTE - 131)) | (1L << (OVERWRITE - 131)) | (1L << (TRANSFORM - 131)) | (1L << (REDUCE - 131)) | (1L << (USING - 131)) | (1L << (SERDE - 131)) | (1L << (SERDEPROPERTIES - 131)) | (1L << (RECORDREADER - 131)) | (1L << (RECORDWRITER - 131)) | (1L << (DELIMITED - 131)) | (1L << (FIELDS - 131)) | (1L << (TERMINATED - 131)) | (1L << (COLLECTION - 131)) | (1L << (ITEMS - 131)) | (1L << (KEYS - 131)) | (1L << (ESCAPED - 131)) | (1L << (LINES - 131)) | (1L << (SEPARATED - 131)) | (1L << (FUNCTION - 131)) | (1L << (EXTENDED - 131)) | (1L << (REFRESH - 131)) | (1L << (CLEAR - 131)) | (1L << (CACHE - 131)) | (1L << (UNCACHE - 131)) | (1L << (LAZY - 131)) | (1L << (FORMATTED - 131)) | (1L << (GLOBAL - 131)) | (1L << (TEMPORARY - 131)) | (1L << (OPTIONS - 131)) | (1L << (UNSET - 131)) | (1L << (TBLPROPERTIES - 131)) | (1L << (DBPROPERTIES - 131)) | (1L << (BUCKETS - 131)) | (1L << (SKEWED - 131)) | (1L << (STORED - 131)) | (1L << (DIRECTORIES - 131)) | (1L << (LOCATION - 131)) | (1L << (EXCHANGE - 131)) | (1L << (ARCHIVE - 131)) | (1L << (UNARCHIVE - 131)) | (1L << (FILEFORMAT - 131)) | (1L << (TOUCH - 131)) | (1L << (COMPACT - 131)) | (1L << (CONCATENATE - 131)) | (1L << (CHANGE - 131)) | (1L << (CASCADE - 131)) | (1L << (RESTRICT - 131)) | (1L << (CLUSTERED - 131)) | (1L << (SORTED - 131)) | (1L << (PURGE - 131)) | (1L << (INPUTFORMAT - 131)) | (1L << (OUTPUTFORMAT - 131)))) != 0) || ((((_la - 195)) & ~0x3f) == 0 && ((1L << (_la - 195)) & ((1L << (DATABASE - 195)) | (1L << (DATABASES - 195)) | (1L << (DFS - 195)) | (1L << (TRUNCATE - 195)) | (1L << (ANALYZE - 195)) | (1L << (COMPUTE - 195)) | (1L << (LIST - 195)) | (1L << (STATISTICS - 195)) | (1L << (PARTITIONED - 195)) | (1L << (EXTERNAL - 195)) | (1L << (DEFINED - 195)) | (1L << (REVOKE - 195)) | (1L << (GRANT - 195)) | (1L << (LOCK - 195)) | (1L << (UNLOCK - 195)) | (1L << (MSCK - 195)) | (1L << (REPAIR - 195)) | (1L << (RECOVER - 195)) | (1L << (EXPORT - 195)) | (1L << (IMPORT - 195)) | (1L << (LOAD - 195)) | (1L << (ROLE - 195)) | (1L << (ROLES - 195)) | (1L << (COMPACTIONS - 195)) | (1L << (PRINCIPALS - 195)) | (1L << (TRANSACTIONS - 195)) | (1L << (INDEX - 195)) | (1L << (INDEXES - 195)) | (1L << (LOCKS - 195)) | (1L << (OPTION - 195)) | (1L << (LOCAL - 195)) | (1L << (INPATH - 195)) | (1L << (CURRENT_DATE - 195)) | (1L << (CURRENT_TIMESTAMP - 195)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			} else {
 				consume();
@@ -2450,74 +2695,97 @@ public class SqlBaseParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\u00f8\u00c6\4\2\t"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\u00f9\u00fa\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\3\2\3\2\3\2\3\3\3\3\3\3\3\3\5\3,\n\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3\64\n"+
-		"\3\3\3\3\3\3\3\3\3\5\3:\n\3\3\3\3\3\3\3\5\3?\n\3\5\3A\n\3\3\4\3\4\3\4"+
-		"\3\4\3\4\7\4H\n\4\f\4\16\4K\13\4\3\4\3\4\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3"+
-		"\6\3\6\7\6X\n\6\f\6\16\6[\13\6\3\6\3\6\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b"+
-		"\3\b\3\b\3\b\3\b\6\bk\n\b\r\b\16\bl\5\bo\n\b\3\t\3\t\3\t\5\tt\n\t\3\t"+
-		"\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u0087"+
-		"\n\n\3\13\3\13\3\13\5\13\u008c\n\13\3\f\3\f\3\r\3\r\7\r\u0092\n\r\f\r"+
-		"\16\r\u0095\13\r\3\16\3\16\3\16\3\16\5\16\u009b\n\16\3\17\5\17\u009e\n"+
-		"\17\3\17\3\17\5\17\u00a2\n\17\3\20\3\20\3\21\5\21\u00a7\n\21\3\21\3\21"+
-		"\5\21\u00ab\n\21\3\21\3\21\5\21\u00af\n\21\3\21\3\21\5\21\u00b3\n\21\3"+
-		"\21\3\21\5\21\u00b7\n\21\3\21\3\21\5\21\u00bb\n\21\3\21\3\21\5\21\u00bf"+
-		"\n\21\3\21\5\21\u00c2\n\21\3\22\3\22\3\22\2\2\23\2\4\6\b\n\f\16\20\22"+
-		"\24\26\30\32\34\36 \"\2\6\3\2\u0080\u0081\3\2\u00ec\u00ed\3\2#$\t\2\7"+
-		".\61\619^ew\u0085\u0085\u008a\u00e1\u00e3\u00e6\u00e4\2$\3\2\2\2\4@\3"+
-		"\2\2\2\6B\3\2\2\2\bN\3\2\2\2\nR\3\2\2\2\f^\3\2\2\2\16n\3\2\2\2\20s\3\2"+
-		"\2\2\22\u0086\3\2\2\2\24\u008b\3\2\2\2\26\u008d\3\2\2\2\30\u008f\3\2\2"+
-		"\2\32\u0096\3\2\2\2\34\u00a1\3\2\2\2\36\u00a3\3\2\2\2 \u00c1\3\2\2\2\""+
-		"\u00c3\3\2\2\2$%\5\4\3\2%&\7\2\2\3&\3\3\2\2\2\'(\7_\2\2()\7J\2\2)+\5\20"+
-		"\t\2*,\5\6\4\2+*\3\2\2\2+,\3\2\2\2,A\3\2\2\2-.\7\u00d8\2\2./\7p\2\2/\60"+
-		"\5\16\b\2\60\61\7J\2\2\61\63\5\22\n\2\62\64\5\n\6\2\63\62\3\2\2\2\63\64"+
-		"\3\2\2\2\64A\3\2\2\2\65\66\7\u00d6\2\2\66\67\7J\2\2\679\5\20\t\28:\5\6"+
-		"\4\298\3\2\2\29:\3\2\2\2:;\3\2\2\2;<\7e\2\2<>\5\16\b\2=?\5\n\6\2>=\3\2"+
-		"\2\2>?\3\2\2\2?A\3\2\2\2@\'\3\2\2\2@-\3\2\2\2@\65\3\2\2\2A\5\3\2\2\2B"+
-		"C\7<\2\2CD\7\3\2\2DI\5\b\5\2EF\7\4\2\2FH\5\b\5\2GE\3\2\2\2HK\3\2\2\2I"+
-		"G\3\2\2\2IJ\3\2\2\2JL\3\2\2\2KI\3\2\2\2LM\7\5\2\2M\7\3\2\2\2NO\5\22\n"+
-		"\2OP\7x\2\2PQ\5\16\b\2Q\t\3\2\2\2RS\7\u00ac\2\2ST\7\3\2\2TY\5\f\7\2UV"+
-		"\7\4\2\2VX\5\f\7\2WU\3\2\2\2X[\3\2\2\2YW\3\2\2\2YZ\3\2\2\2Z\\\3\2\2\2"+
-		"[Y\3\2\2\2\\]\7\5\2\2]\13\3\2\2\2^_\5\22\n\2_`\7x\2\2`a\5\16\b\2a\r\3"+
-		"\2\2\2bo\7\"\2\2co\5\30\r\2de\5\22\n\2ef\7\u00e7\2\2fo\3\2\2\2go\5 \21"+
-		"\2ho\5\36\20\2ik\7\u00e7\2\2ji\3\2\2\2kl\3\2\2\2lj\3\2\2\2lm\3\2\2\2m"+
-		"o\3\2\2\2nb\3\2\2\2nc\3\2\2\2nd\3\2\2\2ng\3\2\2\2nh\3\2\2\2nj\3\2\2\2"+
-		"o\17\3\2\2\2pq\5\22\n\2qr\7\6\2\2rt\3\2\2\2sp\3\2\2\2st\3\2\2\2tu\3\2"+
-		"\2\2uv\5\22\n\2v\21\3\2\2\2w\u0087\5\24\13\2x\u0087\7\u00e2\2\2y\u0087"+
-		"\7\66\2\2z\u0087\7\62\2\2{\u0087\7\63\2\2|\u0087\7\64\2\2}\u0087\7\65"+
-		"\2\2~\u0087\7\67\2\2\177\u0087\7/\2\2\u0080\u0087\7\60\2\2\u0081\u0087"+
-		"\78\2\2\u0082\u0087\7a\2\2\u0083\u0087\7d\2\2\u0084\u0087\7b\2\2\u0085"+
-		"\u0087\7c\2\2\u0086w\3\2\2\2\u0086x\3\2\2\2\u0086y\3\2\2\2\u0086z\3\2"+
-		"\2\2\u0086{\3\2\2\2\u0086|\3\2\2\2\u0086}\3\2\2\2\u0086~\3\2\2\2\u0086"+
-		"\177\3\2\2\2\u0086\u0080\3\2\2\2\u0086\u0081\3\2\2\2\u0086\u0082\3\2\2"+
-		"\2\u0086\u0083\3\2\2\2\u0086\u0084\3\2\2\2\u0086\u0085\3\2\2\2\u0087\23"+
-		"\3\2\2\2\u0088\u008c\7\u00f0\2\2\u0089\u008c\5\26\f\2\u008a\u008c\5\""+
-		"\22\2\u008b\u0088\3\2\2\2\u008b\u0089\3\2\2\2\u008b\u008a\3\2\2\2\u008c"+
-		"\25\3\2\2\2\u008d\u008e\7\u00f2\2\2\u008e\27\3\2\2\2\u008f\u0093\7)\2"+
-		"\2\u0090\u0092\5\32\16\2\u0091\u0090\3\2\2\2\u0092\u0095\3\2\2\2\u0093"+
-		"\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094\31\3\2\2\2\u0095\u0093\3\2\2"+
-		"\2\u0096\u0097\5\34\17\2\u0097\u009a\5\22\n\2\u0098\u0099\7e\2\2\u0099"+
-		"\u009b\5\22\n\2\u009a\u0098\3\2\2\2\u009a\u009b\3\2\2\2\u009b\33\3\2\2"+
-		"\2\u009c\u009e\t\2\2\2\u009d\u009c\3\2\2\2\u009d\u009e\3\2\2\2\u009e\u009f"+
-		"\3\2\2\2\u009f\u00a2\t\3\2\2\u00a0\u00a2\7\u00e7\2\2\u00a1\u009d\3\2\2"+
-		"\2\u00a1\u00a0\3\2\2\2\u00a2\35\3\2\2\2\u00a3\u00a4\t\4\2\2\u00a4\37\3"+
-		"\2\2\2\u00a5\u00a7\7\u0081\2\2\u00a6\u00a5\3\2\2\2\u00a6\u00a7\3\2\2\2"+
-		"\u00a7\u00a8\3\2\2\2\u00a8\u00c2\7\u00ed\2\2\u00a9\u00ab\7\u0081\2\2\u00aa"+
-		"\u00a9\3\2\2\2\u00aa\u00ab\3\2\2\2\u00ab\u00ac\3\2\2\2\u00ac\u00c2\7\u00ec"+
-		"\2\2\u00ad\u00af\7\u0081\2\2\u00ae\u00ad\3\2\2\2\u00ae\u00af\3\2\2\2\u00af"+
-		"\u00b0\3\2\2\2\u00b0\u00c2\7\u00e8\2\2\u00b1\u00b3\7\u0081\2\2\u00b2\u00b1"+
-		"\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00c2\7\u00e9\2"+
-		"\2\u00b5\u00b7\7\u0081\2\2\u00b6\u00b5\3\2\2\2\u00b6\u00b7\3\2\2\2\u00b7"+
-		"\u00b8\3\2\2\2\u00b8\u00c2\7\u00ea\2\2\u00b9\u00bb\7\u0081\2\2\u00ba\u00b9"+
-		"\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc\u00c2\7\u00ee\2"+
-		"\2\u00bd\u00bf\7\u0081\2\2\u00be\u00bd\3\2\2\2\u00be\u00bf\3\2\2\2\u00bf"+
-		"\u00c0\3\2\2\2\u00c0\u00c2\7\u00ef\2\2\u00c1\u00a6\3\2\2\2\u00c1\u00aa"+
-		"\3\2\2\2\u00c1\u00ae\3\2\2\2\u00c1\u00b2\3\2\2\2\u00c1\u00b6\3\2\2\2\u00c1"+
-		"\u00ba\3\2\2\2\u00c1\u00be\3\2\2\2\u00c2!\3\2\2\2\u00c3\u00c4\t\5\2\2"+
-		"\u00c4#\3\2\2\2\32+\639>@IYlns\u0086\u008b\u0093\u009a\u009d\u00a1\u00a6"+
-		"\u00aa\u00ae\u00b2\u00b6\u00ba\u00be\u00c1";
+		"\4\23\t\23\3\2\3\2\3\2\3\3\3\3\3\3\3\3\5\3.\n\3\3\3\5\3\61\n\3\3\3\5\3"+
+		"\64\n\3\3\3\3\3\3\3\3\3\3\3\5\3;\n\3\3\3\5\3>\n\3\3\3\5\3A\n\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\5\3I\n\3\3\3\3\3\3\3\3\3\5\3O\n\3\3\3\3\3\3\3\5\3T\n"+
+		"\3\5\3V\n\3\3\4\3\4\3\4\3\4\3\4\7\4]\n\4\f\4\16\4`\13\4\3\4\3\4\3\5\3"+
+		"\5\3\5\3\5\3\5\3\5\5\5j\n\5\3\5\3\5\3\5\3\5\3\5\7\5q\n\5\f\5\16\5t\13"+
+		"\5\3\5\3\5\5\5x\n\5\3\6\3\6\3\6\3\6\3\6\3\6\7\6\u0080\n\6\f\6\16\6\u0083"+
+		"\13\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\7\7\u008c\n\7\f\7\16\7\u008f\13\7\3"+
+		"\7\3\7\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\6\t\u009f\n\t\r"+
+		"\t\16\t\u00a0\5\t\u00a3\n\t\3\n\3\n\3\n\5\n\u00a8\n\n\3\n\3\n\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13"+
+		"\u00bb\n\13\3\f\3\f\3\f\5\f\u00c0\n\f\3\r\3\r\3\16\3\16\7\16\u00c6\n\16"+
+		"\f\16\16\16\u00c9\13\16\3\17\3\17\3\17\3\17\5\17\u00cf\n\17\3\20\5\20"+
+		"\u00d2\n\20\3\20\3\20\5\20\u00d6\n\20\3\21\3\21\3\22\5\22\u00db\n\22\3"+
+		"\22\3\22\5\22\u00df\n\22\3\22\3\22\5\22\u00e3\n\22\3\22\3\22\5\22\u00e7"+
+		"\n\22\3\22\3\22\5\22\u00eb\n\22\3\22\3\22\5\22\u00ef\n\22\3\22\3\22\5"+
+		"\22\u00f3\n\22\3\22\5\22\u00f6\n\22\3\23\3\23\3\23\2\2\24\2\4\6\b\n\f"+
+		"\16\20\22\24\26\30\32\34\36 \"$\2\b\4\2xxz\177\3\2\u008e\u008f\3\2\u0080"+
+		"\u0081\3\2\u00ed\u00ee\3\2#$\t\2\7.\61\619^ew\u0085\u0085\u008a\u00e2"+
+		"\u00e4\u00e7\u0121\2&\3\2\2\2\4U\3\2\2\2\6W\3\2\2\2\bw\3\2\2\2\ny\3\2"+
+		"\2\2\f\u0086\3\2\2\2\16\u0092\3\2\2\2\20\u00a2\3\2\2\2\22\u00a7\3\2\2"+
+		"\2\24\u00ba\3\2\2\2\26\u00bf\3\2\2\2\30\u00c1\3\2\2\2\32\u00c3\3\2\2\2"+
+		"\34\u00ca\3\2\2\2\36\u00d5\3\2\2\2 \u00d7\3\2\2\2\"\u00f5\3\2\2\2$\u00f7"+
+		"\3\2\2\2&\'\5\4\3\2\'(\7\2\2\3(\3\3\2\2\2)*\7_\2\2*+\7J\2\2+-\5\22\n\2"+
+		",.\5\6\4\2-,\3\2\2\2-.\3\2\2\2.\60\3\2\2\2/\61\5\n\6\2\60/\3\2\2\2\60"+
+		"\61\3\2\2\2\61\63\3\2\2\2\62\64\5\f\7\2\63\62\3\2\2\2\63\64\3\2\2\2\64"+
+		"V\3\2\2\2\65\66\7Q\2\2\66\67\7_\2\2\678\7J\2\28:\5\22\n\29;\5\6\4\2:9"+
+		"\3\2\2\2:;\3\2\2\2;=\3\2\2\2<>\5\n\6\2=<\3\2\2\2=>\3\2\2\2>@\3\2\2\2?"+
+		"A\5\f\7\2@?\3\2\2\2@A\3\2\2\2AV\3\2\2\2BC\7\u00d9\2\2CD\7p\2\2DE\5\20"+
+		"\t\2EF\7J\2\2FH\5\24\13\2GI\5\f\7\2HG\3\2\2\2HI\3\2\2\2IV\3\2\2\2JK\7"+
+		"\u00d7\2\2KL\7J\2\2LN\5\22\n\2MO\5\6\4\2NM\3\2\2\2NO\3\2\2\2OP\3\2\2\2"+
+		"PQ\7e\2\2QS\5\20\t\2RT\5\f\7\2SR\3\2\2\2ST\3\2\2\2TV\3\2\2\2U)\3\2\2\2"+
+		"U\65\3\2\2\2UB\3\2\2\2UJ\3\2\2\2V\5\3\2\2\2WX\7<\2\2XY\7\3\2\2Y^\5\b\5"+
+		"\2Z[\7\4\2\2[]\5\b\5\2\\Z\3\2\2\2]`\3\2\2\2^\\\3\2\2\2^_\3\2\2\2_a\3\2"+
+		"\2\2`^\3\2\2\2ab\7\5\2\2b\7\3\2\2\2cd\5\24\13\2de\t\2\2\2ef\5\20\t\2f"+
+		"x\3\2\2\2gi\5\24\13\2hj\7\33\2\2ih\3\2\2\2ij\3\2\2\2jk\3\2\2\2kl\7\32"+
+		"\2\2lm\7\3\2\2mr\5\20\t\2no\7\4\2\2oq\5\20\t\2pn\3\2\2\2qt\3\2\2\2rp\3"+
+		"\2\2\2rs\3\2\2\2su\3\2\2\2tr\3\2\2\2uv\7\5\2\2vx\3\2\2\2wc\3\2\2\2wg\3"+
+		"\2\2\2x\t\3\2\2\2yz\t\3\2\2z{\7\17\2\2{|\7\3\2\2|\u0081\5\24\13\2}~\7"+
+		"\4\2\2~\u0080\5\24\13\2\177}\3\2\2\2\u0080\u0083\3\2\2\2\u0081\177\3\2"+
+		"\2\2\u0081\u0082\3\2\2\2\u0082\u0084\3\2\2\2\u0083\u0081\3\2\2\2\u0084"+
+		"\u0085\7\5\2\2\u0085\13\3\2\2\2\u0086\u0087\7\u00ad\2\2\u0087\u0088\7"+
+		"\3\2\2\u0088\u008d\5\16\b\2\u0089\u008a\7\4\2\2\u008a\u008c\5\16\b\2\u008b"+
+		"\u0089\3\2\2\2\u008c\u008f\3\2\2\2\u008d\u008b\3\2\2\2\u008d\u008e\3\2"+
+		"\2\2\u008e\u0090\3\2\2\2\u008f\u008d\3\2\2\2\u0090\u0091\7\5\2\2\u0091"+
+		"\r\3\2\2\2\u0092\u0093\5\24\13\2\u0093\u0094\7x\2\2\u0094\u0095\5\20\t"+
+		"\2\u0095\17\3\2\2\2\u0096\u00a3\7\"\2\2\u0097\u00a3\5\32\16\2\u0098\u0099"+
+		"\5\24\13\2\u0099\u009a\7\u00e8\2\2\u009a\u00a3\3\2\2\2\u009b\u00a3\5\""+
+		"\22\2\u009c\u00a3\5 \21\2\u009d\u009f\7\u00e8\2\2\u009e\u009d\3\2\2\2"+
+		"\u009f\u00a0\3\2\2\2\u00a0\u009e\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1\u00a3"+
+		"\3\2\2\2\u00a2\u0096\3\2\2\2\u00a2\u0097\3\2\2\2\u00a2\u0098\3\2\2\2\u00a2"+
+		"\u009b\3\2\2\2\u00a2\u009c\3\2\2\2\u00a2\u009e\3\2\2\2\u00a3\21\3\2\2"+
+		"\2\u00a4\u00a5\5\24\13\2\u00a5\u00a6\7\6\2\2\u00a6\u00a8\3\2\2\2\u00a7"+
+		"\u00a4\3\2\2\2\u00a7\u00a8\3\2\2\2\u00a8\u00a9\3\2\2\2\u00a9\u00aa\5\24"+
+		"\13\2\u00aa\23\3\2\2\2\u00ab\u00bb\5\26\f\2\u00ac\u00bb\7\u00e3\2\2\u00ad"+
+		"\u00bb\7\66\2\2\u00ae\u00bb\7\62\2\2\u00af\u00bb\7\63\2\2\u00b0\u00bb"+
+		"\7\64\2\2\u00b1\u00bb\7\65\2\2\u00b2\u00bb\7\67\2\2\u00b3\u00bb\7/\2\2"+
+		"\u00b4\u00bb\7\60\2\2\u00b5\u00bb\78\2\2\u00b6\u00bb\7a\2\2\u00b7\u00bb"+
+		"\7d\2\2\u00b8\u00bb\7b\2\2\u00b9\u00bb\7c\2\2\u00ba\u00ab\3\2\2\2\u00ba"+
+		"\u00ac\3\2\2\2\u00ba\u00ad\3\2\2\2\u00ba\u00ae\3\2\2\2\u00ba\u00af\3\2"+
+		"\2\2\u00ba\u00b0\3\2\2\2\u00ba\u00b1\3\2\2\2\u00ba\u00b2\3\2\2\2\u00ba"+
+		"\u00b3\3\2\2\2\u00ba\u00b4\3\2\2\2\u00ba\u00b5\3\2\2\2\u00ba\u00b6\3\2"+
+		"\2\2\u00ba\u00b7\3\2\2\2\u00ba\u00b8\3\2\2\2\u00ba\u00b9\3\2\2\2\u00bb"+
+		"\25\3\2\2\2\u00bc\u00c0\7\u00f1\2\2\u00bd\u00c0\5\30\r\2\u00be\u00c0\5"+
+		"$\23\2\u00bf\u00bc\3\2\2\2\u00bf\u00bd\3\2\2\2\u00bf\u00be\3\2\2\2\u00c0"+
+		"\27\3\2\2\2\u00c1\u00c2\7\u00f3\2\2\u00c2\31\3\2\2\2\u00c3\u00c7\7)\2"+
+		"\2\u00c4\u00c6\5\34\17\2\u00c5\u00c4\3\2\2\2\u00c6\u00c9\3\2\2\2\u00c7"+
+		"\u00c5\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\33\3\2\2\2\u00c9\u00c7\3\2\2"+
+		"\2\u00ca\u00cb\5\36\20\2\u00cb\u00ce\5\24\13\2\u00cc\u00cd\7e\2\2\u00cd"+
+		"\u00cf\5\24\13\2\u00ce\u00cc\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\35\3\2"+
+		"\2\2\u00d0\u00d2\t\4\2\2\u00d1\u00d0\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2"+
+		"\u00d3\3\2\2\2\u00d3\u00d6\t\5\2\2\u00d4\u00d6\7\u00e8\2\2\u00d5\u00d1"+
+		"\3\2\2\2\u00d5\u00d4\3\2\2\2\u00d6\37\3\2\2\2\u00d7\u00d8\t\6\2\2\u00d8"+
+		"!\3\2\2\2\u00d9\u00db\7\u0081\2\2\u00da\u00d9\3\2\2\2\u00da\u00db\3\2"+
+		"\2\2\u00db\u00dc\3\2\2\2\u00dc\u00f6\7\u00ee\2\2\u00dd\u00df\7\u0081\2"+
+		"\2\u00de\u00dd\3\2\2\2\u00de\u00df\3\2\2\2\u00df\u00e0\3\2\2\2\u00e0\u00f6"+
+		"\7\u00ed\2\2\u00e1\u00e3\7\u0081\2\2\u00e2\u00e1\3\2\2\2\u00e2\u00e3\3"+
+		"\2\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00f6\7\u00e9\2\2\u00e5\u00e7\7\u0081"+
+		"\2\2\u00e6\u00e5\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8"+
+		"\u00f6\7\u00ea\2\2\u00e9\u00eb\7\u0081\2\2\u00ea\u00e9\3\2\2\2\u00ea\u00eb"+
+		"\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00f6\7\u00eb\2\2\u00ed\u00ef\7\u0081"+
+		"\2\2\u00ee\u00ed\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f0\3\2\2\2\u00f0"+
+		"\u00f6\7\u00ef\2\2\u00f1\u00f3\7\u0081\2\2\u00f2\u00f1\3\2\2\2\u00f2\u00f3"+
+		"\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f6\7\u00f0\2\2\u00f5\u00da\3\2\2"+
+		"\2\u00f5\u00de\3\2\2\2\u00f5\u00e2\3\2\2\2\u00f5\u00e6\3\2\2\2\u00f5\u00ea"+
+		"\3\2\2\2\u00f5\u00ee\3\2\2\2\u00f5\u00f2\3\2\2\2\u00f6#\3\2\2\2\u00f7"+
+		"\u00f8\t\7\2\2\u00f8%\3\2\2\2#-\60\63:=@HNSU^irw\u0081\u008d\u00a0\u00a2"+
+		"\u00a7\u00ba\u00bf\u00c7\u00ce\u00d1\u00d5\u00da\u00de\u00e2\u00e6\u00ea"+
+		"\u00ee\u00f2\u00f5";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
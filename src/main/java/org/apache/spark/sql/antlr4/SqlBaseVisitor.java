@@ -24,6 +24,13 @@ public interface SqlBaseVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitMergeTable(SqlBaseParser.MergeTableContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code explainMergeTable}
+	 * labeled alternative in {@link SqlBaseParser#statement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExplainMergeTable(SqlBaseParser.ExplainMergeTableContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code LOADTABLE}
 	 * labeled alternative in {@link SqlBaseParser#statement}.
@@ -50,6 +57,12 @@ public interface SqlBaseVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitPartitionVal(SqlBaseParser.PartitionValContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SqlBaseParser#clusterSpec}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitClusterSpec(SqlBaseParser.ClusterSpecContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SqlBaseParser#loadOptions}.
 	 * @param ctx the parse tree
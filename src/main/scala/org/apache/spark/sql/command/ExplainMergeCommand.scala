@@ -0,0 +1,74 @@
+package org.apache.spark.sql.command
+
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+
+import scala.collection.JavaConversions._
+import org.apache.spark.sql.{Row, SparkSession}
+import org.apache.spark.sql.antlr4.SqlBaseParser.{ClusterSpecContext, LoadOptionsContext, PartitionSpecContext, TableIdentifierContext}
+import org.apache.spark.sql.catalyst.TableIdentifier
+import org.apache.spark.sql.catalyst.expressions.{Attribute, AttributeReference}
+import org.apache.spark.sql.execution.command.RunnableCommand
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.sql.types.{IntegerType, LongType, StringType}
+import org.apache.spark.sql.utils.{DirectoryWalker, MergeEstimate, MergeFileLister, MergeJournal, MergeOutput, MergeReader, MergeState, MergeTableUtils, MergeThrottle}
+import org.slf4j.LoggerFactory
+
+/**
+  * EXPLAIN MERGE TABLE: lists the directories a MERGE TABLE statement would visit and runs its
+  * file selection on them, one row per partition. Nothing is read, written or recovered.
+  */
+case class ExplainMergeCommand(tableIdentifier:TableIdentifierContext, partitionSpec: PartitionSpecContext, clusterSpec: ClusterSpecContext,
+                               loadOptions: LoadOptionsContext) extends RunnableCommand {
+
+    private final val logger = LoggerFactory.getLogger(classOf[ExplainMergeCommand])
+
+    override val output: Seq[Attribute] = Seq(
+        AttributeReference("location", StringType, nullable = false)(),
+        AttributeReference("status", StringType, nullable = false)(),
+        AttributeReference("candidate_files", IntegerType, nullable = false)(),
+        AttributeReference("candidate_bytes", LongType, nullable = false)(),
+        AttributeReference("merge_files", IntegerType, nullable = false)(),
+        AttributeReference("output_files", IntegerType, nullable = false)(),
+        AttributeReference("read_bytes", LongType, nullable = false)(),
+        AttributeReference("write_bytes", LongType, nullable = false)())
+
+    override def run(sparkSession: SparkSession): Seq[Row] = {
+        val catalog = sparkSession.sessionState.catalog
+        val tableName = tableIdentifier.table.getText
+        var db = catalog.getCurrentDatabase
+        if(tableIdentifier.db!=null){
+            db = tableIdentifier.db.getText
+        }
+        val tableMeta = catalog.getTableMetadata(TableIdentifier(tableName, Option(db)))
+        val root = tableMeta.location.getPath
+        val conf = sparkSession.sparkContext.getConf
+        val mergeOutput = MergeOutput(clusterSpec, loadOptions, conf, tableMeta)
+
+        val hadoopConf = MergeTableUtils.mergeHadoopConf(sparkSession)
+        val reader = MergeReader(sparkSession, tableMeta)
+        val readPartitions = (files: Seq[FileStatus]) => reader.readPartitions(sparkSession, hadoopConf, mergeOutput.format, files)
+        val throttle = MergeThrottle(sparkSession)
+
+        val time = System.currentTimeMillis()
+        val lister = MergeFileLister(sparkSession)
+        val journal = MergeJournal(sparkSession, root, readOnly = true)
+        val estimates = new ConcurrentLinkedQueue[MergeEstimate]()
+        val recursive = conf.get(SparkParserConfig.sparkMergeRecursive, "true")
+        if(partitionSpec == null && recursive.equalsIgnoreCase("true")){
+            val state = MergeState(sparkSession, root)
+            DirectoryWalker(sparkSession, lister).walk(new Path(root), state.shouldVisit){ (dir, statuses) =>
+                estimates.add(MergeEstimate(conf, dir.toString, lister, journal, mergeOutput.bucketSpec, throttle, readPartitions, statuses))
+            }
+        } else{
+            val locations = if(partitionSpec == null) Seq(root) else MergeTableUtils.partitionLocations(sparkSession, tableMeta, partitionSpec)
+            for(location <- locations){
+                estimates.add(MergeEstimate(conf, location, lister, journal, mergeOutput.bucketSpec, throttle, readPartitions,
+                    lister.listStatus(new Path(location))))
+            }
+        }
+        logger.info("estimated {} partitions of {} in {} ms", Int.box(estimates.size()), tableName, Long.box(System.currentTimeMillis()-time))
+        estimates.toSeq.sortBy(_.location).map(_.toRow)
+    }
+}
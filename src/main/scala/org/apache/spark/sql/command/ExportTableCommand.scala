@@ -14,6 +14,7 @@ import org.apache.spark.sql.catalyst.encoders.RowEncoder
 import org.apache.spark.sql.execution.QueryExecution
 import org.apache.spark.sql.execution.command.RunnableCommand
 import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.sql.utils.MergeTableUtils
 import org.slf4j.LoggerFactory
 
 /**
@@ -36,22 +37,16 @@ case class ExportTableCommand(tableIdentifier:TableIdentifierContext, partitionS
             val tableMeta = catalog.getTableMetadata(dbTable)
             logger.info("table {} type {}, location: {}", tableName, tableMeta.tableType, tableMeta.location.getPath)
 
-            var location = tableMeta.location.getPath
+            var locations = Seq(tableMeta.location.getPath)
             if(partitionSpec != null){
-                val list = new LinkedList[String]()
-                for(partition <- partitionSpec.partitionVal()){
-                    if(partition.getText.contains("<")){
-                        list.add(StringUtils.substringBefore(partition.getText, "<"))
-                    } else{
-                        val key = partition.identifier().getText
-                        var value = partition.constant().getText
-                        if(value.startsWith("'") && value.endsWith("'")) value = StringUtils.substringBetween(value, "'")
-                        list.add(key+"="+value)
-                    }
+                locations = MergeTableUtils.partitionLocations(sparkSession, tableMeta, partitionSpec)
+                if(locations.isEmpty){
+                    throw new RuntimeException("no partition of table "+tableName+" matches "+partitionSpec.getText)
                 }
-                location = location+"/"+StringUtils.join(list, "/")
             }
-            df = sparkSession.read.format("parquet").option("inferSchema", "true").load(location)
+            // several partitions keep their partition columns, so the rows of each stay apart
+            val reader = sparkSession.read.format("parquet").option("inferSchema", "true")
+            df = if(locations.size > 1) reader.option("basePath", tableMeta.location.getPath).load(locations: _*) else reader.load(locations.head)
         } else if(sparkSession.sessionState.catalog.getTempView(tableName).isDefined){
             val logicPlan = sparkSession.sessionState.catalog.getTempView(tableName).get
             val execution = sparkSession.sessionState.executePlan(logicPlan)
@@ -5,17 +5,59 @@ package org.apache.spark.sql.parser
   */
 object SparkParserConfig {
 
-    var skipPathFilter = true
-
     val sparkMergeRecursive = "spark.parser.merge.recursive"
 
+    val sparkMergeMode = "spark.parser.merge.mode"
+
+    val sparkMergeEngine = "spark.parser.merge.engine"
+
+    val sparkMergeReader = "spark.parser.merge.reader"
+
     val sparkMergeFileNum = "spark.parser.merge.num"
 
     val sparkMergeFilterSize = "spark.parser.merge.filter.size"
 
+    val sparkMergeTargetBytes = "spark.parser.merge.target.bytes"
+
+    val sparkMergeParallelism = "spark.parser.merge.parallelism"
+
+    val sparkMergeSchedulerPool = "spark.parser.merge.scheduler.pool"
+
+    val sparkMergeListParallelism = "spark.parser.merge.list.parallelism"
+
+    val sparkMergeJournal = "spark.parser.merge.journal"
+
+    val sparkMergeIncremental = "spark.parser.merge.incremental"
+
+    val sparkMergeThrottleRate = "spark.parser.merge.throttle.rate"
+
+    val sparkMergeThrottleTasks = "spark.parser.merge.throttle.tasks"
+
+    val sparkMergeFailOnError = "spark.parser.merge.failOnError"
+
+    val sparkMergeMinFileAge = "spark.parser.merge.min.age"
+
+    val sparkMergeUpdateStats = "spark.parser.merge.stats.update"
+
+    val sparkMergePrewarm = "spark.parser.merge.prewarm"
+
+    val sparkMergeCommit = "spark.parser.merge.commit"
+
+    val sparkMergeServiceEnabled = "spark.parser.merge.service.enabled"
+
+    val sparkMergeServiceTables = "spark.parser.merge.service.tables"
+
+    val sparkMergeServiceInterval = "spark.parser.merge.service.interval"
+
+    val sparkMergeServiceParallelism = "spark.parser.merge.service.parallelism"
+
     val sparkInputSplitMaxSize = "spark.parser.input.split.maxsize"
 
     val sparkInputSplitMinSize = "spark.parser.input.split.minsize"
 
+    val sparkInputSplitMinSizePerNode = "spark.parser.input.split.minsize.per.node"
+
+    val sparkInputSplitMinSizePerRack = "spark.parser.input.split.minsize.per.rack"
+
     val sparkExportDefaultPath = "/user/hive/warehouse/"
 }
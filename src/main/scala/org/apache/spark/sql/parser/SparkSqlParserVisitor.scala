@@ -7,7 +7,7 @@ import org.apache.commons.lang.StringUtils
 import org.apache.spark.sql.antlr4.{SqlBaseBaseVisitor, SqlBaseParser}
 import org.apache.spark.sql.catalyst.parser.ParserUtils.withOrigin
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan
-import org.apache.spark.sql.command.{ExportTableCommand, LoadCommand, MergeTableCommand}
+import org.apache.spark.sql.command.{ExplainMergeCommand, ExportTableCommand, LoadCommand, MergeTableCommand}
 import org.apache.spark.sql.internal.SQLConf
 
 /**
@@ -20,7 +20,11 @@ class SparkSqlParserVisitor(conf: SQLConf) extends SqlBaseBaseVisitor[AnyRef] {
     }
 
     override def visitMergeTable(ctx: SqlBaseParser.MergeTableContext): LogicalPlan = withOrigin(ctx){
-        MergeTableCommand(ctx.tableIdentifier, ctx.partitionSpec)
+        MergeTableCommand(ctx.tableIdentifier, ctx.partitionSpec, ctx.clusterSpec, ctx.loadOptions)
+    }
+
+    override def visitExplainMergeTable(ctx: SqlBaseParser.ExplainMergeTableContext): LogicalPlan = withOrigin(ctx){
+        ExplainMergeCommand(ctx.tableIdentifier, ctx.partitionSpec, ctx.clusterSpec, ctx.loadOptions)
     }
 
     override def visitLOADTABLE(ctx: SqlBaseParser.LOADTABLEContext): LogicalPlan = withOrigin(ctx){
@@ -13,7 +13,7 @@ object MergeTableStrategy extends Strategy with Serializable{
 
     override def apply(plan: LogicalPlan): Seq[SparkPlan] = plan match {
         case s:MergeTableCommand =>
-            MergeTablePlan(plan.output, s.tableIdentifier, s.partitionSpec) :: Nil
+            MergeTablePlan(plan.output, s.tableIdentifier, s.partitionSpec, s.clusterSpec, s.loadOptions) :: Nil
         case _ => Nil
     }
 }
@@ -0,0 +1,64 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.mutable.ListBuffer
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.spark.{SparkContext, TaskContext}
+import org.apache.spark.util.SerializableConfiguration
+import org.slf4j.LoggerFactory
+
+/**
+  * Merges files without decoding them. Every task opens its inputs, splits them into groups
+  * that can share a file, and appends every group into an output of its own through the format
+  * specific appendFile. The copy is paced by the bytes appended.
+  */
+abstract class AppendMerger[T] extends Serializable {
+
+    @transient private lazy val logger = LoggerFactory.getLogger(getClass)
+
+    protected def extension: String
+
+    protected def open(conf: Configuration, path: Path): T
+
+    /**
+      * Inputs with the same layout can be appended into one file.
+      */
+    protected def layout(input: T): Any
+
+    /**
+      * Appends the inputs into output, progress is called with the bytes of every piece copied.
+      */
+    protected def appendFile(conf: Configuration, output: Path, inputs: Seq[(Path, T)], progress: Long => Unit): Unit
+
+    /**
+      * Merges every (output directory, input files) pair and returns the files written.
+      * A pair is a task of its own unless the throttle allows fewer tasks.
+      */
+    def merge(sparkContext: SparkContext, hadoopConf: Configuration, tasks: Seq[(String, Seq[FileStatus])], throttle: MergeThrottle): Seq[Path] ={
+        val conf = sparkContext.broadcast(new SerializableConfiguration(hadoopConf))
+        val inputs = tasks.map{ case (outputDir, files) => (outputDir, files.map(_.getPath.toString)) }
+        val rate = throttle.taskRate
+        throttle.withTasks(inputs.size){
+            sparkContext.parallelize(inputs, throttle.tasks(inputs.size)).map{ case (outputDir, paths) =>
+                appendFiles(conf.value.value, outputDir, paths, rate)
+            }.collect().flatten.map(new Path(_))
+        }
+    }
+
+    private def appendFiles(conf: Configuration, outputDir: String, paths: Seq[String], rate: Long): Seq[String] ={
+        val start = System.currentTimeMillis()
+        var bytes = 0L
+        val inputs = paths.map(path => (new Path(path), open(conf, new Path(path))))
+        val outputs = new ListBuffer[String]()
+        for((_, files) <- inputs.groupBy{ case (_, input) => layout(input) }){
+            val output = new Path(outputDir, ManifestCommit.fileName(conf, TaskContext.getPartitionId(), extension))
+            appendFile(conf, output, files, copied =>{
+                bytes += copied
+                MergeThrottle.pace(rate, start, bytes)
+            })
+            logger.info("appended {} files into {}", files.size, output)
+            outputs += output.toString
+        }
+        outputs
+    }
+}
@@ -0,0 +1,93 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import scala.reflect.ClassTag
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, PathFilter}
+import org.apache.hadoop.mapreduce.Job
+import org.apache.parquet.example.data.Group
+import org.apache.spark.rdd.RDD
+import org.apache.spark.sql.{CombineParquetInputFormat, CombineVectorizedParquetInputFormat, DataFrame, SparkSession}
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.sql.types.{AtomicType, StructType}
+import org.slf4j.LoggerFactory
+
+/**
+  * Reads parquet inputs through the combine input formats, with the vectorized reader if
+  * spark.parser.merge.reader is vectorized and the schema is flat, otherwise as parquet groups
+  * converted into rows. The combine readers decode parquet only, other formats are read through
+  * their data source.
+  */
+class CombineMergeReader(schema: StructType) extends MergeReader {
+
+    private final val logger = LoggerFactory.getLogger(classOf[CombineMergeReader])
+
+    override def read(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, groups: Seq[Seq[FileStatus]],
+                      coalesceNum: Int): DataFrame ={
+        if(format != MergeFormat.Parquet){
+            return MergeReader.DataSource.read(sparkSession, hadoopConf, format, groups, coalesceNum)
+        }
+        // partitions may be merged concurrently, so the input settings of a job go into a copy of its own
+        val jobConf = new Configuration(hadoopConf)
+        jobConf.setClass("mapreduce.input.pathFilter.class", classOf[CombineParquetInputFormat.CombineFilter], classOf[PathFilter])
+        if(isVectorized(sparkSession)){
+            CombineVectorizedParquetInputFormat.setRequestedSchema(jobConf, schema)
+            // rows of the column batches go to the writer as they are, without a Row conversion
+            val rowRdd = readCombined(sparkSession, jobConf, classOf[CombineVectorizedParquetInputFormat], classOf[InternalRow], groups, coalesceNum)
+            sparkSession.internalCreateDataFrame(rowRdd, schema)
+        } else{
+            val rdd = readCombined(sparkSession, jobConf, classOf[CombineParquetInputFormat[Group]], classOf[Group], groups, coalesceNum)
+            val rowSchema = schema
+            val rowRdd = rdd.mapPartitions(groups =>{
+                val converter = new GroupRowConverter(rowSchema)
+                groups.map(converter.convert)
+            })
+            sparkSession.internalCreateDataFrame(rowRdd, schema)
+        }
+    }
+
+    /**
+      * The combine input formats pack the files into splits of up to the split maximum, node and
+      * rack locality may leave a few more.
+      */
+    override def readPartitions(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, files: Seq[FileStatus]): Int ={
+        if(format != MergeFormat.Parquet){
+            return MergeReader.DataSource.readPartitions(sparkSession, hadoopConf, format, files)
+        }
+        val maxSize = hadoopConf.getLong("mapreduce.input.fileinputformat.split.maxsize", 0L)
+        val totalBytes = files.map(_.getLen).sum
+        if(maxSize <= 0) files.size else Math.max(1, Math.ceil(totalBytes.toDouble/maxSize).toInt)
+    }
+
+    private def isVectorized(sparkSession: SparkSession): Boolean ={
+        val reader = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeReader, "group")
+        if(!reader.equalsIgnoreCase("vectorized")){
+            return false
+        }
+        val supported = schema.fields.forall(_.dataType.isInstanceOf[AtomicType])
+        if(!supported){
+            logger.info("schema {} is not flat, fall back to the group reader", schema.simpleString)
+        }
+        supported
+    }
+
+    /**
+      * Reads the groups through the combine input format, bound to exactly the selected files.
+      */
+    private def readCombined[T: ClassTag](sparkSession: SparkSession, jobConf: Configuration, inputFormat: Class[_ <: CombineParquetInputFormat[T]],
+                                          valueClass: Class[T], groups: Seq[Seq[FileStatus]], coalesceNum: Int): RDD[T] ={
+        val sparkContext = sparkSession.sparkContext
+        def read(files: Seq[FileStatus]): RDD[(Void, T)] ={
+            val job = Job.getInstance(jobConf)
+            CombineParquetInputFormat.setInputFiles(job, files)
+            sparkContext.newAPIHadoopRDD(job.getConfiguration, inputFormat, classOf[Void], valueClass)
+        }
+        val rdd = if(coalesceNum <= 0){
+            sparkContext.union(groups.map(group => read(group).coalesce(1)))
+        } else{
+            read(groups.flatten).coalesce(coalesceNum, false)
+        }
+        rdd.map(_._2)
+    }
+}
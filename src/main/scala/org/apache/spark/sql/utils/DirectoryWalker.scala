@@ -0,0 +1,51 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{ForkJoinPool, ForkJoinTask, RecursiveAction}
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * Walks a directory tree on a bounded fork-join pool. Sibling directories are listed
+  * concurrently and every directory is handed to the visitor as soon as it is listed,
+  * so merges can start while the rest of the tree is still being discovered.
+  * The visitor is called from several threads at once.
+  */
+class DirectoryWalker(lister: MergeFileLister, parallelism: Int) {
+
+    private final val logger = LoggerFactory.getLogger(classOf[DirectoryWalker])
+
+    /**
+      * Walks the tree under root, sub directories rejected by the filter are not listed.
+      */
+    def walk(root: Path, filter: FileStatus => Boolean = _ => true)(visit: (Path, Array[FileStatus]) => Unit): Unit ={
+        val time = System.currentTimeMillis()
+        val pool = new ForkJoinPool(parallelism)
+        try{
+            pool.invoke(new WalkTask(root, filter, visit))
+        } finally {
+            pool.shutdown()
+        }
+        logger.info("walked {} in {} ms", root, System.currentTimeMillis()-time)
+    }
+
+    private class WalkTask(dir: Path, filter: FileStatus => Boolean, visit: (Path, Array[FileStatus]) => Unit) extends RecursiveAction {
+        override def compute(): Unit ={
+            val statuses = lister.listStatus(dir)
+            visit(dir, statuses)
+            val children = lister.directories(statuses).filter(filter).map(status => new WalkTask(status.getPath, filter, visit))
+            ForkJoinTask.invokeAll(seqAsJavaList(children))
+        }
+    }
+}
+
+object DirectoryWalker {
+
+    def apply(sparkSession: SparkSession, lister: MergeFileLister): DirectoryWalker ={
+        val parallelism = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeListParallelism, "8").toInt
+        new DirectoryWalker(lister, Math.max(parallelism, 1))
+    }
+}
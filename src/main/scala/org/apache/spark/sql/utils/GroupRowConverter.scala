@@ -0,0 +1,227 @@
+package org.apache.spark.sql.utils
+
+import java.math.{BigDecimal, BigInteger}
+import java.nio.ByteOrder
+
+import org.apache.parquet.example.data.Group
+import org.apache.parquet.schema.{GroupType, OriginalType, Type}
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.{GenericInternalRow, SpecificInternalRow}
+import org.apache.spark.sql.catalyst.util.{ArrayBasedMapData, DateTimeUtils, GenericArrayData}
+import org.apache.spark.sql.types._
+import org.apache.spark.unsafe.types.UTF8String
+
+/**
+  * Converts parquet example groups into catalyst rows. The converters are compiled once from
+  * the table schema, parquet field indexes are only looked up again when the file schema changes.
+  * The returned row is reused for every record, it is only valid until the next call.
+  */
+class GroupRowConverter(schema: StructType) {
+
+    private val root = new GroupRowConverter.StructConverter(schema)
+
+    private val row = new SpecificInternalRow(schema.map(_.dataType))
+
+    def convert(group: Group): InternalRow ={
+        root.fill(group, row)
+        row
+    }
+}
+
+object GroupRowConverter {
+
+    /**
+      * Converts the i-th value of the field at index of a group.
+      */
+    private[utils] abstract class FieldConverter {
+
+        def convert(group: Group, index: Int, i: Int): Any
+
+        def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit ={
+            row.update(ordinal, convert(group, index, i))
+        }
+    }
+
+    private def compile(dataType: DataType): FieldConverter = dataType match {
+        case BooleanType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getBoolean(index, i)
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setBoolean(ordinal, group.getBoolean(index, i))
+        }
+        case ByteType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getInteger(index, i).toByte
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setByte(ordinal, group.getInteger(index, i).toByte)
+        }
+        case ShortType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getInteger(index, i).toShort
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setShort(ordinal, group.getInteger(index, i).toShort)
+        }
+        case IntegerType | DateType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getInteger(index, i)
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setInt(ordinal, group.getInteger(index, i))
+        }
+        case LongType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getLong(index, i)
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setLong(ordinal, group.getLong(index, i))
+        }
+        case FloatType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getFloat(index, i)
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setFloat(ordinal, group.getFloat(index, i))
+        }
+        case DoubleType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getDouble(index, i)
+            override def set(group: Group, index: Int, i: Int, row: InternalRow, ordinal: Int): Unit =
+                row.setDouble(ordinal, group.getDouble(index, i))
+        }
+        case StringType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = UTF8String.fromBytes(group.getBinary(index, i).getBytes)
+        }
+        case BinaryType => new FieldConverter {
+            override def convert(group: Group, index: Int, i: Int): Any = group.getBinary(index, i).getBytes
+        }
+        case TimestampType => new TimestampConverter
+        case decimalType: DecimalType => new DecimalConverter(decimalType)
+        case ArrayType(elementType, _) => new ArrayConverter(elementType)
+        case MapType(keyType, valueType, _) => new MapConverter(keyType, valueType)
+        case structType: StructType => new StructConverter(structType)
+        case _ => throw new RuntimeException("unsupported data type "+dataType.simpleString)
+    }
+
+    private class TimestampConverter extends FieldConverter {
+        override def convert(group: Group, index: Int, i: Int): Any ={
+            val fieldType = group.getType.getType(index).asPrimitiveType()
+            if(fieldType.getPrimitiveTypeName == PrimitiveTypeName.INT96){
+                val buffer = group.getInt96(index, i).toByteBuffer.order(ByteOrder.LITTLE_ENDIAN)
+                val timeOfDayNanos = buffer.getLong
+                val julianDay = buffer.getInt
+                DateTimeUtils.fromJulianDay(julianDay, timeOfDayNanos)
+            } else if(fieldType.getOriginalType == OriginalType.TIMESTAMP_MILLIS){
+                group.getLong(index, i)*1000
+            } else{
+                group.getLong(index, i)
+            }
+        }
+    }
+
+    private class DecimalConverter(decimalType: DecimalType) extends FieldConverter {
+        override def convert(group: Group, index: Int, i: Int): Any ={
+            group.getType.getType(index).asPrimitiveType().getPrimitiveTypeName match {
+                case PrimitiveTypeName.INT32 => Decimal(group.getInteger(index, i).toLong, decimalType.precision, decimalType.scale)
+                case PrimitiveTypeName.INT64 => Decimal(group.getLong(index, i), decimalType.precision, decimalType.scale)
+                case _ =>
+                    val unscaled = new BigInteger(group.getBinary(index, i).getBytes)
+                    Decimal(new BigDecimal(unscaled, decimalType.scale), decimalType.precision, decimalType.scale)
+            }
+        }
+    }
+
+    /**
+      * Understands the standard three level lists as well as the legacy two level lists
+      * written by older parquet-avro, parquet-thrift and hive.
+      */
+    private class ArrayConverter(elementType: DataType) extends FieldConverter {
+
+        private val element = compile(elementType)
+
+        private def isElement(repeated: Type): Boolean ={
+            repeated.isPrimitive || repeated.asGroupType().getFieldCount > 1 ||
+                repeated.getName == "array" || repeated.getName.endsWith("_tuple")
+        }
+
+        override def convert(group: Group, index: Int, i: Int): Any ={
+            val fieldType = group.getType.getType(index)
+            if(fieldType.isRepetition(Type.Repetition.REPEATED) && fieldType.getOriginalType != OriginalType.LIST){
+                // a repeated field without a list annotation is the array itself, a repeated list is
+                // the element of an outer two level list
+                val values = new Array[Any](group.getFieldRepetitionCount(index))
+                for(k <- values.indices){
+                    values(k) = element.convert(group, index, k)
+                }
+                return new GenericArrayData(values)
+            }
+            val list = group.getGroup(index, i)
+            val values = new Array[Any](list.getFieldRepetitionCount(0))
+            if(isElement(list.getType.getType(0))){
+                for(k <- values.indices){
+                    values(k) = element.convert(list, 0, k)
+                }
+            } else{
+                for(k <- values.indices){
+                    val item = list.getGroup(0, k)
+                    values(k) = if(item.getFieldRepetitionCount(0) == 0) null else element.convert(item, 0, 0)
+                }
+            }
+            new GenericArrayData(values)
+        }
+    }
+
+    private class MapConverter(keyType: DataType, valueType: DataType) extends FieldConverter {
+
+        private val key = compile(keyType)
+
+        private val value = compile(valueType)
+
+        override def convert(group: Group, index: Int, i: Int): Any ={
+            val map = group.getGroup(index, i)
+            val size = map.getFieldRepetitionCount(0)
+            val keys = new Array[Any](size)
+            val values = new Array[Any](size)
+            for(k <- 0 until size){
+                val entry = map.getGroup(0, k)
+                keys(k) = key.convert(entry, 0, 0)
+                values(k) = if(entry.getFieldRepetitionCount(1) == 0) null else value.convert(entry, 1, 0)
+            }
+            new ArrayBasedMapData(new GenericArrayData(keys), new GenericArrayData(values))
+        }
+    }
+
+    private[utils] class StructConverter(schema: StructType) extends FieldConverter {
+
+        private val converters = schema.fields.map(field => compile(field.dataType))
+
+        private var groupType: GroupType = _
+
+        private var indexes: Array[Int] = _
+
+        private def fieldIndex(name: String): Int ={
+            if(groupType.containsField(name)){
+                return groupType.getFieldIndex(name)
+            }
+            // hive keeps lower case column names, the files may not
+            val fields = groupType.getFields
+            for(index <- 0 until fields.size()){
+                if(fields.get(index).getName.equalsIgnoreCase(name)){
+                    return index
+                }
+            }
+            -1
+        }
+
+        def fill(group: Group, row: InternalRow): Unit ={
+            if(group.getType ne groupType){
+                groupType = group.getType
+                indexes = schema.fields.map(field => fieldIndex(field.name))
+            }
+            for(ordinal <- converters.indices){
+                val index = indexes(ordinal)
+                if(index < 0 || group.getFieldRepetitionCount(index) == 0){
+                    row.setNullAt(ordinal)
+                } else{
+                    converters(ordinal).set(group, index, 0, row, ordinal)
+                }
+            }
+        }
+
+        override def convert(group: Group, index: Int, i: Int): Any ={
+            val row = new GenericInternalRow(converters.length)
+            fill(group.getGroup(index, i), row)
+            row
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.apache.spark.sql.utils
+
+import java.nio.charset.StandardCharsets
+import java.util.UUID
+
+import org.apache.commons.io.IOUtils
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, FileSystem, Path}
+import org.apache.parquet.hadoop.util.HiddenFileFilter
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.internal.SQLConf
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * Commits the merge of a partition in place, for object stores where a rename copies the file.
+  * The merged files are written straight into the partition with the id of the merge in their
+  * names, and two markers next to them switch the partition over:
+  *
+  *  _merge_<id>.pending    written before any merged file, lists the inputs of the merge
+  *  _merge_<id>.committed  empty, written once all merged files are complete
+  *
+  * Until the committed marker exists the merged files are uncommitted, from then on the inputs
+  * are. Once the inputs are deleted the pending and then the committed marker are removed.
+  * Spark skips the markers as hidden files, MergeCommitFilter hides the uncommitted files from
+  * readers that set it as their input path filter.
+  */
+object ManifestCommit {
+
+    private final val logger = LoggerFactory.getLogger(ManifestCommit.getClass)
+
+    /**
+      * Hadoop key carrying the merge id to the tasks writing the merged files.
+      */
+    val ID_KEY = "spark.parser.merge.commit.id"
+
+    private val PREFIX = "_merge_"
+
+    private val PENDING = ".pending"
+
+    private val COMMITTED = ".committed"
+
+    def isEnabled(conf: SparkConf): Boolean = conf.get(SparkParserConfig.sparkMergeCommit, "rename").equalsIgnoreCase("manifest")
+
+    def newId(): String = UUID.randomUUID().toString
+
+    /**
+      * Session the merged files are written from, its writes go through ManifestCommitProtocol.
+      */
+    def writeSession(sparkSession: SparkSession): SparkSession ={
+        val session = sparkSession.cloneSession()
+        session.sessionState.conf.setConf(SQLConf.FILE_COMMIT_PROTOCOL_CLASS, classOf[ManifestCommitProtocol].getName)
+        session
+    }
+
+    /**
+      * Copy of the configuration of a merge for the tasks writing its files in place.
+      */
+    def jobConf(hadoopConf: Configuration, id: String): Configuration ={
+        val conf = new Configuration(hadoopConf)
+        conf.set(ID_KEY, id)
+        conf
+    }
+
+    /**
+      * Name of a file written by a merge task. Files of a merge committing in place carry its id.
+      */
+    def fileName(conf: Configuration, partitionId: Int, extension: String): String =
+        "part-%05d-%s%s".format(partitionId, Option(conf.get(ID_KEY)).map(_+"-").getOrElse("")+UUID.randomUUID(), extension)
+
+    def begin(fs: FileSystem, location: String, id: String, inputs: Seq[Path]): Unit =
+        write(fs, marker(location, id, PENDING), inputs.map(_.getName))
+
+    /**
+      * The merged files of a merge, those of tasks that did not report back excluded and deleted.
+      */
+    def outputs(fs: FileSystem, location: String, id: String, written: Option[Seq[Path]]): Seq[FileStatus] ={
+        val files = fs.listStatus(new Path(location), HiddenFileFilter.INSTANCE).filter(file => file.isFile && file.getPath.getName.contains(id)).toSeq
+        val names = written.map(_.map(_.getName).toSet)
+        val (outputs, orphans) = files.partition(file => names.forall(_.contains(file.getPath.getName)))
+        for(orphan <- orphans){
+            logger.info("delete {} of a failed task", orphan.getPath)
+            fs.delete(orphan.getPath, false)
+        }
+        outputs
+    }
+
+    /**
+      * Switches the partition over to the merged files, returns false if it already was.
+      */
+    def publish(fs: FileSystem, location: String, id: String): Boolean ={
+        val committed = marker(location, id, COMMITTED)
+        if(fs.exists(committed)){
+            return false
+        }
+        write(fs, committed, Nil)
+        true
+    }
+
+    /**
+      * Removes the markers of a merge whose inputs are deleted.
+      */
+    def finish(fs: FileSystem, location: String, id: String): Unit ={
+        fs.delete(marker(location, id, PENDING), false)
+        fs.delete(marker(location, id, COMMITTED), false)
+    }
+
+    def rollBack(fs: FileSystem, location: String, id: String): Unit ={
+        for(file <- fs.listStatus(new Path(location)) if file.getPath.getName.contains(id) && !file.getPath.getName.startsWith(PREFIX)){
+            fs.delete(file.getPath, false)
+        }
+        fs.delete(marker(location, id, PENDING), false)
+    }
+
+    /**
+      * Finishes the merges an earlier run left in the listing of location: committed merges get
+      * their inputs deleted, uncommitted ones their merged files. Returns the listing without
+      * the files removed, a listing without markers comes back as it is.
+      */
+    def recover(fs: FileSystem, location: String, statuses: Array[FileStatus]): Array[FileStatus] ={
+        val markers = statuses.map(_.getPath.getName).filter(_.startsWith(PREFIX))
+        if(markers.isEmpty){
+            return statuses
+        }
+        val removed = new scala.collection.mutable.HashSet[String]()
+        for(id <- markers.filter(_.endsWith(PENDING)).map(idOf)){
+            if(markers.contains(PREFIX+id+COMMITTED)){
+                logger.info("roll forward merge "+id+" of "+location)
+                val inputs = read(fs, marker(location, id, PENDING))
+                inputs.foreach(name => fs.delete(new Path(location, name), false))
+                removed ++= inputs
+            } else{
+                logger.info("roll back merge "+id+" of "+location)
+                rollBack(fs, location, id)
+                removed ++= statuses.map(_.getPath.getName).filter(_.contains(id))
+            }
+            finish(fs, location, id)
+        }
+        for(id <- markers.filter(_.endsWith(COMMITTED)).map(idOf)){
+            fs.delete(marker(location, id, COMMITTED), false)
+        }
+        statuses.filterNot(status => removed.contains(status.getPath.getName) || status.getPath.getName.startsWith(PREFIX))
+    }
+
+    /**
+      * Tells the files of dir a reader must not see, from one listing of its markers.
+      */
+    def hiddenFiles(fs: FileSystem, dir: Path): String => Boolean ={
+        val markers = Option(fs.globStatus(new Path(dir, PREFIX+"*"))).getOrElse(Array.empty[FileStatus]).map(_.getPath.getName)
+        if(markers.isEmpty){
+            return _ => false
+        }
+        val pending = markers.filter(_.endsWith(PENDING)).map(idOf)
+        val (committed, uncommitted) = pending.partition(id => markers.contains(PREFIX+id+COMMITTED))
+        val inputs = committed.flatMap(id => read(fs, marker(dir.toString, id, PENDING))).toSet
+        name => inputs.contains(name) || uncommitted.exists(id => name.contains(id))
+    }
+
+    private def marker(location: String, id: String, suffix: String): Path = new Path(location, PREFIX+id+suffix)
+
+    private def idOf(name: String): String = name.substring(PREFIX.length, name.lastIndexOf('.'))
+
+    private def write(fs: FileSystem, path: Path, lines: Seq[String]): Unit ={
+        val out = fs.create(path, true)
+        try{
+            out.write(lines.map(_+"\n").mkString.getBytes(StandardCharsets.UTF_8))
+        } finally {
+            out.close()
+        }
+    }
+
+    private def read(fs: FileSystem, path: Path): Seq[String] ={
+        val in = fs.open(path)
+        try{
+            IOUtils.toString(in, StandardCharsets.UTF_8).split("\n").filter(_.nonEmpty).toSeq
+        } finally {
+            in.close()
+        }
+    }
+}
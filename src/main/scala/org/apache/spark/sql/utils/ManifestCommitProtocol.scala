@@ -0,0 +1,69 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.Path
+import org.apache.hadoop.mapreduce.{JobContext, TaskAttemptContext}
+import org.apache.spark.internal.io.FileCommitProtocol
+import org.apache.spark.internal.io.FileCommitProtocol.TaskCommitMessage
+
+import scala.collection.mutable.ListBuffer
+
+/**
+  * Writes the files of a job straight to their final place under path instead of a temporary
+  * directory, so nothing is renamed when the job commits. The job only makes sense for a merge
+  * committing in place, see ManifestCommit: files of the merge id in ManifestCommit.ID_KEY stay
+  * uncommitted until the merge itself commits, however far the job got.
+  */
+class ManifestCommitProtocol(jobId: String, path: String) extends FileCommitProtocol with Serializable {
+
+    @transient private var addedFiles: ListBuffer[String] = _
+
+    override def setupJob(jobContext: JobContext): Unit ={}
+
+    /**
+      * Deletes the files of task attempts that failed or lost against another attempt without
+      * cleaning up, only the files of committed tasks stay.
+      */
+    override def commitJob(jobContext: JobContext, taskCommits: Seq[TaskCommitMessage]): Unit ={
+        val committed = taskCommits.flatMap(_.obj.asInstanceOf[Seq[String]]).map(new Path(_).getName).toSet
+        deleteFiles(jobContext, name => !committed.contains(name))
+    }
+
+    override def abortJob(jobContext: JobContext): Unit = deleteFiles(jobContext, _ => true)
+
+    override def setupTask(taskContext: TaskAttemptContext): Unit ={
+        addedFiles = new ListBuffer[String]()
+    }
+
+    override def newTaskTempFile(taskContext: TaskAttemptContext, dir: Option[String], ext: String): String ={
+        if(dir.nonEmpty){
+            throw new RuntimeException("merges committing in place write a single directory, not "+dir.get)
+        }
+        val name = ManifestCommit.fileName(taskContext.getConfiguration, taskContext.getTaskAttemptID.getTaskID.getId, "-"+tag+ext)
+        val file = new Path(path, name).toString
+        addedFiles += file
+        file
+    }
+
+    override def newTaskTempFileAbsPath(taskContext: TaskAttemptContext, absoluteDir: String, ext: String): String =
+        throw new UnsupportedOperationException("merges committing in place do not write outside of "+path)
+
+    override def commitTask(taskContext: TaskAttemptContext): TaskCommitMessage = new TaskCommitMessage(addedFiles.toList)
+
+    override def abortTask(taskContext: TaskAttemptContext): Unit ={
+        for(file <- addedFiles){
+            val filePath = new Path(file)
+            filePath.getFileSystem(taskContext.getConfiguration).delete(filePath, false)
+        }
+    }
+
+    // files of this job, a merge may write its partition in several jobs
+    private def tag: String = jobId.take(8)
+
+    private def deleteFiles(jobContext: JobContext, selected: String => Boolean): Unit ={
+        val outputPath = new Path(path)
+        val fs = outputPath.getFileSystem(jobContext.getConfiguration)
+        for(file <- fs.listStatus(outputPath) if file.getPath.getName.contains("-"+tag+"-") && selected(file.getPath.getName)){
+            fs.delete(file.getPath, false)
+        }
+    }
+}
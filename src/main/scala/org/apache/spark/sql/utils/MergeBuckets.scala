@@ -0,0 +1,82 @@
+package org.apache.spark.sql.utils
+
+import java.util.UUID
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.parquet.hadoop.util.HiddenFileFilter
+import org.apache.spark.sql.{SaveMode, SparkSession}
+import org.apache.spark.sql.catalyst.catalog.BucketSpec
+import org.apache.spark.sql.execution.datasources.BucketingUtils
+import org.apache.spark.sql.functions.lit
+import org.slf4j.LoggerFactory
+
+/**
+  * Merges the files of a bucketed table bucket by bucket. Spark finds the bucket of a file by the
+  * id in its name, so the files of a bucket are merged into a single file carrying that id and the
+  * bucketed scans and joins of the table keep working without a shuffle. A table sorted within
+  * its buckets gets every merged file sorted by the sort columns again.
+  */
+object MergeBuckets {
+
+    private final val logger = LoggerFactory.getLogger(MergeBuckets.getClass)
+
+    private val BUCKET_COLUMN = "__merge_bucket"
+
+    def bucketId(file: FileStatus): Option[Int] = BucketingUtils.getBucketId(file.getPath.getName)
+
+    /**
+      * The files of every bucket holding more than one candidate, ordered by bucket id. Files
+      * without a bucket id in their name are left alone.
+      */
+    def planGroups(candidates: Seq[FileStatus]): Seq[Seq[FileStatus]] ={
+        val (bucketed, other) = candidates.partition(file => bucketId(file).nonEmpty)
+        if(other.nonEmpty){
+            logger.warn("{} files without a bucket id are not merged, e.g. {}", other.size, other.head.getPath)
+        }
+        bucketed.groupBy(file => bucketId(file).get).toSeq.sortBy(_._1).map(_._2).filter(_.size > 1)
+    }
+
+    /**
+      * Merges every group into one file in tempDir, named after the bucket of its files.
+      */
+    def merge(sparkSession: SparkSession, hadoopConf: Configuration, mergeOutput: MergeOutput, bucketSpec: BucketSpec,
+              groups: Seq[Seq[FileStatus]], tempDir: String, throttle: MergeThrottle): Unit ={
+        val bucketDir = (files: Seq[FileStatus]) => tempDir+"/"+BUCKET_COLUMN+"="+bucketId(files.head).get
+        if(MergeTableUtils.isAppendEngine(sparkSession.sparkContext.getConf)){
+            mergeOutput.format.append(sparkSession.sparkContext, hadoopConf, groups.map(files => (bucketDir(files), files)), throttle)
+        } else{
+            // a bucket is a task of its own writing a single file, sorted buckets are sorted again
+            val output = if(bucketSpec.sortColumnNames.isEmpty) mergeOutput else mergeOutput.copy(clustering = Some(MergeClustering(false, bucketSpec.sortColumnNames)))
+            for(batch <- groups.grouped(throttle.tasks(groups.size))){
+                val df = batch.map(files => mergeOutput.format.read(sparkSession, files).coalesce(1).withColumn(BUCKET_COLUMN, lit(bucketId(files.head).get)))
+                    .reduce(_ union _)
+                throttle.withTasks(batch.size){
+                    output.write(throttle.throttle(df), tempDir, Some(BUCKET_COLUMN), SaveMode.Append)
+                }
+            }
+        }
+        nameOutputs(hadoopConf, tempDir)
+    }
+
+    /**
+      * Moves the files of the bucket directories up into tempDir with the bucket id in their name.
+      */
+    private def nameOutputs(hadoopConf: Configuration, tempDir: String): Unit ={
+        val tempPath = new Path(tempDir)
+        val fs = tempPath.getFileSystem(hadoopConf)
+        for(dir <- fs.listStatus(tempPath) if dir.isDirectory && dir.getPath.getName.startsWith(BUCKET_COLUMN+"=")){
+            val id = dir.getPath.getName.substring(BUCKET_COLUMN.length+1).toInt
+            for((file, index) <- fs.listStatus(dir.getPath, HiddenFileFilter.INSTANCE).filter(_.isFile).zipWithIndex){
+                val name = file.getPath.getName
+                // the rewrite engine names its files like spark does, the append engine leaves out the file counter
+                val extension = name.substring(name.indexOf('.')).stripPrefix(".c000")
+                val target = new Path(tempPath, "part-%05d-%s%s.c000%s".format(index, UUID.randomUUID(), BucketingUtils.bucketIdToString(id), extension))
+                if(!fs.rename(file.getPath, target)){
+                    throw new RuntimeException("unable to move "+file.getPath+" to "+target)
+                }
+            }
+            fs.delete(dir.getPath, true)
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.apache.spark.sql.utils
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+import scala.collection.JavaConversions._
+import org.apache.spark.sql.{Column, DataFrame, Row}
+import org.apache.spark.sql.antlr4.SqlBaseParser.ClusterSpecContext
+import org.apache.spark.sql.catalyst.util.DateTimeUtils
+import org.apache.spark.sql.functions._
+import org.apache.spark.sql.types._
+
+/**
+  * Orders the rows of every merged file by the columns of a SORT BY or ZORDER BY clause, so the
+  * row groups written get tight min/max statistics on those columns. SORT BY orders
+  * lexicographically, ZORDER BY orders by the interleaved bits of all columns so that a filter
+  * on any of them skips row groups.
+  */
+case class MergeClustering(zOrder: Boolean, columns: Seq[String]) {
+
+    /**
+      * Sorts every partition of the frame, leading columns are sorted on before the clustering columns.
+      */
+    def cluster(df: DataFrame, leading: Seq[Column] = Nil): DataFrame ={
+        if(zOrder && columns.size > 1){
+            val fields = columns.map(name => df.schema.find(_.name.equalsIgnoreCase(name)).get)
+            val zValue = MergeClustering.zValue(fields.map(_.dataType))
+            df.withColumn(MergeClustering.Z_COLUMN, zValue(struct(fields.map(field => col(field.name)): _*)))
+                .sortWithinPartitions(leading :+ col(MergeClustering.Z_COLUMN): _*)
+                .drop(MergeClustering.Z_COLUMN)
+        } else{
+            df.sortWithinPartitions(leading ++ columns.map(col): _*)
+        }
+    }
+
+    override def toString: String = (if(zOrder) "ZORDER BY " else "SORT BY ")+columns.mkString("(", ", ", ")")
+}
+
+object MergeClustering {
+
+    private val Z_COLUMN = "__merge_zvalue"
+
+    /**
+      * Checks the clause against the data columns of the table before anything is merged.
+      */
+    def apply(ctx: ClusterSpecContext, schema: StructType): Option[MergeClustering] ={
+        if(ctx == null){
+            return None
+        }
+        val columns = ctx.identifier().map(_.getText)
+        val missing = columns.filterNot(name => schema.fieldNames.exists(_.equalsIgnoreCase(name)))
+        if(missing.nonEmpty){
+            throw new RuntimeException("cannot cluster by unknown columns "+missing.mkString(", "))
+        }
+        Some(MergeClustering(ctx.ZORDER() != null, columns))
+    }
+
+    /**
+      * Maps the columns to a z-value: every column becomes an unsigned 64 bit key that keeps its
+      * order and the keys are interleaved bit by bit, most significant bits first.
+      */
+    private def zValue(types: Seq[DataType]) ={
+        val keys = types.map(orderedKey).toArray
+        udf((row: Row) => interleave(keys.indices.map(i => if(row.isNullAt(i)) 0L else keys(i)(row.get(i))).toArray))
+    }
+
+    /**
+      * Interleaves the bits of the keys, the most significant bit of every key first. Nulls have
+      * the key 0 and sort first.
+      */
+    private[utils] def interleave(values: Array[Long]): Array[Byte] ={
+        val bytes = new Array[Byte](values.length*8)
+        var bit = 0
+        for(position <- 63 to 0 by -1; value <- values){
+            if(((value >>> position) & 1L) != 0){
+                bytes(bit/8) = (bytes(bit/8) | (0x80 >>> (bit%8))).toByte
+            }
+            bit += 1
+        }
+        bytes
+    }
+
+    /**
+      * Maps a value to a key whose unsigned order is the order of the values.
+      */
+    private[utils] def orderedKey(dataType: DataType): Any => Long = dataType match {
+        case BooleanType => value => if(value.asInstanceOf[Boolean]) 1L else 0L
+        case ByteType | ShortType | IntegerType | LongType => value => value.asInstanceOf[Number].longValue() ^ Long.MinValue
+        case FloatType | DoubleType => value => doubleKey(value.asInstanceOf[Number].doubleValue())
+        case _: DecimalType => value => doubleKey(value.asInstanceOf[java.math.BigDecimal].doubleValue())
+        case DateType => value => DateTimeUtils.fromJavaDate(value.asInstanceOf[java.sql.Date]).toLong ^ Long.MinValue
+        case TimestampType => value => DateTimeUtils.fromJavaTimestamp(value.asInstanceOf[java.sql.Timestamp]) ^ Long.MinValue
+        case StringType => value => prefixKey(value.asInstanceOf[String].getBytes(StandardCharsets.UTF_8))
+        case BinaryType => value => prefixKey(value.asInstanceOf[Array[Byte]])
+        case other => throw new RuntimeException("cannot zorder by column of type "+other.simpleString)
+    }
+
+    private def doubleKey(value: Double): Long ={
+        val bits = java.lang.Double.doubleToLongBits(value)
+        if(bits < 0) ~bits else bits ^ Long.MinValue
+    }
+
+    // the first 8 bytes, shorter values are padded with zeros
+    private def prefixKey(bytes: Array[Byte]): Long ={
+        val buffer = ByteBuffer.allocate(8)
+        buffer.put(bytes, 0, Math.min(bytes.length, 8))
+        buffer.getLong(0)
+    }
+}
@@ -0,0 +1,39 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.ConcurrentHashMap
+
+import org.apache.hadoop.conf.{Configurable, Configuration}
+import org.apache.hadoop.fs.{Path, PathFilter}
+
+/**
+  * Input path filter for readers of tables merged with spark.parser.merge.commit=manifest, set
+  * as mapreduce.input.pathFilter.class. It hides the files of merges that commit in place, see
+  * ManifestCommit, so a reader sees a partition either before or after a merge, never both.
+  * Every directory costs one more listing for its merge markers. The filter is shipped to the
+  * executors when spark lists in parallel, there it falls back to a default configuration.
+  */
+class MergeCommitFilter extends PathFilter with Configurable with Serializable {
+
+    @transient private var conf: Configuration = _
+
+    @transient private lazy val hidden = new ConcurrentHashMap[Path, String => Boolean]()
+
+    override def setConf(conf: Configuration): Unit ={
+        this.conf = conf
+    }
+
+    override def getConf: Configuration = conf
+
+    override def accept(path: Path): Boolean ={
+        val dir = path.getParent
+        if(dir == null){
+            return true
+        }
+        val hiddenFiles = Option(hidden.get(dir)).getOrElse{
+            val files = ManifestCommit.hiddenFiles(dir.getFileSystem(Option(conf).getOrElse(new Configuration())), dir)
+            hidden.put(dir, files)
+            files
+        }
+        !hiddenFiles(path.getName)
+    }
+}
@@ -0,0 +1,53 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.FileStatus
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.catalyst.catalog.BucketSpec
+import org.apache.spark.sql.parser.SparkParserConfig
+
+/**
+  * What merging a single partition directory would cost, worked out from its listing only.
+  * The merged files are rewritten with the same codec, so the bytes written are estimated
+  * as the bytes read.
+  */
+case class MergeEstimate(location: String, status: String, candidateFiles: Int, candidateBytes: Long,
+                         mergeFiles: Int, outputFiles: Int, readBytes: Long, writeBytes: Long) {
+
+    def toRow: Row = Row(location, status, candidateFiles, candidateBytes, mergeFiles, outputFiles, readBytes, writeBytes)
+}
+
+object MergeEstimate {
+
+    val PLANNED = "planned"
+
+    val FINISHED = "finished"
+
+    /**
+      * Runs the file selection and grouping of a merge on the listing of location.
+      */
+    def apply(conf: SparkConf, location: String, lister: MergeFileLister, journal: MergeJournal, bucketSpec: Option[BucketSpec],
+              throttle: MergeThrottle, readPartitions: Seq[FileStatus] => Int, statuses: Array[FileStatus]): MergeEstimate ={
+        val candidateList = lister.selectFiles(statuses)
+        val candidateBytes = candidateList.map(_.getLen).sum
+        if(journal.isFinished(location)){
+            return MergeEstimate(location, FINISHED, candidateList.size(), candidateBytes, 0, 0, 0, 0)
+        }
+        val groups = MergeTableUtils.planMergeGroups(conf, candidateList, bucketSpec)
+        if(groups.isEmpty){
+            return MergeEstimate(location, MergeResult.SKIPPED, candidateList.size(), candidateBytes, 0, 0, 0, 0)
+        }
+        val mergeNum = conf.get(SparkParserConfig.sparkMergeFileNum, "6").toInt
+        val targetBytes = conf.getSizeAsBytes(SparkParserConfig.sparkMergeTargetBytes, "0")
+        val mergeFiles = groups.map(_.size).sum
+        val mergeBytes = groups.flatten.map(_.getLen).sum
+        // bin-packed, appended and bucket groups give one file each, otherwise the read partitions are coalesced into at most merge.num outputs
+        val outputFiles = if(targetBytes > 0 || MergeTableUtils.isAppendEngine(conf) || bucketSpec.nonEmpty){
+            groups.size
+        } else{
+            Math.min(throttle.tasks(mergeNum), readPartitions(groups.flatten))
+        }
+        MergeEstimate(location, PLANNED, candidateList.size(), candidateBytes, mergeFiles, outputFiles, mergeBytes, mergeBytes)
+    }
+}
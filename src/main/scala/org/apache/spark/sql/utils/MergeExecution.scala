@@ -0,0 +1,188 @@
+package org.apache.spark.sql.utils
+
+import java.util
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, FileSystem, Path}
+import org.apache.spark.sql.{SaveMode, SparkSession}
+import org.apache.spark.sql.antlr4.SqlBaseParser.{ClusterSpecContext, LoadOptionsContext, PartitionSpecContext}
+import org.apache.spark.sql.catalyst.catalog.CatalogTable
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * A single MERGE TABLE execution, shared by MergeTableCommand and MergeTablePlan. It merges the
+  * directories the statement selects, one job per directory, and commits every directory through
+  * the journal. The reader decides how the inputs of a merge job are read, everything else is the
+  * same whichever engine runs the statement.
+  */
+class MergeExecution(sparkSession: SparkSession, table: CatalogTable, hadoopConf: Configuration, mergeOutput: MergeOutput, reader: MergeReader,
+                     lister: MergeFileLister, journal: MergeJournal, throttle: MergeThrottle) {
+
+    private final val logger = LoggerFactory.getLogger(classOf[MergeExecution])
+
+    private val conf = sparkSession.sparkContext.getConf
+
+    private val root = table.location.getPath
+
+    /**
+      * Merges the partitions the PARTITION clause selects, or the whole table without one.
+      */
+    def run(partitionSpec: PartitionSpecContext): Seq[MergeResult] ={
+        val tableName = table.identifier.unquotedString
+        val results = if(partitionSpec == null){
+            val recursive = conf.get(SparkParserConfig.sparkMergeRecursive, "true")
+            val mode = conf.get(SparkParserConfig.sparkMergeMode, "partition")
+            if(recursive.equalsIgnoreCase("true") && mode.equalsIgnoreCase("table") && mergeOutput.bucketSpec.isEmpty){
+                logger.info("merge table {} recursively in a single job", tableName)
+                val state = MergeState(sparkSession, root)
+                val results = TableCompaction.compact(sparkSession, hadoopConf, root, lister, journal, mergeOutput, throttle, state)
+                journal.close(!results.exists(_.failed))
+                state.save()
+                results
+            } else if(recursive.equalsIgnoreCase("true")){
+                if(mode.equalsIgnoreCase("table")) logger.info("bucketed table {} is merged partition by partition", tableName)
+                logger.info("merge table {} recursively", tableName)
+                val scheduler = MergeScheduler(sparkSession)
+                val state = MergeState(sparkSession, root)
+                mergeRecursive(root, state, scheduler)
+                val results = scheduler.awaitAll()
+                journal.close(!results.exists(_.failed))
+                state.save()
+                results
+            } else{
+                val result = try{
+                    mergePath(root, lister.listStatus(new Path(root)))
+                } catch {
+                    case e: Exception =>
+                        logger.error("merge path "+root+" error", e)
+                        MergeResult.failed(root, e)
+                }
+                journal.close(!result.failed)
+                Seq(result)
+            }
+        } else{
+            val locations = MergeTableUtils.partitionLocations(sparkSession, table, partitionSpec)
+            logger.info("merge "+locations.size+" partitions of "+tableName)
+            val scheduler = MergeScheduler(sparkSession)
+            for(location <- locations){
+                scheduler.submit(location){
+                    mergePath(location, lister.listStatus(new Path(location)))
+                }
+            }
+            val results = scheduler.awaitAll()
+            journal.close(!results.exists(_.failed))
+            results
+        }
+        logger.info("listed {} paths with {} namenode calls", lister.statusesListed, lister.callCount)
+        MergeStatistics.update(sparkSession, hadoopConf, table, mergeOutput.format, results)
+        MergeRefresh.refresh(sparkSession, table, results)
+        results
+    }
+
+    /**
+      * Merges every directory under location as soon as it is listed.
+      */
+    def mergeRecursive(location: String, state: MergeState, scheduler: MergeScheduler): Unit ={
+        DirectoryWalker(sparkSession, lister).walk(new Path(location), state.shouldVisit){ (dir, statuses) =>
+            scheduler.submit(dir.toString){
+                val result = mergePath(dir.toString, statuses)
+                state.record(dir, statuses)
+                result
+            }
+        }
+    }
+
+    /**
+      * Merges the selected files of a single directory, statuses is its listing.
+      */
+    def mergePath(location: String, statuses: Array[FileStatus]): MergeResult ={
+        if(journal.isFinished(location)){
+            logger.info("path {} was merged by a previous run", location)
+            return MergeResult(location, MergeResult.SKIPPED, 0, 0, 0, "finished by a previous run")
+        }
+
+        val fs = FileSystem.get(hadoopConf)
+
+        val mergeNum = conf.get(SparkParserConfig.sparkMergeFileNum, "6").toInt
+        val targetBytes = conf.getSizeAsBytes(SparkParserConfig.sparkMergeTargetBytes, "0")
+        val candidateList = lister.selectFiles(ManifestCommit.recover(fs, location, statuses))
+
+        val groups = MergeTableUtils.planMergeGroups(conf, candidateList, mergeOutput.bucketSpec)
+        val inputFileList = new util.LinkedList[FileStatus](groups.flatten[FileStatus])
+        if(groups.isEmpty){
+            logger.info("path {} contains no valid parquet file!", location)
+            return MergeResult.skipped(location, candidateList.size())
+        }
+
+        val time = System.currentTimeMillis()
+        logger.info("prepare to merge data under path:{} total {} files", location, inputFileList.size())
+
+        // a merge committing in place writes straight into the partition, bucket files are still renamed to their bucket
+        val inPlace = ManifestCommit.isEnabled(conf) && mergeOutput.bucketSpec.isEmpty
+        val mergeId = if(inPlace) ManifestCommit.newId() else ""
+        val tempDir = if(inPlace) location else location+"/.mergeTemp"
+        if(!inPlace){
+            fs.delete(new Path(tempDir), true)
+        }
+        journal.planned(location, tempDir, inputFileList.map(_.getPath), mergeId)
+        val writeSession = if(inPlace) ManifestCommit.writeSession(sparkSession) else sparkSession
+        val commitId = Some(mergeId).filter(_.nonEmpty)
+        var appended: Option[Seq[Path]] = None
+        val writeStart = System.currentTimeMillis()
+        if(mergeOutput.bucketSpec.nonEmpty){
+            MergeBuckets.merge(sparkSession, hadoopConf, mergeOutput, mergeOutput.bucketSpec.get, groups, tempDir, throttle)
+        } else if(MergeTableUtils.isAppendEngine(conf)){
+            val jobConf = if(inPlace) ManifestCommit.jobConf(hadoopConf, mergeId) else hadoopConf
+            appended = Some(mergeOutput.format.append(sparkSession.sparkContext, jobConf, groups.map(group => (tempDir, group)), throttle))
+        } else{
+            // bin-packed groups are a task each, so a job takes as many groups as the throttle allows,
+            // otherwise all files are coalesced into merge.num tasks
+            val batches = if(targetBytes > 0) groups.grouped(throttle.tasks(groups.size)).toSeq else Seq(groups)
+            for(batch <- batches){
+                val tasks = if(targetBytes > 0) batch.size else throttle.tasks(mergeNum)
+                throttle.withTasks(tasks){
+                    val df = reader.read(writeSession, hadoopConf, mergeOutput.format, batch, if(targetBytes > 0) 0 else tasks)
+                    mergeOutput.write(throttle.throttle(df), tempDir, mode = SaveMode.Append, commitId = commitId)
+                }
+            }
+        }
+
+        val writeMs = System.currentTimeMillis()-writeStart
+
+        val outputs = if(inPlace) ManifestCommit.outputs(fs, location, mergeId, appended) else MergeTableUtils.listMergedFiles(hadoopConf, tempDir)
+        val records = mergeOutput.format.records(hadoopConf, outputs)
+        val committed = journal.commit(location, outputs.map(_.getPath))
+
+        val cost = System.currentTimeMillis()-time
+        logger.info("merge finished, cost {} ms", cost)
+        MergeResult.merged(location, inputFileList, outputs, records, lister.listTime(location), writeMs, committed, cost)
+    }
+}
+
+object MergeExecution {
+
+    private final val logger = LoggerFactory.getLogger(MergeExecution.getClass)
+
+    /**
+      * Runs a MERGE TABLE statement on the table and returns a result per merged directory. The
+      * table is locked for the statement, so its temp directories and journal are its own.
+      */
+    def merge(sparkSession: SparkSession, table: CatalogTable, partitionSpec: PartitionSpecContext, clusterSpec: ClusterSpecContext,
+              loadOptions: LoadOptionsContext, reader: MergeReader): Seq[MergeResult] ={
+        // everything a merge changes is private to this call, so merges of different tables may run concurrently
+        val hadoopConf = MergeTableUtils.mergeHadoopConf(sparkSession)
+        val mergeOutput = MergeOutput(clusterSpec, loadOptions, sparkSession.sparkContext.getConf, table)
+        if(!mergeOutput.isEmpty) logger.info("merged files of "+table.identifier.unquotedString+" are written with "+mergeOutput)
+        val results = MergeTableUtils.withTableLock(table.location.getPath){
+            val root = table.location.getPath
+            new MergeExecution(sparkSession, table, hadoopConf, mergeOutput, reader, MergeFileLister(sparkSession),
+                MergeJournal(sparkSession, root), MergeThrottle(sparkSession)).run(partitionSpec)
+        }
+        MergeMetricsSource(sparkSession.sparkContext).record(results)
+        val failOnError = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeFailOnError, "false").toBoolean
+        MergeScheduler.checkResults(results, failOnError)
+        results
+    }
+}
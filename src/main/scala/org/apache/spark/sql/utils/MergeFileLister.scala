@@ -0,0 +1,80 @@
+package org.apache.spark.sql.utils
+
+import java.io.FileNotFoundException
+import java.util
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+import org.apache.hadoop.fs.{FileStatus, FileSystem, Path}
+import org.apache.parquet.hadoop.util.HiddenFileFilter
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.parser.SparkParserConfig
+
+/**
+  * Lists the directories of a merge. Every directory is listed once, its FileStatus objects are
+  * handed on to file selection and to the read, so no file is looked up on the namenode again.
+  * The listing calls are counted and timed for the merge logs and results. Files modified less
+  * than minAge milliseconds before the lister was created may still be written and are not selected.
+  */
+class MergeFileLister(fs: FileSystem, maxLength: Long, minAge: Long) {
+
+    private val modifiedBefore = System.currentTimeMillis()-minAge
+
+    private val calls = new AtomicLong()
+
+    private val statusCount = new AtomicLong()
+
+    private val listTimes = new ConcurrentHashMap[String, java.lang.Long]()
+
+    def listStatus(dir: Path): Array[FileStatus] ={
+        calls.incrementAndGet()
+        val time = System.currentTimeMillis()
+        try{
+            val statuses = fs.listStatus(dir)
+            statusCount.addAndGet(statuses.length)
+            listTimes.put(dir.toString, System.currentTimeMillis()-time)
+            statuses
+        } catch {
+            case _: FileNotFoundException => throw new RuntimeException(dir+" does not exist!")
+        }
+    }
+
+    def isValidFile(status: FileStatus): Boolean ={
+        status.isFile && HiddenFileFilter.INSTANCE.accept(status.getPath) && status.getLen <= maxLength &&
+            status.getModificationTime <= modifiedBefore
+    }
+
+    def selectFiles(statuses: Array[FileStatus]): util.LinkedList[FileStatus] ={
+        val candidateList = new util.LinkedList[FileStatus]()
+        for(status <- statuses if isValidFile(status)){
+            candidateList.add(status)
+        }
+        candidateList
+    }
+
+    /**
+      * Sub directories to descend into, temp and hidden directories are left out.
+      */
+    def directories(statuses: Array[FileStatus]): Array[FileStatus] ={
+        statuses.filter(status => status.isDirectory && HiddenFileFilter.INSTANCE.accept(status.getPath))
+    }
+
+    /**
+      * Milliseconds the listing of dir took, 0 if it was not listed by this lister.
+      */
+    def listTime(dir: String): Long = Option(listTimes.get(new Path(dir).toString)).map(_.longValue()).getOrElse(0L)
+
+    def callCount: Long = calls.get()
+
+    def statusesListed: Long = statusCount.get()
+}
+
+object MergeFileLister {
+
+    def apply(sparkSession: SparkSession): MergeFileLister ={
+        val fs = FileSystem.get(sparkSession.sparkContext.hadoopConfiguration)
+        val maxLength = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeFilterSize, "134217728").toLong
+        val minAge = sparkSession.sparkContext.getConf.getTimeAsMs(SparkParserConfig.sparkMergeMinFileAge, "0")
+        new MergeFileLister(fs, maxLength, minAge)
+    }
+}
@@ -0,0 +1,194 @@
+package org.apache.spark.sql.utils
+
+import org.apache.avro.file.DataFileReader
+import org.apache.avro.generic.{GenericDatumReader, GenericRecord}
+import org.apache.avro.mapred.FsInput
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.orc.OrcFile
+import org.apache.parquet.format.converter.ParquetMetadataConverter
+import org.apache.parquet.hadoop.ParquetFileReader
+import org.apache.spark.SparkContext
+import org.apache.spark.sql.catalyst.catalog.CatalogTable
+import org.apache.spark.sql.execution.datasources.{DataSource, FileFormat, HadoopFsRelation}
+import org.apache.spark.sql.execution.datasources.orc.OrcFileFormat
+import org.apache.spark.sql.execution.datasources.parquet.ParquetFileFormat
+import org.apache.spark.sql.execution.datasources.text.TextFileFormat
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.{DataFrame, SparkSession}
+
+import scala.collection.JavaConversions._
+
+/**
+  * Storage format of a merged table, worked out from its catalog metadata. The files are read and
+  * written with the spark data source of the format. Text tables are merged line by line, so the
+  * rows keep their bytes whatever serde or delimiter the table uses.
+  */
+sealed abstract class MergeFormat(val name: String, val source: String, val codecs: Seq[String]) {
+
+    protected def fileFormat(sparkSession: SparkSession): FileFormat
+
+    /**
+      * Schema the files are read with, taken from the files themselves.
+      */
+    def dataSchema(sparkSession: SparkSession, files: Seq[FileStatus]): StructType =
+        fileFormat(sparkSession).inferSchema(sparkSession, Map.empty[String, String], files).getOrElse(
+            throw new RuntimeException("unable to infer the schema of "+files.head.getPath))
+
+    /**
+      * Reads exactly the given files, the read reuses their FileStatus instead of listing them again.
+      */
+    def read(sparkSession: SparkSession, files: Seq[FileStatus]): DataFrame ={
+        val relation = HadoopFsRelation(new SelectedFileIndex(files), new StructType(), dataSchema(sparkSession, files), None,
+            fileFormat(sparkSession), Map.empty[String, String])(sparkSession)
+        sparkSession.baseRelationToDataFrame(relation)
+    }
+
+    /**
+      * Number of partitions the file scan of read splits the files into, worked out the way
+      * FileSourceScanExec packs file splits into partitions.
+      */
+    def readPartitions(sparkSession: SparkSession, files: Seq[FileStatus]): Int ={
+        val sqlConf = sparkSession.sessionState.conf
+        val openCost = sqlConf.filesOpenCostInBytes
+        val bytesPerCore = files.map(_.getLen+openCost).sum/sparkSession.sparkContext.defaultParallelism
+        val maxSplitBytes = Math.min(sqlConf.filesMaxPartitionBytes, Math.max(openCost, bytesPerCore))
+        val format = fileFormat(sparkSession)
+        val splits = files.flatMap{ file =>
+            if(format.isSplitable(sparkSession, Map.empty[String, String], file.getPath)){
+                (0L until file.getLen by maxSplitBytes).map(offset => Math.min(file.getLen-offset, maxSplitBytes))
+            } else{
+                Seq(file.getLen)
+            }
+        }.sorted(Ordering[Long].reverse)
+        var partitions = 0
+        var currentSize = 0L
+        for(split <- splits){
+            if(currentSize > 0 && currentSize+split > maxSplitBytes){
+                partitions += 1
+                currentSize = 0L
+            }
+            currentSize += split+openCost
+        }
+        if(currentSize > 0) partitions+1 else partitions
+    }
+
+    /**
+      * Files with the same key can be read by one job, whose schema is taken from one of them.
+      */
+    def schemaKey(conf: Configuration, file: FileStatus): String
+
+    /**
+      * Rows of the files as recorded in their metadata, -1 if the format keeps no row count.
+      */
+    def records(conf: Configuration, files: Seq[FileStatus]): Long = -1
+
+    def supportsAppend: Boolean = false
+
+    /**
+      * Merges the files of every task without decoding them and returns the files written, see ParquetAppendMerger.
+      */
+    def append(sparkContext: SparkContext, hadoopConf: Configuration, tasks: Seq[(String, Seq[FileStatus])], throttle: MergeThrottle): Seq[Path] =
+        throw new RuntimeException("the append engine cannot merge "+name+" tables, use the rewrite engine")
+
+    override def toString: String = name
+}
+
+object MergeFormat {
+
+    case object Parquet extends MergeFormat("parquet", "parquet", Seq("none", "uncompressed", "snappy", "gzip", "lzo")) {
+
+        override protected def fileFormat(sparkSession: SparkSession): FileFormat = new ParquetFileFormat
+
+        override def schemaKey(conf: Configuration, file: FileStatus): String =
+            ParquetFileReader.readFooter(conf, file, ParquetMetadataConverter.NO_FILTER).getFileMetaData.getSchema.toString
+
+        override def records(conf: Configuration, files: Seq[FileStatus]): Long =
+            files.map(status => ParquetFileReader.readFooter(conf, status, ParquetMetadataConverter.NO_FILTER).getBlocks.map(_.getRowCount).sum).sum
+
+        override def supportsAppend: Boolean = true
+
+        override def append(sparkContext: SparkContext, hadoopConf: Configuration, tasks: Seq[(String, Seq[FileStatus])], throttle: MergeThrottle): Seq[Path] =
+            ParquetAppendMerger.merge(sparkContext, hadoopConf, tasks, throttle)
+    }
+
+    case object Orc extends MergeFormat("orc", classOf[OrcFileFormat].getName, Seq("none", "uncompressed", "snappy", "zlib", "lzo")) {
+
+        override protected def fileFormat(sparkSession: SparkSession): FileFormat = new OrcFileFormat
+
+        override def schemaKey(conf: Configuration, file: FileStatus): String =
+            OrcFile.createReader(file.getPath, OrcFile.readerOptions(conf)).getSchema.toString
+
+        override def records(conf: Configuration, files: Seq[FileStatus]): Long =
+            files.map(status => OrcFile.createReader(status.getPath, OrcFile.readerOptions(conf)).getNumberOfRows).sum
+
+        override def supportsAppend: Boolean = true
+
+        override def append(sparkContext: SparkContext, hadoopConf: Configuration, tasks: Seq[(String, Seq[FileStatus])], throttle: MergeThrottle): Seq[Path] =
+            OrcAppendMerger.merge(sparkContext, hadoopConf, tasks, throttle)
+    }
+
+    case object Text extends MergeFormat("text", "text", Seq("none", "uncompressed", "bzip2", "gzip", "lz4", "snappy", "deflate")) {
+
+        override protected def fileFormat(sparkSession: SparkSession): FileFormat = new TextFileFormat
+
+        override def schemaKey(conf: Configuration, file: FileStatus): String = name
+    }
+
+    case object Avro extends MergeFormat("avro", "com.databricks.spark.avro", Nil) {
+
+        override protected def fileFormat(sparkSession: SparkSession): FileFormat ={
+            val clazz = try{
+                DataSource.lookupDataSource(source, sparkSession.sessionState.conf)
+            } catch {
+                case e: Throwable => throw new RuntimeException("avro tables are merged with the "+source+" data source, which is not available", e)
+            }
+            clazz.newInstance().asInstanceOf[FileFormat]
+        }
+
+        override def schemaKey(conf: Configuration, file: FileStatus): String ={
+            val reader = new DataFileReader[GenericRecord](new FsInput(file.getPath, conf), new GenericDatumReader[GenericRecord]())
+            try{
+                reader.getSchema.toString
+            } finally {
+                reader.close()
+            }
+        }
+    }
+
+    /**
+      * The format of a table, from the provider of a data source table or the serde and input
+      * format of a hive table.
+      */
+    def apply(table: CatalogTable): MergeFormat ={
+        val provider = table.provider.map(_.toLowerCase).getOrElse("hive")
+        if(provider == "hive"){
+            val storage = (table.storage.serde ++ table.storage.inputFormat).mkString(" ").toLowerCase
+            if(storage.contains("parquet")){
+                Parquet
+            } else if(storage.contains("orc")){
+                Orc
+            } else if(storage.contains("avro")){
+                Avro
+            } else if(storage.contains("textinputformat")){
+                // header lines would end up in the middle of the merged files
+                if(table.properties.get("skip.header.line.count").exists(_ != "0")){
+                    throw new RuntimeException("cannot merge text table "+table.identifier+" with header lines")
+                }
+                Text
+            } else{
+                throw new RuntimeException("cannot merge table "+table.identifier+" stored as "+storage)
+            }
+        } else if(provider == "parquet" || provider == classOf[ParquetFileFormat].getName.toLowerCase){
+            Parquet
+        } else if(provider == "orc" || provider == classOf[OrcFileFormat].getName.toLowerCase){
+            Orc
+        } else if(provider == "text" || provider == "json" || (provider == "csv" && !table.storage.properties.get("header").exists(_.equalsIgnoreCase("true")))){
+            Text
+        } else if(provider == "avro" || provider == Avro.source){
+            Avro
+        } else{
+            throw new RuntimeException("cannot merge table "+table.identifier+" of format "+provider)
+        }
+    }
+}
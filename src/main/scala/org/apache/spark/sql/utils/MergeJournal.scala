@@ -0,0 +1,241 @@
+package org.apache.spark.sql.utils
+
+import java.nio.charset.StandardCharsets
+import java.util.{Collections, UUID}
+import java.util.concurrent.ConcurrentHashMap
+
+import scala.collection.mutable.ArrayBuffer
+import org.apache.commons.io.IOUtils
+import org.apache.hadoop.fs.{FileSystem, Path}
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * A durable journal of the partition merges of a MERGE TABLE run, kept under the table
+  * directory. Every partition goes PLANNED -> WRITTEN -> COMMITTED -> CLEANED and every state
+  * is a file of its own that only appears by rename, so a crash leaves the last complete state.
+  * When the journal is opened, partitions that never finished writing are rolled back and
+  * partitions caught between rename and delete are rolled forward. Finished partitions are
+  * skipped until a run completes without failures and drops the journal. Partitions merged with
+  * a merge id commit in place through ManifestCommit instead of renaming out of their temp dir.
+  */
+class MergeJournal(fs: FileSystem, dir: Path, enabled: Boolean) {
+
+    import MergeJournal._
+
+    private final val logger = LoggerFactory.getLogger(classOf[MergeJournal])
+
+    private val entries = new ConcurrentHashMap[String, Entry]()
+
+    private val finished = Collections.newSetFromMap(new ConcurrentHashMap[String, java.lang.Boolean]())
+
+    def isFinished(location: String): Boolean = finished.contains(qualify(location))
+
+    def planned(location: String, tempDir: String, inputs: Seq[Path], mergeId: String = ""): Unit ={
+        val entry = Entry(qualify(location), tempDir, inputs, Nil, mergeId)
+        entries.put(entry.location, entry)
+        record(PLANNED, entry)
+        if(mergeId.nonEmpty){
+            ManifestCommit.begin(fs, entry.location, mergeId, inputs)
+        }
+    }
+
+    /**
+      * Moves the merged files of a planned partition into place and removes its inputs,
+      * recording every step. Returns the number of files committed and the time the renames, or
+      * the commit marker in place, and deletes took.
+      */
+    def commit(location: String, outputs: Seq[Path]): Committed ={
+        val entry = entries.remove(qualify(location)).copy(outputs = outputs)
+        record(WRITTEN, entry)
+        val renameStart = System.currentTimeMillis()
+        if(entry.mergeId.nonEmpty){
+            ManifestCommit.publish(fs, entry.location, entry.mergeId)
+        } else{
+            moveOutputs(entry)
+        }
+        val renameMs = System.currentTimeMillis()-renameStart
+        record(COMMITTED, entry)
+        val deleteStart = System.currentTimeMillis()
+        cleanUp(entry)
+        val deleteMs = System.currentTimeMillis()-deleteStart
+        record(CLEANED, entry)
+        Committed(outputs.size, renameMs, deleteMs)
+    }
+
+    /**
+      * Drops the journal once every partition of the run is done, otherwise it is kept for the next run.
+      */
+    def close(success: Boolean): Unit ={
+        if(enabled && success){
+            fs.delete(dir, true)
+        }
+    }
+
+    private def recover(): Unit ={
+        for((path, paths) <- latestRecords()){
+            val entry = read(path)
+            stateOf(path) match {
+                case PLANNED =>
+                    logger.info("roll back unfinished merge of {}", entry.location)
+                    if(entry.mergeId.nonEmpty){
+                        ManifestCommit.rollBack(fs, entry.location, entry.mergeId)
+                    } else{
+                        fs.delete(new Path(entry.tempDir), true)
+                    }
+                    paths.foreach(fs.delete(_, false))
+                case WRITTEN | COMMITTED =>
+                    logger.info("roll forward unfinished merge of {}", entry.location)
+                    if(entry.mergeId.nonEmpty){
+                        ManifestCommit.publish(fs, entry.location, entry.mergeId)
+                    }
+                    for(output <- entry.outputs if entry.mergeId.isEmpty){
+                        val target = new Path(entry.location, output.getName)
+                        if(!fs.exists(target)){
+                            if(!fs.exists(output)){
+                                throw new RuntimeException("merged file "+output+" of "+entry.location+" is lost, its inputs are kept")
+                            }
+                            if(!fs.rename(output, target)){
+                                throw new RuntimeException("unable to move merged file "+output+" into "+entry.location)
+                            }
+                        }
+                    }
+                    cleanUp(entry)
+                    record(CLEANED, entry)
+                    finished.add(entry.location)
+                case _ =>
+                    finished.add(entry.location)
+            }
+        }
+        logger.info("recovered merge journal {}, {} partitions already finished", dir, finished.size())
+    }
+
+    /**
+      * Marks the partitions that recovery would finish without touching the journal or the table.
+      */
+    private def scan(): Unit ={
+        for((path, _) <- latestRecords() if stateOf(path) != PLANNED){
+            finished.add(read(path).location)
+        }
+    }
+
+    // the most advanced record of every partition, along with all its records
+    private def latestRecords(): Seq[(Path, Seq[Path])] ={
+        if(!enabled || !fs.exists(dir)){
+            return Nil
+        }
+        val records = fs.listStatus(dir).map(_.getPath).filter(path => STATES.contains(stateOf(path)))
+        records.toSeq.groupBy(path => path.getName.substring(0, path.getName.lastIndexOf('.'))).values.map{ paths =>
+            (paths.maxBy(path => STATES.indexOf(stateOf(path))), paths)
+        }.toSeq
+    }
+
+    /**
+      * Renames the merged files of the entry into its partition. When a rename fails the inputs are
+      * kept, the journal rolls the partition forward on the next run, without a journal the files
+      * already moved are removed again so the partition holds its inputs only.
+      */
+    private def moveOutputs(entry: Entry): Unit ={
+        val moved = ArrayBuffer[Path]()
+        for(output <- entry.outputs){
+            val target = new Path(entry.location, output.getName)
+            if(!fs.rename(output, target)){
+                if(!enabled){
+                    moved.foreach(fs.delete(_, false))
+                }
+                throw new RuntimeException("unable to move merged file "+output+" into "+entry.location)
+            }
+            moved += target
+        }
+    }
+
+    private def cleanUp(entry: Entry): Unit ={
+        for(input <- entry.inputs){
+            fs.delete(input, true)
+        }
+        if(entry.mergeId.nonEmpty){
+            ManifestCommit.finish(fs, entry.location, entry.mergeId)
+        } else{
+            fs.delete(new Path(entry.tempDir), true)
+        }
+    }
+
+    private def record(state: String, entry: Entry): Unit ={
+        if(!enabled){
+            return
+        }
+        val key = UUID.nameUUIDFromBytes(entry.location.getBytes(StandardCharsets.UTF_8)).toString
+        val path = new Path(dir, key+"."+state)
+        val temp = new Path(dir, "."+key+"."+state+".tmp")
+        val out = fs.create(temp, true)
+        try{
+            out.write(entry.serialize.getBytes(StandardCharsets.UTF_8))
+        } finally {
+            out.close()
+        }
+        fs.delete(path, false)
+        if(!fs.rename(temp, path)){
+            throw new RuntimeException("unable to write merge journal "+path)
+        }
+    }
+
+    private def read(path: Path): Entry ={
+        val in = fs.open(path)
+        try{
+            Entry.deserialize(IOUtils.toString(in, StandardCharsets.UTF_8))
+        } finally {
+            in.close()
+        }
+    }
+
+    private def stateOf(path: Path): String = path.getName.substring(path.getName.lastIndexOf('.')+1)
+
+    private def qualify(location: String): String = fs.makeQualified(new Path(location)).toString
+}
+
+object MergeJournal {
+
+    val PLANNED = "PLANNED"
+
+    val WRITTEN = "WRITTEN"
+
+    val COMMITTED = "COMMITTED"
+
+    val CLEANED = "CLEANED"
+
+    private val STATES = Seq(PLANNED, WRITTEN, COMMITTED, CLEANED)
+
+    case class Committed(files: Int, renameMs: Long, deleteMs: Long)
+
+    private case class Entry(location: String, tempDir: String, inputs: Seq[Path], outputs: Seq[Path], mergeId: String) {
+
+        def serialize: String ={
+            val lines = Seq("location\t"+location, "temp\t"+tempDir) ++ Some(mergeId).filter(_.nonEmpty).map("id\t"+_) ++
+                inputs.map("input\t"+_) ++ outputs.map("output\t"+_)
+            lines.mkString("", "\n", "\n")
+        }
+    }
+
+    private object Entry {
+
+        def deserialize(text: String): Entry ={
+            val lines = text.split("\n").filter(_.nonEmpty).map(line => (line.substring(0, line.indexOf('\t')), line.substring(line.indexOf('\t')+1)))
+            def values(name: String): Seq[String] = lines.filter(_._1 == name).map(_._2)
+            Entry(values("location").head, values("temp").head, values("input").map(new Path(_)), values("output").map(new Path(_)),
+                values("id").headOption.getOrElse(""))
+        }
+    }
+
+    /**
+      * Opens the journal of the table at root and recovers what an interrupted run left behind.
+      * A read only journal just reports the partitions an interrupted run finished.
+      */
+    def apply(sparkSession: SparkSession, root: String, readOnly: Boolean = false): MergeJournal ={
+        val fs = FileSystem.get(sparkSession.sparkContext.hadoopConfiguration)
+        val enabled = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeJournal, "false").toBoolean
+        val journal = new MergeJournal(fs, new Path(root, ".mergeJournal"), enabled)
+        if(readOnly) journal.scan() else journal.recover()
+        journal
+    }
+}
@@ -0,0 +1,86 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.TimeUnit
+
+import com.codahale.metrics.MetricRegistry
+import org.apache.spark.SparkContext
+import org.apache.spark.sql.MetricsSources
+import org.apache.spark.metrics.source.Source
+
+/**
+  * Publishes the partition merges through the spark metrics system, so every configured sink
+  * sees partition and file counts, bytes, records and the time spent in every phase.
+  */
+class MergeMetricsSource extends Source {
+
+    override val sourceName: String = "sparkParser.merge"
+
+    override val metricRegistry: MetricRegistry = new MetricRegistry()
+
+    private val merged = metricRegistry.counter(MetricRegistry.name("partitions", "merged"))
+
+    private val skipped = metricRegistry.counter(MetricRegistry.name("partitions", "skipped"))
+
+    private val failed = metricRegistry.counter(MetricRegistry.name("partitions", "failed"))
+
+    private val inputFiles = metricRegistry.counter(MetricRegistry.name("files", "input"))
+
+    private val outputFiles = metricRegistry.counter(MetricRegistry.name("files", "output"))
+
+    private val inputBytes = metricRegistry.counter(MetricRegistry.name("bytes", "input"))
+
+    private val outputBytes = metricRegistry.counter(MetricRegistry.name("bytes", "output"))
+
+    private val records = metricRegistry.counter("records")
+
+    private val listTime = metricRegistry.timer(MetricRegistry.name("time", "list"))
+
+    private val writeTime = metricRegistry.timer(MetricRegistry.name("time", "write"))
+
+    private val renameTime = metricRegistry.timer(MetricRegistry.name("time", "rename"))
+
+    private val deleteTime = metricRegistry.timer(MetricRegistry.name("time", "delete"))
+
+    private val totalTime = metricRegistry.timer(MetricRegistry.name("time", "total"))
+
+    def record(results: Seq[MergeResult]): Unit ={
+        for(result <- results){
+            result.status match {
+                case MergeResult.MERGED => merged.inc()
+                case MergeResult.FAILED => failed.inc()
+                case _ => skipped.inc()
+            }
+            if(result.status == MergeResult.MERGED){
+                inputFiles.inc(result.inputFiles)
+                outputFiles.inc(result.outputFiles)
+                inputBytes.inc(result.stats.inputBytes)
+                outputBytes.inc(result.stats.outputBytes)
+                if(result.stats.records >= 0) records.inc(result.stats.records)
+                listTime.update(result.stats.listMs, TimeUnit.MILLISECONDS)
+                writeTime.update(result.stats.writeMs, TimeUnit.MILLISECONDS)
+                renameTime.update(result.stats.renameMs, TimeUnit.MILLISECONDS)
+                deleteTime.update(result.stats.deleteMs, TimeUnit.MILLISECONDS)
+                totalTime.update(result.costMs, TimeUnit.MILLISECONDS)
+            }
+        }
+    }
+}
+
+object MergeMetricsSource {
+
+    private var source: MergeMetricsSource = _
+
+    private var context: SparkContext = _
+
+    /**
+      * The source of the given context, registered with its metrics system on first use.
+      */
+    def apply(sparkContext: SparkContext): MergeMetricsSource = synchronized {
+        if(context ne sparkContext){
+            source = new MergeMetricsSource
+            context = sparkContext
+            MetricsSources.register(sparkContext, source)
+        }
+        source
+    }
+}
@@ -0,0 +1,103 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.commons.lang.StringUtils
+import org.apache.spark.SparkConf
+import org.apache.spark.network.util.JavaUtils
+import org.apache.spark.sql.{DataFrame, SaveMode}
+import org.apache.spark.sql.antlr4.SqlBaseParser.{ClusterSpecContext, LoadOptionsContext}
+import org.apache.spark.sql.catalyst.catalog.{BucketSpec, CatalogTable}
+import org.apache.spark.sql.functions.col
+
+/**
+  * How the merged files of a MERGE TABLE statement are written: in the format of the table, in
+  * the row order of its SORT BY or ZORDER BY clause and with the writer settings of its OPTIONS
+  * clause. The options only apply to the writes of this merge, files of other jobs keep the
+  * session defaults. Files of a bucketed table are merged bucket by bucket, see MergeBuckets.
+  */
+case class MergeOutput(format: MergeFormat, clustering: Option[MergeClustering], options: Map[String, String],
+                       bucketSpec: Option[BucketSpec] = None) {
+
+    def isEmpty: Boolean = clustering.isEmpty && options.isEmpty
+
+    /**
+      * Writes the frame in the format of the table under path, optionally partitioned by partitionColumn.
+      * The files of a merge committing in place carry its commitId, see ManifestCommit.
+      */
+    def write(df: DataFrame, path: String, partitionColumn: Option[String] = None, mode: SaveMode = SaveMode.ErrorIfExists,
+              commitId: Option[String] = None): Unit ={
+        val leading = partitionColumn.map(col).toSeq
+        val sorted = clustering.map(_.cluster(df, leading)).getOrElse(df)
+        val writer = sorted.write.mode(mode).options(options ++ commitId.map(ManifestCommit.ID_KEY -> _))
+        partitionColumn.map(column => writer.partitionBy(column)).getOrElse(writer).format(format.source).save(path)
+    }
+
+    override def toString: String =
+        (clustering.map(_.toString).toSeq ++ options.map{ case (key, value) => key+"="+value }).mkString(", ")
+}
+
+object MergeOutput {
+
+    // short option names of the OPTIONS clause and the parquet writer settings they stand for
+    private val SIZE_OPTIONS = Map(
+        "blocksize" -> "parquet.block.size",
+        "pagesize" -> "parquet.page.size",
+        "dictionarypagesize" -> "parquet.dictionary.page.size")
+
+    def apply(clusterSpec: ClusterSpecContext, loadOptions: LoadOptionsContext, conf: SparkConf, table: CatalogTable): MergeOutput ={
+        val format = MergeFormat(table)
+        val output = MergeOutput(format, MergeClustering(clusterSpec, table.dataSchema), parseOptions(format, loadOptions), table.bucketSpec)
+        if(format == MergeFormat.Text && output.clustering.nonEmpty){
+            throw new RuntimeException("text tables are merged line by line and cannot be written "+output.clustering.get)
+        }
+        for(bucketSpec <- output.bucketSpec){
+            // hive names bucket files by their position in the directory, spark by the id in the name
+            if(table.provider.forall(_.equalsIgnoreCase("hive"))){
+                throw new RuntimeException("cannot merge hive bucketed table "+table.identifier+", its bucket files would be renumbered")
+            }
+            if(bucketSpec.sortColumnNames.nonEmpty && output.clustering.nonEmpty){
+                throw new RuntimeException("buckets of "+table.identifier+" are sorted by "+bucketSpec.sortColumnNames.mkString(", ")+
+                    " and cannot be written "+output.clustering.get)
+            }
+            if(bucketSpec.sortColumnNames.nonEmpty && MergeTableUtils.isAppendEngine(conf)){
+                throw new RuntimeException("the append engine cannot keep the buckets of "+table.identifier+" sorted, use the rewrite engine")
+            }
+        }
+        if(MergeTableUtils.isAppendEngine(conf)){
+            if(!format.supportsAppend){
+                throw new RuntimeException("the append engine cannot merge "+format+" tables, use the rewrite engine")
+            }
+            if(!output.isEmpty){
+                throw new RuntimeException("the append engine copies row groups as they are and cannot rewrite them with "+output+", use the rewrite engine")
+            }
+        }
+        output
+    }
+
+    private def parseOptions(format: MergeFormat, loadOptions: LoadOptionsContext): Map[String, String] ={
+        if(loadOptions == null){
+            return Map.empty
+        }
+        loadOptions.optionVal().map{ option =>
+            // dotted parquet keys are written as quoted identifiers
+            val key = StringUtils.removeEnd(StringUtils.removeStart(option.identifier().getText, "`"), "`")
+            var value = option.constant().getText
+            if(value.startsWith("'") && value.endsWith("'")) value = StringUtils.substringBetween(value, "'")
+            key.toLowerCase match {
+                case "compression" | "codec" =>
+                    if(!format.codecs.contains(value.toLowerCase)){
+                        throw new RuntimeException("unsupported "+format+" compression "+value+", supported: "+format.codecs.mkString(", "))
+                    }
+                    "compression" -> value.toLowerCase
+                case name if SIZE_OPTIONS.contains(name) && format == MergeFormat.Parquet =>
+                    SIZE_OPTIONS(name) -> JavaUtils.byteStringAsBytes(value).toString
+                case "dictionary" if format == MergeFormat.Parquet =>
+                    "parquet.enable.dictionary" -> value.toBoolean.toString
+                case name if name.startsWith(format.name+".") =>
+                    name -> value
+                case _ =>
+                    throw new RuntimeException("unknown merge option "+key+" for "+format+" tables")
+            }
+        }.toMap
+    }
+}
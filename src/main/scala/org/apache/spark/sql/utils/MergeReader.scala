@@ -0,0 +1,49 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.FileStatus
+import org.apache.spark.sql.{DataFrame, SparkSession}
+import org.apache.spark.sql.catalyst.catalog.CatalogTable
+import org.apache.spark.sql.strategy.MergeTableStrategy
+
+/**
+  * Reads the input groups of a merge job. Without a coalesce number every group is read by a
+  * task of its own, otherwise all files are coalesced into that many tasks.
+  */
+trait MergeReader {
+
+    def read(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, groups: Seq[Seq[FileStatus]], coalesceNum: Int): DataFrame
+
+    /**
+      * Number of partitions the files are read in before they are coalesced, a coalesce never gives more.
+      */
+    def readPartitions(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, files: Seq[FileStatus]): Int
+}
+
+object MergeReader {
+
+    /**
+      * The reader a MERGE TABLE statement of the session runs with, the combine readers once the merge plan is installed.
+      */
+    def apply(sparkSession: SparkSession, table: CatalogTable): MergeReader ={
+        if(sparkSession.experimental.extraStrategies.contains(MergeTableStrategy)) new CombineMergeReader(table.dataSchema) else DataSource
+    }
+
+    /**
+      * Reads the files through the data source of their format, bound to exactly the selected files.
+      */
+    object DataSource extends MergeReader {
+
+        override def read(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, groups: Seq[Seq[FileStatus]],
+                          coalesceNum: Int): DataFrame ={
+            if(coalesceNum <= 0){
+                groups.map(group => format.read(sparkSession, group).coalesce(1)).reduce(_ union _)
+            } else{
+                format.read(sparkSession, groups.flatten).coalesce(coalesceNum)
+            }
+        }
+
+        override def readPartitions(sparkSession: SparkSession, hadoopConf: Configuration, format: MergeFormat, files: Seq[FileStatus]): Int =
+            format.readPartitions(sparkSession, files)
+    }
+}
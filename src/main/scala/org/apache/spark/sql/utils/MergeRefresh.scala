@@ -0,0 +1,52 @@
+package org.apache.spark.sql.utils
+
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.catalyst.catalog.CatalogTable
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.util.ThreadUtils
+import org.slf4j.LoggerFactory
+
+/**
+  * Makes queries see the files of a merged table. The table is refreshed in the catalog of the
+  * session, and cached data read from the table or from one of its merged directories is
+  * rebuilt on next use in every session. With spark.parser.merge.prewarm the new file index is
+  * listed in the background, so the first query after a merge does not list the table itself.
+  */
+object MergeRefresh {
+
+    private final val logger = LoggerFactory.getLogger(MergeRefresh.getClass)
+
+    private lazy val prewarmExecutor = ThreadUtils.newDaemonSingleThreadExecutor("merge-prewarm")
+
+    def refresh(sparkSession: SparkSession, table: CatalogTable, results: Seq[MergeResult]): Unit ={
+        val merged = results.filter(_.status == MergeResult.MERGED)
+        if(merged.isEmpty){
+            return
+        }
+        val name = table.identifier.quotedString
+        sparkSession.catalog.refreshTable(name)
+        for(location <- (table.location.getPath +: merged.map(_.location)).distinct){
+            sparkSession.catalog.refreshByPath(location)
+        }
+        logger.info("refreshed {} and {} merged directories", name, merged.size)
+        if(sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergePrewarm, "false").toBoolean){
+            prewarmExecutor.submit(new Runnable {
+                override def run(): Unit = prewarm(sparkSession, name)
+            })
+        }
+    }
+
+    /**
+      * Resolves the table, which caches its relation in the session catalog, and lists all of
+      * its files into the file status cache of that relation.
+      */
+    private def prewarm(sparkSession: SparkSession, name: String): Unit ={
+        val time = System.currentTimeMillis()
+        try{
+            val files = sparkSession.table(name).inputFiles.length
+            logger.info("prewarmed the file index of "+name+" with "+files+" files in "+(System.currentTimeMillis()-time)+" ms")
+        } catch {
+            case e: Exception => logger.warn("unable to prewarm the file index of "+name, e)
+        }
+    }
+}
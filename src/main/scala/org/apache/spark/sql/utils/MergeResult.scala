@@ -0,0 +1,77 @@
+package org.apache.spark.sql.utils
+
+import org.apache.commons.lang3.exception.ExceptionUtils
+import org.apache.hadoop.fs.FileStatus
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.types.{IntegerType, LongType, StringType, StructField, StructType}
+
+import scala.collection.JavaConversions._
+
+/**
+  * Outcome of merging a single partition directory.
+  */
+case class MergeResult(location: String, status: String, inputFiles: Int, outputFiles: Int, costMs: Long, message: String = "",
+                       stats: MergeStats = MergeStats()) {
+
+    def failed: Boolean = status == MergeResult.FAILED
+
+    def toRow: Row = Row(location, status, inputFiles, outputFiles, stats.inputBytes, stats.outputBytes, stats.records,
+        stats.listMs, stats.writeMs, stats.renameMs, stats.deleteMs, costMs, message)
+
+    override def toString: String = {
+        val text = String.format("%s %s, files %d -> %d, bytes %d -> %d, %d records, cost %d ms (list %d, write %d, rename %d, delete %d)",
+            location, status, Int.box(inputFiles), Int.box(outputFiles), Long.box(stats.inputBytes), Long.box(stats.outputBytes),
+            Long.box(stats.records), Long.box(costMs), Long.box(stats.listMs), Long.box(stats.writeMs), Long.box(stats.renameMs), Long.box(stats.deleteMs))
+        if(message.isEmpty) text else text+", "+message
+    }
+}
+
+/**
+  * Sizes and phase timings of a partition merge. The write time covers the jobs that read the
+  * inputs and write the merged files, rename and delete are the commit into the partition.
+  */
+case class MergeStats(inputBytes: Long = 0, outputBytes: Long = 0, records: Long = 0,
+                      listMs: Long = 0, writeMs: Long = 0, renameMs: Long = 0, deleteMs: Long = 0)
+
+object MergeResult {
+
+    val MERGED = "merged"
+
+    val SKIPPED = "skipped"
+
+    val FAILED = "failed"
+
+    /**
+      * Columns of the rows a merge returns, one row per partition.
+      */
+    val schema = StructType(Seq(
+        StructField("location", StringType, nullable = false),
+        StructField("status", StringType, nullable = false),
+        StructField("input_files", IntegerType, nullable = false),
+        StructField("output_files", IntegerType, nullable = false),
+        StructField("input_bytes", LongType, nullable = false),
+        StructField("output_bytes", LongType, nullable = false),
+        StructField("records", LongType, nullable = false),
+        StructField("list_ms", LongType, nullable = false),
+        StructField("write_ms", LongType, nullable = false),
+        StructField("rename_ms", LongType, nullable = false),
+        StructField("delete_ms", LongType, nullable = false),
+        StructField("cost_ms", LongType, nullable = false),
+        StructField("message", StringType, nullable = false)))
+
+    def skipped(location: String, inputFiles: Int): MergeResult = MergeResult(location, SKIPPED, inputFiles, 0, 0)
+
+    // the root cause tells more than the job abort wrapped around it
+    def failed(location: String, e: Throwable): MergeResult = MergeResult(location, FAILED, 0, 0, 0, ExceptionUtils.getRootCauseMessage(e))
+
+    /**
+      * Result of a committed partition. Bytes and records of the outputs come from their
+      * listing and metadata, which are read while the files are still in the temp directory.
+      * Formats without a row count in their metadata report -1 records.
+      */
+    def merged(location: String, inputs: Seq[FileStatus], outputs: Seq[FileStatus], records: Long, listMs: Long, writeMs: Long,
+               committed: MergeJournal.Committed, costMs: Long): MergeResult ={
+        val stats = MergeStats(inputs.map(_.getLen).sum, outputs.map(_.getLen).sum, records, listMs, writeMs, committed.renameMs, committed.deleteMs)
+        MergeResult(location, MERGED, inputs.size, committed.files, costMs, "", stats)
+    }
+}
@@ -0,0 +1,92 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{Callable, ConcurrentLinkedQueue, ExecutionException, Future}
+
+import scala.collection.JavaConversions._
+import scala.collection.mutable.ListBuffer
+import org.apache.spark.SparkContext
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.util.ThreadUtils
+import org.slf4j.LoggerFactory
+
+/**
+  * Runs partition merges on a bounded driver-side thread pool. Every merge job is
+  * submitted into its own scheduler pool, so with spark.scheduler.mode=FAIR the
+  * concurrent partitions share the cluster instead of queueing one after another.
+  */
+class MergeScheduler(sparkContext: SparkContext, parallelism: Int, poolName: String) {
+
+    private final val logger = LoggerFactory.getLogger(classOf[MergeScheduler])
+
+    private val executor = ThreadUtils.newDaemonFixedThreadPool(parallelism, "merge-table")
+
+    // merges are submitted by the directory walker threads
+    private val futures = new ConcurrentLinkedQueue[(String, Future[MergeResult])]()
+
+    def submit(location: String)(merge: => MergeResult): Unit ={
+        val future = executor.submit(new Callable[MergeResult] {
+            override def call(): MergeResult = {
+                sparkContext.setLocalProperty("spark.scheduler.pool", poolName)
+                sparkContext.setLocalProperty("spark.sql.execution.id", null)
+                merge
+            }
+        })
+        futures.add((location, future))
+    }
+
+    /**
+      * Waits for every submitted merge and logs a per-partition report. A failed partition
+      * does not stop the others, the caller decides what to do with the failures.
+      */
+    def awaitAll(): Seq[MergeResult] ={
+        val results = new ListBuffer[MergeResult]()
+        try{
+            for((location, future) <- futures){
+                try{
+                    results += future.get()
+                } catch {
+                    case e:ExecutionException =>
+                        logger.error("merge path "+location+" error", e.getCause)
+                        results += MergeResult.failed(location, e.getCause)
+                }
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+
+        logger.info("merge report, {} partitions:", results.size)
+        for(result <- results){
+            logger.info("  {}", result)
+        }
+        results
+    }
+}
+
+object MergeScheduler {
+
+    private final val logger = LoggerFactory.getLogger(MergeScheduler.getClass)
+
+    def apply(sparkSession: SparkSession): MergeScheduler ={
+        val conf = sparkSession.sparkContext.getConf
+        val parallelism = conf.get(SparkParserConfig.sparkMergeParallelism, "1").toInt
+        val poolName = conf.get(SparkParserConfig.sparkMergeSchedulerPool, "merge")
+        new MergeScheduler(sparkSession.sparkContext, Math.max(parallelism, 1), poolName)
+    }
+
+    /**
+      * Fails the statement if a partition failed and failOnError is set, otherwise the failures
+      * are only logged and reported by their result rows.
+      */
+    def checkResults(results: Seq[MergeResult], failOnError: Boolean): Unit ={
+        val failed = results.filter(_.failed)
+        if(failed.nonEmpty){
+            val message = String.format("merge failed for %d of %d partitions: %s",
+                Int.box(failed.size), Int.box(results.size), failed.map(_.location).mkString(", "))
+            if(failOnError){
+                throw new RuntimeException(message)
+            }
+            logger.warn(message)
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{ConcurrentHashMap, TimeUnit}
+
+import scala.collection.JavaConversions._
+import org.apache.spark.scheduler.{SparkListener, SparkListenerApplicationEnd}
+import org.apache.spark.sql.{SparkSession, SparkSqlExtraCommand}
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.util.ThreadUtils
+import org.slf4j.LoggerFactory
+
+/**
+  * Compacts the registered tables in the background of the driver. Every interval each table is
+  * merged the same way MERGE TABLE merges it, so only partitions crossing the small file settings
+  * are rewritten and files younger than spark.parser.merge.min.age are left to their writers. At
+  * most parallelism tables are merged at a time, a table still merging is left for the next round.
+  */
+class MergeService(sparkSession: SparkSession, interval: Long, parallelism: Int) {
+
+    private final val logger = LoggerFactory.getLogger(classOf[MergeService])
+
+    private val tables = ConcurrentHashMap.newKeySet[String]()
+
+    private val running = ConcurrentHashMap.newKeySet[String]()
+
+    private val timer = ThreadUtils.newDaemonSingleThreadScheduledExecutor("merge-service")
+
+    private val executor = ThreadUtils.newDaemonFixedThreadPool(parallelism, "merge-service-table")
+
+    /**
+      * Adds a table, given as table or db.table, to the next rounds.
+      */
+    def register(table: String): Unit ={
+        val identifier = sparkSession.sessionState.sqlParser.parseTableIdentifier(table)
+        val name = identifier.database.getOrElse(sparkSession.catalog.currentDatabase)+"."+identifier.table
+        if(tables.add(name)){
+            logger.info("table {} registered for background merge", name)
+        }
+    }
+
+    def unregister(table: String): Unit ={
+        val identifier = sparkSession.sessionState.sqlParser.parseTableIdentifier(table)
+        tables.remove(identifier.database.getOrElse(sparkSession.catalog.currentDatabase)+"."+identifier.table)
+    }
+
+    def registeredTables: Seq[String] = tables.toSeq.sorted
+
+    def start(): Unit ={
+        logger.info("merge service started, every "+interval+" ms with "+parallelism+" tables at a time")
+        timer.scheduleWithFixedDelay(new Runnable {
+            override def run(): Unit = scan()
+        }, interval, interval, TimeUnit.MILLISECONDS)
+    }
+
+    def stop(): Unit ={
+        timer.shutdownNow()
+        executor.shutdownNow()
+    }
+
+    private def scan(): Unit ={
+        for(table <- tables if running.add(table)){
+            executor.submit(new Runnable {
+                override def run(): Unit ={
+                    try{
+                        merge(table)
+                    } finally {
+                        running.remove(table)
+                    }
+                }
+            })
+        }
+    }
+
+    /**
+      * Merges a table in a session of its own, failures are logged and the table stays registered.
+      */
+    def merge(table: String): Unit ={
+        val time = System.currentTimeMillis()
+        try{
+            val session = sparkSession.newSession()
+            session.sparkContext.setLocalProperty("spark.job.description", "background merge of "+table)
+            val rows = SparkSqlExtraCommand.parserSql(session, "MERGE TABLE "+table).toDF().collect()
+            val merged = rows.count(_.getString(1) == MergeResult.MERGED)
+            val failed = rows.count(_.getString(1) == MergeResult.FAILED)
+            // the merge refreshed the table in its own session, queries run in the sessions of the driver
+            if(merged > 0){
+                sparkSession.catalog.refreshTable(table)
+            }
+            logger.info("background merge of {} merged {} of {} partitions in {} ms", table, Int.box(merged), Int.box(rows.length),
+                Long.box(System.currentTimeMillis()-time))
+            if(failed > 0){
+                logger.warn("background merge of "+table+" failed for "+failed+" partitions")
+            }
+        } catch {
+            case e: Throwable => logger.error("background merge of "+table+" failed", e)
+        }
+    }
+}
+
+object MergeService {
+
+    private var service: MergeService = _
+
+    /**
+      * Starts the service once per driver if spark.parser.merge.service.enabled is set, with the
+      * tables of spark.parser.merge.service.tables registered. It stops with the application.
+      */
+    def start(sparkSession: SparkSession): Option[MergeService] = synchronized {
+        val conf = sparkSession.sparkContext.getConf
+        if(service == null && conf.get(SparkParserConfig.sparkMergeServiceEnabled, "false").toBoolean){
+            val interval = conf.getTimeAsMs(SparkParserConfig.sparkMergeServiceInterval, "10min")
+            val parallelism = conf.get(SparkParserConfig.sparkMergeServiceParallelism, "1").toInt
+            service = new MergeService(sparkSession, interval, Math.max(parallelism, 1))
+            conf.get(SparkParserConfig.sparkMergeServiceTables, "").split(",").map(_.trim).filter(_.nonEmpty).foreach(service.register)
+            service.start()
+            sparkSession.sparkContext.addSparkListener(new SparkListener {
+                override def onApplicationEnd(applicationEnd: SparkListenerApplicationEnd): Unit = stop()
+            })
+        }
+        Option(service)
+    }
+
+    def get: Option[MergeService] = synchronized {
+        Option(service)
+    }
+
+    def stop(): Unit = synchronized {
+        if(service != null){
+            service.stop()
+            service = null
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.apache.spark.sql.utils
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.collection.JavaConversions._
+import org.apache.commons.io.IOUtils
+import org.apache.hadoop.fs.{FileStatus, FileSystem, Path}
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * Incremental merge state of a table: a fingerprint of every partition directory merged, its
+  * modification time as seen in the parent listing and whether it is a leaf. Adding or removing a file changes the modification time of
+  * its directory, so a leaf directory whose time did not move has nothing new to merge and is
+  * neither listed nor merged again. Directories that failed to merge are not recorded. The times
+  * are taken before the merge, so a directory merged by a run is listed once more by the next one.
+  * Neither is a directory recorded that holds files too young to be merged yet.
+  */
+class MergeState(fs: FileSystem, path: Path, enabled: Boolean, minFileAge: Long) {
+
+    import MergeState._
+
+    private final val logger = LoggerFactory.getLogger(classOf[MergeState])
+
+    private val started = System.currentTimeMillis()
+
+    private val previous = load()
+
+    private val current = new ConcurrentHashMap[String, Fingerprint]()
+
+    // modification times of the directories seen in a parent listing, keyed by path
+    private val listedTimes = new ConcurrentHashMap[String, Long]()
+
+    private val pruned = new AtomicInteger()
+
+    /**
+      * Decides whether the walk descends into a directory found in a parent listing.
+      */
+    def shouldVisit(dir: FileStatus): Boolean ={
+        if(!enabled){
+            return true
+        }
+        val key = dir.getPath.toString
+        previous.get(key) match {
+            case Some(fingerprint) if fingerprint.leaf && fingerprint.modificationTime == dir.getModificationTime =>
+                current.put(key, fingerprint)
+                pruned.incrementAndGet()
+                false
+            case _ =>
+                listedTimes.put(key, dir.getModificationTime)
+                true
+        }
+    }
+
+    /**
+      * Records a directory after it was merged, statuses is its listing taken before the merge.
+      */
+    def record(dir: Path, statuses: Array[FileStatus]): Unit ={
+        val key = dir.toString
+        val young = statuses.exists(status => status.isFile && status.getModificationTime > started-minFileAge)
+        if(enabled && listedTimes.containsKey(key) && !young){
+            current.put(key, Fingerprint(listedTimes.get(key), !statuses.exists(_.isDirectory)))
+        }
+    }
+
+    def save(): Unit ={
+        if(!enabled){
+            return
+        }
+        logger.info("skipped "+pruned+" unchanged partitions, "+current.size()+" recorded")
+        val lines = current.toSeq.sortBy(_._1).map{ case (key, fingerprint) =>
+            Seq(key, fingerprint.modificationTime, fingerprint.leaf).mkString("\t")
+        }
+        val temp = new Path(path.getParent, "."+path.getName+".tmp")
+        val out = fs.create(temp, true)
+        try{
+            out.write(lines.mkString("", "\n", "\n").getBytes(StandardCharsets.UTF_8))
+        } finally {
+            out.close()
+        }
+        fs.delete(path, false)
+        if(!fs.rename(temp, path)){
+            throw new RuntimeException("unable to write merge state "+path)
+        }
+    }
+
+    private def load(): Map[String, Fingerprint] ={
+        if(!enabled || !fs.exists(path)){
+            return Map.empty
+        }
+        val in = fs.open(path)
+        val lines = try{
+            IOUtils.toString(in, StandardCharsets.UTF_8).split("\n").filter(_.nonEmpty).map(_.split("\t"))
+        } finally {
+            in.close()
+        }
+        // states written before the entry count was dropped carry it as third field
+        lines.filter(_.length >= 3).map(fields => fields(0) -> Fingerprint(fields(1).toLong, fields.last.toBoolean)).toMap
+    }
+}
+
+object MergeState {
+
+    private case class Fingerprint(modificationTime: Long, leaf: Boolean)
+
+    def apply(sparkSession: SparkSession, root: String): MergeState ={
+        val fs = FileSystem.get(sparkSession.sparkContext.hadoopConfiguration)
+        val enabled = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeIncremental, "false").toBoolean
+        val minFileAge = sparkSession.sparkContext.getConf.getTimeAsMs(SparkParserConfig.sparkMergeMinFileAge, "0")
+        new MergeState(fs, new Path(root, ".mergeState"), enabled, minFileAge)
+    }
+}
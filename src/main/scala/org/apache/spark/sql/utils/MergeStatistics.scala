@@ -0,0 +1,60 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.Path
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.catalyst.catalog.{CatalogStatistics, CatalogTable, CatalogTablePartition}
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * Keeps the catalog statistics of a merged table current. A merge changes the files of a
+  * partition but not its rows: every merged partition gets its size and file count from a
+  * listing of its directory, its row count stays as recorded or is summed from the metadata of
+  * its files where the format keeps one. The size of the table moves by the bytes the merge
+  * saved, a table without statistics is left without them.
+  */
+object MergeStatistics {
+
+    private final val logger = LoggerFactory.getLogger(MergeStatistics.getClass)
+
+    def update(sparkSession: SparkSession, hadoopConf: Configuration, table: CatalogTable, format: MergeFormat, results: Seq[MergeResult]): Unit ={
+        val merged = results.filter(_.status == MergeResult.MERGED)
+        if(merged.isEmpty || !sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeUpdateStats, "true").toBoolean){
+            return
+        }
+        // statistics are a hint for the planner, the merge has been committed whether they are updated or not
+        try{
+            val catalog = sparkSession.sessionState.catalog
+            if(table.partitionColumnNames.nonEmpty){
+                val locations = merged.map(result => qualify(hadoopConf, new Path(result.location))).toSet
+                val partitions = catalog.listPartitions(table.identifier).filter(partition => locations.contains(qualify(hadoopConf, new Path(partition.location))))
+                if(partitions.nonEmpty){
+                    catalog.alterPartitions(table.identifier, partitions.map(partitionStats(hadoopConf, format, _)))
+                }
+                logger.info("updated the statistics of "+partitions.size+" partitions of "+table.identifier)
+            }
+            for(stats <- table.stats){
+                val saved = merged.map(result => result.stats.inputBytes-result.stats.outputBytes).sum
+                catalog.alterTableStats(table.identifier, Some(stats.copy(sizeInBytes = (stats.sizeInBytes-saved).max(0))))
+                logger.info("size of "+table.identifier+" is now "+(stats.sizeInBytes-saved)+" bytes")
+            }
+        } catch {
+            case e: Exception => logger.warn("unable to update the statistics of "+table.identifier, e)
+        }
+    }
+
+    private def partitionStats(hadoopConf: Configuration, format: MergeFormat, partition: CatalogTablePartition): CatalogTablePartition ={
+        val files = MergeTableUtils.listMergedFiles(hadoopConf, new Path(partition.location).toString)
+        val size = files.map(_.getLen).sum
+        val rowCount = partition.stats.flatMap(_.rowCount)
+            .orElse(partition.parameters.get("numRows").map(BigInt(_)).filter(_ >= 0))
+            .orElse(Some(BigInt(format.records(hadoopConf, files))).filter(_ >= 0))
+        // hive reads the parameters, spark the statistics
+        val parameters = partition.parameters ++ Map("numFiles" -> files.size.toString, "totalSize" -> size.toString) ++ rowCount.map("numRows" -> _.toString)
+        val colStats = partition.stats.map(_.colStats).getOrElse(Map.empty)
+        partition.copy(parameters = parameters, stats = Some(CatalogStatistics(size, rowCount, colStats)))
+    }
+
+    private def qualify(hadoopConf: Configuration, path: Path): Path = path.getFileSystem(hadoopConf).makeQualified(path)
+}
@@ -1,185 +1,221 @@
 package org.apache.spark.sql.utils
 
-import java.lang.reflect.Field
-import java.sql.Timestamp
 import java.util
 import java.util.List
-import java.util.concurrent.TimeUnit
+import java.util.concurrent.ConcurrentHashMap
 
 import scala.collection.JavaConversions._
-import com.google.common.primitives.{Ints, Longs}
+import org.apache.commons.lang.StringUtils
 import org.apache.hadoop.conf.Configuration
-import org.apache.hadoop.fs.Path
-import org.apache.parquet.example.data.Group
-import org.apache.parquet.example.data.simple.SimpleGroup
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.hadoop.mapreduce.lib.input.CombineFileInputFormat
 import org.apache.parquet.hadoop.util.HiddenFileFilter
-import org.apache.parquet.io.api.Binary
-import org.apache.parquet.schema.{GroupType, PrimitiveType}
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.antlr4.SqlBaseParser
+import org.apache.spark.sql.antlr4.SqlBaseParser.{ConstantContext, PartitionSpecContext, PartitionValContext}
+import org.apache.spark.sql.catalyst.catalog.{BucketSpec, CatalogTable}
+import org.apache.spark.sql.catalyst.expressions.{AttributeReference, Cast, EqualTo, Expression, GreaterThan, GreaterThanOrEqual, In, LessThan, LessThanOrEqual, Literal, Not}
+import org.apache.spark.sql.parser.SparkParserConfig
 import org.apache.spark.sql.strategy.MergeTableStrategy
-import org.apache.spark.sql.{Row, SparkSession}
+import org.apache.spark.sql.SparkSession
 
-import scala.collection.mutable.Map
+import scala.collection.mutable.{ArrayBuffer, ListBuffer}
 
 /**
   * Created by taofu on 2018/6/10.
   */
 object MergeTableUtils {
 
+    // locations of the tables a merge of this driver is working on
+    private val mergingTables = ConcurrentHashMap.newKeySet[String]()
+
     def initMerge(sparkSession: SparkSession): Unit ={
         sparkSession.experimental.extraStrategies = MergeTableStrategy :: Nil
+        MergeService.start(sparkSession)
     }
 
-    def getPathFromDirectory(configuration: Configuration, dir: String): List[Path] ={
-        val dirPath = new Path(dir)
-        val fs = dirPath.getFileSystem(configuration)
-        val status = fs.getFileStatus(dirPath)
-        val inputFiles = fs.listStatus(status.getPath, HiddenFileFilter.INSTANCE)
-        val list = new util.LinkedList[Path]()
-        for(file <- inputFiles){
-            list.add(file.getPath)
+    /**
+      * Hadoop configuration of a single merge. It is a copy, so the split sizes of the merge
+      * never reach the shared configuration of the context or other merges. Blocks of a node,
+      * then of a rack, are combined into splits of their own once they reach the per node and
+      * per rack minimum, the rest is combined regardless of where it lives.
+      */
+    def mergeHadoopConf(sparkSession: SparkSession): Configuration ={
+        val hadoopConf = sparkSession.sessionState.newHadoopConf()
+        val conf = sparkSession.sparkContext.getConf
+        val maxSize = conf.get(SparkParserConfig.sparkInputSplitMaxSize, "134217728").toLong
+        val perNode = conf.get(SparkParserConfig.sparkInputSplitMinSizePerNode, "0").toLong
+        val perRack = conf.get(SparkParserConfig.sparkInputSplitMinSizePerRack, "0").toLong
+        if(perNode > maxSize || perRack > maxSize || (perRack > 0 && perNode > perRack)){
+            throw new RuntimeException("split minimum per node "+perNode+" must not exceed the minimum per rack "+perRack+", and neither the split maximum "+maxSize)
         }
-        list
+        hadoopConf.setLong("mapreduce.input.fileinputformat.split.maxsize", maxSize)
+        hadoopConf.setLong("mapreduce.input.fileinputformat.split.minsize", conf.get(SparkParserConfig.sparkInputSplitMinSize, "1024").toLong)
+        hadoopConf.setLong(CombineFileInputFormat.SPLIT_MINSIZE_PERNODE, perNode)
+        hadoopConf.setLong(CombineFileInputFormat.SPLIT_MINSIZE_PERRACK, perRack)
+        hadoopConf
     }
 
-    def getValue(typeName:String, group:Group, fieldName:String): Any ={
-        var value:Any = null
+    /**
+      * Runs the merge of the table at root. Merges of different tables run side by side, a
+      * second merge of the same table would share its temp directories and journal and fails.
+      */
+    def withTableLock[T](root: String)(merge: => T): T ={
+        if(!mergingTables.add(root)){
+            throw new RuntimeException("table at "+root+" is already being merged")
+        }
         try{
-            if(typeName.equalsIgnoreCase("boolean")){
-                value = group.getBoolean(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("string")){
-                value = group.getString(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("integer")){
-                value = group.getInteger(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("long")){
-                value = group.getLong(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("float")){
-                value = group.getFloat(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("double")){
-                value = group.getDouble(fieldName, 0)
-            } else if(typeName.equalsIgnoreCase("timestamp")){
-                value = resolveTimeStamp(group.getInt96(fieldName, 0))
-            } else if(typeName.equalsIgnoreCase("array") || typeName.equalsIgnoreCase("map") || typeName.equalsIgnoreCase("struct")){
-                value = resolveGroupValue(group.asInstanceOf[SimpleGroup], fieldName, typeName)
-            }
-        }catch {
-            case _:Exception=>
+            merge
+        } finally {
+            mergingTables.remove(root)
         }
-        value
     }
 
-    def getPrivateField(group: SimpleGroup):Tuple2[GroupType, Array[List[Any]]] ={
-        val clazz = classOf[SimpleGroup]
-        var schemaField: Field = null
-        var dataField: Field = null
-        for(field <- clazz.getDeclaredFields){
-            if(field.getName.contains("data")){
-                field.setAccessible(true)
-                dataField = field
-            }
-            if(field.getName.contains("schema")){
-                field.setAccessible(true)
-                schemaField = field
-            }
+    /**
+      * Directory of the partition given by equalities under the table location root.
+      */
+    def partitionPath(root: String, partitionVals: Seq[PartitionValContext]): String ={
+        val list = new util.LinkedList[String]()
+        for(partition <- partitionVals){
+            list.add(partition.identifier().getText+"="+constantValue(partition.constant(0)))
         }
-        if(schemaField==null || dataField==null){
-            return null
+        root+"/"+StringUtils.join(list, "/")
+    }
+
+    /**
+      * Locations of the partitions a PARTITION clause selects. A clause of equalities names a
+      * single directory, comparisons and IN lists are resolved against the partitions the
+      * metastore knows, with the predicates it supports pushed down to it.
+      */
+    def partitionLocations(sparkSession: SparkSession, table: CatalogTable, partitionSpec: PartitionSpecContext): Seq[String] ={
+        if(partitionSpec.partitionVal().forall(partition => partition.comparison != null && partition.comparison.getType == SqlBaseParser.EQ)){
+            // directories nest in the order of the partition columns, whatever the order of the clause
+            val columns = table.partitionColumnNames.map(_.toLowerCase)
+            val partitionVals = partitionSpec.partitionVal().sortBy{ partition =>
+                val index = columns.indexOf(partition.identifier().getText.toLowerCase)
+                if(index < 0) columns.size else index
+            }
+            return Seq(partitionPath(table.location.getPath, partitionVals))
         }
-        val schema = schemaField.get(group).asInstanceOf[GroupType]
-        val data = dataField.get(group).asInstanceOf[Array[List[Any]]]
-        (schema, data)
+        val predicates = partitionSpec.partitionVal().map(partitionPredicate(sparkSession, table, _))
+        sparkSession.sessionState.catalog.listPartitionsByFilter(table.identifier, predicates)
+            .map(partition => new Path(partition.location).toString).sorted
     }
 
-    def resolveGroupValue(group: SimpleGroup, fieldName:String, typeName:String): Any ={
-        val (schema ,data) = getPrivateField(group)
-        val index = schema.getFieldIndex(fieldName)
-        val value = data(index).get(0)
-        if(value.isInstanceOf[SimpleGroup]){
-            if(typeName.equalsIgnoreCase("array")){
-                return resolveValueAsArray(value.asInstanceOf[SimpleGroup])
-            }else if(typeName.equalsIgnoreCase("map")){
-                return resolveValueAsMap(value.asInstanceOf[SimpleGroup])
-            }else if(typeName.equalsIgnoreCase("struct")){
-                return resolveValueAsStruct(value.asInstanceOf[SimpleGroup])
+    private def partitionPredicate(sparkSession: SparkSession, table: CatalogTable, partition: PartitionValContext): Expression ={
+        val name = partition.identifier().getText
+        val field = table.partitionSchema.find(_.name.equalsIgnoreCase(name)).getOrElse(
+            throw new RuntimeException(name+" is not a partition column of "+table.identifier))
+        val column = AttributeReference(field.name, field.dataType, field.nullable)()
+        val timeZone = Option(sparkSession.sessionState.conf.sessionLocalTimeZone)
+        val values = partition.constant().map{ constant =>
+            val value = Cast(Literal(constantValue(constant)), field.dataType, timeZone).eval()
+            if(value == null){
+                throw new RuntimeException("cannot compare partition column "+name+" of type "+field.dataType.simpleString+" with "+constant.getText)
+            }
+            Literal(value, field.dataType)
+        }
+        if(partition.IN() != null){
+            if(partition.NOT() != null) Not(In(column, values)) else In(column, values)
+        } else{
+            partition.comparison.getType match {
+                case SqlBaseParser.EQ => EqualTo(column, values.head)
+                case SqlBaseParser.NEQ | SqlBaseParser.NEQJ => Not(EqualTo(column, values.head))
+                case SqlBaseParser.LT => LessThan(column, values.head)
+                case SqlBaseParser.LTE => LessThanOrEqual(column, values.head)
+                case SqlBaseParser.GT => GreaterThan(column, values.head)
+                case SqlBaseParser.GTE => GreaterThanOrEqual(column, values.head)
             }
         }
-        null
     }
 
+    private def constantValue(constant: ConstantContext): String ={
+        val value = constant.getText
+        if(value.startsWith("'") && value.endsWith("'")) StringUtils.substringBetween(value, "'") else value
+    }
 
-    def resolveValue(valueType: PrimitiveType.PrimitiveTypeName, value:Any): Any ={
-        if(valueType==PrimitiveType.PrimitiveTypeName.BOOLEAN){
-            return value.toString.toBoolean
-        }else if(valueType==PrimitiveType.PrimitiveTypeName.INT32){
-            return value.toString.toInt
-        }else if(valueType==PrimitiveType.PrimitiveTypeName.INT64 || valueType==PrimitiveType.PrimitiveTypeName.INT96){
-            return value.toString.toLong
-        }else if(valueType==PrimitiveType.PrimitiveTypeName.FLOAT){
-            return value.toString.toFloat
-        }else if(valueType==PrimitiveType.PrimitiveTypeName.DOUBLE){
-            return value.toString.toDouble
-        }else if(valueType==PrimitiveType.PrimitiveTypeName.BINARY){
-            return value.toString
+    def getPathFromDirectory(configuration: Configuration, dir: String): List[Path] ={
+        val dirPath = new Path(dir)
+        val fs = dirPath.getFileSystem(configuration)
+        val inputFiles = fs.listStatus(dirPath, HiddenFileFilter.INSTANCE)
+        val list = new util.LinkedList[Path]()
+        for(file <- inputFiles){
+            list.add(file.getPath)
         }
-        value
+        list
     }
 
-    def resolveValueAsArray(group: SimpleGroup): Any ={
-        val (schema, data) = getPrivateField(group)
-        val valueList = data(0)
-        val array = new Array[Any](valueList.size())
-        var index = 0
-
-        val fieldType = schema.getType(0).asInstanceOf[GroupType]
-        val valueType = fieldType.getType(0).asInstanceOf[PrimitiveType].getPrimitiveTypeName
-        for(value <- valueList){
-            if(value.isInstanceOf[SimpleGroup]){
-                val data1 = getPrivateField(value.asInstanceOf[SimpleGroup])._2
-                val rowValue = data1(0).get(0)
-                array(index) = resolveValue(valueType, rowValue)
-                index += 1
+    /**
+      * Packs the files into groups of at most targetBytes by first fit decreasing on the file
+      * length, a file larger than targetBytes ends up in a group of its own.
+      */
+    def binPack(files: List[FileStatus], targetBytes: Long): Seq[Seq[FileStatus]] ={
+        val groups = new ArrayBuffer[ListBuffer[FileStatus]]()
+        val groupSizes = new ArrayBuffer[Long]()
+        for(file <- files.sortBy(-_.getLen)){
+            val index = groupSizes.indexWhere(_ + file.getLen <= targetBytes)
+            if(index >= 0){
+                groups(index) += file
+                groupSizes(index) += file.getLen
+            } else{
+                groups += ListBuffer(file)
+                groupSizes += file.getLen
             }
         }
-        array
+        groups
     }
 
-    def resolveValueAsMap(group: SimpleGroup): Any ={
-        val (schema, data) = getPrivateField(group)
-        val valueList = data(0)
-        val fieldType = schema.getType(0).asInstanceOf[GroupType]
-        val keyType = fieldType.getType(0).asInstanceOf[PrimitiveType].getPrimitiveTypeName
-        val valueType = fieldType.getType(1).asInstanceOf[PrimitiveType].getPrimitiveTypeName
-
-        val map = Map[Any, Any]()
-        for(value <- valueList){
-            if(value.isInstanceOf[SimpleGroup]){
-                val data1 = getPrivateField(value.asInstanceOf[SimpleGroup])._2
-                val mapKey = resolveValue(keyType, data1(0).get(0))
-                val mapValue = resolveValue(valueType, data1(1).get(0))
-                map += (mapKey -> mapValue)
-            }
+    /**
+      * Spreads the files over num groups of about the same size, every file goes to the
+      * currently smallest group, largest files first.
+      */
+    def balance(files: List[FileStatus], num: Int): Seq[Seq[FileStatus]] ={
+        val groups = Array.fill(num)(new ListBuffer[FileStatus]())
+        val groupSizes = new Array[Long](num)
+        for(file <- files.sortBy(-_.getLen)){
+            val index = groupSizes.indexOf(groupSizes.min)
+            groups(index) += file
+            groupSizes(index) += file.getLen
         }
-        map
+        groups.filter(_.nonEmpty)
     }
 
-    def resolveValueAsStruct(group: SimpleGroup): Any ={
-        val (schema, data) = getPrivateField(group)
-        val array = new Array[Any](schema.getFields.size())
-        for(index <- 0 to schema.getFields.size()-1){
-            val valueType = schema.getType(index).asInstanceOf[PrimitiveType]
-            val value = data(index).get(0)
-            array(index) = resolveValue(valueType.getPrimitiveTypeName, value)
-        }
-        Row.fromSeq(array.toSeq)
+    def isAppendEngine(conf: SparkConf): Boolean ={
+        conf.get(SparkParserConfig.sparkMergeEngine, "rewrite").equalsIgnoreCase("append")
     }
 
-    def resolveTimeStamp(value: Binary): Timestamp ={
-        if(value.length()!=12){
-            return new Timestamp(0)
+    /**
+      * The files a merge job wrote into dir.
+      */
+    def listMergedFiles(configuration: Configuration, dir: String): Seq[FileStatus] ={
+        val dirPath = new Path(dir)
+        val fs = dirPath.getFileSystem(configuration)
+        if(!fs.exists(dirPath)){
+            return Nil
         }
-        val bytes = value.getBytes
-        val timeOfDayNanos = Longs.fromBytes(bytes(7), bytes(6), bytes(5), bytes(4), bytes(3), bytes(2), bytes(1), bytes(0))
-        val day = Ints.fromBytes(bytes(11), bytes(10), bytes(9), bytes(8))
+        fs.listStatus(dirPath, HiddenFileFilter.INSTANCE).filter(_.isFile).toSeq
+    }
 
-        new Timestamp((day-2440588)*TimeUnit.DAYS.toMillis(1)+(timeOfDayNanos/TimeUnit.MILLISECONDS.toNanos(1)))
+    /**
+      * Splits the candidate files of a directory into the groups that are merged into one
+      * output each. An empty result means the directory is not worth merging. The files of a
+      * bucketed table are grouped by bucket.
+      */
+    def planMergeGroups(conf: SparkConf, candidateList: List[FileStatus], bucketSpec: Option[BucketSpec] = None): Seq[Seq[FileStatus]] ={
+        if(bucketSpec.nonEmpty){
+            return MergeBuckets.planGroups(candidateList)
+        }
+        val mergeNum = conf.get(SparkParserConfig.sparkMergeFileNum, "6").toInt
+        val targetBytes = conf.getSizeAsBytes(SparkParserConfig.sparkMergeTargetBytes, "0")
+        if(targetBytes > 0){
+            // only groups holding more than one file are worth rewriting
+            binPack(candidateList, targetBytes).filter(_.size > 1)
+        } else if(candidateList.size() <= mergeNum){
+            Nil
+        } else if(isAppendEngine(conf)){
+            balance(candidateList, mergeNum).filter(_.size > 1)
+        } else{
+            Seq(candidateList.toSeq)
+        }
     }
 }
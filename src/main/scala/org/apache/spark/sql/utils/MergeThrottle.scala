@@ -0,0 +1,139 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.Semaphore
+
+import scala.collection.mutable
+import scala.reflect.ClassTag
+import org.apache.spark.TaskContext
+import org.apache.spark.rdd.RDD
+import org.apache.spark.sql.{DataFrame, SparkSession}
+import org.apache.spark.sql.parser.SparkParserConfig
+
+/**
+  * Keeps the merges of a driver from crowding out other workloads of the cluster. All merge jobs
+  * of the driver share maxTasks task slots: jobs are shaped to use no more tasks than that and
+  * wait on the driver until enough slots are free. The rate is the bytes per second of all merge
+  * tasks together, every task reads at most its share of it, rate divided by the tasks that may
+  * run at once. The write follows the read in the same task so it is paced as well.
+  */
+class MergeThrottle(val rate: Long, maxTasks: Int, parallelism: Int) {
+
+    private val slots = if(maxTasks > 0) MergeThrottle.driverSlots(maxTasks) else null
+
+    /**
+      * Bytes per second a single task may read, without a task cap at most every core of the cluster runs one.
+      */
+    val taskRate: Long = if(rate <= 0) 0 else Math.max(1, rate/(if(maxTasks > 0) maxTasks else Math.max(parallelism, 1)))
+
+    /**
+      * Number of tasks a job that wants the given number of tasks may run.
+      */
+    def tasks(wanted: Int): Int = if(maxTasks > 0) Math.max(1, Math.min(wanted, maxTasks)) else wanted
+
+    /**
+      * Runs a job of the given number of tasks once that many slots are free.
+      */
+    def withTasks[T](wanted: Int)(job: => T): T ={
+        if(slots == null){
+            return job
+        }
+        val permits = tasks(wanted)
+        slots.acquire(permits)
+        try{
+            job
+        } finally {
+            slots.release(permits)
+        }
+    }
+
+    def throttle[T: ClassTag](rdd: RDD[T]): RDD[T] ={
+        if(rate <= 0){
+            return rdd
+        }
+        val bytesPerSecond = taskRate
+        rdd.mapPartitions(iter => new MergeThrottle.PacedIterator(iter, bytesPerSecond), preservesPartitioning = true)
+    }
+
+    def throttle(df: DataFrame): DataFrame ={
+        if(rate <= 0){
+            return df
+        }
+        df.sparkSession.internalCreateDataFrame(throttle(df.queryExecution.toRdd), df.schema)
+    }
+
+    /**
+      * Coalesces the frame into as many tasks as it may run.
+      */
+    def limit(df: DataFrame): DataFrame ={
+        if(maxTasks <= 0){
+            return df
+        }
+        val partitions = df.queryExecution.toRdd.getNumPartitions
+        if(tasks(partitions) < partitions) df.coalesce(tasks(partitions)) else df
+    }
+}
+
+object MergeThrottle {
+
+    // the read metrics are refreshed every 1000 records
+    private val CHECK_INTERVAL = 1000
+
+    private val slotsByTasks = mutable.Map[Int, Semaphore]()
+
+    // task slots shared by every merge of the driver
+    private def driverSlots(maxTasks: Int): Semaphore = slotsByTasks.synchronized{
+        slotsByTasks.getOrElseUpdate(maxTasks, new Semaphore(maxTasks, true))
+    }
+
+    def apply(sparkSession: SparkSession): MergeThrottle ={
+        val conf = sparkSession.sparkContext.getConf
+        val rate = conf.getSizeAsBytes(SparkParserConfig.sparkMergeThrottleRate, "0")
+        val maxTasks = conf.get(SparkParserConfig.sparkMergeThrottleTasks, "0").toInt
+        new MergeThrottle(rate, maxTasks, sparkSession.sparkContext.defaultParallelism)
+    }
+
+    /**
+      * Sleeps the calling task until the bytes it has handled since start fit into the rate.
+      */
+    def pace(rate: Long, start: Long, bytes: Long): Unit ={
+        if(rate > 0){
+            val wait = bytes*1000/rate-(System.currentTimeMillis()-start)
+            if(wait > 0) Thread.sleep(wait)
+        }
+    }
+
+    /**
+      * Holds back the records of a task while the bytes it has read, from files or from a
+      * shuffle, run ahead of the rate.
+      */
+    private class PacedIterator[T](iter: Iterator[T], rate: Long) extends Iterator[T] {
+
+        private val metrics = TaskContext.get().taskMetrics()
+
+        private val start = System.currentTimeMillis()
+
+        private var count = 0L
+
+        private var finished = false
+
+        override def hasNext: Boolean ={
+            val more = iter.hasNext
+            if(!more && !finished){
+                // the metrics are complete once the input is drained, the task keeps its slot until it is in the rate
+                finished = true
+                pace()
+            }
+            more
+        }
+
+        override def next(): T ={
+            count += 1
+            if(count % CHECK_INTERVAL == 0){
+                pace()
+            }
+            iter.next()
+        }
+
+        private def pace(): Unit = MergeThrottle.pace(rate, start, metrics.inputMetrics.bytesRead+metrics.shuffleReadMetrics.totalBytesRead)
+    }
+}
@@ -0,0 +1,51 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.Path
+import org.apache.orc.{OrcFile, Reader}
+
+/**
+  * Merges orc files without decoding them: the stripes of every input are copied byte by byte
+  * together with their statistics and only the file footer is rebuilt. Stripes can only share a
+  * file with stripes written the same way, so a group may produce one output per schema,
+  * compression, buffer size, row index stride, file and writer version and user metadata.
+  */
+object OrcAppendMerger extends AppendMerger[Reader] {
+
+    override protected def extension: String = ".orc"
+
+    override protected def open(conf: Configuration, path: Path): Reader = OrcFile.createReader(path, OrcFile.readerOptions(conf))
+
+    override protected def layout(reader: Reader): Any =
+        (Seq(reader.getSchema, reader.getCompressionKind, reader.getCompressionSize, reader.getRowIndexStride, reader.getFileVersion,
+            reader.getWriterVersion).mkString("|"), reader.getMetadataKeys.map(key => key -> reader.getMetadataValue(key)).toMap)
+
+    override protected def appendFile(conf: Configuration, output: Path, inputs: Seq[(Path, Reader)], progress: Long => Unit): Unit ={
+        val first = inputs.head._2
+        val writer = OrcFile.createWriter(output, OrcFile.writerOptions(conf).setSchema(first.getSchema)
+            .compress(first.getCompressionKind).bufferSize(first.getCompressionSize)
+            .rowIndexStride(first.getRowIndexStride).version(first.getFileVersion))
+        try{
+            for((path, reader) <- inputs){
+                val in = path.getFileSystem(conf).open(path)
+                try{
+                    val statistics = reader.getOrcProtoStripeStatistics
+                    for((stripe, index) <- reader.getStripes.zipWithIndex){
+                        val buffer = new Array[Byte](stripe.getLength.toInt)
+                        in.readFully(stripe.getOffset, buffer, 0, buffer.length)
+                        writer.appendStripe(buffer, 0, buffer.length, stripe, statistics.get(index))
+                        progress(buffer.length)
+                    }
+                } finally {
+                    in.close()
+                }
+            }
+            for(key <- first.getMetadataKeys){
+                writer.addUserMetadata(key, first.getMetadataValue(key))
+            }
+        } finally {
+            writer.close()
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.Path
+import org.apache.parquet.format.converter.ParquetMetadataConverter
+import org.apache.parquet.hadoop.{ParquetFileReader, ParquetFileWriter}
+import org.apache.parquet.hadoop.metadata.ParquetMetadata
+
+/**
+  * Merges parquet files without decoding them: the row groups of every input are copied
+  * byte by byte into the merged file and only the footer is rebuilt. Inputs with different
+  * schemas or key/value metadata cannot share a file, so a group may produce one output per
+  * distinct footer. The row groups keep their original size and codec.
+  */
+object ParquetAppendMerger extends AppendMerger[ParquetMetadata] {
+
+    override protected def extension: String = ".parquet"
+
+    override protected def open(conf: Configuration, path: Path): ParquetMetadata =
+        ParquetFileReader.readFooter(conf, path, ParquetMetadataConverter.NO_FILTER)
+
+    // the key/value metadata of the inputs is written to the output as it is, so it has to be the same for all of them
+    override protected def layout(footer: ParquetMetadata): Any =
+        (footer.getFileMetaData.getSchema, footer.getFileMetaData.getKeyValueMetaData.toMap)
+
+    override protected def appendFile(conf: Configuration, output: Path, inputs: Seq[(Path, ParquetMetadata)], progress: Long => Unit): Unit ={
+        val first = inputs.head._2.getFileMetaData
+        val writer = new ParquetFileWriter(conf, first.getSchema, output, ParquetFileWriter.Mode.CREATE)
+        writer.start()
+        for((path, footer) <- inputs){
+            val in = path.getFileSystem(conf).open(path)
+            try{
+                writer.appendRowGroups(in, footer.getBlocks, false)
+            } finally {
+                in.close()
+            }
+            progress(footer.getBlocks.map(_.getCompressedSize).sum)
+        }
+        writer.end(first.getKeyValueMetaData)
+    }
+}
@@ -0,0 +1,28 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.Expression
+import org.apache.spark.sql.execution.datasources.{FileIndex, PartitionDirectory}
+import org.apache.spark.sql.types.StructType
+
+/**
+  * A file index over files that were already listed. Unlike spark's InMemoryFileIndex it
+  * never touches the file system, the read sees exactly these files.
+  */
+class SelectedFileIndex(files: Seq[FileStatus]) extends FileIndex {
+
+    override def rootPaths: Seq[Path] = files.map(_.getPath)
+
+    override def listFiles(partitionFilters: Seq[Expression], dataFilters: Seq[Expression]): Seq[PartitionDirectory] ={
+        Seq(PartitionDirectory(InternalRow.empty, files))
+    }
+
+    override def inputFiles: Array[String] = files.map(_.getPath.toString).toArray
+
+    override def refresh(): Unit = {}
+
+    override def sizeInBytes: Long = files.map(_.getLen).sum
+
+    override def partitionSchema: StructType = new StructType()
+}
@@ -0,0 +1,137 @@
+package org.apache.spark.sql.utils
+
+import java.net.URI
+import java.util
+import java.util.concurrent.ConcurrentLinkedQueue
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{FileStatus, FileSystem, Path}
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.functions._
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.slf4j.LoggerFactory
+
+/**
+  * Compacts the small files of all partitions of a table in a single spark job. Rows are
+  * tagged with the directory of the file they come from and written partition-aware into
+  * one temp directory, afterwards the output of every partition is committed on its own.
+  */
+object TableCompaction {
+
+    private final val logger = LoggerFactory.getLogger(TableCompaction.getClass)
+
+    private val DIR_COLUMN = "__merge_dir"
+
+    private val BUCKET_COLUMN = "__merge_bucket"
+
+    def compact(sparkSession: SparkSession, hadoopConf: Configuration, root: String, lister: MergeFileLister, journal: MergeJournal,
+                mergeOutput: MergeOutput, throttle: MergeThrottle, state: MergeState): Seq[MergeResult] ={
+        val fs = FileSystem.get(hadoopConf)
+        val mergeNum = sparkSession.sparkContext.getConf.get(SparkParserConfig.sparkMergeFileNum, "6").toInt
+        val targetBytes = sparkSession.sparkContext.getConf.getSizeAsBytes(SparkParserConfig.sparkMergeTargetBytes, "0")
+
+        val candidates = new util.LinkedList[(Path, Seq[Seq[FileStatus]])]()
+        val skipped = new util.LinkedList[MergeResult]()
+        val directories = new ConcurrentLinkedQueue[(Path, Array[FileStatus])]()
+        DirectoryWalker(sparkSession, lister).walk(fs.makeQualified(new Path(root)), state.shouldVisit){ (dir, statuses) =>
+            directories.add((dir, statuses))
+        }
+        for((dir, statuses) <- directories if !journal.isFinished(dir.toString)){
+            val inputFileList = lister.selectFiles(ManifestCommit.recover(fs, dir.toString, statuses))
+            val groups = MergeTableUtils.planMergeGroups(sparkSession.sparkContext.getConf, inputFileList)
+            if(groups.nonEmpty){
+                candidates.add((dir, groups))
+            } else{
+                logger.info("path {} contains no valid parquet file!", dir)
+            }
+        }
+        for((dir, _) <- directories if journal.isFinished(dir.toString)){
+            logger.info("path {} was merged by a previous run", dir)
+            skipped.add(MergeResult(dir.toString, MergeResult.SKIPPED, 0, 0, 0, "finished by a previous run"))
+        }
+        if(candidates.isEmpty){
+            directories.foreach{ case (dir, statuses) => state.record(dir, statuses) }
+            return skipped.toSeq
+        }
+
+        // a single read infers the schema from one file, so only directories whose files share
+        // the same schema can go into the same job
+        val groups = candidates.groupBy{ case (_, fileGroups) => mergeOutput.format.schemaKey(hadoopConf, fileGroups.head.head) }
+        logger.info("merge {} partitions of {} in {} jobs", Int.box(candidates.size()), root, Int.box(groups.size))
+
+        // every job writes a temp directory of its own, which stays for the journal if a partition of it fails to commit
+        val tempRoot = new Path(root, ".mergeTemp")
+        fs.delete(tempRoot, true)
+        val results = skipped.toSeq ++ groups.values.toSeq.zipWithIndex.flatMap{ case (group, index) =>
+            try{
+                compactGroup(sparkSession, hadoopConf, tempRoot+"/"+index, mergeNum, targetBytes > 0, lister, journal, mergeOutput, throttle, group)
+            } catch {
+                case e: Exception =>
+                    logger.error("merge of "+group.size+" partitions of "+root+" failed", e)
+                    group.map{ case (location, _) => MergeResult.failed(location.toString, e) }
+            }
+        }
+        val failed = results.filter(_.failed).map(_.location).toSet
+        if(failed.isEmpty){
+            fs.delete(tempRoot, true)
+        }
+        // a failed directory is merged again by the next incremental run
+        for((dir, statuses) <- directories if !failed.contains(dir.toString)){
+            state.record(dir, statuses)
+        }
+        results
+    }
+
+    private def compactGroup(sparkSession: SparkSession, hadoopConf: Configuration, tempDir: String, mergeNum: Int, binPacked: Boolean,
+                             lister: MergeFileLister, journal: MergeJournal, mergeOutput: MergeOutput, throttle: MergeThrottle, group: Seq[(Path, Seq[Seq[FileStatus]])]): Seq[MergeResult] ={
+        val time = System.currentTimeMillis()
+        val dirIds = group.map(_._1.toString).zipWithIndex.toMap
+        val dirId = udf((file: String) => dirIds(new Path(new URI(file)).getParent.toString))
+        // bin-packed files keep their group as output bucket, otherwise files are hashed into merge.num buckets
+        val fileBuckets = group.flatMap(_._2.zipWithIndex.flatMap{ case (files, index) => files.map(_.getPath.toString -> index) }).toMap
+        val fileBucket = udf((file: String) => fileBuckets(new Path(new URI(file)).toString))
+        val bucket = if(binPacked) fileBucket(input_file_name()) else pmod(hash(input_file_name()), lit(mergeNum))
+
+        for((location, fileGroups) <- group){
+            journal.planned(location.toString, tempDir+"/"+DIR_COLUMN+"="+dirIds(location.toString), fileGroups.flatten.map(_.getPath))
+        }
+
+        if(MergeTableUtils.isAppendEngine(sparkSession.sparkContext.getConf)){
+            val tasks = group.flatMap{ case (location, fileGroups) =>
+                fileGroups.map(files => (tempDir+"/"+DIR_COLUMN+"="+dirIds(location.toString), files))
+            }
+            mergeOutput.format.append(sparkSession.sparkContext, hadoopConf, tasks, throttle)
+        } else{
+            val df = throttle.limit(mergeOutput.format.read(sparkSession, group.flatMap(_._2.flatten)))
+            val tagged = throttle.throttle(df.withColumn(DIR_COLUMN, dirId(input_file_name())).withColumn(BUCKET_COLUMN, bucket))
+            val partitions = throttle.tasks(sparkSession.sessionState.conf.numShufflePartitions)
+            val partitioned = throttle.throttle(tagged.repartition(partitions, col(DIR_COLUMN), col(BUCKET_COLUMN)).drop(BUCKET_COLUMN))
+            // the read and the shuffle stage both run within the slots of the job
+            throttle.withTasks(Math.max(df.queryExecution.toRdd.getNumPartitions, partitions)){
+                // the writer needs the rows sorted by directory, the clustering sort goes behind it
+                mergeOutput.write(partitioned, tempDir, Some(DIR_COLUMN))
+            }
+        }
+        // the partitions share one job, each of them reports its full time
+        val writeMs = System.currentTimeMillis()-time
+
+        // every partition commits on its own, one that fails to commit leaves the others merged
+        val results = group.map{ case (location, fileGroups) =>
+            try{
+                val commitStart = System.currentTimeMillis()
+                val outputs = MergeTableUtils.listMergedFiles(hadoopConf, tempDir+"/"+DIR_COLUMN+"="+dirIds(location.toString))
+                val records = mergeOutput.format.records(hadoopConf, outputs)
+                val committed = journal.commit(location.toString, outputs.map(_.getPath))
+                val cost = writeMs+System.currentTimeMillis()-commitStart
+                MergeResult.merged(location.toString, fileGroups.flatten, outputs, records, lister.listTime(location.toString), writeMs, committed, cost)
+            } catch {
+                case e: Exception =>
+                    logger.error("commit of "+location+" failed", e)
+                    MergeResult.failed(location.toString, e)
+            }
+        }
+        logger.info("merge finished, cost {} ms", System.currentTimeMillis()-time)
+        results
+    }
+}
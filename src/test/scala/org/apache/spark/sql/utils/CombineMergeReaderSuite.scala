@@ -0,0 +1,46 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class CombineMergeReaderSuite extends FunSuite with LocalSparkSession {
+
+    private def writeFiles(dir: String): Seq[FileStatus] ={
+        spark.range(0, 100, 1, 4).selectExpr("id", "concat('n', id) AS name").write.parquet(dir)
+        fs.listStatus(new Path(dir)).filter(_.getPath.getName.endsWith(".parquet")).sortBy(_.getPath.getName).toSeq
+    }
+
+    private def read(groups: Seq[Seq[FileStatus]], coalesceNum: Int): Seq[Long] ={
+        val schema = spark.read.parquet(testDir+"/t").schema
+        new CombineMergeReader(schema).read(spark, spark.sparkContext.hadoopConfiguration, MergeFormat.Parquet, groups, coalesceNum)
+            .collect().map(_.getLong(0)).sorted.toSeq
+    }
+
+    test("only the selected files are read"){
+        val files = writeFiles(testDir+"/t")
+        val expected = spark.read.parquet(files.take(2).map(_.getPath.toString): _*).collect().map(_.getLong(0)).sorted.toSeq
+
+        assert(read(Seq(files.take(2)), 1) == expected)
+        assert(read(files.take(2).map(Seq(_)), 0) == expected)
+        assert(expected.size == 50)
+    }
+
+    test("a selected file that changed since the listing fails the read"){
+        val files = writeFiles(testDir+"/t")
+        val changed = new FileStatus(files.head.getLen+1, false, 1, 1, 0, files.head.getPath)
+
+        val e = intercept[Exception](read(Seq(Seq(changed, files(1))), 1))
+        assert(e.getMessage.contains("changed since it was selected for merge"))
+    }
+
+    test("a selected file that is gone fails the read"){
+        val files = writeFiles(testDir+"/t")
+        fs.delete(files.head.getPath, false)
+
+        val e = intercept[Exception](read(Seq(files.take(2)), 1))
+        assert(e.getMessage.contains("selected files are gone"))
+    }
+}
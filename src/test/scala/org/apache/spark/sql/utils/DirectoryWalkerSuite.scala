@@ -0,0 +1,55 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{ConcurrentLinkedQueue, CountDownLatch, TimeUnit}
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.Path
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class DirectoryWalkerSuite extends FunSuite with LocalSparkSession {
+
+    test("every directory is visited once with its listing"){
+        val root = new Path(testDir+"/t")
+        for(dir <- Seq("dt=a/h=1", "dt=a/h=2", "dt=b/h=1", "dt=c")){
+            touch(new Path(root, dir+"/part.parquet"))
+        }
+        touch(new Path(root, ".mergeTemp/part.parquet"))
+        val visited = new ConcurrentLinkedQueue[(String, Int)]()
+        val lister = new MergeFileLister(fs, 134217728L, 0)
+
+        new DirectoryWalker(lister, 4).walk(fs.makeQualified(root)){ (dir, statuses) =>
+            visited.add((dir.toString.stripPrefix(fs.makeQualified(root).toString), statuses.length))
+        }
+
+        assert(visited.toSet == Set(("", 4), ("/dt=a", 2), ("/dt=a/h=1", 1), ("/dt=a/h=2", 1), ("/dt=b", 1), ("/dt=b/h=1", 1), ("/dt=c", 1)))
+        assert(lister.callCount == 7)
+    }
+
+    test("sibling directories are listed concurrently"){
+        val root = new Path(testDir+"/t")
+        for(dir <- Seq("dt=a", "dt=b")){
+            touch(new Path(root, dir+"/part.parquet"))
+        }
+        val siblings = new CountDownLatch(2)
+        val concurrent = new ConcurrentLinkedQueue[Boolean]()
+
+        new DirectoryWalker(new MergeFileLister(fs, 134217728L, 0), 2).walk(root){ (dir, _) =>
+            if(dir.getName.startsWith("dt=")){
+                siblings.countDown()
+                concurrent.add(siblings.await(30, TimeUnit.SECONDS))
+            }
+        }
+
+        assert(concurrent.toList == List(true, true))
+    }
+
+    test("a failed listing fails the walk"){
+        val e = intercept[RuntimeException]{
+            new DirectoryWalker(new MergeFileLister(fs, 134217728L, 0), 2).walk(new Path(testDir+"/missing"))((_, _) => ())
+        }
+        assert(e.getMessage.endsWith("does not exist!"))
+    }
+}
@@ -0,0 +1,82 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.Path
+import org.apache.spark.sql.Row
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class GroupRowConverterSuite extends FunSuite with LocalSparkSession {
+
+    /**
+      * Writes the selected columns with the sql settings, then reads the files back through the
+      * combine group reader and through spark's own parquet reader.
+      */
+    private def roundTrip(settings: (String, String)*)(columns: String*): (Seq[Row], Seq[Row]) ={
+        val dir = testDir+"/data"
+        val previous = settings.map{ case (key, _) => (key, spark.conf.getOption(key)) }
+        settings.foreach{ case (key, value) => spark.conf.set(key, value) }
+        try{
+            spark.range(0, 100, 1, 4).selectExpr(columns: _*).write.parquet(dir)
+        } finally {
+            previous.foreach{
+                case (key, Some(value)) => spark.conf.set(key, value)
+                case (key, None) => spark.conf.unset(key)
+            }
+        }
+        val expected = spark.read.parquet(dir)
+        val files = fs.listStatus(new Path(dir)).filter(_.getPath.getName.endsWith(".parquet")).toSeq
+        val actual = new CombineMergeReader(expected.schema).read(spark, spark.sparkContext.hadoopConfiguration, MergeFormat.Parquet, Seq(files), 0)
+        (actual.collect().sortBy(_.getLong(0)).toSeq, expected.collect().sortBy(_.getLong(0)).toSeq)
+    }
+
+    private def assertRoundTrip(settings: (String, String)*)(columns: String*): Unit ={
+        val (actual, expected) = roundTrip(settings: _*)(columns: _*)
+        assert(actual.size == 100)
+        assert(actual == expected)
+    }
+
+    test("nested structs"){
+        assertRoundTrip()("id", "named_struct('a', cast(id AS int), 'b', named_struct('c', concat('c', id), 'd', if(id % 3 = 0, null, id * 2))) AS s",
+            "if(id % 5 = 0, null, named_struct('e', id)) AS n")
+    }
+
+    test("three level lists"){
+        assertRoundTrip()("id", "array(cast(id AS int), null, 3) AS a", "array(array(concat('x', id)), array()) AS nested",
+            "if(id % 4 = 0, null, array(named_struct('k', id))) AS structs")
+    }
+
+    test("legacy two level lists"){
+        // the legacy format writes arrays without null elements as a bare repeated field
+        assertRoundTrip("spark.sql.parquet.writeLegacyFormat" -> "true")("id", "array(id, id + 1) AS a", "array(cast(id AS int), null) AS nullable",
+            "array(array(id)) AS nested")
+    }
+
+    test("maps"){
+        assertRoundTrip()("id", "map(concat('k', id), cast(id AS int), 'null', null) AS m", "map(id, array(id)) AS arrays",
+            "map('s', named_struct('v', id)) AS structs")
+    }
+
+    test("int96 and int64 timestamps"){
+        for(outputType <- Seq("INT96", "TIMESTAMP_MICROS", "TIMESTAMP_MILLIS")){
+            assertRoundTrip("spark.sql.parquet.outputTimestampType" -> outputType)("id",
+                "cast(id * 86400 + 0.123456 AS timestamp) AS ts", "if(id % 2 = 0, null, cast(-id * 1000 AS timestamp)) AS before")
+            fs.delete(new Path(testDir+"/data"), true)
+        }
+    }
+
+    test("int32, int64 and binary decimals"){
+        val columns = Seq("id", "cast(id / 7 AS decimal(5,2)) AS d32", "cast(-id * 1000003 / 7 AS decimal(15,4)) AS d64",
+            "cast(id * 100000000000 / 7 AS decimal(30,6)) AS dbinary", "cast(null AS decimal(5,2)) AS dnull")
+        assertRoundTrip()(columns: _*)
+        fs.delete(new Path(testDir+"/data"), true)
+        // the legacy format writes every decimal as a fixed length binary
+        assertRoundTrip("spark.sql.parquet.writeLegacyFormat" -> "true")(columns: _*)
+    }
+
+    test("primitives, dates and binaries"){
+        assertRoundTrip()("id", "cast(id AS boolean) AS bool", "cast(id AS byte) AS b", "cast(id AS short) AS s", "cast(id AS float) / 3 AS f",
+            "cast(id AS double) / 3 AS d", "date_add(to_date('1960-01-01'), cast(id * 200 AS int)) AS day", "cast(concat('b', id) AS binary) AS bytes")
+    }
+}
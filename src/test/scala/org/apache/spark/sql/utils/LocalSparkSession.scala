@@ -0,0 +1,79 @@
+package org.apache.spark.sql.utils
+
+import java.io.File
+import java.nio.file.Files
+
+import org.apache.commons.io.FileUtils
+import org.apache.hadoop.fs.{FileSystem, Path}
+import org.apache.spark.sql.SparkSession
+import org.scalatest.{BeforeAndAfterEach, Suite}
+
+/**
+  * A local session shared by the suites of a test run. Every test gets a fresh directory of its
+  * own, settings a merge reads from the spark context are changed for a single block.
+  */
+trait LocalSparkSession extends BeforeAndAfterEach { this: Suite =>
+
+    lazy val spark: SparkSession = LocalSparkSession.spark
+
+    lazy val fs: FileSystem = FileSystem.get(spark.sparkContext.hadoopConfiguration)
+
+    private var dir: File = _
+
+    def testDir: String = dir.getCanonicalPath
+
+    override protected def beforeEach(): Unit ={
+        super.beforeEach()
+        dir = Files.createTempDirectory("merge-test").toFile
+    }
+
+    override protected def afterEach(): Unit ={
+        try{
+            FileUtils.deleteQuietly(dir)
+        } finally {
+            super.afterEach()
+        }
+    }
+
+    /**
+      * Runs body with the settings in the conf of the spark context and restores them afterwards.
+      */
+    def withConf[T](settings: (String, String)*)(body: => T): T ={
+        val conf = spark.sparkContext.conf
+        val previous = settings.map{ case (key, _) => (key, conf.getOption(key)) }
+        settings.foreach{ case (key, value) => conf.set(key, value) }
+        try{
+            body
+        } finally {
+            previous.foreach{
+                case (key, Some(value)) => conf.set(key, value)
+                case (key, None) => conf.remove(key)
+            }
+        }
+    }
+
+    def touch(path: Path, content: String = "data"): Path ={
+        val out = fs.create(path, true)
+        try{
+            out.write(content.getBytes("UTF-8"))
+        } finally {
+            out.close()
+        }
+        fs.makeQualified(path)
+    }
+}
+
+object LocalSparkSession {
+
+    lazy val spark: SparkSession ={
+        val warehouse = Files.createTempDirectory("merge-warehouse").toFile
+        warehouse.deleteOnExit()
+        SparkSession.builder()
+            .master("local[2]")
+            .appName("merge-test")
+            .config("spark.ui.enabled", "false")
+            .config("spark.sql.shuffle.partitions", "2")
+            .config("spark.sql.warehouse.dir", warehouse.getCanonicalPath)
+            .getOrCreate()
+    }
+}
@@ -0,0 +1,79 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.hadoop.fs.{Path, PathFilter}
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class ManifestCommitSuite extends FunSuite with LocalSparkSession {
+
+    private val id = "0f0e0d0c-0000-0000-0000-000000000001"
+
+    /**
+      * A partition with two inputs, the merge of both begun and its merged file written in place.
+      */
+    private def partition(): (String, Seq[Path], Path) ={
+        val location = testDir+"/dt=a"
+        val inputs = Seq(touch(new Path(location, "part-00000-a.parquet")), touch(new Path(location, "part-00001-b.parquet")))
+        ManifestCommit.begin(fs, location, id, inputs)
+        val conf = ManifestCommit.jobConf(new Configuration(), id)
+        val output = touch(new Path(location, ManifestCommit.fileName(conf, 0, ".parquet")))
+        (location, inputs, output)
+    }
+
+    private def visible(location: String): Set[String] ={
+        val filter = new MergeCommitFilter
+        filter.setConf(spark.sparkContext.hadoopConfiguration)
+        fs.listStatus(new Path(location), new PathFilter {
+            override def accept(path: Path): Boolean = !path.getName.startsWith("_") && !path.getName.startsWith(".") && filter.accept(path)
+        }).map(_.getPath.getName).toSet
+    }
+
+    test("merged files carry the merge id"){
+        val (_, _, output) = partition()
+        assert(output.getName.startsWith("part-00000-"+id+"-"))
+        assert(!ManifestCommit.fileName(new Configuration(), 0, ".parquet").contains(id))
+    }
+
+    test("readers see the inputs until the merge commits and the merged files after"){
+        val (location, inputs, output) = partition()
+        assert(visible(location) == inputs.map(_.getName).toSet)
+
+        assert(ManifestCommit.publish(fs, location, id))
+        assert(!ManifestCommit.publish(fs, location, id))
+        assert(visible(location) == Set(output.getName))
+
+        inputs.foreach(fs.delete(_, false))
+        ManifestCommit.finish(fs, location, id)
+        assert(visible(location) == Set(output.getName))
+        assert(fs.listStatus(new Path(location)).forall(!_.getPath.getName.startsWith("_merge_")))
+    }
+
+    test("a rolled back merge leaves the inputs alone"){
+        val (location, inputs, output) = partition()
+        ManifestCommit.rollBack(fs, location, id)
+        assert(!fs.exists(output))
+        assert(inputs.forall(fs.exists))
+        assert(fs.listStatus(new Path(location)).forall(!_.getPath.getName.startsWith("_merge_")))
+    }
+
+    test("recovery removes the merged files of an uncommitted merge"){
+        val (location, inputs, output) = partition()
+        val statuses = ManifestCommit.recover(fs, location, fs.listStatus(new Path(location)))
+        assert(!fs.exists(output))
+        assert(inputs.forall(fs.exists))
+        assert(statuses.map(_.getPath.getName).filterNot(_.startsWith(".")).toSet == inputs.map(_.getName).toSet)
+    }
+
+    test("recovery removes the inputs of a committed merge"){
+        val (location, inputs, output) = partition()
+        ManifestCommit.publish(fs, location, id)
+        val statuses = ManifestCommit.recover(fs, location, fs.listStatus(new Path(location)))
+        assert(fs.exists(output))
+        assert(inputs.forall(!fs.exists(_)))
+        assert(statuses.map(_.getPath.getName).filterNot(_.startsWith(".")).toSet == Set(output.getName))
+        assert(fs.listStatus(new Path(location)).forall(!_.getPath.getName.startsWith("_merge_")))
+    }
+}
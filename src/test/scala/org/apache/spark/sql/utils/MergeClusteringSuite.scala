@@ -0,0 +1,76 @@
+package org.apache.spark.sql.utils
+
+import java.lang.{Long => JLong}
+
+import org.apache.spark.sql.command.MergeTableCommand
+import org.apache.spark.sql.parser.SparkSqlParser
+import org.apache.spark.sql.types._
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeClusteringSuite extends FunSuite with LocalSparkSession {
+
+    private def key(dataType: DataType, value: Any): Long = MergeClustering.orderedKey(dataType)(value)
+
+    private def assertOrdered(dataType: DataType, values: Any*): Unit ={
+        for(Seq(lower, upper) <- values.sliding(2)){
+            assert(JLong.compareUnsigned(key(dataType, lower), key(dataType, upper)) < 0, lower+" < "+upper)
+        }
+    }
+
+    private def hex(bytes: Array[Byte]): String = bytes.map("%02x".format(_)).mkString
+
+    private def parse(sql: String): MergeTableCommand = new SparkSqlParser(spark).parse(sql).asInstanceOf[MergeTableCommand]
+
+    test("keys keep the order of negative numbers"){
+        assertOrdered(LongType, Long.MinValue, -2L, -1L, 0L, 1L, Long.MaxValue)
+        assertOrdered(IntegerType, Int.MinValue, -1, 0, 1)
+        assertOrdered(DoubleType, Double.NegativeInfinity, -2.5, -1.0, -0.0, 1.5, Double.PositiveInfinity)
+        assertOrdered(DecimalType(10, 2), new java.math.BigDecimal("-3.25"), new java.math.BigDecimal("-0.01"), new java.math.BigDecimal("7.00"))
+    }
+
+    test("strings are keyed by their first 8 bytes"){
+        assertOrdered(StringType, "", "a", "ab", "abcdefgh", "abcdefgi", "b")
+        // longer strings only keep the order of their prefix
+        assert(key(StringType, "abcdefghX") == key(StringType, "abcdefghY"))
+        assert(key(StringType, "abcdefghijk") == key(StringType, "abcdefgh"))
+    }
+
+    test("the bits of the keys are interleaved from the most significant one"){
+        assert(hex(MergeClustering.interleave(Array(-1L, 0L))) == "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa")
+        assert(hex(MergeClustering.interleave(Array(0L, -1L))) == "55555555555555555555555555555555")
+        assert(hex(MergeClustering.interleave(Array(1L << 63, 1L))) == "80000000000000000000000000000001")
+    }
+
+    test("ZORDER BY sorts the rows of a partition by their z-value"){
+        val df = spark.createDataFrame(Seq((1L, 1L), (1L, -1L), (-1L, 1L), (-1L, -1L))).toDF("x", "y")
+            .union(spark.sql("SELECT cast(null AS bigint) AS x, cast(null AS bigint) AS y")).coalesce(1)
+
+        val rows = MergeClustering(true, Seq("x", "y")).cluster(df).collect().map(row => (Option(row.get(0)), Option(row.get(1)))).toSeq
+
+        // nulls have the lowest key, the sign bit of x comes before that of y
+        assert(rows == Seq((None, None), (Some(-1L), Some(-1L)), (Some(-1L), Some(1L)), (Some(1L), Some(-1L)), (Some(1L), Some(1L))))
+        assert(MergeClustering(true, Seq("x", "y")).cluster(df).columns.toSeq == Seq("x", "y"))
+    }
+
+    test("the clustering clause is parsed"){
+        assert(parse("MERGE TABLE t").clusterSpec == null)
+
+        val sort = parse("MERGE TABLE db.t PARTITION(dt='a') SORT BY (a, b)")
+        assert(sort.partitionSpec != null)
+        assert(MergeClustering(sort.clusterSpec, new StructType().add("a", "int").add("b", "string")) ==
+            Some(MergeClustering(false, Seq("a", "b"))))
+
+        val zorder = parse("merge table t zorder by (a,b)")
+        assert(MergeClustering(zorder.clusterSpec, new StructType().add("a", "int").add("b", "string")) ==
+            Some(MergeClustering(true, Seq("a", "b"))))
+    }
+
+    test("unknown columns are rejected"){
+        val ctx = parse("MERGE TABLE t SORT BY (a, c)").clusterSpec
+        val unknown = intercept[RuntimeException](MergeClustering(ctx, new StructType().add("a", "int")))
+        assert(unknown.getMessage == "cannot cluster by unknown columns c")
+    }
+}
@@ -0,0 +1,70 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeEstimateSuite extends FunSuite with LocalSparkSession {
+
+    private def listing(files: Int): Array[FileStatus] ={
+        (0 until files).foreach(i => touch(new Path(testDir+"/t", "part-%05d.parquet".format(i))))
+        fs.listStatus(new Path(testDir+"/t"))
+    }
+
+    private def estimate(conf: SparkConf, throttle: MergeThrottle, readPartitions: Int, statuses: Array[FileStatus]): MergeEstimate ={
+        val lister = new MergeFileLister(fs, 134217728L, 0)
+        val journal = new MergeJournal(fs, new Path(testDir+"/t", ".mergeJournal"), false)
+        MergeEstimate(conf, testDir+"/t", lister, journal, None, throttle, _ => readPartitions, statuses)
+    }
+
+    test("a coalesce never gives more files than the read partitions"){
+        val conf = new SparkConf(false).set(SparkParserConfig.sparkMergeFileNum, "6")
+        val statuses = listing(10)
+        assert(estimate(conf, new MergeThrottle(0, 0, 1), 2, statuses).outputFiles == 2)
+        assert(estimate(conf, new MergeThrottle(0, 0, 1), 10, statuses).outputFiles == 6)
+        assert(estimate(conf, new MergeThrottle(0, 3, 1), 10, statuses).outputFiles == 3)
+    }
+
+    test("bin-packed groups give a file each"){
+        val conf = new SparkConf(false).set(SparkParserConfig.sparkMergeTargetBytes, "8")
+        val estimated = estimate(conf, new MergeThrottle(0, 0, 1), 1, listing(4))
+        assert(estimated.status == MergeEstimate.PLANNED)
+        assert(estimated.mergeFiles == 4)
+        assert(estimated.outputFiles == 2)
+    }
+
+    test("a directory with few files is skipped"){
+        val conf = new SparkConf(false).set(SparkParserConfig.sparkMergeFileNum, "6")
+        assert(estimate(conf, new MergeThrottle(0, 0, 1), 1, listing(3)).status == MergeResult.SKIPPED)
+    }
+
+    test("read partitions are packed like the file scan packs them"){
+        val dir = testDir+"/data"
+        spark.range(0, 10000, 1, 10).selectExpr("id", "cast(id AS STRING) AS name").write.parquet(dir)
+        val files = fs.listStatus(new Path(dir)).filter(_.getPath.getName.endsWith(".parquet")).toSeq
+        val scanned = MergeFormat.Parquet.read(spark, files).rdd.getNumPartitions
+        assert(MergeFormat.Parquet.readPartitions(spark, files) == scanned)
+        assert(MergeReader.DataSource.readPartitions(spark, fs.getConf, MergeFormat.Parquet, files) == scanned)
+    }
+
+    test("partitions an interrupted run finished are reported as finished"){
+        withConf(SparkParserConfig.sparkMergeJournal -> "true"){
+            val statuses = listing(10)
+            val location = testDir+"/t"
+            val journal = MergeJournal(spark, location)
+            journal.planned(location, location+"/.mergeTemp", Seq(statuses.head.getPath))
+            journal.commit(location, Nil)
+
+            val recovered = MergeJournal(spark, location, readOnly = true)
+            val estimated = MergeEstimate(new SparkConf(false), location, new MergeFileLister(fs, 134217728L, 0), recovered, None,
+                new MergeThrottle(0, 0, 1), _ => 1, fs.listStatus(new Path(location)))
+            assert(estimated.status == MergeEstimate.FINISHED)
+            // the read-only journal leaves the records of the interrupted run in place
+            assert(MergeJournal(spark, location).isFinished(location))
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.Path
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeFileListerSuite extends FunSuite with LocalSparkSession {
+
+    test("files are selected from the listing by name and length"){
+        val dir = new Path(testDir+"/t")
+        touch(new Path(dir, "small.parquet"))
+        touch(new Path(dir, "large.parquet"), "x" * 100)
+        touch(new Path(dir, "_SUCCESS"))
+        touch(new Path(dir, ".hidden.parquet"))
+        touch(new Path(dir, "sub/nested.parquet"))
+        touch(new Path(dir, ".mergeTemp/part.parquet"))
+        val lister = new MergeFileLister(fs, 50, 0)
+
+        val statuses = lister.listStatus(dir)
+
+        assert(lister.selectFiles(statuses).map(_.getPath.getName).toList == List("small.parquet"))
+        assert(lister.directories(statuses).map(_.getPath.getName).toSeq == Seq("sub"))
+        assert(lister.callCount == 1)
+        assert(lister.statusesListed == 6)
+    }
+
+    test("a missing directory fails the listing"){
+        val lister = new MergeFileLister(fs, 50, 0)
+        val e = intercept[RuntimeException](lister.listStatus(new Path(testDir+"/missing")))
+        assert(e.getMessage.endsWith("does not exist!"))
+    }
+
+    test("files younger than the minimum age are not selected"){
+        val dir = new Path(testDir+"/t")
+        val old = touch(new Path(dir, "old.parquet"))
+        touch(new Path(dir, "young.parquet"))
+        fs.setTimes(old, System.currentTimeMillis()-120000, -1)
+        val lister = new MergeFileLister(fs, 50, 60000)
+
+        assert(lister.selectFiles(lister.listStatus(dir)).map(_.getPath.getName).toList == List("old.parquet"))
+    }
+}
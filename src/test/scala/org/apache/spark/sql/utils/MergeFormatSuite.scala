@@ -0,0 +1,127 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.Path
+import org.apache.orc.{CompressionKind, OrcFile}
+import org.apache.spark.sql.SparkSqlExtraCommand
+import org.apache.spark.sql.catalyst.TableIdentifier
+import org.apache.spark.sql.catalyst.catalog.{CatalogStorageFormat, CatalogTable, CatalogTableType}
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.apache.spark.sql.types.{LongType, StructType}
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeFormatSuite extends FunSuite with LocalSparkSession {
+
+    private def dataFiles(dir: String): Seq[Path] =
+        fs.listStatus(new Path(dir)).map(_.getPath).filter(_.getName.startsWith("part-")).toSeq
+
+    private def rows(table: String): Seq[String] ={
+        spark.catalog.refreshTable(table)
+        spark.table(table).collect().map(_.toString).toSeq.sorted
+    }
+
+    /**
+      * Runs the test on table t of the given format without partitions, after write filled its location.
+      */
+    private def withTable(format: String)(write: String => Unit)(test: String => Unit): Unit ={
+        val root = testDir+"/t"
+        write(root)
+        spark.sql("CREATE TABLE t USING "+format+" LOCATION '"+root+"'")
+        try{
+            test(root)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS t")
+        }
+    }
+
+    private def withOrc[T](body: => T): T ={
+        spark.conf.set("spark.sql.orc.impl", "native")
+        try{
+            body
+        } finally {
+            spark.conf.unset("spark.sql.orc.impl")
+        }
+    }
+
+    private def table(provider: String, properties: Map[String, String] = Map.empty): CatalogTable =
+        CatalogTable(TableIdentifier("t"), CatalogTableType.EXTERNAL, CatalogStorageFormat.empty.copy(properties = properties),
+            new StructType().add("id", LongType), Some(provider))
+
+    test("the format is taken from the provider of the table"){
+        assert(MergeFormat(table("parquet")) == MergeFormat.Parquet)
+        assert(MergeFormat(table("orc")) == MergeFormat.Orc)
+        assert(MergeFormat(table("org.apache.spark.sql.execution.datasources.orc.OrcFileFormat")) == MergeFormat.Orc)
+        assert(MergeFormat(table("json")) == MergeFormat.Text)
+        assert(MergeFormat(table("csv")) == MergeFormat.Text)
+        assert(MergeFormat(table("com.databricks.spark.avro")) == MergeFormat.Avro)
+        intercept[RuntimeException](MergeFormat(table("csv", Map("header" -> "true"))))
+        intercept[RuntimeException](MergeFormat(table("jdbc")))
+    }
+
+    test("orc tables are merged into orc files"){
+        withOrc{
+            withTable("orc")(root => spark.range(0, 1000, 1, 10).selectExpr("id", "concat('n', id) AS name").write.orc(root)){ root =>
+                val before = rows("t")
+                val result = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE t").toDF().collect().head
+
+                assert(rows("t") == before)
+                assert(before.size == 1000)
+                assert(dataFiles(root).size <= 6)
+                assert(dataFiles(root).map(path => OrcFile.createReader(path, OrcFile.readerOptions(fs.getConf)).getNumberOfRows).sum == 1000)
+                assert(result.getAs[Long]("records") == 1000)
+            }
+        }
+    }
+
+    test("text tables are merged line by line"){
+        withTable("text")(root => spark.range(0, 1000, 1, 10).selectExpr("concat(id, '\\t', 'n', id) AS value").write.text(root)){ root =>
+            val before = rows("t")
+            val result = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE t").toDF().collect().head
+
+            assert(rows("t") == before)
+            assert(before.size == 1000)
+            assert(dataFiles(root).size <= 6)
+            assert(result.getAs[Long]("records") == -1)
+        }
+    }
+
+    test("avro tables need the avro data source"){
+        val root = testDir+"/t"
+        for(i <- 0 until 10) touch(new Path(root, "part-"+i+".avro"))
+        spark.sessionState.catalog.createTable(table("com.databricks.spark.avro").copy(
+            storage = CatalogStorageFormat.empty.copy(locationUri = Some(new Path(root).toUri))), ignoreIfExists = false)
+        try{
+            val result = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE t").toDF().collect().head
+            assert(result.getString(1) == MergeResult.FAILED)
+            assert(result.getAs[String]("message").contains("com.databricks.spark.avro"))
+            val e = intercept[RuntimeException](MergeFormat.Avro.read(spark, fs.listStatus(new Path(root))))
+            assert(e.getMessage == "avro tables are merged with the com.databricks.spark.avro data source, which is not available")
+            assert(dataFiles(root).size == 10)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS t")
+        }
+    }
+
+    test("the append engine writes an orc file per layout"){
+        withOrc{
+            val write = (root: String) => for(codec <- Seq("zlib", "snappy")){
+                spark.range(0, 400, 1, 4).selectExpr("id", "'"+codec+"' AS codec").write.option("compression", codec).mode("append").orc(root)
+            }
+            withTable("orc")(write){ root =>
+                val before = rows("t")
+                withConf(SparkParserConfig.sparkMergeEngine -> "append", SparkParserConfig.sparkMergeFileNum -> "1"){
+                    SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE t")
+                }
+
+                assert(rows("t") == before)
+                assert(before.size == 800)
+                val readers = dataFiles(root).map(path => OrcFile.createReader(path, OrcFile.readerOptions(fs.getConf)))
+                assert(readers.map(_.getCompressionKind).toSet == Set(CompressionKind.ZLIB, CompressionKind.SNAPPY))
+                assert(readers.size == 2)
+                assert(readers.map(_.getNumberOfRows).sorted == Seq(400, 400))
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.apache.spark.sql.utils
+
+import java.io.IOException
+
+import org.apache.hadoop.fs.{FileSystem, FilterFileSystem, Path}
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeJournalSuite extends FunSuite with LocalSparkSession {
+
+    /**
+      * A partition with two inputs and two merged files in its temp directory.
+      */
+    private def partition(): (String, String, Seq[Path], Seq[Path]) ={
+        val location = testDir+"/t/dt=a"
+        val tempDir = location+"/.mergeTemp"
+        val inputs = Seq(touch(new Path(location, "part-0.parquet")), touch(new Path(location, "part-1.parquet")))
+        val outputs = Seq(touch(new Path(tempDir, "part-merged-0.parquet")), touch(new Path(tempDir, "part-merged-1.parquet")))
+        (location, tempDir, inputs, outputs)
+    }
+
+    private def journalDir: Path = new Path(testDir+"/t", ".mergeJournal")
+
+    private def openJournal(): MergeJournal = withConf(SparkParserConfig.sparkMergeJournal -> "true")(MergeJournal(spark, testDir+"/t"))
+
+    // a file system that dies while renaming the given files
+    private def crashingRenames(failed: Path => Boolean): FileSystem = new FilterFileSystem(fs) {
+        override def rename(src: Path, dst: Path): Boolean ={
+            if(failed(src)) throw new IOException("crashed renaming "+src)
+            super.rename(src, dst)
+        }
+    }
+
+    private def failingRenames(failed: Path => Boolean): FileSystem = new FilterFileSystem(fs) {
+        override def rename(src: Path, dst: Path): Boolean = !failed(src) && super.rename(src, dst)
+    }
+
+    test("a committed merge replaces the inputs"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val journal = openJournal()
+        journal.planned(location, tempDir, inputs)
+
+        assert(journal.commit(location, outputs).files == 2)
+        assert(inputs.forall(!fs.exists(_)))
+        assert(outputs.forall(output => fs.exists(new Path(location, output.getName))))
+        assert(!fs.exists(new Path(tempDir)))
+        journal.close(true)
+        assert(!fs.exists(journalDir))
+    }
+
+    test("recovery rolls back a merge that never committed"){
+        val (location, tempDir, inputs, _) = partition()
+        openJournal().planned(location, tempDir, inputs)
+
+        val journal = openJournal()
+        assert(!journal.isFinished(location))
+        assert(!fs.exists(new Path(tempDir)))
+        assert(inputs.forall(fs.exists))
+        assert(fs.listStatus(journalDir).isEmpty)
+    }
+
+    test("recovery rolls forward a merge interrupted while moving its files"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val journal = new MergeJournal(crashingRenames(_ == outputs(1)), journalDir, true)
+        journal.planned(location, tempDir, inputs)
+        intercept[IOException](journal.commit(location, outputs))
+        assert(inputs.forall(fs.exists))
+
+        val recovered = openJournal()
+        assert(recovered.isFinished(location))
+        assert(inputs.forall(!fs.exists(_)))
+        assert(outputs.forall(output => fs.exists(new Path(location, output.getName))))
+        assert(!fs.exists(new Path(tempDir)))
+    }
+
+    test("a run with failed partitions keeps the journal"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val journal = openJournal()
+        journal.planned(location, tempDir, inputs)
+        journal.commit(location, outputs)
+        journal.close(false)
+
+        assert(openJournal().isFinished(location))
+    }
+
+    test("a disabled journal records nothing"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val journal = new MergeJournal(fs, journalDir, false)
+        journal.planned(location, tempDir, inputs)
+
+        assert(journal.commit(location, outputs).files == 2)
+        assert(inputs.forall(!fs.exists(_)))
+        assert(!fs.exists(journalDir))
+    }
+
+    test("recovery keeps the inputs when a merged file is lost"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val failing = new MergeJournal(failingRenames(_ == outputs(1)), journalDir, true)
+        failing.planned(location, tempDir, inputs)
+        intercept[RuntimeException](failing.commit(location, outputs))
+        fs.delete(outputs(1), false)
+
+        val e = intercept[RuntimeException](openJournal())
+        assert(e.getMessage.contains("is lost"))
+        assert(inputs.forall(fs.exists))
+    }
+
+    test("a failed rename without a journal removes the files already moved"){
+        val (location, tempDir, inputs, outputs) = partition()
+        val failing = new MergeJournal(failingRenames(_ == outputs(1)), journalDir, false)
+        failing.planned(location, tempDir, inputs)
+        intercept[RuntimeException](failing.commit(location, outputs))
+
+        assert(inputs.forall(fs.exists))
+        assert(outputs.forall(output => !fs.exists(new Path(location, output.getName))))
+        assert(!fs.exists(journalDir))
+    }
+}
@@ -0,0 +1,69 @@
+package org.apache.spark.sql.utils
+
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.catalyst.TableIdentifier
+import org.apache.spark.sql.catalyst.catalog.{CatalogStorageFormat, CatalogTable, CatalogTableType}
+import org.apache.spark.sql.command.MergeTableCommand
+import org.apache.spark.sql.parser.{SparkParserConfig, SparkSqlParser}
+import org.apache.spark.sql.types.StructType
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeOutputSuite extends FunSuite with LocalSparkSession {
+
+    private def output(sql: String, conf: SparkConf = new SparkConf(false), provider: String = "parquet"): MergeOutput ={
+        val command = new SparkSqlParser(spark).parse(sql).asInstanceOf[MergeTableCommand]
+        val table = CatalogTable(TableIdentifier("t"), CatalogTableType.EXTERNAL, CatalogStorageFormat.empty,
+            new StructType().add("a", "int"), Some(provider))
+        MergeOutput(command.clusterSpec, command.loadOptions, conf, table)
+    }
+
+    test("options become parquet writer settings"){
+        val merged = output("MERGE TABLE t PARTITION(dt='a') SORT BY (a) OPTIONS(codec='GZIP', blockSize='64m', pageSize='1m', " +
+            "dictionary='false', `parquet.enable.summary-metadata`='false')")
+
+        assert(merged.clustering == Some(MergeClustering(false, Seq("a"))))
+        assert(merged.options == Map(
+            "compression" -> "gzip",
+            "parquet.block.size" -> (64L << 20).toString,
+            "parquet.page.size" -> (1L << 20).toString,
+            "parquet.enable.dictionary" -> "false",
+            "parquet.enable.summary-metadata" -> "false"))
+    }
+
+    test("a statement without clauses writes with the session defaults"){
+        assert(output("MERGE TABLE t").isEmpty)
+    }
+
+    test("unsupported codecs and unknown options are rejected"){
+        val codec = intercept[RuntimeException](output("MERGE TABLE t OPTIONS(compression='zstd')"))
+        assert(codec.getMessage.startsWith("unsupported parquet compression zstd"))
+        val unknown = intercept[RuntimeException](output("MERGE TABLE t OPTIONS(level='3')"))
+        assert(unknown.getMessage == "unknown merge option level for parquet tables")
+    }
+
+    test("the append engine rejects clustering and options"){
+        val append = new SparkConf(false).set(SparkParserConfig.sparkMergeEngine, "append")
+        assert(output("MERGE TABLE t", append).isEmpty)
+        intercept[RuntimeException](output("MERGE TABLE t SORT BY (a)", append))
+        intercept[RuntimeException](output("MERGE TABLE t OPTIONS(compression='gzip')", append))
+    }
+
+    test("options are checked against the format of the table"){
+        val orc = output("MERGE TABLE t OPTIONS(compression='zlib', `orc.stripe.size`='1024')", provider = "orc")
+        assert(orc.format == MergeFormat.Orc)
+        assert(orc.options == Map("compression" -> "zlib", "orc.stripe.size" -> "1024"))
+        intercept[RuntimeException](output("MERGE TABLE t OPTIONS(compression='zlib')"))
+        intercept[RuntimeException](output("MERGE TABLE t OPTIONS(blockSize='64m')", provider = "orc"))
+        assert(output("MERGE TABLE t OPTIONS(compression='gzip')", provider = "text").options == Map("compression" -> "gzip"))
+    }
+
+    test("formats reject what they cannot merge"){
+        val append = new SparkConf(false).set(SparkParserConfig.sparkMergeEngine, "append")
+        assert(output("MERGE TABLE t", append, "orc").format == MergeFormat.Orc)
+        intercept[RuntimeException](output("MERGE TABLE t", append, "text"))
+        intercept[RuntimeException](output("MERGE TABLE t SORT BY (a)", provider = "text"))
+    }
+}
@@ -0,0 +1,55 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{CountDownLatch, TimeUnit}
+import java.util.concurrent.atomic.AtomicInteger
+
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeSchedulerSuite extends FunSuite with LocalSparkSession {
+
+    test("merges run concurrently on at most merge.parallelism threads"){
+        val running = new AtomicInteger()
+        val maxRunning = new AtomicInteger()
+        val started = new CountDownLatch(2)
+        val scheduler = withConf(SparkParserConfig.sparkMergeParallelism -> "2")(MergeScheduler(spark))
+        for(index <- 0 until 6){
+            scheduler.submit("p"+index){
+                val now = running.incrementAndGet()
+                maxRunning.synchronized(maxRunning.set(Math.max(maxRunning.get(), now)))
+                started.countDown()
+                started.await(10, TimeUnit.SECONDS)
+                Thread.sleep(20)
+                running.decrementAndGet()
+                MergeResult("p"+index, MergeResult.MERGED, 2, 1, 0)
+            }
+        }
+        val results = scheduler.awaitAll()
+
+        assert(results.map(_.location) == (0 until 6).map("p"+_))
+        assert(maxRunning.get() == 2)
+    }
+
+    test("a failed merge is reported without stopping the others"){
+        val scheduler = MergeScheduler(spark)
+        scheduler.submit("a")(MergeResult.skipped("a", 1))
+        scheduler.submit("b")(throw new RuntimeException("broken file"))
+        scheduler.submit("c")(MergeResult("c", MergeResult.MERGED, 8, 1, 0))
+        val results = scheduler.awaitAll()
+
+        assert(results.map(_.status) == Seq(MergeResult.SKIPPED, MergeResult.FAILED, MergeResult.MERGED))
+        assert(results(1).message == "RuntimeException: broken file")
+        MergeScheduler.checkResults(results, failOnError = false)
+        val e = intercept[RuntimeException](MergeScheduler.checkResults(results, failOnError = true))
+        assert(e.getMessage.contains("1 of 3 partitions: b"))
+    }
+
+    test("merge jobs run in the merge scheduler pool"){
+        val scheduler = withConf(SparkParserConfig.sparkMergeSchedulerPool -> "compaction")(MergeScheduler(spark))
+        scheduler.submit("a")(MergeResult.skipped("a", 0).copy(message = spark.sparkContext.getLocalProperty("spark.scheduler.pool")))
+        assert(scheduler.awaitAll().head.message == "compaction")
+    }
+}
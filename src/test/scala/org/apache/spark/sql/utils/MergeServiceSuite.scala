@@ -0,0 +1,85 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.Path
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeServiceSuite extends FunSuite with LocalSparkSession {
+
+    private def dataFiles(dir: String): Int =
+        fs.listStatus(new Path(dir)).count(status => status.isFile && status.getPath.getName.startsWith("part-"))
+
+    /**
+      * Runs the test on table logs without partitions, with 10 files.
+      */
+    private def withLogs(test: String => Unit): Unit ={
+        val root = testDir+"/logs"
+        spark.range(0, 1000, 1, 10).selectExpr("id", "concat('n', id) AS name").write.parquet(root)
+        spark.sql("CREATE TABLE logs USING parquet LOCATION '"+root+"'")
+        try{
+            test(root)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS logs")
+        }
+    }
+
+    test("tables are registered under their qualified name"){
+        val service = new MergeService(spark, 60000, 1)
+        try{
+            service.register("logs")
+            service.register("default.logs")
+            service.register("other.events")
+            assert(service.registeredTables == Seq("default.logs", "other.events"))
+            service.unregister("logs")
+            assert(service.registeredTables == Seq("other.events"))
+        } finally {
+            service.stop()
+        }
+    }
+
+    test("registered tables are merged every interval"){
+        withLogs{ root =>
+            val service = new MergeService(spark, 100, 1)
+            try{
+                service.register("logs")
+                service.start()
+                val deadline = System.currentTimeMillis()+60000
+                while(dataFiles(root) > 6 && System.currentTimeMillis() < deadline){
+                    Thread.sleep(100)
+                }
+            } finally {
+                service.stop()
+            }
+
+            assert(dataFiles(root) <= 6)
+            spark.catalog.refreshTable("logs")
+            assert(spark.table("logs").count() == 1000)
+        }
+    }
+
+    test("files younger than the minimum age are left to their writers"){
+        withLogs{ root =>
+            withConf(SparkParserConfig.sparkMergeMinFileAge -> "1h"){
+                new MergeService(spark, 60000, 1).merge("logs")
+            }
+            assert(dataFiles(root) == 10)
+
+            new MergeService(spark, 60000, 1).merge("logs")
+            assert(dataFiles(root) <= 6)
+        }
+    }
+
+    test("a failed merge keeps the table registered"){
+        val service = new MergeService(spark, 60000, 1)
+        try{
+            service.register("missing")
+            service.merge("missing")
+            assert(service.registeredTables == Seq("default.missing"))
+        } finally {
+            service.stop()
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.apache.spark.sql.utils
+
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeStateSuite extends FunSuite with LocalSparkSession {
+
+    private def statePath: Path = new Path(testDir, ".mergeState")
+
+    private def status(dir: String): FileStatus = fs.getFileStatus(new Path(testDir, dir))
+
+    /**
+      * Visits the directories like the walker does and records the ones visited.
+      */
+    private def run(dirs: String*): Seq[String] ={
+        val state = new MergeState(fs, statePath, true, 0)
+        val visited = dirs.filter(dir => state.shouldVisit(status(dir)))
+        for(dir <- visited){
+            state.record(status(dir).getPath, fs.listStatus(new Path(testDir, dir)))
+        }
+        state.save()
+        visited
+    }
+
+    test("leaf directories whose time did not change are pruned"){
+        touch(new Path(testDir, "dt=a/part-0.parquet"))
+        touch(new Path(testDir, "dt=b/part-0.parquet"))
+        fs.setTimes(new Path(testDir, "dt=a"), 1000, -1)
+        fs.setTimes(new Path(testDir, "dt=b"), 1000, -1)
+
+        assert(run("dt=a", "dt=b") == Seq("dt=a", "dt=b"))
+        fs.setTimes(new Path(testDir, "dt=b"), 2000, -1)
+        assert(run("dt=a", "dt=b") == Seq("dt=b"))
+        // a pruned directory keeps its fingerprint
+        assert(run("dt=a", "dt=b") == Seq())
+    }
+
+    test("directories with sub directories are always visited"){
+        touch(new Path(testDir, "dt=a/h=1/part-0.parquet"))
+        fs.setTimes(new Path(testDir, "dt=a"), 1000, -1)
+
+        assert(run("dt=a") == Seq("dt=a"))
+        assert(run("dt=a") == Seq("dt=a"))
+    }
+
+    test("directories that were not recorded are visited again"){
+        touch(new Path(testDir, "dt=a/part-0.parquet"))
+        fs.setTimes(new Path(testDir, "dt=a"), 1000, -1)
+        val state = new MergeState(fs, statePath, true, 0)
+        assert(state.shouldVisit(status("dt=a")))
+        // the merge of dt=a failed, so it is not recorded
+        state.save()
+
+        assert(run("dt=a") == Seq("dt=a"))
+    }
+
+    test("a disabled state visits everything and writes nothing"){
+        touch(new Path(testDir, "dt=a/part-0.parquet"))
+        val state = new MergeState(fs, statePath, false, 0)
+        assert(state.shouldVisit(status("dt=a")))
+        state.record(status("dt=a").getPath, fs.listStatus(new Path(testDir, "dt=a")))
+        state.save()
+
+        assert(!fs.exists(statePath))
+    }
+
+    test("directories holding files too young to merge are not recorded"){
+        touch(new Path(testDir, "dt=a/part-0.parquet"))
+        fs.setTimes(new Path(testDir, "dt=a"), 1000, -1)
+        val state = new MergeState(fs, statePath, true, 60000)
+        assert(state.shouldVisit(status("dt=a")))
+        state.record(status("dt=a").getPath, fs.listStatus(new Path(testDir, "dt=a")))
+        state.save()
+
+        assert(run("dt=a") == Seq("dt=a"))
+    }
+}
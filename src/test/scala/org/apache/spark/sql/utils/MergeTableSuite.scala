@@ -0,0 +1,450 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.Path
+import org.apache.hadoop.mapreduce.lib.input.CombineFileInputFormat
+import org.apache.parquet.format.converter.ParquetMetadataConverter
+import org.apache.parquet.hadoop.ParquetFileReader
+import org.apache.parquet.hadoop.metadata.CompressionCodecName
+import org.apache.spark.sql.{Dataset, Row, SparkSession, SparkSqlExtraCommand}
+import org.apache.spark.sql.catalyst.TableIdentifier
+import org.apache.spark.sql.execution.exchange.ShuffleExchangeExec
+import org.apache.spark.sql.parser.SparkParserConfig
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeTableSuite extends FunSuite with LocalSparkSession {
+
+    private def dataFiles(dir: String): Int =
+        fs.listStatus(new Path(dir)).count(status => status.isFile && !status.getPath.getName.startsWith("_") && !status.getPath.getName.startsWith("."))
+
+    // row groups of the data files, with their row counts
+    private def blocks(dir: String): Seq[Long] ={
+        val files = fs.listStatus(new Path(dir)).filter(_.getPath.getName.startsWith("part-"))
+        files.flatMap(file => ParquetFileReader.readFooter(fs.getConf, file.getPath, ParquetMetadataConverter.NO_FILTER).getBlocks.map(_.getRowCount)).toSeq.sorted
+    }
+
+    private def snapshot(table: String): Row ={
+        spark.catalog.refreshTable(table)
+        spark.table(table).selectExpr("count(1)", "sum(hash(*))").collect().head
+    }
+
+    /**
+      * Runs the test on table events partitioned by dt, with 10 files in each of dt=a and dt=b.
+      */
+    private def withEvents(test: String => Unit): Unit ={
+        val root = testDir+"/events"
+        spark.sql("CREATE TABLE events (id BIGINT, name STRING, dt STRING) USING parquet PARTITIONED BY (dt) LOCATION '"+root+"'")
+        try{
+            for(dt <- Seq("a", "b")){
+                spark.range(0, 1000, 1, 10).selectExpr("id", "concat('n', id) AS name", "'"+dt+"' AS dt").write.insertInto("events")
+            }
+            test(root)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS events")
+        }
+    }
+
+    /**
+      * Runs the test on table flat without partitions, with 10 files of the selected columns.
+      */
+    private def withFlat(columns: String*)(test: String => Unit): Unit ={
+        val root = testDir+"/flat"
+        spark.range(0, 1000, 1, 10).selectExpr(columns: _*).write.parquet(root)
+        spark.sql("CREATE TABLE flat USING parquet LOCATION '"+root+"'")
+        try{
+            test(root)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS flat")
+        }
+    }
+
+    private def planSession(): SparkSession ={
+        val session = spark.newSession()
+        MergeTableUtils.initMerge(session)
+        session
+    }
+
+    test("MERGE TABLE merges the selected partition and keeps its rows"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(dataFiles(root+"/dt=b") == 10)
+        }
+    }
+
+    test("MERGE TABLE merges every partition of the table concurrently"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            withConf(SparkParserConfig.sparkMergeParallelism -> "2"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events")
+            }
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(dataFiles(root+"/dt=b") <= 6)
+            assert(!fs.exists(new Path(root, ".mergeJournal")))
+        }
+    }
+
+    test("a target size merges every bin-packed group into a file of its own"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val files = fs.listStatus(new Path(root+"/dt=a")).filter(_.getPath.getName.startsWith("part-")).toList
+            val targetBytes = 2*files.map(_.getLen).max+1
+            val groups = MergeTableUtils.binPack(files, targetBytes).filter(_.size > 1)
+            withConf(SparkParserConfig.sparkMergeTargetBytes -> targetBytes.toString){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            }
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") == files.size-groups.flatten.size+groups.size)
+        }
+    }
+
+    test("the append engine copies the row groups of the inputs"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val rowGroups = blocks(root+"/dt=a")
+            withConf(SparkParserConfig.sparkMergeEngine -> "append"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            }
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(blocks(root+"/dt=a") == rowGroups)
+        }
+    }
+
+    test("table mode compacts all partitions of the table in one job"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            withConf(SparkParserConfig.sparkMergeMode -> "table"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events")
+            }
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(dataFiles(root+"/dt=b") <= 6)
+            assert(!fs.exists(new Path(root, ".mergeTemp")))
+        }
+    }
+
+    test("the merge plan reads its inputs through the combine input format"){
+        withFlat("id", "concat('n', id) AS name"){ root =>
+            val before = snapshot("flat")
+            SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE flat")
+
+            assert(snapshot("flat") == before)
+            assert(dataFiles(root) <= 6)
+        }
+    }
+
+    test("the vectorized reader merges flat tables"){
+        withFlat("id", "concat('n', id) AS name", "cast(id / 3 AS decimal(10,2)) AS d", "date_add(to_date('2024-01-01'), cast(id AS int)) AS day",
+            "cast(id * 1000 AS timestamp) AS ts", "cast(concat('b', id) AS binary) AS b"){ root =>
+            val before = snapshot("flat")
+            withConf(SparkParserConfig.sparkMergeReader -> "vectorized"){
+                SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE flat")
+            }
+
+            assert(snapshot("flat") == before)
+            assert(dataFiles(root) <= 6)
+        }
+    }
+
+    test("the vectorized reader falls back to the group reader for nested schemas"){
+        withFlat("id", "array(cast(id AS int), 2) AS arr", "map('k', cast(id AS int)) AS m", "named_struct('a', cast(id AS int), 'b', 'x') AS s"){ root =>
+            val before = snapshot("flat")
+            withConf(SparkParserConfig.sparkMergeReader -> "vectorized"){
+                SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE flat")
+            }
+
+            assert(snapshot("flat") == before)
+            assert(dataFiles(root) <= 6)
+        }
+    }
+
+    test("the merge plan does not write partition columns into the files"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE events PARTITION(dt='a')")
+
+            assert(snapshot("events") == before)
+            assert(spark.read.parquet(root+"/dt=a").columns.toSeq == Seq("id", "name"))
+        }
+    }
+
+    test("a recursive merge lists every directory once"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val table = spark.sessionState.catalog.getTableMetadata(TableIdentifier("events"))
+            val lister = MergeFileLister(spark)
+            new MergeExecution(spark, table, spark.sparkContext.hadoopConfiguration, MergeOutput(MergeFormat.Parquet, None, Map.empty), MergeReader.DataSource, lister,
+                MergeJournal(spark, root), MergeThrottle(spark)).run(null)
+
+            assert(snapshot("events") == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            // the table directory and its two partitions
+            assert(lister.callCount == 3)
+        }
+    }
+
+    test("an incremental merge skips the partitions unchanged since the last run"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val table = spark.sessionState.catalog.getTableMetadata(TableIdentifier("events"))
+            // the first run merges, the second lists the merged partitions once more
+            val calls = withConf(SparkParserConfig.sparkMergeIncremental -> "true"){
+                for(_ <- 1 to 3) yield {
+                    val lister = MergeFileLister(spark)
+                    new MergeExecution(spark, table, spark.sparkContext.hadoopConfiguration, MergeOutput(MergeFormat.Parquet, None, Map.empty), MergeReader.DataSource, lister,
+                        MergeJournal(spark, root), MergeThrottle(spark)).run(null)
+                    lister.callCount
+                }
+            }
+
+            assert(calls == Seq(3, 3, 1))
+            assert(snapshot("events") == before)
+        }
+    }
+
+    test("SORT BY sorts the rows of every merged file"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a') SORT BY (name)")
+
+            assert(snapshot("events") == before)
+            val files = fs.listStatus(new Path(root+"/dt=a")).map(_.getPath).filter(_.getName.endsWith(".parquet"))
+            assert(files.length <= 6)
+            for(file <- files){
+                val names = spark.read.parquet(file.toString).collect().map(_.getAs[String]("name")).toSeq
+                assert(names == names.sorted)
+            }
+        }
+    }
+
+    test("OPTIONS recompress the merged files"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a') OPTIONS(compression='gzip')")
+
+            assert(snapshot("events") == before)
+            val files = fs.listStatus(new Path(root+"/dt=a")).map(_.getPath).filter(_.getName.endsWith(".parquet"))
+            for(file <- files){
+                val footer = ParquetFileReader.readFooter(spark.sparkContext.hadoopConfiguration, file, ParquetMetadataConverter.NO_FILTER)
+                assert(footer.getBlocks.flatMap(_.getColumns).forall(_.getCodec == CompressionCodecName.GZIP))
+            }
+            // the session default is untouched
+            assert(spark.conf.get("spark.sql.parquet.compression.codec") == "snappy")
+        }
+    }
+
+    test("EXPLAIN MERGE TABLE estimates every partition without merging"){
+        withEvents{ root =>
+            val rows = SparkSqlExtraCommand.parserSql(spark, "EXPLAIN MERGE TABLE events").toDF().collect()
+
+            assert(rows.map(_.getString(0).stripPrefix("file:")).toSeq == Seq(root, root+"/dt=a", root+"/dt=b"))
+            assert(rows.map(_.getString(1)).toSeq == Seq(MergeResult.SKIPPED, MergeEstimate.PLANNED, MergeEstimate.PLANNED))
+            assert(rows(1).getInt(2) == 10)
+            assert(dataFiles(root+"/dt=a") == 10)
+            // the estimate is the number of files the merge writes
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            assert(rows(1).getInt(5) == dataFiles(root+"/dt=a"))
+        }
+    }
+
+    test("EXPLAIN MERGE TABLE estimates the selected partition"){
+        withEvents{ root =>
+            val rows = SparkSqlExtraCommand.parserSql(spark, "EXPLAIN MERGE TABLE events PARTITION(dt='b')").toDF().collect()
+
+            assert(rows.map(_.getString(0)).toSeq == Seq(root+"/dt=b"))
+            assert(rows.head.getInt(4) == 10)
+        }
+    }
+
+    test("a throttled merge runs the bin-packed groups in batches of the task cap"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val files = fs.listStatus(new Path(root+"/dt=a")).filter(_.getPath.getName.startsWith("part-")).toList
+            val targetBytes = 2*files.map(_.getLen).max+1
+            val groups = MergeTableUtils.binPack(files, targetBytes).filter(_.size > 1)
+            withConf(SparkParserConfig.sparkMergeTargetBytes -> targetBytes.toString, SparkParserConfig.sparkMergeThrottleTasks -> "2",
+                SparkParserConfig.sparkMergeThrottleRate -> "1m"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            }
+
+            assert(snapshot("events") == before)
+            assert(groups.size > 2)
+            assert(dataFiles(root+"/dt=a") == files.size-groups.flatten.size+groups.size)
+        }
+    }
+
+    test("MERGE TABLE returns a row per partition and publishes it as metrics"){
+        withEvents{ root =>
+            val source = MergeMetricsSource(spark.sparkContext)
+            val merged = source.metricRegistry.counter("partitions.merged").getCount
+            val rows = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')").toDF().collect()
+
+            assert(rows.length == 1)
+            assert(rows.head.getAs[String]("location").endsWith(root+"/dt=a"))
+            assert(rows.head.getAs[String]("status") == MergeResult.MERGED)
+            assert(rows.head.getAs[Int]("input_files") == 10)
+            assert(rows.head.getAs[Int]("output_files") == dataFiles(root+"/dt=a"))
+            assert(rows.head.getAs[Long]("records") == 1000)
+            assert(rows.head.getAs[Long]("output_bytes") > 0)
+            assert(source.metricRegistry.counter("partitions.merged").getCount == merged+1)
+            assert(source.metricRegistry.counter("records").getCount >= 1000)
+        }
+    }
+
+    test("the merge plan returns the same rows as the command"){
+        withEvents{ root =>
+            val session = planSession()
+            // the rows the plan returned when the statement ran, collecting the dataset would run the plan again
+            val merge = SparkSqlExtraCommand.parserSql(session, "MERGE TABLE events PARTITION(dt='b')")
+            val rows = Dataset.ofRows(session, merge.logicalPlan).collect()
+
+            assert(rows.map(_.getAs[String]("status")).toSeq == Seq(MergeResult.MERGED))
+            assert(rows.head.getAs[Int]("input_files") == 10)
+            assert(rows.head.getAs[Long]("input_bytes") > 0)
+        }
+    }
+
+    test("a merge leaves the configuration of the context as it was"){
+        withEvents{ root =>
+            val hadoopConf = spark.sparkContext.hadoopConfiguration
+            val keys = Seq("mapreduce.input.fileinputformat.split.maxsize", "mapreduce.input.fileinputformat.split.minsize",
+                "mapreduce.input.fileinputformat.inputdir", "mapreduce.input.pathFilter.class")
+            val before = keys.map(hadoopConf.get)
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE events PARTITION(dt='b')")
+
+            assert(keys.map(hadoopConf.get) == before)
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(dataFiles(root+"/dt=b") <= 6)
+        }
+    }
+
+    test("the combine reads group their splits per node and per rack"){
+        withFlat("id", "concat('n', id) AS name"){ root =>
+            val before = snapshot("flat")
+            withConf(SparkParserConfig.sparkInputSplitMinSizePerNode -> "1024", SparkParserConfig.sparkInputSplitMinSizePerRack -> "4096"){
+                val hadoopConf = MergeTableUtils.mergeHadoopConf(spark)
+                assert(hadoopConf.getLong(CombineFileInputFormat.SPLIT_MINSIZE_PERNODE, 0) == 1024)
+                assert(hadoopConf.getLong(CombineFileInputFormat.SPLIT_MINSIZE_PERRACK, 0) == 4096)
+                SparkSqlExtraCommand.parserSql(planSession(), "MERGE TABLE flat")
+            }
+
+            assert(snapshot("flat") == before)
+            assert(dataFiles(root) <= 6)
+        }
+    }
+
+    test("split minimums that cannot be combined are rejected"){
+        withConf(SparkParserConfig.sparkInputSplitMinSizePerNode -> "4096", SparkParserConfig.sparkInputSplitMinSizePerRack -> "1024"){
+            val e = intercept[RuntimeException](MergeTableUtils.mergeHadoopConf(spark))
+            assert(e.getMessage.startsWith("split minimum per node 4096 must not exceed the minimum per rack 1024"))
+        }
+    }
+
+    test("a bucketed table is merged into a sorted file per bucket"){
+        val root = testDir+"/buckets"
+        spark.sql("CREATE TABLE buckets (id BIGINT, name STRING) USING parquet CLUSTERED BY (id) SORTED BY (id) INTO 4 BUCKETS LOCATION '"+root+"'")
+        try{
+            for(i <- 0 until 3){
+                spark.range(i*1000, (i+1)*1000, 1, 2).selectExpr("id", "concat('n', id) AS name").write.insertInto("buckets")
+            }
+            val before = snapshot("buckets")
+            val ids = (dir: String) => fs.listStatus(new Path(dir)).filter(_.getPath.getName.startsWith("part-")).map(MergeBuckets.bucketId(_).get).toSeq.sorted
+            assert(ids(root).size > 4)
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE buckets")
+
+            assert(snapshot("buckets") == before)
+            assert(ids(root) == Seq(0, 1, 2, 3))
+            for(file <- fs.listStatus(new Path(root)).filter(_.getPath.getName.startsWith("part-"))){
+                val rows = spark.read.parquet(file.getPath.toString).collect().map(_.getLong(0)).toSeq
+                assert(rows == rows.sorted)
+            }
+            // the scan still reads the files as buckets
+            assert(spark.table("buckets").groupBy("id").count().queryExecution.executedPlan.collect{ case e: ShuffleExchangeExec => e }.isEmpty)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS buckets")
+        }
+    }
+
+    test("MERGE TABLE merges every partition a comparison selects"){
+        withEvents{ root =>
+            val before = snapshot("events")
+            val rows = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt >= 'a')").toDF().collect()
+
+            assert(snapshot("events") == before)
+            assert(rows.map(_.getAs[String]("status")).toSeq == Seq(MergeResult.MERGED, MergeResult.MERGED))
+            assert(dataFiles(root+"/dt=a") <= 6)
+            assert(dataFiles(root+"/dt=b") <= 6)
+        }
+    }
+
+    test("a merge keeps the catalog statistics of the table and its partitions current"){
+        withEvents{ root =>
+            spark.sql("ANALYZE TABLE events COMPUTE STATISTICS")
+            val catalog = spark.sessionState.catalog
+            val before = catalog.getTableMetadata(TableIdentifier("events")).stats.get
+            val rows = SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')").toDF().collect()
+            val saved = rows.head.getAs[Long]("input_bytes")-rows.head.getAs[Long]("output_bytes")
+
+            val files = fs.listStatus(new Path(root+"/dt=a")).filter(_.getPath.getName.startsWith("part-"))
+            val partition = catalog.getPartition(TableIdentifier("events"), Map("dt" -> "a"))
+            assert(partition.parameters("numFiles") == files.length.toString)
+            assert(partition.parameters("totalSize") == files.map(_.getLen).sum.toString)
+            assert(partition.stats.get.rowCount == Some(BigInt(1000)))
+            assert(catalog.getTableMetadata(TableIdentifier("events")).stats.get.sizeInBytes == before.sizeInBytes-saved)
+        }
+    }
+
+    test("statistics are left alone when their update is turned off"){
+        withEvents{ _ =>
+            withConf(SparkParserConfig.sparkMergeUpdateStats -> "false"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+            }
+            val partition = spark.sessionState.catalog.getPartition(TableIdentifier("events"), Map("dt" -> "a"))
+            assert(!partition.parameters.contains("numFiles"))
+            assert(spark.sessionState.catalog.getTableMetadata(TableIdentifier("events")).stats.isEmpty)
+        }
+    }
+
+    test("queries and cached data of the session see the merged files"){
+        withEvents{ root =>
+            val cached = spark.table("events").where("dt = 'a'")
+            cached.cache()
+            assert(cached.count() == 1000)
+            assert(spark.table("events").count() == 2000)
+
+            SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')")
+
+            val merged = fs.listStatus(new Path(root+"/dt=a")).filter(_.getPath.getName.startsWith("part-")).map(_.getPath.getName).toSet
+            assert(spark.table("events").inputFiles.map(new Path(_)).filter(_.getParent.getName == "dt=a").map(_.getName).toSet == merged)
+            assert(spark.table("events").count() == 2000)
+            assert(spark.table("events").where("dt = 'a'").count() == 1000)
+            cached.unpersist()
+        }
+    }
+
+    test("a merge committing in place leaves only the merged files and no markers"){
+        withEvents{ root =>
+            val rows = withConf(SparkParserConfig.sparkMergeCommit -> "manifest"){
+                SparkSqlExtraCommand.parserSql(spark, "MERGE TABLE events PARTITION(dt='a')").toDF().collect()
+            }
+            val names = fs.listStatus(new Path(root+"/dt=a")).map(_.getPath.getName)
+            assert(rows.head.getString(1) == MergeResult.MERGED)
+            assert(names.count(_.startsWith("part-")) == rows.head.getAs[Int]("output_files"))
+            assert(!names.exists(name => name.startsWith("_merge_") || name == ".mergeTemp"))
+            assert(spark.table("events").where("dt = 'a'").count() == 1000)
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.apache.spark.sql.utils
+
+import scala.collection.JavaConversions._
+import org.apache.hadoop.fs.{FileStatus, Path}
+import org.apache.spark.SparkConf
+import org.apache.spark.sql.antlr4.SqlBaseParser.PartitionSpecContext
+import org.apache.spark.sql.catalyst.TableIdentifier
+import org.apache.spark.sql.command.MergeTableCommand
+import org.apache.spark.sql.parser.{SparkParserConfig, SparkSqlParser}
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeTableUtilsSuite extends FunSuite with LocalSparkSession {
+
+    private def file(name: String, length: Long): FileStatus = new FileStatus(length, false, 1, 1, 0, new Path("/t/"+name))
+
+    private def partitionSpec(clause: String): PartitionSpecContext =
+        new SparkSqlParser(spark).parse("MERGE TABLE parts PARTITION("+clause+")").asInstanceOf[MergeTableCommand].partitionSpec
+
+    /**
+      * Runs the test on table parts partitioned by (dt, hr), with partitions a/00, a/01 and b/00.
+      */
+    private def withPartitionedTable(test: String => Unit): Unit ={
+        val root = testDir+"/parts"
+        spark.sql("CREATE TABLE parts (id BIGINT, dt STRING, hr STRING) USING parquet PARTITIONED BY (dt, hr) LOCATION '"+root+"'")
+        try{
+            spark.range(3).selectExpr("id", "if(id < 2, 'a', 'b') AS dt", "if(id = 1, '01', '00') AS hr").write.insertInto("parts")
+            test(root)
+        } finally {
+            spark.sql("DROP TABLE IF EXISTS parts")
+        }
+    }
+
+    private def locations(clause: String): Seq[String] ={
+        val table = spark.sessionState.catalog.getTableMetadata(TableIdentifier("parts"))
+        MergeTableUtils.partitionLocations(spark, table, partitionSpec(clause)).map(qualified).sorted
+    }
+
+    private def qualified(path: String): String = fs.makeQualified(new Path(path)).toString
+
+    test("equalities name a partition whatever the order of the clause"){
+        withPartitionedTable{ root =>
+            assert(locations("dt='a', hr='01'") == Seq(qualified(root+"/dt=a/hr=01")))
+            assert(locations("hr='01', dt='a'") == Seq(qualified(root+"/dt=a/hr=01")))
+        }
+    }
+
+    test("comparisons and IN lists select partitions"){
+        withPartitionedTable{ root =>
+            assert(locations("dt>'a'") == Seq(qualified(root+"/dt=b/hr=00")))
+            assert(locations("dt>='a', hr<>'01'") == Seq(qualified(root+"/dt=a/hr=00"), qualified(root+"/dt=b/hr=00")))
+            assert(locations("dt IN ('a', 'b'), hr!='00'") == Seq(qualified(root+"/dt=a/hr=01")))
+            assert(locations("dt NOT IN ('a')") == Seq(qualified(root+"/dt=b/hr=00")))
+            assert(locations("dt<'a'").isEmpty)
+        }
+    }
+
+    test("a clause on an unknown column fails"){
+        withPartitionedTable{ _ =>
+            val e = intercept[RuntimeException](locations("day>'a'"))
+            assert(e.getMessage.startsWith("day is not a partition column of"))
+        }
+    }
+
+    test("bin packing fills groups up to the target size"){
+        val files = List(file("a", 60), file("b", 50), file("c", 40), file("d", 30), file("e", 200))
+        val groups = MergeTableUtils.binPack(files, 100)
+        assert(groups.map(_.map(_.getPath.getName).toSet).toSet == Set(Set("e"), Set("a", "c"), Set("b", "d")))
+        assert(groups.forall(group => group.size == 1 || group.map(_.getLen).sum <= 100))
+    }
+
+    test("balancing spreads the files over groups of about the same size"){
+        val files = List(file("a", 60), file("b", 50), file("c", 40), file("d", 30), file("e", 20))
+        val groups = MergeTableUtils.balance(files, 2)
+        assert(groups.map(_.map(_.getLen).sum).sorted == Seq(90, 110))
+    }
+
+    test("only groups of several files are merged"){
+        val conf = new SparkConf(false).set(SparkParserConfig.sparkMergeTargetBytes, "100")
+        val groups = MergeTableUtils.planMergeGroups(conf, List(file("a", 60), file("b", 30), file("c", 90)))
+        assert(groups.map(_.map(_.getPath.getName).toSet) == Seq(Set("a", "b")))
+
+        val coalesced = new SparkConf(false).set(SparkParserConfig.sparkMergeFileNum, "2")
+        assert(MergeTableUtils.planMergeGroups(coalesced, List(file("a", 1), file("b", 1))).isEmpty)
+        assert(MergeTableUtils.planMergeGroups(coalesced, List(file("a", 1), file("b", 1), file("c", 1))).map(_.size) == Seq(3))
+
+        val appended = coalesced.clone.set(SparkParserConfig.sparkMergeEngine, "append")
+        val balanced = MergeTableUtils.planMergeGroups(appended, List(file("a", 3), file("b", 1), file("c", 1), file("d", 1)))
+        assert(balanced.map(_.map(_.getPath.getName).toSet) == Seq(Set("b", "c", "d")))
+    }
+
+    test("a table is merged by one statement at a time"){
+        val e = intercept[RuntimeException]{
+            MergeTableUtils.withTableLock("/t"){
+                assert(MergeTableUtils.withTableLock("/other")(1) == 1)
+                MergeTableUtils.withTableLock("/t")(())
+            }
+        }
+        assert(e.getMessage == "table at /t is already being merged")
+        assert(MergeTableUtils.withTableLock("/t")(2) == 2)
+    }
+
+    test("bucket files are grouped by the bucket id in their name"){
+        val files = Seq(file("part-00000-x_00001.c000.snappy.parquet", 1), file("part-00001-y_00001.c000.snappy.parquet", 1),
+            file("part-00000-x_00000.c000.snappy.parquet", 1), file("part-00000-z.snappy.parquet", 1),
+            file("part-00002-z_00003.c000.snappy.parquet", 1), file("part-00003-z_00003.c000.snappy.parquet", 1))
+        assert(MergeBuckets.bucketId(files.head) == Some(1))
+        assert(MergeBuckets.bucketId(files(3)).isEmpty)
+        val groups = MergeBuckets.planGroups(files)
+        assert(groups.map(_.map(file => MergeBuckets.bucketId(file).get).distinct) == Seq(Seq(1), Seq(3)))
+        assert(groups.map(_.size) == Seq(2, 2))
+    }
+}
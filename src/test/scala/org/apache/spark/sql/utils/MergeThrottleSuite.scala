@@ -0,0 +1,49 @@
+package org.apache.spark.sql.utils
+
+import java.util.concurrent.{CountDownLatch, TimeUnit}
+
+import org.junit.runner.RunWith
+import org.scalatest.FunSuite
+import org.scalatest.junit.JUnitRunner
+
+@RunWith(classOf[JUnitRunner])
+class MergeThrottleSuite extends FunSuite {
+
+    test("the rate is shared by the tasks that may run at once"){
+        assert(new MergeThrottle(1000, 4, 8).taskRate == 250)
+        assert(new MergeThrottle(1000, 0, 8).taskRate == 125)
+        assert(new MergeThrottle(0, 4, 8).taskRate == 0)
+        assert(new MergeThrottle(2, 4, 8).taskRate == 1)
+    }
+
+    test("jobs are shaped to the task cap"){
+        val capped = new MergeThrottle(0, 4, 8)
+        assert(capped.tasks(10) == 4)
+        assert(capped.tasks(2) == 2)
+        assert(capped.tasks(0) == 1)
+        assert(new MergeThrottle(0, 0, 8).tasks(10) == 10)
+    }
+
+    test("the task slots are shared by every merge of the driver"){
+        val first = new MergeThrottle(0, 3, 8)
+        val second = new MergeThrottle(0, 3, 8)
+        val started = new CountDownLatch(1)
+        first.withTasks(3){
+            val thread = new Thread(new Runnable {
+                override def run(): Unit = second.withTasks(1){ started.countDown() }
+            })
+            thread.start()
+            assert(!started.await(200, TimeUnit.MILLISECONDS))
+        }
+        assert(started.await(10, TimeUnit.SECONDS))
+    }
+
+    test("a task waits until its bytes fit into the rate"){
+        val start = System.currentTimeMillis()
+        MergeThrottle.pace(1000, start, 300)
+        assert(System.currentTimeMillis()-start >= 250)
+        val unpaced = System.currentTimeMillis()
+        MergeThrottle.pace(0, unpaced, 300)
+        assert(System.currentTimeMillis()-unpaced < 250)
+    }
+}